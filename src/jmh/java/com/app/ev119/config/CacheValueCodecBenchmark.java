@@ -0,0 +1,97 @@
+package com.app.ev119.config;
+
+import com.app.ev119.domain.dto.response.CheckEmergencyRealtimeResponse;
+import com.app.ev119.service.RealtimeCacheEntry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * emergency:realtime 캐시 값(500건 페이지) 인코딩/디코딩 비교
+ * - json    : 기존 GenericJackson2JsonRedisSerializer
+ * - compact : CompactCacheValueSerializer (Smile + 1KB 이상 압축)
+ * - 값 크기(bytes/entry, bytes/item)는 @Setup 에서 한 번 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CacheValueCodecBenchmark {
+
+    private static final int ITEMS_PER_PAGE = 500;
+
+    @Param({"json", "compact"})
+    public String codec;
+
+    private RedisSerializer<Object> serializer;
+    private RealtimeCacheEntry entry;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        serializer = "json".equals(codec)
+                ? new GenericJackson2JsonRedisSerializer()
+                : new CompactCacheValueSerializer(1024);
+
+        ObjectMapper xmlMapper = Jackson2ObjectMapperBuilder.xml().build();
+        CheckEmergencyRealtimeResponse page = xmlMapper.readValue(buildPage(), CheckEmergencyRealtimeResponse.class);
+
+        long now = System.currentTimeMillis();
+        entry = new RealtimeCacheEntry(page, now, now + 60_000, now + 180_000, 350);
+        encoded = serializer.serialize(entry);
+
+        System.out.printf("%n[codec=%s] bytes/entry=%d, bytes/item=%.1f%n",
+                codec, encoded.length, (double) encoded.length / ITEMS_PER_PAGE);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return serializer.serialize(entry);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return serializer.deserialize(encoded);
+    }
+
+    private byte[] buildPage() throws IOException {
+        String fixture;
+        try (InputStream in = getClass().getResourceAsStream("/realtime/check-emergency-realtime-page.xml")) {
+            if (in == null) throw new IOException("realtime fixture not found (src/test/resources)");
+            fixture = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        String head = fixture.substring(0, fixture.indexOf("<item>"));
+        String tail = fixture.substring(fixture.lastIndexOf("</item>") + "</item>".length());
+
+        List<String> items = new ArrayList<>();
+        int from = 0;
+        while ((from = fixture.indexOf("<item>", from)) >= 0) {
+            int to = fixture.indexOf("</item>", from) + "</item>".length();
+            items.add(fixture.substring(from, to));
+            from = to;
+        }
+
+        StringBuilder sb = new StringBuilder(head);
+        for (int i = 0; i < ITEMS_PER_PAGE; i++) {
+            sb.append(items.get(i % items.size())).append('\n');
+        }
+        sb.append(tail);
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,88 @@
+package com.app.ev119.util;
+
+import com.app.ev119.domain.dto.response.CheckEmergencyRealtimeResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson XML 바인딩(RestTemplate 과 같은 설정) vs StAX 투영 파서
+ * - 테스트 픽스처(src/test/resources/realtime/check-emergency-realtime-page.xml, 실제 응답 형식을 본뜬 합성 item 3건)를
+ *   반복해서 500건 페이지 구성 (값이 모두 같은 꼴이라 실제 응답보다 압축/파싱이 유리할 수 있음)
+ * - OperationsPerInvocation=500 이라 결과는 item 1건 기준 (처리량, gc.alloc.rate.norm)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RealtimeXmlProjectionBenchmark {
+
+    private static final int ITEMS_PER_PAGE = 500;
+
+    private byte[] payload;
+    private ObjectMapper xmlMapper;
+    private RealtimeXmlProjection mergeProjection;
+
+    @Setup
+    public void setUp() throws IOException {
+        payload = buildPage(ITEMS_PER_PAGE);
+        xmlMapper = Jackson2ObjectMapperBuilder.xml().build();
+        mergeProjection = new RealtimeXmlProjection("hpid", "hvec", "hvgc");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS_PER_PAGE)
+    public void jacksonBinding(Blackhole bh) throws IOException {
+        CheckEmergencyRealtimeResponse response =
+                xmlMapper.readValue(new ByteArrayInputStream(payload), CheckEmergencyRealtimeResponse.class);
+        bh.consume(response);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS_PER_PAGE)
+    public void staxProjection(Blackhole bh) throws Exception {
+        RealtimeXmlProjection.Page page = mergeProjection.parse(new ByteArrayInputStream(payload));
+        bh.consume(page);
+    }
+
+    private byte[] buildPage(int size) throws IOException {
+        String fixture;
+        try (InputStream in = getClass().getResourceAsStream("/realtime/check-emergency-realtime-page.xml")) {
+            if (in == null) throw new IOException("realtime fixture not found (src/test/resources)");
+            fixture = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        String head = fixture.substring(0, fixture.indexOf("<item>"));
+        String tail = fixture.substring(fixture.lastIndexOf("</item>") + "</item>".length());
+
+        List<String> items = new ArrayList<>();
+        int from = 0;
+        while ((from = fixture.indexOf("<item>", from)) >= 0) {
+            int to = fixture.indexOf("</item>", from) + "</item>".length();
+            items.add(fixture.substring(from, to));
+            from = to;
+        }
+
+        StringBuilder sb = new StringBuilder(head);
+        for (int i = 0; i < size; i++) {
+            sb.append(items.get(i % items.size())).append('\n');
+        }
+        sb.append(tail);
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
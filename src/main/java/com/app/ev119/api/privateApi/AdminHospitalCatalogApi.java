@@ -0,0 +1,31 @@
+package com.app.ev119.api.privateApi;
+
+import com.app.ev119.domain.dto.ApiResponseDTO;
+import com.app.ev119.service.HospitalCatalogSyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/hospital-catalog")
+public class AdminHospitalCatalogApi {
+
+    private final HospitalCatalogSyncService hospitalCatalogSyncService;
+
+    // 목록 API 전체 페이지를 받아 로컬 병원 목록 동기화 시작 (upstream 쿼터 사용, 백그라운드 실행 -> 202)
+    @PostMapping("/sync")
+    public ResponseEntity<ApiResponseDTO<Map<String, Object>>> sync() {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponseDTO.of("병원 목록 동기화 시작", hospitalCatalogSyncService.startSync()));
+    }
+
+    // 마지막 수동 동기화 작업 상태 (RUNNING / DONE / FAILED)
+    @GetMapping("/sync")
+    public ResponseEntity<ApiResponseDTO<Map<String, Object>>> getSyncJob() {
+        return ResponseEntity.ok(ApiResponseDTO.of("success", hospitalCatalogSyncService.getJob()));
+    }
+}
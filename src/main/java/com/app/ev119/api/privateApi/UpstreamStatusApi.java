@@ -0,0 +1,56 @@
+package com.app.ev119.api.privateApi;
+
+import com.app.ev119.domain.dto.ApiResponseDTO;
+import com.app.ev119.service.StatusContributor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 운영용 upstream/캐시/구독 상태 (SecurityConfig: /api/admin/** 는 ADMIN 만)
+// 각 기능 서비스가 StatusContributor 로 자기 상태를 등록, 여기서는 이름으로 찾아서 노출만 함
+@RestController
+@RequestMapping("/api/admin/upstream")
+public class UpstreamStatusApi {
+
+    private final Map<String, StatusContributor> contributors = new TreeMap<>();
+
+    public UpstreamStatusApi(List<StatusContributor> contributors) {
+        for (StatusContributor contributor : contributors) {
+            StatusContributor prev = this.contributors.put(contributor.getStatusName(), contributor);
+            if (prev != null) {
+                throw new IllegalStateException("duplicate status name: " + contributor.getStatusName());
+            }
+        }
+    }
+
+    // 등록된 상태 이름 목록
+    @GetMapping
+    public ResponseEntity<ApiResponseDTO<List<String>>> getStatusNames() {
+        return ResponseEntity.ok(ApiResponseDTO.of("success", List.copyOf(contributors.keySet())));
+    }
+
+    @GetMapping("/all")
+    public ResponseEntity<ApiResponseDTO<Map<String, Object>>> getAllStatus() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        contributors.forEach((name, contributor) -> result.put(name, contributor.getStatus()));
+        return ResponseEntity.ok(ApiResponseDTO.of("success", result));
+    }
+
+    @GetMapping("/{name}")
+    public ResponseEntity<ApiResponseDTO<Object>> getStatus(@PathVariable("name") String name) {
+        StatusContributor contributor = contributors.get(name);
+        if (contributor == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "unknown status: " + name);
+        }
+        return ResponseEntity.ok(ApiResponseDTO.of("success", contributor.getStatus()));
+    }
+}
@@ -0,0 +1,30 @@
+package com.app.ev119.api.publicApi;
+
+import com.app.ev119.domain.dto.ApiResponseDTO;
+import com.app.ev119.domain.dto.response.AvailableHospitalResponse;
+import com.app.ev119.service.AvailabilityStoreService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/emergency")
+public class AvailabilityApi {
+
+    private final AvailabilityStoreService availabilityStoreService;
+
+    // 예) /api/emergency/available?equipment=CT,MRI&minEr=1
+    @GetMapping("/available")
+    public ResponseEntity<ApiResponseDTO<AvailableHospitalResponse>> getAvailable(
+            @RequestParam(value = "equipment", required = false) String equipment,
+            @RequestParam(value = "minEr", defaultValue = "0") Integer minEr,
+            @RequestParam(value = "stage1", required = false) String stage1,
+            @RequestParam(value = "limit", defaultValue = "100") Integer limit
+    ) {
+        AvailableHospitalResponse response =
+                availabilityStoreService.findAvailable(equipment, minEr, stage1, limit);
+
+        return ResponseEntity.ok(ApiResponseDTO.of("success", response));
+    }
+}
@@ -0,0 +1,31 @@
+package com.app.ev119.api.publicApi;
+
+import com.app.ev119.service.AvailabilitySubscriptionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/emergency")
+public class AvailabilitySubscriptionApi {
+
+    private final AvailabilitySubscriptionService availabilitySubscriptionService;
+
+    // ✅ 병상 변경분 구독 (SSE)
+    // - hpids 가 있으면 해당 병원들, 없으면 lat/lon/radiusKm 반경 안 병원들
+    // - event: snapshot (구독 직후 현재 값) / delta (바뀐 필드만)
+    @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(
+            @RequestParam(value = "hpids", required = false) String hpids,
+            @RequestParam(value = "lat", required = false) Double lat,
+            @RequestParam(value = "lon", required = false) Double lon,
+            @RequestParam(value = "radiusKm", defaultValue = "5") double radiusKm
+    ) {
+        if (hpids == null && lat != null && lon != null) {
+            return availabilitySubscriptionService.subscribeArea(lat, lon, radiusKm);
+        }
+        return availabilitySubscriptionService.subscribeHpids(hpids);
+    }
+}
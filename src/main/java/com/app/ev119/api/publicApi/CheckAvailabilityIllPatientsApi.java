@@ -3,7 +3,9 @@ package com.app.ev119.api.publicApi;
 import com.app.ev119.domain.dto.ApiResponseDTO;
 import com.app.ev119.domain.dto.request.CheckAvailabilityIllPatientsRequestDTO;
 import com.app.ev119.domain.dto.response.CheckAvailabilityIllPatientsResponse;
+import com.app.ev119.domain.dto.response.SevereAcceptanceResponse;
 import com.app.ev119.service.CheckAvailabilityIllPatientsService;
+import com.app.ev119.service.SevereIllnessMatrixService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,6 +21,7 @@ public class CheckAvailabilityIllPatientsApi {
 
     private final RestClient.Builder builder;
     private final CheckAvailabilityIllPatientsService checkAvailabilityIllPatientsService;
+    private final SevereIllnessMatrixService severeIllnessMatrixService;
 
     @GetMapping("/check-availity")
     public ResponseEntity<ApiResponseDTO<CheckAvailabilityIllPatientsResponse>> getCHeckAvailabilityIllPatients(
@@ -39,4 +42,19 @@ public class CheckAvailabilityIllPatientsApi {
 
         return ResponseEntity.ok(ApiResponseDTO.of("SUCCESS", response));
     }
+
+    // ✅ 로컬 행렬 기준 중증질환 수용 가능 병원 (upstream 호출 없음)
+    // 예) /api/emergency/severe-acceptance?smType=MYOCARDIAL_INFARCTION_REPERFUSION&lat=37.5&lon=127.0
+    @GetMapping("/severe-acceptance")
+    public ResponseEntity<ApiResponseDTO<SevereAcceptanceResponse>> getSevereAcceptance(
+            @RequestParam("smType") String smType,
+            @RequestParam(value = "lat", required = false) Double lat,
+            @RequestParam(value = "lon", required = false) Double lon,
+            @RequestParam(value = "stage1", required = false) String stage1,
+            @RequestParam(value = "limit", defaultValue = "20") Integer limit
+    ){
+        SevereAcceptanceResponse response = severeIllnessMatrixService.findAccepting(smType, lat, lon, stage1, limit);
+
+        return ResponseEntity.ok(ApiResponseDTO.of("SUCCESS", response));
+    }
 }
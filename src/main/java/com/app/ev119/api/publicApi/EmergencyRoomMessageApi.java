@@ -4,7 +4,9 @@ import com.app.ev119.domain.dto.ApiResponseDTO;
 import com.app.ev119.domain.dto.request.EmergencyRoomMessageRequestDTO;
 import com.app.ev119.domain.dto.response.CheckEmergencyRealtimeResponse;
 import com.app.ev119.domain.dto.response.EmergencyRoomMessageResponse;
+import com.app.ev119.domain.dto.response.ErMessageFeedResponse;
 import com.app.ev119.service.EmergencyRoomMessageService;
+import com.app.ev119.service.ErMessageFeedService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,6 +22,7 @@ public class EmergencyRoomMessageApi {
 
     private final RestClient.Builder builder;
     private final EmergencyRoomMessageService emergencyRoomMessageService;
+    private final ErMessageFeedService erMessageFeedService;
 
     @GetMapping("/emergency-message")
     public ResponseEntity<ApiResponseDTO<EmergencyRoomMessageResponse>> getEmergencyRoomMessage(
@@ -42,5 +45,18 @@ public class EmergencyRoomMessageApi {
         return ResponseEntity.ok(ApiResponseDTO.of("SUCCESS", response));
     }
 
-
+    // ✅ 메시지 증분 피드 (upstream 호출 없음)
+    // - 첫 요청은 since=0, 다음부터는 응답의 version 을 since 로
+    // - HPID 를 주면 해당 병원(쉼표 구분)만
+    // - reset 응답이 hasMore 면 since=version&cursor=cursor 로 나머지를 이어 받음
+    @GetMapping("/emergency-message/feed")
+    public ResponseEntity<ApiResponseDTO<ErMessageFeedResponse>> getEmergencyRoomMessageFeed(
+            @RequestParam(name = "since", defaultValue = "0") Long since,
+            @RequestParam(name = "cursor", required = false) Long cursor,
+            @RequestParam(name = "HPID", required = false) String hpid,
+            @RequestParam(name = "limit", defaultValue = "200") Integer limit
+    ) {
+        ErMessageFeedResponse response = erMessageFeedService.getFeed(since, cursor, hpid, limit);
+        return ResponseEntity.ok(ApiResponseDTO.of("SUCCESS", response));
+    }
 }
@@ -0,0 +1,23 @@
+package com.app.ev119.api.publicApi;
+
+import com.app.ev119.domain.dto.ApiResponseDTO;
+import com.app.ev119.service.HospitalForecastService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/emergency")
+public class HospitalForecastApi {
+
+    private final HospitalForecastService hospitalForecastService;
+
+    // 병원 한 곳의 최근 관측 + 병상 예측 (+15/+30/+60분)
+    @GetMapping("/forecast")
+    public ResponseEntity<ApiResponseDTO<Map<String, Object>>> getForecast(@RequestParam("hpid") String hpid) {
+        return ResponseEntity.ok(ApiResponseDTO.of("success", hospitalForecastService.getForecast(hpid)));
+    }
+}
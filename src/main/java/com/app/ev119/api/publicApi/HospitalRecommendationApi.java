@@ -0,0 +1,31 @@
+package com.app.ev119.api.publicApi;
+
+import com.app.ev119.domain.dto.ApiResponseDTO;
+import com.app.ev119.domain.dto.response.HospitalRecommendationResponse;
+import com.app.ev119.service.HospitalRecommendationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/emergency")
+public class HospitalRecommendationApi {
+
+    private final HospitalRecommendationService hospitalRecommendationService;
+
+    // 예) /api/emergency/recommend?lon=127.0&lat=37.5&equipment=CT&topK=5
+    @GetMapping("/recommend")
+    public ResponseEntity<ApiResponseDTO<HospitalRecommendationResponse>> getRecommendation(
+            @RequestParam("lon") double lon,
+            @RequestParam("lat") double lat,
+            @RequestParam(value = "equipment", required = false) String equipment,
+            @RequestParam(value = "topK", defaultValue = "5") Integer topK,
+            @RequestParam(value = "candidates", defaultValue = "30") Integer candidates
+    ) {
+        HospitalRecommendationResponse response =
+                hospitalRecommendationService.recommend(lat, lon, equipment, topK, candidates);
+
+        return ResponseEntity.ok(ApiResponseDTO.of("success", response));
+    }
+}
@@ -0,0 +1,25 @@
+package com.app.ev119.api.publicApi;
+
+import com.app.ev119.domain.dto.ApiResponseDTO;
+import com.app.ev119.domain.dto.response.HospitalSuggestResponse;
+import com.app.ev119.service.HospitalNameIndexService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/emergency")
+public class HospitalSuggestApi {
+
+    private final HospitalNameIndexService hospitalNameIndexService;
+
+    // 기관명 자동완성 (접두 + 초성, 예: q=ㅅㅇㄷ)
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponseDTO<HospitalSuggestResponse>> suggest(
+            @RequestParam("q") String q,
+            @RequestParam(value = "limit", defaultValue = "10") Integer limit
+    ) {
+        return ResponseEntity.ok(ApiResponseDTO.of("success", hospitalNameIndexService.suggest(q, limit)));
+    }
+}
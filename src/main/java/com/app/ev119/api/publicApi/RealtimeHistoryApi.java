@@ -0,0 +1,43 @@
+package com.app.ev119.api.publicApi;
+
+import com.app.ev119.domain.dto.ApiResponseDTO;
+import com.app.ev119.domain.dto.response.CapacityHistoryResponse;
+import com.app.ev119.domain.type.HistoryResolution;
+import com.app.ev119.service.RealtimeHistoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/emergency")
+public class RealtimeHistoryApi {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final RealtimeHistoryService realtimeHistoryService;
+
+    // 예) /api/emergency/history?hpid=A1100010&from=2025-01-01T00:00:00&to=2025-01-02T00:00:00&resolution=MINUTE_15
+    // - from/to 는 한국 시간, 생략하면 최근 24시간
+    // - resolution 생략 시 기간에 맞춰 자동 (MINUTE_1 / MINUTE_15 / HOUR_1)
+    @GetMapping("/history")
+    public ResponseEntity<ApiResponseDTO<CapacityHistoryResponse>> getHistory(
+            @RequestParam("hpid") String hpid,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "resolution", required = false) HistoryResolution resolution
+    ) {
+        Instant toAt = to == null ? Instant.now() : to.atZone(ZONE).toInstant();
+        Instant fromAt = from == null ? toAt.minus(Duration.ofHours(24)) : from.atZone(ZONE).toInstant();
+
+        CapacityHistoryResponse response = realtimeHistoryService.getHistory(hpid, fromAt, toAt, resolution);
+
+        return ResponseEntity.ok(ApiResponseDTO.of("success", response));
+    }
+}
@@ -1,36 +1,87 @@
 package com.app.ev119.config;
 
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 @EnableCaching
 @Configuration
+@EnableConfigurationProperties(LayeredCacheProperties.class)
 public class CacheConfig {
 
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory,
+                                               LayeredCacheProperties properties) {
 
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
                 )
                 .serializeValuesWith(
-                        RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer())
+                        RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer(properties))
                 )
-                .entryTtl(Duration.ofSeconds(60));
+                .entryTtl(Duration.ofSeconds(properties.getDefaults().getTtlSeconds()));
+
+        // ✅ 캐시별 L2 TTL
+        Map<String, RedisCacheConfiguration> perCache = new HashMap<>();
+        properties.getCaches().forEach((name, spec) ->
+                perCache.put(name, config.entryTtl(Duration.ofSeconds(spec.getTtlSeconds()))));
 
         return RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(config)
+                .withInitialCacheConfigurations(perCache)
                 .build();
     }
+
+    /**
+     * ✅ 값 코덱 선택 (compact 는 예전 JSON 값도 읽을 수 있어서 배포 중에 바꿔도 됨)
+     */
+    private RedisSerializer<Object> valueSerializer(LayeredCacheProperties properties) {
+        if ("json".equalsIgnoreCase(properties.getCodec())) {
+            return new GenericJackson2JsonRedisSerializer();
+        }
+        return new CompactCacheValueSerializer(properties.getCompressThresholdBytes());
+    }
+
+    /**
+     * ✅ @Cacheable 이 쓰는 기본 CacheManager (L1 로컬 + L2 Redis)
+     */
+    @Bean
+    @Primary
+    public TwoTierCacheManager cacheManager(RedisCacheManager redisCacheManager,
+                                           LayeredCacheProperties properties,
+                                           StringRedisTemplate stringRedisTemplate) {
+        return new TwoTierCacheManager(redisCacheManager, properties, stringRedisTemplate);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                           TwoTierCacheManager cacheManager,
+                                                                           LayeredCacheProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> cacheManager.onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(properties.getInvalidationChannel())
+        );
+        return container;
+    }
 }
@@ -0,0 +1,156 @@
+package com.app.ev119.config;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * ✅ Redis 캐시 값 바이너리 코덱
+ * - [버전 1바이트][플래그 1바이트][본문]
+ * - 본문은 Smile(바이너리 JSON). 필드명/클래스명/반복 문자열("Y","N" 등)은 한 번만 쓰고 뒤에서는 참조
+ * - null 필드는 쓰지 않음 (item 70개 필드 중 비어있는 게 많음)
+ * - 본문이 compressThresholdBytes 이상이면 Deflater(BEST_SPEED) 로 압축
+ * - 첫 바이트가 버전이 아니면(예: '{') 예전 JSON 값으로 보고 GenericJackson2JsonRedisSerializer 로 읽음 -> 운영 중 교체 가능
+ */
+public class CompactCacheValueSerializer implements RedisSerializer<Object> {
+
+    static final byte VERSION_1 = 0x01;
+
+    private static final byte FLAG_COMPRESSED = 0x01;
+    private static final byte FLAG_NULL_VALUE = 0x02;
+
+    private static final int HEADER_SIZE = 2;
+
+    private final ObjectMapper mapper;
+    private final int compressThresholdBytes;
+    private final RedisSerializer<Object> legacy = new GenericJackson2JsonRedisSerializer();
+
+    public CompactCacheValueSerializer(int compressThresholdBytes) {
+        this.compressThresholdBytes = compressThresholdBytes;
+        this.mapper = createMapper();
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null || value instanceof NullValue) {
+            return new byte[]{VERSION_1, FLAG_NULL_VALUE};
+        }
+
+        try {
+            byte[] body = mapper.writeValueAsBytes(value);
+            byte flags = 0;
+
+            if (compressThresholdBytes > 0 && body.length >= compressThresholdBytes) {
+                byte[] compressed = deflate(body);
+                if (compressed.length < body.length) {
+                    body = compressed;
+                    flags |= FLAG_COMPRESSED;
+                }
+            }
+
+            byte[] out = new byte[HEADER_SIZE + body.length];
+            out[0] = VERSION_1;
+            out[1] = flags;
+            System.arraycopy(body, 0, out, HEADER_SIZE, body.length);
+            return out;
+
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 인코딩 실패: " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) return null;
+
+        if (bytes[0] != VERSION_1) {
+            return legacy.deserialize(bytes);
+        }
+        if (bytes.length < HEADER_SIZE) {
+            throw new SerializationException("캐시 값 헤더가 잘렸습니다.");
+        }
+
+        byte flags = bytes[1];
+        if ((flags & FLAG_NULL_VALUE) != 0) return NullValue.INSTANCE;
+
+        try {
+            if ((flags & FLAG_COMPRESSED) != 0) {
+                byte[] body = inflate(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE);
+                return mapper.readValue(body, Object.class);
+            }
+            return mapper.readValue(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE, Object.class);
+
+        } catch (IOException | DataFormatException e) {
+            throw new SerializationException("캐시 값 디코딩 실패", e);
+        }
+    }
+
+    private static ObjectMapper createMapper() {
+        SmileFactory factory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+
+        ObjectMapper mapper = new ObjectMapper(factory);
+        mapper.registerModule(new JavaTimeModule());
+        mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        mapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        // GenericJackson2JsonRedisSerializer 와 같은 방식으로 타입 정보 기록 (@Cacheable 반환 타입을 몰라도 복원)
+        mapper.activateDefaultTyping(LaissezFaireSubTypeValidator.instance,
+                ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY);
+        return mapper;
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buffer);
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input, int offset, int length) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input, offset, length);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("압축 본문이 잘렸습니다.");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.app.ev119.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 공공데이터/OpenAI 공용 HTTP 클라이언트 설정
+ * - routes 키는 "https://apis.data.go.kr" 처럼 scheme://host[:port]
+ * - routes 에 없는 값은 기본값 사용
+ * - OpenAI(https://api.openai.com)는 응답이 느려서 기본 route 로 타임아웃 60초 (설정으로 덮어쓰기 가능)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "api.http")
+public class HttpClientProperties {
+
+    private int maxTotal = 200;
+    private int maxPerRoute = 50;
+
+    private long connectTimeoutMs = 3000;
+    private long readTimeoutMs = 10000;
+    private long responseTimeoutMs = 10000;
+    private long connectionRequestTimeoutMs = 2000;
+
+    private long idleEvictSeconds = 30;
+    private long timeToLiveSeconds = 300;
+
+    private Map<String, Route> routes = defaultRoutes();
+
+    private RawCapture rawCapture = new RawCapture();
+
+    private static Map<String, Route> defaultRoutes() {
+        Route openAi = new Route();
+        openAi.setReadTimeoutMs(60000L);
+        openAi.setResponseTimeoutMs(60000L);
+
+        Map<String, Route> routes = new LinkedHashMap<>();
+        routes.put("https://api.openai.com", openAi);
+        return routes;
+    }
+
+    @Getter
+    @Setter
+    public static class Route {
+        private Integer maxConnections;
+        private Long connectTimeoutMs;
+        private Long readTimeoutMs;
+        private Long responseTimeoutMs;
+    }
+
+    /**
+     * 응답 원문(XML) 로그는 진단용으로만 켜기
+     * - sampleRate 비율의 요청만, maxBytes 까지만 기록
+     */
+    @Getter
+    @Setter
+    public static class RawCapture {
+        private boolean enabled = false;
+        private double sampleRate = 0.01;
+        private int maxBytes = 4096;
+    }
+}
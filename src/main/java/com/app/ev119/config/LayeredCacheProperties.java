@@ -0,0 +1,60 @@
+package com.app.ev119.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 2단 캐시(L1 로컬 + L2 Redis) 설정
+ * - caches 키는 캐시 이름 (emergency:realtime ...), 없는 캐시는 defaults 사용
+ * - L1 TTL 은 L2 보다 짧게 (다른 노드 갱신이 pub/sub 로 못 왔을 때 오래된 값이 남는 시간 상한)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "api.cache")
+public class LayeredCacheProperties {
+
+    // L1 무효화 메시지 채널
+    private String invalidationChannel = "emergency:cache:invalidate";
+
+    // 값 직렬화 방식: compact(바이너리+압축) | json(GenericJackson2JsonRedisSerializer)
+    private String codec = "compact";
+
+    // compact 코덱에서 이 크기 이상이면 압축
+    private int compressThresholdBytes = 1024;
+
+    private Spec defaults = new Spec();
+    private Map<String, Spec> caches = defaultCaches();
+
+    public Spec specOf(String cacheName) {
+        return caches.getOrDefault(cacheName, defaults);
+    }
+
+    // emergency:realtime 은 값 안에 soft/hard 만료 시각이 있어서 Redis TTL 은 hard TTL(180s) + 장애 대체 구간(600s)
+    private static Map<String, Spec> defaultCaches() {
+        Map<String, Spec> map = new LinkedHashMap<>();
+        Spec realtime = new Spec();
+        realtime.setTtlSeconds(780);
+        map.put("emergency:realtime", realtime);
+
+        // 기관 위치 목록은 거의 안 바뀜
+        Spec locationCell = new Spec();
+        locationCell.setTtlSeconds(3600);
+        locationCell.setL1TtlSeconds(300);
+        locationCell.setL1MaxSize(2000);
+        map.put("emergency:location-cell", locationCell);
+        return map;
+    }
+
+    @Getter
+    @Setter
+    public static class Spec {
+        private long ttlSeconds = 60;
+        private boolean l1Enabled = true;
+        private long l1TtlSeconds = 10;
+        private long l1MaxSize = 500;
+    }
+}
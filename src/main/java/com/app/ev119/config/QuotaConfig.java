@@ -0,0 +1,32 @@
+package com.app.ev119.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties({QuotaProperties.class, ServiceKeyProperties.class})
+public class QuotaConfig {
+
+    @Bean
+    @SuppressWarnings("rawtypes")
+    public RedisScript<List> quotaTokenBucketScript() {
+        DefaultRedisScript<List> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource("scripts/quota-token-bucket.lua"));
+        script.setResultType(List.class);
+        return script;
+    }
+
+    @Bean
+    public RedisScript<Long> quotaBlockScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource("scripts/quota-block.lua"));
+        script.setResultType(Long.class);
+        return script;
+    }
+}
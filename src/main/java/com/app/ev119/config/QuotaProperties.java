@@ -0,0 +1,42 @@
+package com.app.ev119.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 공공데이터 서비스키 쿼터(토큰 버킷) 설정
+ * - endpoints 키는 PublicApiType.key (realtime, location, basic ...)
+ * - endpoints 에 없는 엔드포인트는 defaults 사용
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "api.quota")
+public class QuotaProperties {
+
+    private boolean enabled = true;
+    private String zone = "Asia/Seoul";
+    // upstream 이 실제 429 를 주면 이 시간 동안 모든 노드에서 해당 엔드포인트 호출 중단
+    private long blockMillis = 60_000;
+
+    private Bucket defaults = new Bucket();
+    private Map<String, Bucket> endpoints = new LinkedHashMap<>();
+
+    public Bucket bucketOf(String key) {
+        return endpoints.getOrDefault(key, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Bucket {
+        private int capacity = 30;
+        private double refillPerSecond = 5.0;
+        // 추가 상한 (0 이하면 없음), 기본 일일 예산은 서비스키별 예산 합 (ServiceKeyProperties.dailyBudgetSum)
+        private long dailyBudget = 0;
+        // 일일 잔여량이 이 비율 아래로 내려가면 호출 측이 캐시/스냅샷으로 스스로 후퇴
+        private double lowWatermark = 0.1;
+    }
+}
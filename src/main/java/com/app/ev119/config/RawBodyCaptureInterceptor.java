@@ -0,0 +1,88 @@
+package com.app.ev119.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ✅ upstream 응답 원문 샘플링 로그
+ * - 원문 확인용으로 같은 URL 을 String 으로 한 번 더 호출하던 방식 대체
+ * - 샘플링된 요청만 본문을 메모리에 올려 일부(maxBytes)만 찍고, 같은 바이트를 그대로 역직렬화에 넘김
+ * - 샘플링되지 않은 요청은 스트림을 건드리지 않음
+ */
+@Slf4j
+public class RawBodyCaptureInterceptor implements ClientHttpRequestInterceptor {
+
+    private final HttpClientProperties.RawCapture rawCapture;
+
+    public RawBodyCaptureInterceptor(HttpClientProperties.RawCapture rawCapture) {
+        this.rawCapture = rawCapture;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        ClientHttpResponse response = execution.execute(request, body);
+        if (!isSampled()) return response;
+
+        byte[] raw = StreamUtils.copyToByteArray(response.getBody());
+        int length = Math.min(raw.length, Math.max(0, rawCapture.getMaxBytes()));
+        log.info("[RAW-CAPTURE] {} {} status={}, bytes={}, body={}{}",
+                request.getMethod(), request.getURI().getPath(), response.getStatusCode().value(), raw.length,
+                new String(raw, 0, length, StandardCharsets.UTF_8),
+                raw.length > length ? "...(truncated)" : "");
+
+        return new CapturedResponse(response, raw);
+    }
+
+    private boolean isSampled() {
+        if (!rawCapture.isEnabled()) return false;
+        double rate = rawCapture.getSampleRate();
+        return rate >= 1.0 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private static class CapturedResponse implements ClientHttpResponse {
+        private final ClientHttpResponse delegate;
+        private final byte[] body;
+
+        CapturedResponse(ClientHttpResponse delegate, byte[] body) {
+            this.delegate = delegate;
+            this.body = body;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.app.ev119.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class RealtimeExecutorConfig {
+
+    /**
+     * ✅ stage 조합(시도/시군구) 단위 작업용
+     * - 내부에서 fetch 작업을 기다리므로 fetch 풀과 분리 (같은 풀이면 포화 시 교착)
+     */
+    @Bean(name = "realtimeFanoutExecutor")
+    public ThreadPoolTaskExecutor realtimeFanoutExecutor(
+            @Value("${api.emergency.realtime-fanout.pool-size:8}") int poolSize,
+            @Value("${api.emergency.realtime-fanout.queue-capacity:50}") int queueCapacity) {
+        return buildExecutor("rt-fanout-", poolSize, queueCapacity);
+    }
+
+    /**
+     * ✅ 실시간 API 단건 호출(첫 페이지 후보 조회, 페이지 조회)용
+     * - 다른 작업을 기다리지 않는 말단 작업만 넣는다
+     */
+    @Bean(name = "realtimeFetchExecutor")
+    public ThreadPoolTaskExecutor realtimeFetchExecutor(
+            @Value("${api.emergency.realtime-fetch.pool-size:16}") int poolSize,
+            @Value("${api.emergency.realtime-fetch.queue-capacity:200}") int queueCapacity) {
+        return buildExecutor("rt-fetch-", poolSize, queueCapacity);
+    }
+
+    /**
+     * ✅ 캐시 soft TTL 만료 후 백그라운드 갱신용
+     * - 가득 차면 버림 (요청 스레드는 오래된 값을 이미 받았으므로 기다릴 필요 없음, 다음 요청이 다시 시도)
+     */
+    @Bean(name = "realtimeRefreshExecutor")
+    public ThreadPoolTaskExecutor realtimeRefreshExecutor(
+            @Value("${api.emergency.realtime-refresh.pool-size:4}") int poolSize,
+            @Value("${api.emergency.realtime-refresh.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = buildExecutor("rt-refresh-", poolSize, queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /**
+     * ✅ SSE 구독자 푸시용 (구독자별 outbox 전송 작업, 구독자당 최대 하나)
+     * - 스케줄러/요청 스레드가 느린 클라이언트 쓰기에 묶이지 않게 분리
+     * - 가득 차면 버림 (이벤트는 outbox 에 남고 다음 이벤트/heartbeat 때 다시 예약)
+     */
+    @Bean(name = "ssePushExecutor")
+    public ThreadPoolTaskExecutor ssePushExecutor(
+            @Value("${api.emergency.subscribe.push-pool-size:4}") int poolSize,
+            @Value("${api.emergency.subscribe.push-queue-capacity:5000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = buildExecutor("sse-push-", poolSize, queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /**
+     * ✅ 병원 목록 동기화용 (전체 시도 페이지 수집에 수십 초, @Scheduled 폴러들이 쓰는 taskScheduler 와 분리)
+     * - 스레드 1개, 대기열 없음: 실행 중이면 거절 (HospitalCatalogSyncService 가 실행 중 작업 상태를 돌려줌)
+     */
+    @Bean(name = "catalogSyncExecutor")
+    public ThreadPoolTaskExecutor catalogSyncExecutor() {
+        ThreadPoolTaskExecutor executor = buildExecutor("catalog-sync-", 1, 0);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    private ThreadPoolTaskExecutor buildExecutor(String prefix, int poolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(prefix);
+        // 큐까지 가득 차면 호출 스레드에서 실행 (순차 처리로 자연스럽게 감속)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
@@ -1,14 +1,140 @@
 package com.app.ev119.config;
 
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 @Configuration
+@EnableConfigurationProperties(HttpClientProperties.class)
+@RequiredArgsConstructor
+@Slf4j
 public class RestTemplateConfig {
 
+    private final HttpClientProperties properties;
+
+    /**
+     * ✅ 공용 커넥션 풀
+     * - keep-alive 연결 재사용, 호스트(route)별 최대 연결 수 제한
+     * - 느린 upstream 하나가 톰캣 스레드를 무기한 잡지 않도록 connect/read 타임아웃 필수
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public PoolingHttpClientConnectionManager httpClientConnectionManager() {
+        Map<String, HttpClientProperties.Route> routes = resolveRoutes();
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxTotal())
+                .setMaxConnPerRoute(properties.getMaxPerRoute())
+                .setConnectionConfigResolver(route -> connectionConfig(routes.get(routeKey(route.getTargetHost()))))
+                .build();
+
+        properties.getRoutes().forEach((uri, route) -> {
+            if (route.getMaxConnections() == null) return;
+            HttpHost host = toHost(uri);
+            connectionManager.setMaxPerRoute(
+                    new HttpRoute(host, null, "https".equals(host.getSchemeName())),
+                    route.getMaxConnections()
+            );
+            log.info("[HTTP-POOL] route={}, maxConnections={}", routeKey(host), route.getMaxConnections());
+        });
+
+        return connectionManager;
+    }
+
+    @Bean
+    public CloseableHttpClient upstreamHttpClient(PoolingHttpClientConnectionManager httpClientConnectionManager) {
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(properties.getConnectionRequestTimeoutMs()))
+                .setResponseTimeout(Timeout.ofMilliseconds(properties.getResponseTimeoutMs()))
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(httpClientConnectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(properties.getIdleEvictSeconds()))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(CloseableHttpClient upstreamHttpClient) {
+        Map<String, HttpClientProperties.Route> routes = resolveRoutes();
+
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(upstreamHttpClient);
+        // route 별 응답 타임아웃이 지정된 경우에만 요청 단위 RequestConfig 적용
+        factory.setHttpContextFactory((method, uri) -> {
+            HttpClientProperties.Route route = routes.get(routeKey(uri));
+            if (route == null || route.getResponseTimeoutMs() == null) return null;
+
+            HttpClientContext context = HttpClientContext.create();
+            context.setRequestConfig(RequestConfig.custom()
+                    .setConnectionRequestTimeout(Timeout.ofMilliseconds(properties.getConnectionRequestTimeoutMs()))
+                    .setResponseTimeout(Timeout.ofMilliseconds(route.getResponseTimeoutMs()))
+                    .build());
+            return context;
+        });
+
+        RestTemplate restTemplate = new RestTemplate(factory);
+        restTemplate.getInterceptors().add(new RawBodyCaptureInterceptor(properties.getRawCapture()));
+        return restTemplate;
+    }
+
+    private ConnectionConfig connectionConfig(HttpClientProperties.Route route) {
+        long connectTimeoutMs = route != null && route.getConnectTimeoutMs() != null
+                ? route.getConnectTimeoutMs() : properties.getConnectTimeoutMs();
+        long readTimeoutMs = route != null && route.getReadTimeoutMs() != null
+                ? route.getReadTimeoutMs() : properties.getReadTimeoutMs();
+
+        return ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                .setTimeToLive(TimeValue.ofSeconds(properties.getTimeToLiveSeconds()))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                .build();
+    }
+
+    private Map<String, HttpClientProperties.Route> resolveRoutes() {
+        Map<String, HttpClientProperties.Route> routes = new HashMap<>();
+        properties.getRoutes().forEach((uri, route) -> routes.put(routeKey(toHost(uri)), route));
+        return routes;
+    }
+
+    // HttpRoute 비교 시 포트까지 같아야 하므로 기본 포트를 채워서 생성
+    private HttpHost toHost(String uri) {
+        URI parsed = URI.create(uri);
+        String scheme = parsed.getScheme() == null ? "https" : parsed.getScheme().toLowerCase(Locale.ROOT);
+        int port = parsed.getPort() > 0 ? parsed.getPort() : ("https".equals(scheme) ? 443 : 80);
+        return new HttpHost(scheme, parsed.getHost(), port);
+    }
+
+    private String routeKey(URI uri) {
+        if (uri == null || uri.getHost() == null) return "";
+        return routeKey(new HttpHost(uri.getScheme() == null ? "http" : uri.getScheme(), uri.getHost(), uri.getPort()));
+    }
+
+    // 포트 생략 시 scheme 기본 포트로 맞춰서 비교
+    private String routeKey(HttpHost host) {
+        String scheme = host.getSchemeName().toLowerCase(Locale.ROOT);
+        int port = host.getPort() > 0 ? host.getPort() : ("https".equals(scheme) ? 443 : 80);
+        return scheme + "://" + host.getHostName().toLowerCase(Locale.ROOT) + ":" + port;
     }
 }
@@ -0,0 +1,63 @@
+package com.app.ev119.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 공공데이터 서비스키 풀 설정
+ * - service-keys 가 비어 있으면 기존 api.emergency.service-key 하나로 동작
+ * - 키별 dailyBudget 은 엔드포인트(API)마다 따로 적용되는 한도 (공공데이터 쿼터가 키 x API 단위)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "api.emergency")
+public class ServiceKeyProperties {
+
+    private List<Key> serviceKeys = new ArrayList<>();
+
+    // 기존 단일 서비스키 (service-keys 가 없을 때만 사용)
+    private String serviceKey;
+
+    // 429 받은 키를 쉬게 하는 시간
+    private long keyCoolDownSeconds = 180;
+
+    /**
+     * 실제로 쓰는 키 목록 (빈 키 제외, 없으면 기존 단일 키를 기본 설정으로)
+     */
+    public List<Key> resolveKeys() {
+        List<Key> result = new ArrayList<>();
+        for (Key k : serviceKeys) {
+            if (k.getKey() != null && !k.getKey().isBlank()) result.add(k);
+        }
+        if (result.isEmpty() && serviceKey != null && !serviceKey.isBlank()) {
+            Key single = new Key();
+            single.setKey(serviceKey);
+            result.add(single);
+        }
+        return result;
+    }
+
+    /**
+     * 엔드포인트 하나의 하루 예산 = 키별 예산 합 (한 키라도 무제한(0 이하)이면 0 = 무제한)
+     */
+    public long dailyBudgetSum() {
+        long sum = 0;
+        for (Key k : resolveKeys()) {
+            if (k.getDailyBudget() <= 0) return 0;
+            sum += k.getDailyBudget();
+        }
+        return sum;
+    }
+
+    @Getter
+    @Setter
+    public static class Key {
+        private String key;
+        private int weight = 1;
+        private long dailyBudget = 10000;
+    }
+}
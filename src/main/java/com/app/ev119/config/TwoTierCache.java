@@ -0,0 +1,187 @@
+package com.app.ev119.config;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * L1(Caffeine) -> L2(Redis) 순서로 조회하는 캐시
+ * - L1 미스 + L2 히트면 L1 에 채움 (다음 조회는 네트워크/역직렬화 없음)
+ * - put/evict/clear 는 L2 에 먼저 반영하고 다른 노드 L1 은 invalidation 콜백으로 비움 (key 가 null 이면 전체)
+ * - L1 키는 String.valueOf(key) (무효화 메시지로 그대로 전달 가능하게)
+ * - get(key, valueLoader) 는 L1 의 get(key, mappingFunction) 으로 같은 키 적재를 노드 안에서 한 번만 실행
+ */
+public class TwoTierCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> l1;
+    private final Cache l2;
+    private final long l2TtlSeconds;
+    private final BiConsumer<String, String> invalidation;
+
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder l2Misses = new LongAdder();
+    private final LongAdder l2Puts = new LongAdder();
+    private final LongAdder l2Evicts = new LongAdder();
+    private final LongAdder l2Clears = new LongAdder();
+
+    public TwoTierCache(String name,
+                        com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> l1,
+                        Cache l2,
+                        long l2TtlSeconds,
+                        BiConsumer<String, String> invalidation) {
+        this.name = name;
+        this.l1 = l1;
+        this.l2 = l2;
+        this.l2TtlSeconds = l2TtlSeconds;
+        this.invalidation = invalidation;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l2.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String l1Key = String.valueOf(key);
+
+        if (l1 != null) {
+            ValueWrapper local = l1.getIfPresent(l1Key);
+            if (local != null) return local;
+        }
+
+        ValueWrapper remote = getRemote(key);
+        if (remote != null && l1 != null) l1.put(l1Key, new SimpleValueWrapper(remote.get()));
+        return remote;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) return null;
+
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // L1 이 없으면 L2(RedisCache) 의 동기화된 적재 사용
+        if (l1 == null) return l2.get(key, valueLoader);
+
+        String l1Key = String.valueOf(key);
+        ValueWrapper wrapper = l1.get(l1Key, k -> {
+            ValueWrapper remote = getRemote(key);
+            if (remote != null) return new SimpleValueWrapper(remote.get());
+
+            Object value;
+            try {
+                value = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            putRemote(key, value);
+            invalidation.accept(name, l1Key);
+            return new SimpleValueWrapper(value);
+        });
+        return (T) wrapper.get();
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        putRemote(key, value);
+        String l1Key = String.valueOf(key);
+        if (l1 != null) l1.put(l1Key, new SimpleValueWrapper(value));
+        invalidation.accept(name, l1Key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        l2.evict(key);
+        l2Evicts.increment();
+        String l1Key = String.valueOf(key);
+        evictLocal(l1Key);
+        invalidation.accept(name, l1Key);
+    }
+
+    @Override
+    public void clear() {
+        l2.clear();
+        l2Clears.increment();
+        clearLocal();
+        invalidation.accept(name, null);
+    }
+
+    /**
+     * 다른 노드에서 온 키 무효화 메시지 처리 (L1 만 비움)
+     */
+    public void evictLocal(String l1Key) {
+        if (l1 != null) l1.invalidate(l1Key);
+    }
+
+    /**
+     * 다른 노드에서 온 전체 무효화 메시지 처리 (L1 만 비움)
+     */
+    public void clearLocal() {
+        if (l1 != null) l1.invalidateAll();
+    }
+
+    private ValueWrapper getRemote(Object key) {
+        ValueWrapper remote = l2.get(key);
+        if (remote == null) l2Misses.increment();
+        else l2Hits.increment();
+        return remote;
+    }
+
+    private void putRemote(Object key, Object value) {
+        l2.put(key, value);
+        l2Puts.increment();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+
+        if (l1 != null) {
+            CacheStats s = l1.stats();
+            Map<String, Object> local = new LinkedHashMap<>();
+            local.put("size", l1.estimatedSize());
+            local.put("hits", s.hitCount());
+            local.put("misses", s.missCount());
+            local.put("evictions", s.evictionCount());
+            local.put("hitRate", s.hitRate());
+            l1.policy().expireAfterWrite().ifPresent(e -> local.put("ttlSeconds", e.getExpiresAfter(TimeUnit.SECONDS)));
+            stats.put("l1", local);
+        }
+
+        long hits = l2Hits.sum();
+        long misses = l2Misses.sum();
+        Map<String, Object> remote = new LinkedHashMap<>();
+        remote.put("hits", hits);
+        remote.put("misses", misses);
+        remote.put("hitRate", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        remote.put("puts", l2Puts.sum());
+        remote.put("evicts", l2Evicts.sum());
+        remote.put("clears", l2Clears.sum());
+        remote.put("ttlSeconds", l2TtlSeconds);
+        stats.put("l2", remote);
+        return stats;
+    }
+}
@@ -0,0 +1,109 @@
+package com.app.ev119.config;
+
+import com.app.ev119.service.StatusContributor;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RedisCacheManager 앞에 노드 로컬 L1 을 붙인 CacheManager
+ * - 캐시별 TTL/크기는 LayeredCacheProperties
+ * - 내가 바꾼 키는 pub/sub 로 알려서 다른 노드 L1 에서 제거 (내 메시지는 nodeId 로 걸러냄)
+ * - 메시지: "nodeId|cacheName|K|key" (키 하나) / "nodeId|cacheName|A" (캐시 전체), 종류를 따로 둬서 어떤 키와도 안 겹침
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager, StatusContributor {
+
+    private static final String KEY = "K";
+    private static final String ALL = "A";
+
+    private final RedisCacheManager redisCacheManager;
+    private final LayeredCacheProperties properties;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(RedisCacheManager redisCacheManager,
+                               LayeredCacheProperties properties,
+                               StringRedisTemplate stringRedisTemplate) {
+        this.redisCacheManager = redisCacheManager;
+        this.properties = properties;
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return caches.keySet();
+    }
+
+    private TwoTierCache createCache(String name) {
+        Cache l2 = redisCacheManager.getCache(name);
+        LayeredCacheProperties.Spec spec = properties.specOf(name);
+
+        com.github.benmanes.caffeine.cache.Cache<String, Cache.ValueWrapper> l1 = null;
+        if (spec.isL1Enabled() && spec.getL1MaxSize() > 0) {
+            l1 = Caffeine.newBuilder()
+                    .maximumSize(spec.getL1MaxSize())
+                    .expireAfterWrite(Duration.ofSeconds(spec.getL1TtlSeconds()))
+                    .recordStats()
+                    .build();
+        }
+        return new TwoTierCache(name, l1, l2, spec.getTtlSeconds(), this::publishInvalidation);
+    }
+
+    // key 가 null 이면 캐시 전체
+    private void publishInvalidation(String cacheName, String key) {
+        String message = key == null
+                ? nodeId + "|" + cacheName + "|" + ALL
+                : nodeId + "|" + cacheName + "|" + KEY + "|" + key;
+        try {
+            stringRedisTemplate.convertAndSend(properties.getInvalidationChannel(), message);
+        } catch (Exception e) {
+            // 발행 실패해도 L1 TTL 이 지나면 맞춰짐
+            log.debug("[CACHE] invalidation publish failed cache={}, key={}. msg={}", cacheName, key, e.getMessage());
+        }
+    }
+
+    /**
+     * 무효화 메시지 수신 ("nodeId|cacheName|K|key" 또는 "nodeId|cacheName|A")
+     */
+    public void onInvalidation(String message) {
+        String[] parts = message.split("\\|", 4);
+        if (parts.length < 3 || nodeId.equals(parts[0])) return;
+
+        TwoTierCache cache = caches.get(parts[1]);
+        if (cache == null) return;
+
+        if (ALL.equals(parts[2]) && parts.length == 3) cache.clearLocal();
+        else if (KEY.equals(parts[2]) && parts.length == 4) cache.evictLocal(parts[3]);
+    }
+
+    @Override
+    public String getStatusName() {
+        return "cache";
+    }
+
+    // 캐시별 L1/L2 히트/미스/eviction, L2 쓰기/삭제/전체삭제 수, TTL
+    @Override
+    public Map<String, Object> getStatus() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        caches.forEach((name, cache) -> stats.put(name, cache.getStats()));
+        return stats;
+    }
+}
@@ -0,0 +1,45 @@
+package com.app.ev119.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class AvailableHospitalItem {
+//    장비/병상 조건을 만족하는 응급실 (실시간 스냅샷 기준)
+    @JsonProperty("hpid")
+    private String hpid;
+
+    @JsonProperty("dutyName")
+    private String dutyName;
+
+    @JsonProperty("dutyTel3")
+    private String dutyTel3;
+
+    @JsonProperty("stage1")
+    private String stage1;
+
+    // 값이 없으면 null
+    @JsonProperty("hvec")
+    private Integer hvec;
+
+    @JsonProperty("hvgc")
+    private Integer hvgc;
+
+    @JsonProperty("hvicc")
+    private Integer hvicc;
+
+    @JsonProperty("hvoc")
+    private Integer hvoc;
+
+    @JsonProperty("hvncc")
+    private Integer hvncc;
+
+    // 가용(Y) 장비 목록
+    @JsonProperty("equipment")
+    private List<String> equipment;
+
+    @JsonProperty("hvidate")
+    private String hvidate;
+}
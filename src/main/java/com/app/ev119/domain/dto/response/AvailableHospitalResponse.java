@@ -0,0 +1,23 @@
+package com.app.ev119.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class AvailableHospitalResponse {
+//    가용 응급실 필터 조회 결과
+    @JsonProperty("realtimeVersion")
+    private long realtimeVersion;
+
+    @JsonProperty("realtimeRefreshedAt")
+    private String realtimeRefreshedAt;
+
+    // limit 적용 전 조건에 맞는 병원 수
+    @JsonProperty("totalMatched")
+    private int totalMatched;
+
+    @JsonProperty("items")
+    private List<AvailableHospitalItem> items;
+}
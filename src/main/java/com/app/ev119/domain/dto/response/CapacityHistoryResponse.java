@@ -0,0 +1,56 @@
+package com.app.ev119.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class CapacityHistoryResponse {
+//    병원별 실시간 가용병상 이력 (구간 평균)
+    @JsonProperty("hpid")
+    private String hpid;
+
+    @JsonProperty("resolution")
+    private String resolution;
+
+    @JsonProperty("from")
+    private String from;
+
+    @JsonProperty("to")
+    private String to;
+
+    @JsonProperty("points")
+    private List<Point> points;
+
+    @Data
+    public static class Point {
+        // 구간 시작 시각 (ISO-8601)
+        @JsonProperty("at")
+        private String at;
+
+        @JsonProperty("hvec")
+        private Double hvec;
+
+        @JsonProperty("hvgc")
+        private Double hvgc;
+
+        @JsonProperty("hvicc")
+        private Double hvicc;
+
+        @JsonProperty("hvoc")
+        private Double hvoc;
+
+        @JsonProperty("hvncc")
+        private Double hvncc;
+
+        @JsonProperty("hvecMin")
+        private Integer hvecMin;
+
+        @JsonProperty("hvecMax")
+        private Integer hvecMax;
+
+        @JsonProperty("samples")
+        private int samples;
+    }
+}
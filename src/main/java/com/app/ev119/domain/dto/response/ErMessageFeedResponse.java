@@ -0,0 +1,27 @@
+package com.app.ev119.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ErMessageFeedResponse {
+//    메시지 증분 피드 (다음 요청은 since=version)
+    @JsonProperty("version")
+    private long version;
+
+    // true 면 since 가 너무 오래됐거나 서버 버전과 맞지 않아서 현재 게시 중인 메시지 전체를 내려준 것
+    @JsonProperty("reset")
+    private boolean reset;
+
+    @JsonProperty("hasMore")
+    private boolean hasMore;
+
+    // reset 인데 hasMore 면 다음 요청은 since=version&cursor=cursor (reset 이어 받기)
+    @JsonProperty("cursor")
+    private Long cursor;
+
+    @JsonProperty("items")
+    private List<ErMessageItem> items;
+}
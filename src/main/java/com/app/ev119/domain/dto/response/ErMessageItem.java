@@ -0,0 +1,51 @@
+package com.app.ev119.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+@Data
+public class ErMessageItem {
+//    응급실/중증질환 메시지 피드 항목 (내용 해시로 중복 제거, version 은 전역 단조 증가)
+    @JsonProperty("version")
+    private long version;
+
+    // ADDED : 새 메시지, REMOVED : 더 이상 게시되지 않는 메시지
+    @JsonProperty("op")
+    private String op;
+
+    @JsonProperty("hash")
+    private String hash;
+
+    @JsonProperty("hpid")
+    private String hpid;
+
+    @JsonProperty("dutyName")
+    private String dutyName;
+
+    @JsonProperty("dutyAddr")
+    private String dutyAddr;
+
+    @JsonProperty("symTypCod")
+    private String symTypCod;
+
+    @JsonProperty("symTypCodMag")
+    private String symTypCodMag;
+
+    @JsonProperty("symBlkMsgTyp")
+    private String symBlkMsgTyp;
+
+    @JsonProperty("symBlkMsg")
+    private String symBlkMsg;
+
+    @JsonProperty("symBlkSttDtm")
+    private String symBlkSttDtm;
+
+    @JsonProperty("symBlkEndDtm")
+    private String symBlkEndDtm;
+
+    @JsonProperty("symOutDspYon")
+    private String symOutDspYon;
+
+    @JsonProperty("symOutDspMth")
+    private String symOutDspMth;
+}
@@ -0,0 +1,23 @@
+package com.app.ev119.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class HospitalRecommendationResponse {
+//    주변 응급실 추천 결과
+    @JsonProperty("realtimeVersion")
+    private Long realtimeVersion;
+
+    @JsonProperty("realtimeRefreshedAt")
+    private String realtimeRefreshedAt;
+
+    // 점수를 매긴 후보 수 (가까운 순 candidates 개)
+    @JsonProperty("candidates")
+    private int candidates;
+
+    @JsonProperty("items")
+    private List<RecommendedHospitalItem> items;
+}
@@ -0,0 +1,23 @@
+package com.app.ev119.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+@Data
+public class HospitalSuggestItem {
+//    기관명 자동완성 후보
+    @JsonProperty("hpid")
+    private String hpid;
+
+    @JsonProperty("dutyName")
+    private String dutyName;
+
+    @JsonProperty("dutyAddr")
+    private String dutyAddr;
+
+    @JsonProperty("latitude")
+    private Double latitude;
+
+    @JsonProperty("longitude")
+    private Double longitude;
+}
@@ -0,0 +1,20 @@
+package com.app.ev119.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class HospitalSuggestResponse {
+//    기관명 자동완성 결과 (접두/초성 일치, 좋은 순)
+    @JsonProperty("query")
+    private String query;
+
+    // 인덱스를 만든 시각 (위치 인덱스 갱신 주기)
+    @JsonProperty("indexBuiltAt")
+    private String indexBuiltAt;
+
+    @JsonProperty("items")
+    private List<HospitalSuggestItem> items;
+}
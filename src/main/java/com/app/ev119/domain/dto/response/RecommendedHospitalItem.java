@@ -0,0 +1,63 @@
+package com.app.ev119.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class RecommendedHospitalItem {
+//    추천 순위 항목 (점수 높은 순)
+    @JsonProperty("rank")
+    private int rank;
+
+    @JsonProperty("score")
+    private double score;
+
+    @JsonProperty("hpid")
+    private String hpid;
+
+    @JsonProperty("dutyName")
+    private String dutyName;
+
+    @JsonProperty("dutyAddr")
+    private String dutyAddr;
+
+    @JsonProperty("dutyTel1")
+    private String dutyTel1;
+
+    @JsonProperty("latitude")
+    private double latitude;
+
+    @JsonProperty("longitude")
+    private double longitude;
+
+    @JsonProperty("distance")
+    private double distance;
+
+    @JsonProperty("hvec")
+    private String hvec;
+
+    @JsonProperty("hvgc")
+    private String hvgc;
+
+    @JsonProperty("hvidate")
+    private String hvidate;
+
+    // 요청한 장비 중 가용(Y)인 것
+    @JsonProperty("equipment")
+    private List<String> equipment;
+
+    // 항목별 점수 (0~1, 가중치 적용 전)
+    @JsonProperty("distanceScore")
+    private double distanceScore;
+
+    @JsonProperty("erBedScore")
+    private double erBedScore;
+
+    @JsonProperty("equipmentScore")
+    private double equipmentScore;
+
+    @JsonProperty("freshnessScore")
+    private double freshnessScore;
+}
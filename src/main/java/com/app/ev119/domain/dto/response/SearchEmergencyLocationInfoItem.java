@@ -52,4 +52,17 @@ public class SearchEmergencyLocationInfoItem {
 
     @JsonProperty("hvgc")
     private String hvgc;
+
+    @JsonProperty("hvidate")
+    private String hvidate;
+
+    // 응급실 일반병상 예측 (+15/+30/+60분, 관측이 부족하면 null)
+    @JsonProperty("hvecForecast15")
+    private Double hvecForecast15;
+
+    @JsonProperty("hvecForecast30")
+    private Double hvecForecast30;
+
+    @JsonProperty("hvecForecast60")
+    private Double hvecForecast60;
 }
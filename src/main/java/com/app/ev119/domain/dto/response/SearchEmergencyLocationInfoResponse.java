@@ -18,6 +18,13 @@ public class SearchEmergencyLocationInfoResponse {
     @JsonProperty("body")
     private Body body;
 
+    // 실시간 스냅샷 버전/갱신시각 (스냅샷으로 hvec/hvgc 를 채운 경우에만 존재)
+    @JsonProperty("realtimeVersion")
+    private Long realtimeVersion;
+
+    @JsonProperty("realtimeRefreshedAt")
+    private String realtimeRefreshedAt;
+
     @Data
     public static class Header {
         @JsonProperty("resultCode")
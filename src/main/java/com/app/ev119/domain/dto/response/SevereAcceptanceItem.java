@@ -0,0 +1,33 @@
+package com.app.ev119.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class SevereAcceptanceItem {
+//    요청한 중증질환을 모두 수용 가능한 병원
+    @JsonProperty("hpid")
+    private String hpid;
+
+    @JsonProperty("dutyName")
+    private String dutyName;
+
+    @JsonProperty("stage1")
+    private String stage1;
+
+    @JsonProperty("latitude")
+    private Double latitude;
+
+    @JsonProperty("longitude")
+    private Double longitude;
+
+    // 좌표를 줬고 위치 인덱스에 병원이 있을 때만 (km)
+    @JsonProperty("distance")
+    private Double distance;
+
+    // 수용 가능한 전체 질환 코드 (1~28)
+    @JsonProperty("acceptCodes")
+    private List<Integer> acceptCodes;
+}
@@ -0,0 +1,25 @@
+package com.app.ev119.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class SevereAcceptanceResponse {
+//    중증질환 수용 가능 병원 조회 (로컬 행렬 기준)
+    @JsonProperty("matrixVersion")
+    private long matrixVersion;
+
+    @JsonProperty("refreshedAt")
+    private String refreshedAt;
+
+    @JsonProperty("codes")
+    private List<Integer> codes;
+
+    @JsonProperty("totalMatched")
+    private int totalMatched;
+
+    @JsonProperty("items")
+    private List<SevereAcceptanceItem> items;
+}
@@ -0,0 +1,64 @@
+package com.app.ev119.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.Date;
+
+@Getter @Setter
+@ToString
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@NoArgsConstructor @AllArgsConstructor
+@Entity
+@Table(name = "TBL_HOSPITAL_CATALOG", indexes = {
+        @Index(name = "UK_HOSPITAL_CATALOG_HPID", columnList = "HPID", unique = true),
+        @Index(name = "IDX_HOSPITAL_CATALOG_REGION", columnList = "STAGE1, STAGE2, LIST_ORDER"),
+        @Index(name = "IDX_HOSPITAL_CATALOG_NAME", columnList = "DUTY_NAME")
+})
+@SequenceGenerator(
+        name = "SEQ_HOSPITAL_CATALOG_GENERATOR",
+        sequenceName = "SEQ_HOSPITAL_CATALOG",
+        allocationSize = 1
+)
+public class HospitalCatalog {
+//    응급의료기관 목록 (쓰기는 HospitalCatalogSyncService 의 JDBC 배치, 읽기는 QueryDSL)
+
+    @Id @GeneratedValue(strategy = GenerationType.AUTO, generator = "SEQ_HOSPITAL_CATALOG_GENERATOR")
+    @EqualsAndHashCode.Include
+    private Long id;
+
+    @Column(name = "HPID", nullable = false, length = 20)
+    private String hpid;
+
+    // 동기화 때 조회한 시도(Q0) / 주소 두 번째 토큰(Q1, 시군구)
+    @Column(name = "STAGE1", nullable = false, length = 30)
+    private String stage1;
+
+    @Column(name = "STAGE2", length = 30)
+    private String stage2;
+
+    @Column(name = "DUTY_NAME", length = 200)
+    private String dutyName;
+
+    @Column(name = "DUTY_ADDR", length = 500)
+    private String dutyAddr;
+
+    private String dutyEmcls;
+    private String dutyEmclsName;
+    private String dutyTel1;
+    private String dutyTel3;
+    private String phpid;
+    private Double wgs84Lat;
+    private Double wgs84Lon;
+
+    // 지역 안에서 upstream 이 내려준 순서 (ORD 미지정 시 정렬 기준)
+    @Column(name = "LIST_ORDER")
+    private Integer listOrder;
+
+    // 비교용 필드 해시 (같으면 UPDATE 생략)
+    @Column(name = "CONTENT_HASH", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "SYNCED_AT", nullable = false)
+    private Date syncedAt;
+}
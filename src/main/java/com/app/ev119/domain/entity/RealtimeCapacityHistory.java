@@ -0,0 +1,52 @@
+package com.app.ev119.domain.entity;
+
+import com.app.ev119.domain.type.HistoryResolution;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.Date;
+
+@Getter @Setter
+@ToString
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@NoArgsConstructor @AllArgsConstructor
+@Entity
+@Table(name = "TBL_REALTIME_CAPACITY_HISTORY", indexes = {
+        @Index(name = "IDX_RT_HISTORY_HPID_BUCKET", columnList = "HPID, BUCKET_AT"),
+        @Index(name = "IDX_RT_HISTORY_RES_BUCKET", columnList = "RESOLUTION, BUCKET_AT")
+})
+@SequenceGenerator(
+        name = "SEQ_REALTIME_CAPACITY_HISTORY_GENERATOR",
+        sequenceName = "SEQ_REALTIME_CAPACITY_HISTORY",
+        allocationSize = 1
+)
+public class RealtimeCapacityHistory {
+//    실시간 가용병상 이력 (쓰기는 RealtimeHistoryRecorder 의 JDBC 배치, 읽기만 JPA)
+
+    @Id @GeneratedValue(strategy = GenerationType.AUTO, generator = "SEQ_REALTIME_CAPACITY_HISTORY_GENERATOR")
+    @EqualsAndHashCode.Include
+    private Long id;
+
+    @Column(name = "HPID", nullable = false, length = 20)
+    private String hpid;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "RESOLUTION", nullable = false, length = 10)
+    private HistoryResolution resolution;
+
+    // 집계 구간 시작 시각 (원본은 hvidate 를 분 단위로 내림)
+    @Column(name = "BUCKET_AT", nullable = false)
+    private Date bucketAt;
+
+    // 구간 평균 (원본은 값 그대로)
+    private Double hvec;
+    private Double hvgc;
+    private Double hvicc;
+    private Double hvoc;
+    private Double hvncc;
+
+    private Integer hvecMin;
+    private Integer hvecMax;
+
+    private Integer sampleCount;
+}
@@ -0,0 +1,30 @@
+package com.app.ev119.domain.type;
+
+import com.app.ev119.domain.dto.response.CheckEmergencyRealtimeItem;
+
+import java.util.function.Function;
+
+public enum EquipmentType {
+//    실시간 가용병상 API 의 장비 가용 여부(Y/N) 필드
+    CT(CheckEmergencyRealtimeItem::getHvctayn),
+    MRI(CheckEmergencyRealtimeItem::getHvmriayn),
+    ANGIO(CheckEmergencyRealtimeItem::getHvangioayn),
+    VENTILATOR(CheckEmergencyRealtimeItem::getHvventiayn),
+    VENTILATOR_PEDIATRIC(CheckEmergencyRealtimeItem::getHvventisoayn),
+    INCUBATOR(CheckEmergencyRealtimeItem::getHvincuayn),
+    CRRT(CheckEmergencyRealtimeItem::getHvcrrtayn),
+    ECMO(CheckEmergencyRealtimeItem::getHvecmoayn),
+    HYPOTHERMIA(CheckEmergencyRealtimeItem::getHvhypoayn),
+    HYPERBARIC_OXYGEN(CheckEmergencyRealtimeItem::getHvoxyayn),
+    AMBULANCE(CheckEmergencyRealtimeItem::getHvamyn);
+
+    private final Function<CheckEmergencyRealtimeItem, String> flag;
+
+    EquipmentType(Function<CheckEmergencyRealtimeItem, String> flag) {
+        this.flag = flag;
+    }
+
+    public boolean isAvailable(CheckEmergencyRealtimeItem item) {
+        return "Y".equalsIgnoreCase(flag.apply(item));
+    }
+}
@@ -0,0 +1,34 @@
+package com.app.ev119.domain.type;
+
+import java.time.Instant;
+
+public enum HistoryResolution {
+//    실시간 병상 이력 집계 단위 (원본 1분 -> 15분 -> 1시간 으로 다운샘플링)
+    MINUTE_1(1),
+    MINUTE_15(15),
+    HOUR_1(60);
+
+    private final int minutes;
+
+    HistoryResolution(int minutes) {
+        this.minutes = minutes;
+    }
+
+    public int getMinutes() {
+        return minutes;
+    }
+
+    public long getMillis() {
+        return minutes * 60_000L;
+    }
+
+    // 집계 구간 시작 시각 (UTC epoch 기준 내림, 한국 시간은 정시 단위로 어긋나지 않음)
+    public Instant floor(Instant at) {
+        long millis = getMillis();
+        return Instant.ofEpochMilli(Math.floorDiv(at.toEpochMilli(), millis) * millis);
+    }
+
+    public HistoryResolution coarser(HistoryResolution other) {
+        return other.minutes > minutes ? other : this;
+    }
+}
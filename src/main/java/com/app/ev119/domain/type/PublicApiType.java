@@ -0,0 +1,23 @@
+package com.app.ev119.domain.type;
+
+public enum PublicApiType {
+//    공공데이터(응급의료) upstream 엔드포인트 - 쿼터/토큰 버킷 단위
+    REALTIME("realtime"),
+    LOCATION("location"),
+    BASIC("basic"),
+    ILL_PATIENTS("ill-patients"),
+    ROOM_MESSAGE("room-message"),
+    MEDICAL_LIST("medical-list"),
+    TRAUMA_BASIC("trauma-basic"),
+    TRAUMA_LOCATION("trauma-location");
+
+    private final String key;
+
+    PublicApiType(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+}
@@ -0,0 +1,58 @@
+package com.app.ev119.domain.type;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public enum RegionType {
+//    실시간 가용병상 API 의 STAGE1(시 도) 17개
+    SEOUL("서울", "서울특별시"),
+    BUSAN("부산", "부산광역시"),
+    DAEGU("대구", "대구광역시"),
+    INCHEON("인천", "인천광역시"),
+    GWANGJU("광주", "광주광역시"),
+    DAEJEON("대전", "대전광역시"),
+    ULSAN("울산", "울산광역시"),
+    SEJONG("세종", "세종특별자치시"),
+    GYEONGGI("경기", "경기도"),
+    GANGWON("강원", "강원특별자치도"),
+    CHUNGBUK("충북", "충청북도"),
+    CHUNGNAM("충남", "충청남도"),
+    JEONBUK("전북", "전라북도"),
+    JEONNAM("전남", "전라남도"),
+    GYEONGBUK("경북", "경상북도"),
+    GYEONGNAM("경남", "경상남도"),
+    JEJU("제주", "제주특별자치도");
+
+    private final String stage1;
+    private final String fullName;
+
+    // 주소에 나오는 시도 표기 -> RegionType (옛 명칭 포함)
+    private static final Map<String, RegionType> BY_NAME = new HashMap<>();
+
+    static {
+        for (RegionType region : values()) {
+            BY_NAME.put(region.stage1, region);
+            BY_NAME.put(region.fullName, region);
+        }
+        BY_NAME.put("강원도", GANGWON);
+        BY_NAME.put("전북특별자치도", JEONBUK);
+    }
+
+    RegionType(String stage1, String fullName) {
+        this.stage1 = stage1;
+        this.fullName = fullName;
+    }
+
+    public String getStage1() {
+        return stage1;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public static RegionType fromName(String name) {
+        if (name == null) return null;
+        return BY_NAME.get(name.trim());
+    }
+}
@@ -0,0 +1,56 @@
+package com.app.ev119.domain.type;
+
+public enum SevereIllnessType {
+//    중증질환자 수용가능정보 API 의 MKioskTy{code} 필드 (Y = 수용 가능)
+    BRAIN_HEMORRHAGE_SURGERY(1, "뇌출혈수술"),
+    CEREBRAL_INFARCTION_REPERFUSION(2, "뇌경색의 재관류"),
+    MYOCARDIAL_INFARCTION_REPERFUSION(3, "심근경색의 재관류"),
+    ABDOMINAL_INJURY_SURGERY(4, "복부손상의 수술"),
+    LIMB_REPLANTATION_SURGERY(5, "사지접합의 수술"),
+    EMERGENCY_ENDOSCOPY(6, "응급내시경"),
+    EMERGENCY_DIALYSIS(7, "응급투석"),
+    PREMATURE_DELIVERY(8, "조산산모"),
+    PSYCHIATRIC(9, "정신질환자"),
+    NEONATE(10, "신생아"),
+    SEVERE_BURN(11, "중증화상");
+
+    // MKioskTy1 ~ MKioskTy28
+    public static final int MAX_CODE = 28;
+
+    private final int code;
+    private final String label;
+
+    SevereIllnessType(int code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * 이름(BRAIN_HEMORRHAGE_SURGERY) 또는 코드 번호(1~28) -> 코드, 모르면 -1
+     * - 이름이 없는 12~28 번은 번호로만 조회
+     */
+    public static int toCode(String token) {
+        if (token == null) return -1;
+        String t = token.trim();
+        if (t.isEmpty()) return -1;
+        if (t.toUpperCase().startsWith("MKIOSKTY")) t = t.substring("MKIOSKTY".length());
+        try {
+            int code = Integer.parseInt(t);
+            return code >= 1 && code <= MAX_CODE ? code : -1;
+        } catch (NumberFormatException ignored) {
+            // 이름으로 조회
+        }
+        for (SevereIllnessType type : values()) {
+            if (type.name().equalsIgnoreCase(t)) return type.code;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,8 @@
+package com.app.ev119.exception;
+
+// 기동 직후 로컬 인덱스/스냅샷이 아직 만들어지지 않은 경우
+public class DataNotReadyException extends RuntimeException {
+    public DataNotReadyException(String message) {
+        super(message);
+    }
+}
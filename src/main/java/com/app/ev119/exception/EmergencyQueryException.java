@@ -0,0 +1,8 @@
+package com.app.ev119.exception;
+
+// 응급실 조회 파라미터가 잘못된 경우 (알 수 없는 장비/지역 등)
+public class EmergencyQueryException extends RuntimeException {
+    public EmergencyQueryException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.app.ev119.exception;
+
+// upstream 이 200 으로 응답했지만 header 의 resultCode 가 정상(00)이 아닌 경우 (키 오류, 서비스 오류 등)
+public class UpstreamResultException extends RuntimeException {
+
+    private final String resultCode;
+
+    public UpstreamResultException(String resultCode, String resultMsg) {
+        super("upstream resultCode=" + resultCode + ", resultMsg=" + resultMsg);
+        this.resultCode = resultCode;
+    }
+
+    public String getResultCode() {
+        return resultCode;
+    }
+}
@@ -1,19 +1,29 @@
 package com.app.ev119.handler;
 
 import com.app.ev119.domain.dto.ApiResponseDTO;
+import com.app.ev119.exception.DataNotReadyException;
+import com.app.ev119.exception.EmergencyQueryException;
 import com.app.ev119.exception.FirstAidException;
 import com.app.ev119.exception.MemberException;
 import com.app.ev119.exception.MyPageException;
+import com.app.ev119.exception.QuotaExceededException;
 import jakarta.security.auth.message.AuthException;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.data.redis.RedisSystemException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.ErrorResponse;
 import org.springframework.web.bind.annotation.ExceptionHandler;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
-@RestController
+// 모든 컨트롤러에 적용 (@RestController 로 두면 이 클래스 자신의 핸들러에만 적용됨)
+@RestControllerAdvice
+@Slf4j
 public class GlobalExceptionHandler {
 
     @ExceptionHandler({
@@ -51,8 +61,44 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponseDTO.of(e.getMessage()));
     }
 
+    @ExceptionHandler(QuotaExceededException.class)
+    public ResponseEntity<ApiResponseDTO<Object>> handleQuotaExceededException(QuotaExceededException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(ApiResponseDTO.of(e.getMessage()));
+    }
+
+    @ExceptionHandler(DataNotReadyException.class)
+    public ResponseEntity<ApiResponseDTO<Object>> handleDataNotReadyException(DataNotReadyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ApiResponseDTO.of(e.getMessage()));
+    }
+
+    @ExceptionHandler(EmergencyQueryException.class)
+    public ResponseEntity<ApiResponseDTO<Object>> handleEmergencyQueryException(EmergencyQueryException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponseDTO.of(e.getMessage()));
+    }
+
+    // 서비스키 풀의 모든 키가 429 를 받은 경우
+    @ExceptionHandler(HttpClientErrorException.TooManyRequests.class)
+    public ResponseEntity<ApiResponseDTO<Object>> handleTooManyRequestsException(HttpClientErrorException.TooManyRequests e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(ApiResponseDTO.of("공공 API 서비스키 쿼터 초과(429)입니다. 잠시 후 다시 시도해 주세요."));
+    }
+
+    // 파라미터 타입 오류 / 요청 본문 파싱 실패 (Jackson 메시지는 내부 타입명이 섞여서 고정 문구로 응답)
+    @ExceptionHandler({MethodArgumentTypeMismatchException.class, HttpMessageNotReadableException.class})
+    public ResponseEntity<ApiResponseDTO<Object>> handleBadRequest(Exception e) {
+        log.info("[BAD-REQUEST] {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponseDTO.of("요청 파라미터 또는 본문 형식이 올바르지 않습니다."));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponseDTO<Object>> handleException(Exception e){
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponseDTO.of(e.getMessage()));
+        // 스프링 MVC 예외(필수 파라미터 누락, 404, ResponseStatusException 등)는 원래 상태 코드 유지
+        if (e instanceof ErrorResponse errorResponse) {
+            String detail = errorResponse.getBody().getDetail();
+            return ResponseEntity.status(errorResponse.getStatusCode())
+                    .body(ApiResponseDTO.of(detail != null ? detail : e.getMessage()));
+        }
+        // 그 외 예외 메시지(SQL, upstream 응답 본문 등)는 로그에만 남기고 클라이언트에는 고정 문구
+        log.error("[UNHANDLED] {}", e.getMessage(), e);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponseDTO.of("서버 내부 오류가 발생했습니다. 잠시 후 다시 시도해 주세요."));
     }
 }
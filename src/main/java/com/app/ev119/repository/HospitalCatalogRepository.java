@@ -0,0 +1,7 @@
+package com.app.ev119.repository;
+
+import com.app.ev119.domain.entity.HospitalCatalog;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface HospitalCatalogRepository extends JpaRepository<HospitalCatalog, Long> {
+}
@@ -0,0 +1,13 @@
+package com.app.ev119.repository;
+
+import com.app.ev119.domain.entity.RealtimeCapacityHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Date;
+import java.util.List;
+
+public interface RealtimeCapacityHistoryRepository extends JpaRepository<RealtimeCapacityHistory, Long> {
+
+    public List<RealtimeCapacityHistory> findByHpidAndBucketAtGreaterThanEqualAndBucketAtLessThanOrderByBucketAtAsc(
+            String hpid, Date from, Date to);
+}
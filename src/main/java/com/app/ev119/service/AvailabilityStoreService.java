@@ -0,0 +1,147 @@
+package com.app.ev119.service;
+
+import com.app.ev119.domain.dto.response.AvailableHospitalItem;
+import com.app.ev119.domain.dto.response.AvailableHospitalResponse;
+import com.app.ev119.domain.type.EquipmentType;
+import com.app.ev119.domain.type.RegionType;
+import com.app.ev119.exception.DataNotReadyException;
+import com.app.ev119.exception.EmergencyQueryException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@Slf4j
+public class AvailabilityStoreService implements StatusContributor {
+
+    private static final int MAX_LIMIT = 500;
+
+    private volatile AvailabilityTable table = AvailabilityTable.EMPTY;
+
+    /**
+     * ✅ 실시간 스냅샷이 갱신될 때마다 컬럼형 테이블을 새로 만들어 통째로 교체
+     * - 조회 쪽은 volatile 참조 하나만 읽으므로 락 없이 항상 한 버전 전체를 봄
+     */
+    @EventListener
+    public void onSnapshotRefreshed(EmergencyRealtimeSnapshotRefreshedEvent event) {
+        long started = System.nanoTime();
+        AvailabilityTable next = AvailabilityTable.from(event.getCurrent());
+        table = next;
+        log.info("[AVAILABILITY] version={}, rows={}, took={}us",
+                next.getVersion(), next.getSize(), (System.nanoTime() - started) / 1_000);
+    }
+
+    /**
+     * ✅ 장비/병상/지역 조건으로 가용 응급실 필터링
+     * - equipment : 쉼표 구분 장비명 (CT,MRI ...), 모두 가용(Y)인 병원만
+     * - minEr : 응급실 일반병상(hvec) 최소값, 0 이하면 조건 없음
+     * - stage1 : 시도명 (선택, 별칭 허용)
+     */
+    public AvailableHospitalResponse findAvailable(String equipment, int minEr, String stage1, int limit) {
+        AvailabilityTable current = table;
+        if (current.getVersion() == 0L) {
+            throw new DataNotReadyException("실시간 가용병상 데이터를 준비 중입니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        Set<EquipmentType> required = parseEquipment(equipment);
+        String stage1Filter = parseStage1(stage1);
+
+        BitSet matched = current.filter(required, stage1Filter, minEr);
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        List<AvailableHospitalItem> items = new ArrayList<>(Math.min(size, matched.cardinality()));
+        for (int row = matched.nextSetBit(0); row >= 0 && items.size() < size; row = matched.nextSetBit(row + 1)) {
+            items.add(toItem(current, row));
+        }
+
+        AvailableHospitalResponse response = new AvailableHospitalResponse();
+        response.setRealtimeVersion(current.getVersion());
+        response.setRealtimeRefreshedAt(current.getRefreshedAt());
+        response.setTotalMatched(matched.cardinality());
+        response.setItems(items);
+        return response;
+    }
+
+    // 현재 테이블 (아직 만들어지지 않았으면 EMPTY, version 0)
+    public AvailabilityTable getTable() {
+        return table;
+    }
+
+    @Override
+    public String getStatusName() {
+        return "availability";
+    }
+
+    // 컬럼형 가용병상 테이블 버전/행 수/장비별 가용 병원 수
+    @Override
+    public Map<String, Object> getStatus() {
+        AvailabilityTable current = table;
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("version", current.getVersion());
+        result.put("refreshedAt", current.getRefreshedAt());
+        result.put("rows", current.getSize());
+
+        Map<String, Object> equipment = new LinkedHashMap<>();
+        for (EquipmentType type : EquipmentType.values()) {
+            equipment.put(type.name(), current.getEquipment().get(type).cardinality());
+        }
+        result.put("equipmentAvailable", equipment);
+        return result;
+    }
+
+    static Set<EquipmentType> parseEquipment(String equipment) {
+        Set<EquipmentType> result = EnumSet.noneOf(EquipmentType.class);
+        if (equipment == null || equipment.isBlank()) return result;
+
+        for (String token : equipment.split(",")) {
+            String name = token.trim().toUpperCase();
+            if (name.isEmpty()) continue;
+            try {
+                result.add(EquipmentType.valueOf(name));
+            } catch (IllegalArgumentException e) {
+                throw new EmergencyQueryException("알 수 없는 장비입니다: " + token.trim());
+            }
+        }
+        return result;
+    }
+
+    private static String parseStage1(String stage1) {
+        if (stage1 == null || stage1.isBlank()) return null;
+        RegionType region = RegionType.fromName(stage1);
+        if (region == null) throw new EmergencyQueryException("알 수 없는 지역입니다: " + stage1.trim());
+        return region.getStage1();
+    }
+
+    private static AvailableHospitalItem toItem(AvailabilityTable t, int row) {
+        AvailableHospitalItem item = new AvailableHospitalItem();
+        item.setHpid(t.getHpid()[row]);
+        item.setDutyName(t.getDutyName()[row]);
+        item.setDutyTel3(t.getDutyTel3()[row]);
+        item.setStage1(t.getStage1()[row]);
+        item.setHvec(orNull(t.getHvec()[row]));
+        item.setHvgc(orNull(t.getHvgc()[row]));
+        item.setHvicc(orNull(t.getHvicc()[row]));
+        item.setHvoc(orNull(t.getHvoc()[row]));
+        item.setHvncc(orNull(t.getHvncc()[row]));
+        item.setHvidate(t.getHvidate()[row]);
+
+        List<String> equipment = new ArrayList<>();
+        for (EquipmentType type : EquipmentType.values()) {
+            if (t.hasEquipment(row, type)) equipment.add(type.name());
+        }
+        item.setEquipment(equipment);
+        return item;
+    }
+
+    private static Integer orNull(int v) {
+        return v == AvailabilityTable.UNKNOWN ? null : v;
+    }
+}
@@ -0,0 +1,303 @@
+package com.app.ev119.service;
+
+import com.app.ev119.domain.dto.response.CheckEmergencyRealtimeItem;
+import com.app.ev119.domain.dto.response.SearchEmergencyLocationInfoItem;
+import com.app.ev119.domain.dto.response.SearchEmergencyLocationInfoResponse;
+import com.app.ev119.exception.DataNotReadyException;
+import com.app.ev119.exception.EmergencyQueryException;
+import com.app.ev119.util.HpidUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ✅ 병상 변경분 SSE 구독
+ * - 구독 = hpid 목록 (또는 좌표+반경을 위치 인덱스로 hpid 목록으로 변환)
+ * - 스냅샷 갱신 이벤트마다 변경분을 한 번만 계산/직렬화하고, hpid -> 구독자 역색인으로 해당 구독자에게만 전송
+ * - 구독자마다 크기 제한 큐(outbox) + 전송 작업 하나, 큐가 넘치는 느린 구독자는 끊음 (다른 구독자 전송이 밀리지 않게)
+ * - 초기 스냅샷은 역색인 등록 전에 outbox 에 넣음 (변경분이 초기 스냅샷보다 먼저 나가지 않게)
+ * - upstream 호출은 스냅샷 poller 가 전부 담당하므로 구독자 수와 상관없이 고정
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AvailabilitySubscriptionService implements StatusContributor {
+
+    private final EmergencyRealtimeSnapshotService emergencyRealtimeSnapshotService;
+    private final EmergencyFacilityIndexService emergencyFacilityIndexService;
+    private final ObjectMapper objectMapper;
+
+    @Qualifier("ssePushExecutor")
+    private final ThreadPoolTaskExecutor ssePushExecutor;
+
+    @Value("${api.emergency.subscribe.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${api.emergency.subscribe.max-subscribers:5000}")
+    private int maxSubscribers;
+
+    @Value("${api.emergency.subscribe.max-hpids:200}")
+    private int maxHpids;
+
+    // 구독자별 미전송 이벤트 상한 (넘으면 느린 구독자로 보고 끊음)
+    @Value("${api.emergency.subscribe.outbox-size:32}")
+    private int outboxSize;
+
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> subscribersByHpid = new ConcurrentHashMap<>();
+
+    // 구독 등록(초기 스냅샷 + 역색인)과 변경분 대상 계산이 서로 끼어들지 않게
+    private final Object registryLock = new Object();
+
+    private final AtomicLong pushedEvents = new AtomicLong();
+    private final AtomicLong droppedSubscribers = new AtomicLong();
+    private final AtomicLong slowConsumers = new AtomicLong();
+
+    /**
+     * hpid 목록 구독 (쉼표 구분)
+     */
+    public SseEmitter subscribeHpids(String hpids) {
+        Set<String> targets = new LinkedHashSet<>();
+        if (hpids != null) {
+            for (String token : hpids.split(",")) {
+                String hpid = HpidUtil.normalize(token);
+                if (!hpid.isEmpty()) targets.add(hpid);
+            }
+        }
+        return subscribe(targets);
+    }
+
+    /**
+     * 좌표 + 반경(km) 구독 (구독 시점의 위치 인덱스 기준 hpid 목록으로 고정)
+     */
+    public SseEmitter subscribeArea(double lat, double lon, double radiusKm) {
+        if (!emergencyFacilityIndexService.isReady()) {
+            throw new DataNotReadyException("응급의료기관 위치 인덱스 준비 중입니다. 잠시 후 다시 시도해 주세요.");
+        }
+        SearchEmergencyLocationInfoResponse area = emergencyFacilityIndexService.withinRadius(lat, lon, radiusKm, 1, maxHpids);
+
+        Set<String> targets = new LinkedHashSet<>();
+        for (SearchEmergencyLocationInfoItem it : area.getBody().getItems()) {
+            targets.add(HpidUtil.normalize(it.getHpid()));
+        }
+        return subscribe(targets);
+    }
+
+    private SseEmitter subscribe(Set<String> hpids) {
+        if (hpids.isEmpty()) throw new EmergencyQueryException("구독할 병원이 없습니다.");
+        if (hpids.size() > maxHpids) throw new EmergencyQueryException("한 번에 구독할 수 있는 병원은 " + maxHpids + "곳까지입니다.");
+        if (subscriptions.size() >= maxSubscribers) throw new DataNotReadyException("구독자가 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+
+        String id = UUID.randomUUID().toString();
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscription subscription = new Subscription(id, emitter, Set.copyOf(hpids), outboxSize);
+
+        emitter.onCompletion(() -> remove(id));
+        emitter.onTimeout(() -> remove(id));
+        emitter.onError(e -> remove(id));
+
+        synchronized (registryLock) {
+            // 구독 직후 현재 값 전체 -> outbox 맨 앞 (이 버전까지의 변경분은 보내지 않음)
+            EmergencyRealtimeSnapshot snapshot = emergencyRealtimeSnapshotService.getSnapshot();
+            List<String> initial = new ArrayList<>();
+            for (String hpid : subscription.hpids) {
+                CheckEmergencyRealtimeItem item = snapshot.getItems().get(hpid);
+                if (item != null) initial.add(toJson(hpid, RealtimeDeltaCalculator.full(item)));
+            }
+            subscription.snapshotVersion = snapshot.getVersion();
+            subscription.outbox.offer(sseEvent("snapshot", snapshot.getVersion(), initial));
+
+            subscriptions.put(id, subscription);
+            for (String hpid : subscription.hpids) {
+                subscribersByHpid.compute(hpid, (k, ids) -> {
+                    Set<String> set = ids == null ? ConcurrentHashMap.newKeySet() : ids;
+                    set.add(id);
+                    return set;
+                });
+            }
+        }
+        scheduleDrain(subscription);
+
+        log.info("[SSE] subscribed id={}, hpids={}, subscribers={}", id, subscription.hpids.size(), subscriptions.size());
+        return emitter;
+    }
+
+    /**
+     * ✅ 스냅샷이 바뀌면 변경분 계산 -> 구독자별로 묶어서 outbox 에 넣음 (전송은 구독자별 작업이 담당)
+     * - 변경분 JSON 은 병원당 한 번만 만들고 구독자에게는 문자열만 이어 붙여 보냄
+     */
+    @EventListener
+    public void onSnapshotRefreshed(EmergencyRealtimeSnapshotRefreshedEvent event) {
+        if (subscriptions.isEmpty()) return;
+
+        Map<String, Map<String, Object>> deltas = RealtimeDeltaCalculator.diff(event.getPrevious(), event.getCurrent());
+        if (deltas.isEmpty()) return;
+
+        long version = event.getCurrent().getVersion();
+        Map<Subscription, List<String>> bySubscriber = new LinkedHashMap<>();
+        synchronized (registryLock) {
+            for (Map.Entry<String, Map<String, Object>> e : deltas.entrySet()) {
+                Set<String> ids = subscribersByHpid.get(e.getKey());
+                if (ids == null || ids.isEmpty()) continue;
+
+                String json = null;
+                for (String id : ids) {
+                    Subscription subscription = subscriptions.get(id);
+                    // 초기 스냅샷이 이미 이 버전이면 같은 값을 다시 보낼 필요 없음
+                    if (subscription == null || subscription.snapshotVersion >= version) continue;
+                    if (json == null) json = toJson(e.getKey(), e.getValue());
+                    bySubscriber.computeIfAbsent(subscription, k -> new ArrayList<>()).add(json);
+                }
+            }
+        }
+        if (bySubscriber.isEmpty()) return;
+
+        bySubscriber.forEach((subscription, jsons) -> enqueue(subscription, sseEvent("delta", version, jsons)));
+
+        log.info("[SSE] version={}, changedHospitals={}, notifiedSubscribers={}",
+                version, deltas.size(), bySubscriber.size());
+    }
+
+    // 프록시/로드밸런서 유휴 타임아웃 방지 + 끊긴 연결/밀린 구독자 정리
+    @Scheduled(fixedDelayString = "${api.emergency.subscribe.heartbeat-ms:25000}")
+    public void heartbeat() {
+        for (Subscription subscription : subscriptions.values()) {
+            enqueue(subscription, SseEmitter.event().comment("ping"));
+        }
+    }
+
+    @Override
+    public String getStatusName() {
+        return "subscriptions";
+    }
+
+    // SSE 구독자 수 / 전송 이벤트 수
+    @Override
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("subscribers", subscriptions.size());
+        status.put("watchedHospitals", subscribersByHpid.size());
+        status.put("pushedEvents", pushedEvents.get());
+        status.put("droppedSubscribers", droppedSubscribers.get());
+        status.put("slowConsumers", slowConsumers.get());
+        return status;
+    }
+
+    private static SseEmitter.SseEventBuilder sseEvent(String name, long version, List<String> deltas) {
+        String data = "{\"version\":" + version + ",\"deltas\":[" + String.join(",", deltas) + "]}";
+        return SseEmitter.event()
+                .name(name)
+                .id(Long.toString(version))
+                .data(data, MediaType.APPLICATION_JSON);
+    }
+
+    // outbox 가 가득 찼으면 느린 구독자 -> 끊음 (호출 스레드는 절대 기다리지 않음)
+    private void enqueue(Subscription subscription, SseEmitter.SseEventBuilder event) {
+        if (!subscription.outbox.offer(event)) {
+            slowConsumers.incrementAndGet();
+            log.info("[SSE] slow subscriber dropped id={}, pending={}", subscription.id, subscription.outbox.size());
+            drop(subscription);
+            return;
+        }
+        scheduleDrain(subscription);
+    }
+
+    // 구독자당 전송 작업은 최대 하나 (같은 emitter 에 동시에 쓰지 않고 순서 유지)
+    private void scheduleDrain(Subscription subscription) {
+        if (!subscription.draining.compareAndSet(false, true)) return;
+        try {
+            ssePushExecutor.execute(() -> drain(subscription));
+        } catch (TaskRejectedException e) {
+            // 풀이 가득 참 -> 이벤트는 outbox 에 남아 있고 다음 enqueue/heartbeat 때 다시 예약
+            subscription.draining.set(false);
+        }
+    }
+
+    private void drain(Subscription subscription) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscription.outbox.poll()) != null) {
+                subscription.emitter.send(event);
+                pushedEvents.incrementAndGet();
+            }
+        } catch (IOException | IllegalStateException e) {
+            drop(subscription);
+            return;
+        } finally {
+            subscription.draining.set(false);
+        }
+        // 마지막 poll 과 draining 해제 사이에 들어온 이벤트
+        if (!subscription.outbox.isEmpty()) scheduleDrain(subscription);
+    }
+
+    private void drop(Subscription subscription) {
+        if (remove(subscription.id)) {
+            droppedSubscribers.incrementAndGet();
+            subscription.emitter.completeWithError(new IOException("subscriber disconnected"));
+        }
+    }
+
+    private boolean remove(String id) {
+        Subscription removed = subscriptions.remove(id);
+        if (removed == null) return false;
+        removed.outbox.clear();
+        for (String hpid : removed.hpids) {
+            subscribersByHpid.computeIfPresent(hpid, (k, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+        return true;
+    }
+
+    private String toJson(String hpid, Map<String, Object> changes) {
+        Map<String, Object> delta = new LinkedHashMap<>();
+        delta.put("hpid", hpid);
+        delta.putAll(changes);
+        try {
+            return objectMapper.writeValueAsString(delta);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("delta serialize failed. hpid=" + hpid, e);
+        }
+    }
+
+    private static class Subscription {
+        private final String id;
+        private final SseEmitter emitter;
+        private final Set<String> hpids;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> outbox;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile long snapshotVersion;
+
+        private Subscription(String id, SseEmitter emitter, Set<String> hpids, int outboxSize) {
+            this.id = id;
+            this.emitter = emitter;
+            this.hpids = hpids;
+            this.outbox = new ArrayBlockingQueue<>(Math.max(1, outboxSize));
+        }
+    }
+}
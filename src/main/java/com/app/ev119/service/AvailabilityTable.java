@@ -0,0 +1,169 @@
+package com.app.ev119.service;
+
+import com.app.ev119.domain.dto.response.CheckEmergencyRealtimeItem;
+import com.app.ev119.domain.type.EquipmentType;
+import com.app.ev119.domain.type.RegionType;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ✅ 실시간 가용병상 컬럼형 테이블 (불변)
+ * - 병원 한 곳 = 행 번호 하나, 병상 수는 int[] 컬럼, 장비 가용 여부는 장비별 BitSet, 시도는 지역별 BitSet
+ * - 숫자 파싱은 적재할 때 한 번만 (조회 시 문자열 파싱 없음)
+ * - 값이 없거나 숫자가 아니면 UNKNOWN (어떤 최소 병상 조건도 만족하지 않음)
+ * - hpid 는 정규화된 값, hpid / dutyName 은 intern 해서 스냅샷 버전이 바뀌어도 같은 문자열 공유
+ */
+@Getter
+public class AvailabilityTable {
+
+    public static final int UNKNOWN = Integer.MIN_VALUE;
+
+    public static final AvailabilityTable EMPTY = new AvailabilityTable(0L, null, List.of(), List.of(), List.of());
+
+    private final long version;
+    private final String refreshedAt;
+    private final int size;
+
+    private final String[] hpid;
+    private final String[] dutyName;
+    private final String[] dutyTel3;
+    private final String[] hvidate;
+    private final String[] stage1;
+
+    private final int[] hvec;
+    private final int[] hvgc;
+    private final int[] hvicc;
+    private final int[] hvoc;
+    private final int[] hvncc;
+
+    private final Map<EquipmentType, BitSet> equipment = new EnumMap<>(EquipmentType.class);
+    private final Map<String, BitSet> regions = new HashMap<>();
+    private final Map<String, Integer> rowByHpid = new HashMap<>();
+
+    /**
+     * ✅ 스냅샷 한 버전을 컬럼형으로 변환 (지역별 항목 순서대로 행 번호 부여, 중복 hpid 는 스냅샷 병합에서 고른 지역 기준)
+     */
+    public static AvailabilityTable from(EmergencyRealtimeSnapshot snapshot) {
+        List<String> hpids = new ArrayList<>(snapshot.getItems().size());
+        List<CheckEmergencyRealtimeItem> items = new ArrayList<>(snapshot.getItems().size());
+        List<String> stage1s = new ArrayList<>(snapshot.getItems().size());
+        Set<String> seen = new HashSet<>();
+
+        for (EmergencyRealtimeSnapshot.RegionSnapshot region : snapshot.getRegions().values()) {
+            for (Map.Entry<String, CheckEmergencyRealtimeItem> e : region.getItems().entrySet()) {
+                if (snapshot.getItems().get(e.getKey()) != e.getValue() || !seen.add(e.getKey())) continue;
+                hpids.add(e.getKey());
+                items.add(e.getValue());
+                stage1s.add(region.getStage1());
+            }
+        }
+
+        String refreshedAt = snapshot.getRefreshedAt() == null ? null : snapshot.getRefreshedAt().toString();
+        return new AvailabilityTable(snapshot.getVersion(), refreshedAt, hpids, items, stage1s);
+    }
+
+    private AvailabilityTable(long version, String refreshedAt, List<String> hpids,
+                              List<CheckEmergencyRealtimeItem> items, List<String> stage1s) {
+        this.version = version;
+        this.refreshedAt = refreshedAt;
+        this.size = items.size();
+
+        hpid = new String[size];
+        dutyName = new String[size];
+        dutyTel3 = new String[size];
+        hvidate = new String[size];
+        stage1 = new String[size];
+        hvec = new int[size];
+        hvgc = new int[size];
+        hvicc = new int[size];
+        hvoc = new int[size];
+        hvncc = new int[size];
+
+        for (EquipmentType type : EquipmentType.values()) {
+            equipment.put(type, new BitSet(size));
+        }
+        for (RegionType region : RegionType.values()) {
+            regions.put(region.getStage1(), new BitSet(size));
+        }
+
+        for (int row = 0; row < size; row++) {
+            CheckEmergencyRealtimeItem it = items.get(row);
+            hpid[row] = intern(hpids.get(row));
+            dutyName[row] = intern(it.getDutyName());
+            dutyTel3[row] = it.getDutyTel3();
+            hvidate[row] = it.getHvidate();
+
+            hvec[row] = parse(it.getHvec());
+            hvgc[row] = parse(it.getHvgc());
+            hvicc[row] = parse(it.getHvicc());
+            hvoc[row] = parse(it.getHvoc());
+            hvncc[row] = parse(it.getHvncc());
+
+            for (EquipmentType type : EquipmentType.values()) {
+                if (type.isAvailable(it)) equipment.get(type).set(row);
+            }
+
+            String s1 = stage1s.get(row);
+            stage1[row] = s1;
+            BitSet regionBits = s1 == null ? null : regions.get(s1);
+            if (regionBits != null) regionBits.set(row);
+
+            if (hpid[row] != null) rowByHpid.putIfAbsent(hpid[row], row);
+        }
+    }
+
+    /**
+     * ✅ 조건에 맞는 행 번호 BitSet (minEr <= 0 이면 병상 수 조건 없음)
+     * - 장비/지역 조건은 BitSet AND, 병상 수 조건은 남은 행만 int 비교
+     */
+    public BitSet filter(Iterable<EquipmentType> required, String stage1Filter, int minEr) {
+        BitSet result = new BitSet(size);
+        result.set(0, size);
+
+        for (EquipmentType type : required) {
+            result.and(equipment.get(type));
+        }
+        if (stage1Filter != null) {
+            BitSet regionBits = regions.get(stage1Filter);
+            if (regionBits == null) return new BitSet();
+            result.and(regionBits);
+        }
+        if (minEr > 0) {
+            for (int row = result.nextSetBit(0); row >= 0; row = result.nextSetBit(row + 1)) {
+                if (hvec[row] < minEr) result.clear(row);
+            }
+        }
+        return result;
+    }
+
+    public Integer rowOf(String normalizedHpid) {
+        return rowByHpid.get(normalizedHpid);
+    }
+
+    public boolean hasEquipment(int row, EquipmentType type) {
+        return equipment.get(type).get(row);
+    }
+
+    private static int parse(String s) {
+        if (s == null) return UNKNOWN;
+        String t = s.trim();
+        if (t.isEmpty()) return UNKNOWN;
+        try {
+            return Integer.parseInt(t);
+        } catch (NumberFormatException e) {
+            return UNKNOWN;
+        }
+    }
+
+    private static String intern(String s) {
+        return s == null ? null : s.intern();
+    }
+}
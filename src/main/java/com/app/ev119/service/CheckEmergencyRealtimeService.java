@@ -2,20 +2,40 @@ package com.app.ev119.service;
 
 import com.app.ev119.domain.dto.request.CheckEmergencyRealtimeRequestDTO;
 import com.app.ev119.domain.dto.response.CheckEmergencyRealtimeResponse;
+import com.app.ev119.domain.type.PublicApiType;
+import com.app.ev119.exception.QuotaExceededException;
+import com.app.ev119.util.RealtimeXmlProjection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -24,30 +44,166 @@ public class CheckEmergencyRealtimeService {
 
     private final RestTemplate restTemplate;
     private final StringRedisTemplate stringRedisTemplate;
+    private final ServiceKeyPool serviceKeyPool;
+    private final RequestCoalescer requestCoalescer;
+    private final CacheManager cacheManager;
+    private final RealtimeHistoryRecorder realtimeHistoryRecorder;
 
-    @Value("${api.emergency.service-key}")
-    private String serviceKey;
+    @Qualifier("realtimeRefreshExecutor")
+    private final ThreadPoolTaskExecutor realtimeRefreshExecutor;
 
     @Value("${api.emergency.check-emergency-url}")
     private String checkEmergencyRealtimeUrl;
 
+    @Value("${api.emergency.realtime-cache.soft-ttl-seconds:60}")
+    private long softTtlSeconds;
+
+    // Redis TTL(api.cache.caches.emergency:realtime.ttl-seconds)은 이 값보다 길게 (그 차이만큼 장애 시 대체값으로 사용)
+    @Value("${api.emergency.realtime-cache.hard-ttl-seconds:180}")
+    private long hardTtlSeconds;
+
+    // 0 이면 조기 갱신 끔, 클수록 일찍 갱신
+    @Value("${api.emergency.realtime-cache.early-refresh-beta:1.0}")
+    private double earlyRefreshBeta;
+
+    public static final String REALTIME_CACHE = "emergency:realtime";
+
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
     // 429 뜨면 같은 요청을 잠깐 막아서(재시도 폭주 방지) 쿼터 보호
     private static final Duration QUOTA_BLOCK_TTL = Duration.ofSeconds(180);
     private static final String QUOTA_BLOCK_PREFIX = "emergency:quota:block:";
 
     /**
-     * ✅ 캐시 포인트
+     * ✅ 캐시 포인트 (stale-while-revalidate)
      * - stage1, stage2, pageNo, numOfRows 가 같으면 캐시로 반환
      * - 좌표 검색 서비스에서 같은 stage 조합을 여러 번 호출하는 구조에서 쿼터 방어에 매우 효과적
+     * - soft TTL 이 지난 값은 바로 돌려주고 뒤에서 한 번만 갱신 (만료 순간 요청이 몰려 upstream 을 같이 치지 않게)
+     * - soft TTL 전이라도 지난 호출 시간에 비례한 확률로 미리 갱신해서 만료 시점을 흩어 놓음
+     * - hard TTL 이 지났으면 새로 받아오되, 429/장애면 남아있는 오래된 값으로 대체
+     * - 캐시 미스가 동시에 몰리면 같은 키는 upstream 호출 한 번만 하고 결과 공유 (RequestCoalescer)
      */
-    @Cacheable(
-            cacheNames = "emergency:realtime",
-            key = "T(String).format('%s|%s|p=%d|r=%d', " +
-                    "T(org.springframework.util.StringUtils).trimAllWhitespace(#req.stage1), " +
-                    "T(org.springframework.util.StringUtils).trimAllWhitespace(#req.stage2), " +
-                    "#req.pageNo, #req.numOfRows)"
-    )
     public CheckEmergencyRealtimeResponse getCheckEmergencyRealtimeResponse(CheckEmergencyRealtimeRequestDTO req) {
+        String key = cacheKey(req);
+        RealtimeCacheEntry cached = peekCache(key);
+        long now = System.currentTimeMillis();
+
+        if (cached != null && cached.isUsable(now)) {
+            if (!cached.isFresh(now) || shouldRefreshEarly(cached, now)) {
+                refreshInBackground(key, req);
+            }
+            return cached.getValue();
+        }
+
+        try {
+            return requestCoalescer.execute(
+                    REALTIME_CACHE + ":" + key,
+                    () -> load(key, req),
+                    () -> {
+                        RealtimeCacheEntry remote = peekCache(key);
+                        return remote != null && remote.isFresh(System.currentTimeMillis()) ? remote.getValue() : null;
+                    }
+            );
+        } catch (QuotaExceededException | RestClientException e) {
+            if (cached == null) throw e;
+            log.warn("[CheckEmergencyRealtime] upstream failed -> serve stale key={}, age={}s. msg={}",
+                    key, (now - cached.getLoadedAt()) / 1000, e.getMessage());
+            return cached.getValue();
+        }
+    }
+
+    // ✅ 여기서만 upstream 호출 결과를 캐시에 씀
+    private CheckEmergencyRealtimeResponse load(String key, CheckEmergencyRealtimeRequestDTO req) {
+        long started = System.currentTimeMillis();
+
+        // ✅ 중복 호출 제거: 딱 1번만 호출
+        // 너무 큰 RAW XML 로그는 서버 터질 수 있어서 기본은 비추
+        // 필요하면 response header(결과코드/메시지/totalCount)만 찍는 게 안전
+        CheckEmergencyRealtimeResponse response =
+                callRealtime(req, url -> restTemplate.getForObject(url, CheckEmergencyRealtimeResponse.class));
+
+        long now = System.currentTimeMillis();
+        if (response != null && response.getBody() != null) {
+            realtimeHistoryRecorder.recordAll(response.getBody().getItems(), Instant.ofEpochMilli(now));
+        }
+
+        Cache cache = cacheManager.getCache(REALTIME_CACHE);
+        if (cache != null && response != null) {
+            cache.put(key, new RealtimeCacheEntry(
+                    response,
+                    now,
+                    now + softTtlSeconds * 1000,
+                    now + hardTtlSeconds * 1000,
+                    now - started
+            ));
+        }
+        return response;
+    }
+
+    // XFetch: 남은 시간이 (지난 호출 시간 * beta * -ln(rand)) 보다 짧으면 미리 갱신
+    private boolean shouldRefreshEarly(RealtimeCacheEntry cached, long now) {
+        if (earlyRefreshBeta <= 0) return false;
+        double gap = cached.getLoadMillis() * earlyRefreshBeta * -Math.log(ThreadLocalRandom.current().nextDouble());
+        return now + gap >= cached.getSoftExpireAt();
+    }
+
+    private void refreshInBackground(String key, CheckEmergencyRealtimeRequestDTO req) {
+        if (!refreshing.add(key)) return;
+        try {
+            realtimeRefreshExecutor.execute(() -> {
+                try {
+                    requestCoalescer.execute(REALTIME_CACHE + ":" + key, () -> load(key, req));
+                } catch (Exception e) {
+                    log.warn("[CheckEmergencyRealtime] background refresh failed key={}. msg={}", key, e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    private static String cacheKey(CheckEmergencyRealtimeRequestDTO req) {
+        return String.format("%s|%s|p=%d|r=%d",
+                StringUtils.trimAllWhitespace(req.getStage1()),
+                StringUtils.trimAllWhitespace(req.getStage2()),
+                req.getPageNo(), req.getNumOfRows());
+    }
+
+    private RealtimeCacheEntry peekCache(String key) {
+        Cache cache = cacheManager.getCache(REALTIME_CACHE);
+        if (cache == null) return null;
+        try {
+            return cache.get(key, RealtimeCacheEntry.class);
+        } catch (IllegalStateException | DataAccessException e) {
+            // 예전 형식 값이거나 Redis 장애면 미스로 처리
+            return null;
+        }
+    }
+
+    /**
+     * ✅ 투영 조회 (캐시 X)
+     * - 응답 스트림을 StAX 로 바로 읽어서 projection 에 지정한 필드만 꺼냄 (전체 DTO 바인딩 생략)
+     * - 주기 폴러처럼 전체 페이지를 대량으로 읽고 일부 필드만 쓰는 곳에서 사용
+     */
+    public RealtimeXmlProjection.Page getCheckEmergencyRealtimeProjection(CheckEmergencyRealtimeRequestDTO req,
+                                                                        RealtimeXmlProjection projection) {
+        return callRealtime(req, url -> restTemplate.execute(
+                url,
+                HttpMethod.GET,
+                request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_XML)),
+                response -> {
+                    try {
+                        return projection.parse(response.getBody());
+                    } catch (XMLStreamException e) {
+                        throw new IOException("실시간 가용병상 XML 파싱 실패", e);
+                    }
+                }
+        ));
+    }
+
+    private <T> T callRealtime(CheckEmergencyRealtimeRequestDTO req, Function<String, T> call) {
 
         String stage1 = safeTrim(req.getStage1());
         String stage2 = safeTrim(req.getStage2());
@@ -57,43 +213,42 @@ public class CheckEmergencyRealtimeService {
         // ✅ 429 발생 후 잠깐 블록 (같은 조합 재호출 방지)
         String quotaBlockKey = QUOTA_BLOCK_PREFIX + stage1 + "|" + stage2;
         if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(quotaBlockKey))) {
-            throw new IllegalStateException("공공 API 서비스키 쿼터 초과로 잠시 호출이 제한되었습니다. 잠시 후 다시 시도해 주세요.");
+            throw new QuotaExceededException("공공 API 서비스키 쿼터 초과로 잠시 호출이 제한되었습니다. 잠시 후 다시 시도해 주세요.");
         }
 
-        String url = UriComponentsBuilder
-                .fromHttpUrl(checkEmergencyRealtimeUrl)
-                .queryParam("serviceKey", serviceKey)
-                .queryParam("STAGE1", stage1)
-                .queryParam("STAGE2", stage2)
-                .queryParam("pageNo", pageNo)
-                .queryParam("numOfRows", numOfRows)
-                .encode(StandardCharsets.UTF_8)
-                .build(false)
-                .toUriString();
-
-        log.info("[CheckEmergencyRealtime] URL = {}", url);
-
         try {
-            // ✅ 중복 호출 제거: 딱 1번만 호출
-            CheckEmergencyRealtimeResponse response =
-                    restTemplate.getForObject(url, CheckEmergencyRealtimeResponse.class);
+            // ✅ 토큰 확보 + 서비스키 선택은 키 풀에서 (429 난 키는 쉬게 하고 다음 키로 재시도)
+            return serviceKeyPool.execute(PublicApiType.REALTIME, serviceKey -> {
+                String url = UriComponentsBuilder
+                        .fromHttpUrl(checkEmergencyRealtimeUrl)
+                        .queryParam("serviceKey", serviceKey)
+                        .queryParam("STAGE1", stage1)
+                        .queryParam("STAGE2", stage2)
+                        .queryParam("pageNo", pageNo)
+                        .queryParam("numOfRows", numOfRows)
+                        .encode(StandardCharsets.UTF_8)
+                        .build(false)
+                        .toUriString();
 
-            // 너무 큰 RAW XML 로그는 서버 터질 수 있어서 기본은 비추
-            // 필요하면 response header(결과코드/메시지/totalCount)만 찍는 게 안전
-            return response;
+                log.info("[CheckEmergencyRealtime] URL = {}", ServiceKeyPool.redact(url));
+
+                return call.apply(url);
+            });
 
         } catch (HttpClientErrorException e) {
-            // ✅ 429 Too Many Requests (쿼터 초과)
+            // ✅ 429 Too Many Requests (모든 서비스키 쿼터 초과)
             if (e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
                 stringRedisTemplate.opsForValue().set(quotaBlockKey, "1", QUOTA_BLOCK_TTL);
                 log.warn("[CheckEmergencyRealtime] QUOTA_EXCEEDED(429). key={}, ttl={}s",
                         quotaBlockKey, QUOTA_BLOCK_TTL.getSeconds());
-                throw new IllegalStateException("공공 API 서비스키 쿼터 초과(429)입니다. 잠시 후 다시 시도해 주세요.");
+                throw new QuotaExceededException("공공 API 서비스키 쿼터 초과(429)입니다. 잠시 후 다시 시도해 주세요.");
             }
 
             log.error("[CheckEmergencyRealtime] HTTP ERROR status={}, body={}",
                     e.getStatusCode(), safeBody(e.getResponseBodyAsString()));
             throw e;
+        } catch (QuotaExceededException e) {
+            throw e;
         } catch (Exception e) {
             log.error("[CheckEmergencyRealtime] ERROR stage1={}, stage2={}, p={}, r={}",
                     stage1, stage2, pageNo, numOfRows, e);
@@ -0,0 +1,183 @@
+package com.app.ev119.service;
+
+import com.app.ev119.domain.dto.response.SearchEmergencyLocationInfoItem;
+import com.app.ev119.domain.dto.response.SearchEmergencyLocationInfoResponse;
+import com.app.ev119.util.GeoGridIndex;
+import com.app.ev119.util.HpidUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ✅ 응급의료기관 위치 인덱스 (노드 메모리)
+ * - 위치 API 로 받은 전체 기관을 격자 인덱스로 만들어 두고, 좌표 검색은 upstream 없이 여기서 응답
+ * - 교체는 새 인덱스를 다 만든 뒤 참조만 바꿈 (조회 중인 요청은 이전 인덱스를 끝까지 사용)
+ * - 응답 item 은 요청마다 복사본 (실시간 병합에서 hvec/hvgc 를 덮어쓰므로 원본 공유 금지)
+ */
+@Service
+@Slf4j
+public class EmergencyFacilityIndexService implements StatusContributor {
+
+    // 격자 크기(도). 0.05도 ≒ 위도 5.5km
+    @Value("${api.emergency.facility-index.cell-deg:0.05}")
+    private double cellDeg;
+
+    private volatile FacilityIndex index;
+
+    public boolean isReady() {
+        FacilityIndex current = index;
+        return current != null && current.grid.size() > 0;
+    }
+
+    /**
+     * 전체 기관 목록으로 인덱스 교체 (hpid 중복 제거, 좌표 없는 기관 제외)
+     */
+    public void replace(List<SearchEmergencyLocationInfoItem> facilities) {
+        Map<String, SearchEmergencyLocationInfoItem> unique = new LinkedHashMap<>();
+        for (SearchEmergencyLocationInfoItem it : facilities) {
+            if (it.getHpid() == null || (it.getLatitude() == 0.0 && it.getLongitude() == 0.0)) continue;
+            unique.putIfAbsent(HpidUtil.normalize(it.getHpid()), it);
+        }
+
+        SearchEmergencyLocationInfoItem[] items = unique.values().toArray(new SearchEmergencyLocationInfoItem[0]);
+        double[] lat = new double[items.length];
+        double[] lon = new double[items.length];
+        for (int i = 0; i < items.length; i++) {
+            lat[i] = items[i].getLatitude();
+            lon[i] = items[i].getLongitude();
+        }
+
+        long started = System.nanoTime();
+        Map<String, Integer> positions = new HashMap<>(items.length * 2);
+        int p = 0;
+        for (String hpid : unique.keySet()) {
+            positions.put(hpid, p++);
+        }
+
+        FacilityIndex next = new FacilityIndex(new GeoGridIndex(lat, lon, cellDeg), items, positions, Instant.now());
+        index = next;
+
+        log.info("[FACILITY-INDEX] rebuilt facilities={}, cells={}, took={}us",
+                items.length, next.grid.cellCount(), (System.nanoTime() - started) / 1000);
+    }
+
+    /**
+     * 가까운 순 목록 (pageNo/numOfRows 는 위치 API 와 같은 의미)
+     */
+    public SearchEmergencyLocationInfoResponse nearest(double lat, double lon, int pageNo, int numOfRows) {
+        FacilityIndex current = index;
+        int from = offset(pageNo, numOfRows, current.grid.size());
+        GeoGridIndex.Result result = current.grid.nearest(lat, lon, from + numOfRows);
+        return toResponse(current, result, from, numOfRows, current.grid.size(), pageNo);
+    }
+
+    /**
+     * 반경(km) 안 목록, 가까운 순
+     */
+    public SearchEmergencyLocationInfoResponse withinRadius(double lat, double lon, double radiusKm, int pageNo, int numOfRows) {
+        FacilityIndex current = index;
+        GeoGridIndex.Result result = current.grid.withinRadius(lat, lon, radiusKm);
+        int from = offset(pageNo, numOfRows, result.size());
+        return toResponse(current, result, from, numOfRows, result.size(), pageNo);
+    }
+
+    /**
+     * hpid 의 좌표 {lat, lon} (인덱스에 없으면 null)
+     */
+    public double[] coordinatesOf(String hpid) {
+        FacilityIndex current = index;
+        if (current == null || hpid == null) return null;
+        Integer p = current.positions.get(HpidUtil.normalize(hpid));
+        if (p == null) return null;
+        return new double[]{current.items[p].getLatitude(), current.items[p].getLongitude()};
+    }
+
+    @Override
+    public String getStatusName() {
+        return "facility-index";
+    }
+
+    @Override
+    public Map<String, Object> getStatus() {
+        FacilityIndex current = index;
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("ready", isReady());
+        status.put("facilities", current == null ? 0 : current.grid.size());
+        status.put("cells", current == null ? 0 : current.grid.cellCount());
+        status.put("cellDeg", cellDeg);
+        status.put("builtAt", current == null ? null : current.builtAt.toString());
+        return status;
+    }
+
+    // 페이지 시작 위치 (long 으로 계산해서 큰 pageNo 에도 넘치지 않게, 전체 개수에서 자름)
+    static int offset(int pageNo, int numOfRows, int size) {
+        long from = (long) (Math.max(1, pageNo) - 1) * Math.max(1, numOfRows);
+        return (int) Math.min(from, size);
+    }
+
+    private SearchEmergencyLocationInfoResponse toResponse(FacilityIndex current, GeoGridIndex.Result result,
+                                                          int from, int numOfRows, int totalCount, int pageNo) {
+        List<SearchEmergencyLocationInfoItem> page = new ArrayList<>(Math.max(0, Math.min(numOfRows, result.size() - from)));
+        for (int i = from; i < Math.min(result.size(), from + numOfRows); i++) {
+            SearchEmergencyLocationInfoItem it = copyOf(current.items[result.index(i)]);
+            it.setDistance(result.distanceKm(i));
+            it.setRnum(i + 1);
+            page.add(it);
+        }
+
+        SearchEmergencyLocationInfoResponse.Header header = new SearchEmergencyLocationInfoResponse.Header();
+        header.setResultCode("00");
+        header.setResultMsg("NORMAL SERVICE.");
+
+        SearchEmergencyLocationInfoResponse.Body body = new SearchEmergencyLocationInfoResponse.Body();
+        body.setItems(page);
+        body.setNumOfRows(numOfRows);
+        body.setPageNo(pageNo);
+        body.setTotalCount(totalCount);
+
+        SearchEmergencyLocationInfoResponse response = new SearchEmergencyLocationInfoResponse();
+        response.setHeader(header);
+        response.setBody(body);
+        return response;
+    }
+
+    static SearchEmergencyLocationInfoItem copyOf(SearchEmergencyLocationInfoItem src) {
+        SearchEmergencyLocationInfoItem it = new SearchEmergencyLocationInfoItem();
+        it.setCnt(src.getCnt());
+        it.setDistance(src.getDistance());
+        it.setDutyAddr(src.getDutyAddr());
+        it.setDutyDiv(src.getDutyDiv());
+        it.setDutyDivName(src.getDutyDivName());
+        it.setDutyFax(src.getDutyFax());
+        it.setDutyName(src.getDutyName());
+        it.setDutyTel1(src.getDutyTel1());
+        it.setEndTime(src.getEndTime());
+        it.setHpid(src.getHpid());
+        it.setLatitude(src.getLatitude());
+        it.setLongitude(src.getLongitude());
+        it.setRnum(src.getRnum());
+        it.setStartTime(src.getStartTime());
+        return it;
+    }
+
+    private static class FacilityIndex {
+        private final GeoGridIndex grid;
+        private final SearchEmergencyLocationInfoItem[] items;
+        private final Map<String, Integer> positions;
+        private final Instant builtAt;
+
+        FacilityIndex(GeoGridIndex grid, SearchEmergencyLocationInfoItem[] items, Map<String, Integer> positions, Instant builtAt) {
+            this.grid = grid;
+            this.items = items;
+            this.positions = positions;
+            this.builtAt = builtAt;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.app.ev119.service;
+
+import com.app.ev119.domain.dto.response.CheckEmergencyRealtimeItem;
+import com.app.ev119.util.HpidUtil;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 전국 실시간 가용병상 스냅샷 (불변)
+ * - items : 정규화된 hpid -> 실시간 항목 (요청 경로에서 O(1) 조회)
+ * - regions : STAGE1 -> 해당 지역 항목 (일부 지역 갱신 실패 시 이전 값 유지용)
+ * - version/refreshedAt 은 스냅샷을 만든 시각, 병원별 실제 갱신 시각은 refreshedAtOf(hpid)
+ */
+@Getter
+public class EmergencyRealtimeSnapshot {
+
+    public static final EmergencyRealtimeSnapshot EMPTY =
+            new EmergencyRealtimeSnapshot(0L, null, Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap());
+
+    private final long version;
+    private final Instant refreshedAt;
+    private final Map<String, CheckEmergencyRealtimeItem> items;
+    private final Map<String, RegionSnapshot> regions;
+
+    // 정규화된 hpid -> 그 항목을 가져온 지역
+    @Getter(AccessLevel.NONE)
+    private final Map<String, RegionSnapshot> owners;
+
+    private EmergencyRealtimeSnapshot(long version,
+                                      Instant refreshedAt,
+                                      Map<String, CheckEmergencyRealtimeItem> items,
+                                      Map<String, RegionSnapshot> regions,
+                                      Map<String, RegionSnapshot> owners) {
+        this.version = version;
+        this.refreshedAt = refreshedAt;
+        this.items = items;
+        this.regions = regions;
+        this.owners = owners;
+    }
+
+    /**
+     * 지역별 항목 병합
+     * - 같은 hpid 가 여러 지역에 있으면 가장 최근에 갱신된 지역 값을 씀
+     */
+    public static EmergencyRealtimeSnapshot of(long version, Instant refreshedAt, Map<String, RegionSnapshot> regions) {
+        List<RegionSnapshot> newestFirst = new ArrayList<>(regions.values());
+        newestFirst.sort(Comparator.comparing(RegionSnapshot::getRefreshedAt,
+                Comparator.nullsLast(Comparator.reverseOrder())));
+
+        Map<String, CheckEmergencyRealtimeItem> merged = new HashMap<>();
+        Map<String, RegionSnapshot> owners = new HashMap<>();
+        for (RegionSnapshot region : newestFirst) {
+            region.getItems().forEach((hpid, item) -> {
+                if (merged.putIfAbsent(hpid, item) == null) owners.put(hpid, region);
+            });
+        }
+        return new EmergencyRealtimeSnapshot(
+                version,
+                refreshedAt,
+                Collections.unmodifiableMap(merged),
+                Collections.unmodifiableMap(new HashMap<>(regions)),
+                owners
+        );
+    }
+
+    public boolean isReady() {
+        return version > 0 && !items.isEmpty();
+    }
+
+    public CheckEmergencyRealtimeItem get(String hpid) {
+        if (hpid == null) return null;
+        return items.get(HpidUtil.normalize(hpid));
+    }
+
+    // hpid 항목이 실제로 갱신된 시각 (지역 갱신 시각, 없으면 null)
+    public Instant refreshedAtOf(String hpid) {
+        if (hpid == null) return null;
+        RegionSnapshot region = owners.get(HpidUtil.normalize(hpid));
+        return region == null ? null : region.getRefreshedAt();
+    }
+
+    @Getter
+    public static class RegionSnapshot {
+        private final String stage1;
+        private final Instant refreshedAt;
+        private final Map<String, CheckEmergencyRealtimeItem> items;
+
+        public RegionSnapshot(String stage1, Instant refreshedAt, Map<String, CheckEmergencyRealtimeItem> items) {
+            this.stage1 = stage1;
+            this.refreshedAt = refreshedAt;
+            this.items = Collections.unmodifiableMap(items);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.app.ev119.service;
+
+import lombok.Getter;
+
+/**
+ * 실시간 스냅샷이 새 버전으로 바뀌었을 때 발행 (스냅샷 기반 인덱스/구독/이력 갱신용)
+ */
+@Getter
+public class EmergencyRealtimeSnapshotRefreshedEvent {
+
+    private final EmergencyRealtimeSnapshot previous;
+    private final EmergencyRealtimeSnapshot current;
+
+    public EmergencyRealtimeSnapshotRefreshedEvent(EmergencyRealtimeSnapshot previous, EmergencyRealtimeSnapshot current) {
+        this.previous = previous;
+        this.current = current;
+    }
+}
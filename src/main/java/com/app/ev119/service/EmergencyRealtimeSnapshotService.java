@@ -0,0 +1,172 @@
+package com.app.ev119.service;
+
+import com.app.ev119.domain.dto.request.CheckEmergencyRealtimeRequestDTO;
+import com.app.ev119.domain.dto.response.CheckEmergencyRealtimeItem;
+import com.app.ev119.domain.type.PublicApiType;
+import com.app.ev119.domain.type.RegionType;
+import com.app.ev119.exception.QuotaExceededException;
+import com.app.ev119.util.HpidUtil;
+import com.app.ev119.util.RealtimeXmlProjection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmergencyRealtimeSnapshotService {
+
+    private final CheckEmergencyRealtimeService checkEmergencyRealtimeService;
+    private final PublicApiQuotaService publicApiQuotaService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${api.emergency.realtime-snapshot.enabled:true}")
+    private boolean enabled;
+
+    @Value("${api.emergency.realtime-snapshot.refresh-ms:60000}")
+    private long refreshMs;
+
+    // 이 주기 수만큼 연속으로 갱신 못 한 지역은 스냅샷에서 뺌
+    @Value("${api.emergency.realtime-snapshot.max-missed-cycles:5}")
+    private int maxMissedCycles;
+
+    private static final int NUM_OF_ROWS = 500;
+    private static final int MAX_PAGES = 30; // 안전장치
+
+    // ✅ 스냅샷에서 쓰는 필드만 스트리밍으로 꺼냄 (item 당 70개 필드 전체 바인딩 생략)
+    // - 병상 수(hvec, hvgc, hvicc, hvoc, hvncc) + 장비 가용 여부(*yn) 는 가용 병원 필터링(AvailabilityStoreService)용
+    private static final RealtimeXmlProjection SNAPSHOT_PROJECTION = new RealtimeXmlProjection(
+            "hpid", "dutyName", "dutyTel3", "hvidate",
+            "hvec", "hvgc", "hvicc", "hvoc", "hvncc",
+            "hvctayn", "hvmriayn", "hvangioayn", "hvventiayn", "hvventisoayn", "hvincuayn",
+            "hvcrrtayn", "hvecmoayn", "hvhypoayn", "hvoxyayn", "hvamyn");
+
+    private volatile EmergencyRealtimeSnapshot snapshot = EmergencyRealtimeSnapshot.EMPTY;
+
+    public EmergencyRealtimeSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * ✅ 전국(STAGE1 17개) 실시간 가용병상 주기 갱신
+     * - 요청 경로는 스냅샷만 조회하므로 사용자 요청 수와 상관없이 upstream 호출 수가 고정됨
+     * - 지역별로 실패하면 그 지역은 이전 값 유지, 429 가 나면 이번 주기는 즉시 중단
+     * - 주기마다 시작 지역을 돌려서, 토큰이 모자라 중단돼도 항상 같은 지역만 밀리지 않게 함
+     * - 일일 쿼터가 얼마 안 남았으면 이번 주기는 건너뛰고 이전 스냅샷 유지
+     * - max-missed-cycles 주기 넘게 갱신 못 한 지역은 버림 (오래된 병상 수를 최신처럼 내보내지 않게)
+     */
+    @Scheduled(
+            initialDelayString = "${api.emergency.realtime-snapshot.initial-delay-ms:5000}",
+            fixedDelayString = "${api.emergency.realtime-snapshot.refresh-ms:60000}"
+    )
+    public void refresh() {
+        if (!enabled) return;
+
+        EmergencyRealtimeSnapshot previous = snapshot;
+        Map<String, EmergencyRealtimeSnapshot.RegionSnapshot> regions = new HashMap<>(previous.getRegions());
+
+        int refreshed = 0;
+        long started = System.currentTimeMillis();
+
+        if (previous.isReady() && publicApiQuotaService.isLow(PublicApiType.REALTIME)) {
+            log.info("[RT-SNAPSHOT] realtime quota low -> skip cycle, keep version={}", previous.getVersion());
+        } else {
+            refreshed = refreshRegions(regions, previous.getVersion());
+        }
+
+        int dropped = dropStaleRegions(regions, Instant.now());
+
+        if (refreshed == 0 && dropped == 0) {
+            log.info("[RT-SNAPSHOT] no region refreshed. keep version={}", previous.getVersion());
+            return;
+        }
+
+        EmergencyRealtimeSnapshot next = EmergencyRealtimeSnapshot.of(previous.getVersion() + 1, Instant.now(), regions);
+        snapshot = next;
+        eventPublisher.publishEvent(new EmergencyRealtimeSnapshotRefreshedEvent(previous, next));
+
+        log.info("[RT-SNAPSHOT] version={}, regions={}/{}, dropped={}, hospitals={}, took={}ms",
+                next.getVersion(), refreshed, RegionType.values().length, dropped,
+                next.getItems().size(), System.currentTimeMillis() - started);
+    }
+
+    // 지역별 조회, 성공한 지역 수 반환
+    private int refreshRegions(Map<String, EmergencyRealtimeSnapshot.RegionSnapshot> regions, long previousVersion) {
+        int refreshed = 0;
+
+        RegionType[] all = RegionType.values();
+        int offset = (int) (previousVersion % all.length);
+
+        for (int i = 0; i < all.length; i++) {
+            RegionType region = all[(offset + i) % all.length];
+            try {
+                Map<String, CheckEmergencyRealtimeItem> items = fetchRegion(region.getStage1());
+                if (items.isEmpty()) {
+                    log.info("[RT-SNAPSHOT] stage1='{}' -> empty, keep previous", region.getStage1());
+                    continue;
+                }
+                regions.put(region.getStage1(),
+                        new EmergencyRealtimeSnapshot.RegionSnapshot(region.getStage1(), Instant.now(), items));
+                refreshed++;
+            } catch (QuotaExceededException e) {
+                log.warn("[RT-SNAPSHOT] quota exceeded at stage1='{}' -> stop this cycle. msg={}",
+                        region.getStage1(), e.getMessage());
+                break;
+            } catch (Exception e) {
+                log.warn("[RT-SNAPSHOT] stage1='{}' -> {}", region.getStage1(), e.getMessage());
+            }
+        }
+        return refreshed;
+    }
+
+    // 갱신 시각이 refresh-ms * max-missed-cycles 보다 오래된 지역 제거, 제거한 수 반환
+    private int dropStaleRegions(Map<String, EmergencyRealtimeSnapshot.RegionSnapshot> regions, Instant now) {
+        Instant limit = now.minusMillis(refreshMs * maxMissedCycles);
+        int before = regions.size();
+        regions.values().removeIf(region -> {
+            if (!region.getRefreshedAt().isBefore(limit)) return false;
+            log.warn("[RT-SNAPSHOT] stage1='{}' not refreshed since {} -> drop", region.getStage1(), region.getRefreshedAt());
+            return true;
+        });
+        return before - regions.size();
+    }
+
+    private Map<String, CheckEmergencyRealtimeItem> fetchRegion(String stage1) {
+        Map<String, CheckEmergencyRealtimeItem> items = new HashMap<>();
+
+        int page = 1;
+        int totalCount = Integer.MAX_VALUE;
+
+        while ((page - 1) * NUM_OF_ROWS < totalCount && page <= MAX_PAGES) {
+            CheckEmergencyRealtimeRequestDTO req = new CheckEmergencyRealtimeRequestDTO();
+            req.setStage1(stage1);
+            req.setStage2("");
+            req.setPageNo(page);
+            req.setNumOfRows(NUM_OF_ROWS);
+
+            RealtimeXmlProjection.Page rt =
+                    checkEmergencyRealtimeService.getCheckEmergencyRealtimeProjection(req, SNAPSHOT_PROJECTION);
+            if (rt == null) break;
+
+            totalCount = rt.getTotalCount();
+            List<CheckEmergencyRealtimeItem> list = rt.toItems();
+            if (list.isEmpty()) break;
+
+            for (CheckEmergencyRealtimeItem rti : list) {
+                if (rti.getHpid() == null) continue;
+                items.putIfAbsent(HpidUtil.normalize(rti.getHpid()), rti);
+            }
+            page++;
+        }
+
+        return items;
+    }
+}
@@ -0,0 +1,266 @@
+package com.app.ev119.service;
+
+import com.app.ev119.domain.dto.request.EmergencyRoomMessageRequestDTO;
+import com.app.ev119.domain.dto.response.EmergencyRoomMessageResponse;
+import com.app.ev119.domain.dto.response.ErMessageFeedResponse;
+import com.app.ev119.domain.type.PublicApiType;
+import com.app.ev119.domain.type.RegionType;
+import com.app.ev119.exception.QuotaExceededException;
+import com.app.ev119.util.HpidUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ✅ 응급실 메시지 증분 수집
+ * - 시도(Q0) 단위 전체 수집(sweep)은 드물게: 메시지가 있는 병원 발견 + 사라진 메시지 정리
+ * - 그 사이에는 병원별로 HPID 단건 조회, 주기는 병원마다 따로
+ *   (바뀌면 주기 절반, 안 바뀌면 1.5배, 조회 실패면 2배, min~max 사이)
+ * - 내용 해시로 중복 제거한 결과만 ErMessageStore 에 반영, 클라이언트는 since=version 으로 새 항목만 받음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ErMessageFeedService implements StatusContributor {
+
+    private final EmergencyRoomMessageService emergencyRoomMessageService;
+    private final PublicApiQuotaService publicApiQuotaService;
+    private final ErMessageStore erMessageStore;
+
+    @Value("${api.emergency.message-feed.enabled:true}")
+    private boolean enabled;
+
+    @Value("${api.emergency.message-feed.sweep-ms:1800000}")
+    private long sweepMs;
+
+    @Value("${api.emergency.message-feed.min-interval-ms:120000}")
+    private long minIntervalMs;
+
+    @Value("${api.emergency.message-feed.max-interval-ms:3600000}")
+    private long maxIntervalMs;
+
+    // 한 번 tick 에 HPID 단건 조회 상한 (쿼터 보호)
+    @Value("${api.emergency.message-feed.max-polls-per-tick:20}")
+    private int maxPollsPerTick;
+
+    private static final int SWEEP_ROWS = 1000;
+    private static final int SWEEP_MAX_PAGES = 10; // 안전장치
+    private static final int MAX_FEED_LIMIT = 1000;
+
+    private final Map<String, PollState> states = new ConcurrentHashMap<>();
+    private long nextSweepAt;
+
+    // HPID 단건 조회 실패 수 (쿼터 초과 제외)
+    private final AtomicLong pollFailures = new AtomicLong();
+
+    @Scheduled(
+            initialDelayString = "${api.emergency.message-feed.initial-delay-ms:15000}",
+            fixedDelayString = "${api.emergency.message-feed.tick-ms:30000}"
+    )
+    public void tick() {
+        tick(System.currentTimeMillis());
+    }
+
+    // now 를 받는 쪽은 테스트에서 시각 지정용
+    void tick(long now) {
+        if (!enabled) return;
+        if (publicApiQuotaService.isLow(PublicApiType.ROOM_MESSAGE)) {
+            log.info("[ER-MESSAGE] quota low -> skip tick");
+            return;
+        }
+
+        try {
+            if (now >= nextSweepAt) {
+                sweep(now);
+                nextSweepAt = now + sweepMs;
+            }
+            pollDue(now);
+        } catch (QuotaExceededException e) {
+            log.warn("[ER-MESSAGE] quota exceeded -> stop this tick. msg={}", e.getMessage());
+        }
+    }
+
+    /**
+     * since 이후 새 메시지 (hpids : 쉼표 구분, 없으면 전체, cursor : reset 이어 받기)
+     */
+    public ErMessageFeedResponse getFeed(long since, Long cursor, String hpids, int limit) {
+        Set<String> filter = null;
+        if (hpids != null && !hpids.isBlank()) {
+            filter = new LinkedHashSet<>();
+            for (String token : hpids.split(",")) {
+                String hpid = HpidUtil.normalize(token);
+                if (!hpid.isEmpty()) filter.add(hpid);
+            }
+        }
+        return erMessageStore.since(since, cursor, filter, Math.max(1, Math.min(limit, MAX_FEED_LIMIT)));
+    }
+
+    @Override
+    public String getStatusName() {
+        return "message-feed";
+    }
+
+    // 메시지 피드 version / 병원별 평균 조회 주기
+    @Override
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>(erMessageStore.getStats());
+        status.put("trackedHospitals", states.size());
+
+        long sum = 0;
+        for (PollState s : states.values()) sum += s.intervalMs;
+        status.put("avgPollIntervalMs", states.isEmpty() ? 0 : sum / states.size());
+        status.put("nextSweepInMs", Math.max(0, nextSweepAt - System.currentTimeMillis()));
+        status.put("pollFailures", pollFailures.get());
+        return status;
+    }
+
+    // 시도별 전체 목록 -> 병원별로 묶어서 반영, 이 시도 병원 중 목록에 없는 곳은 메시지 전부 내려간 것
+    // - 모든 시도가 성공했으면, 시도를 모르는 병원(Redis 에서 복원만 된 병원) 중 어디에도 없던 곳도 정리
+    private void sweep(long now) {
+        int changed = 0;
+        boolean complete = true;
+        Set<String> seen = new HashSet<>();
+
+        for (RegionType region : RegionType.values()) {
+            Map<String, List<EmergencyRoomMessageResponse.Item>> byHpid = fetchRegion(region.getStage1());
+            if (byHpid == null) {
+                complete = false;
+                continue;
+            }
+            seen.addAll(byHpid.keySet());
+
+            for (Map.Entry<String, List<EmergencyRoomMessageResponse.Item>> e : byHpid.entrySet()) {
+                int c = erMessageStore.apply(e.getKey(), e.getValue());
+                changed += c;
+                states.computeIfAbsent(e.getKey(), k -> new PollState(region.getStage1(), minIntervalMs, now))
+                        .update(c > 0, now, minIntervalMs, maxIntervalMs);
+            }
+            for (Map.Entry<String, PollState> e : states.entrySet()) {
+                if (!region.getStage1().equals(e.getValue().stage1) || byHpid.containsKey(e.getKey())) continue;
+                int c = erMessageStore.apply(e.getKey(), List.of());
+                changed += c;
+                e.getValue().update(c > 0, now, minIntervalMs, maxIntervalMs);
+            }
+        }
+        if (complete) {
+            for (String hpid : erMessageStore.hospitals()) {
+                if (!seen.contains(hpid) && !states.containsKey(hpid)) changed += erMessageStore.apply(hpid, List.of());
+            }
+        }
+        log.info("[ER-MESSAGE] sweep done. hospitals={}, changes={}, complete={}", states.size(), changed, complete);
+    }
+
+    // 다음 조회 시각이 지난 병원부터 (오래 기다린 순) HPID 단건 조회
+    // - 한 병원 조회가 실패해도 그 병원만 주기를 늘리고 다음 병원 계속 (실패한 병원이 맨 앞에 남아 계속 막지 않게)
+    private void pollDue(long now) {
+        List<Map.Entry<String, PollState>> due = new ArrayList<>();
+        for (Map.Entry<String, PollState> e : states.entrySet()) {
+            if (e.getValue().nextPollAt <= now) due.add(e);
+        }
+        due.sort(Comparator.comparingLong(e -> e.getValue().nextPollAt));
+
+        int polled = 0;
+        int changed = 0;
+        for (Map.Entry<String, PollState> e : due) {
+            if (polled >= maxPollsPerTick) break;
+
+            EmergencyRoomMessageRequestDTO req = new EmergencyRoomMessageRequestDTO();
+            req.setHpid(e.getKey());
+            req.setPageNo(1);
+            req.setNumOfRows(100);
+
+            EmergencyRoomMessageResponse res;
+            try {
+                res = emergencyRoomMessageService.getEmergencyRoomMessage(req);
+            } catch (QuotaExceededException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                log.warn("[ER-MESSAGE] poll hpid='{}' -> {} (failures={})",
+                        e.getKey(), ex.getMessage(), pollFailures.incrementAndGet());
+                res = null;
+            }
+            polled++;
+            if (res == null || res.getBody() == null) {
+                e.getValue().backoff(now, maxIntervalMs);
+                continue;
+            }
+
+            List<EmergencyRoomMessageResponse.Item> items = new ArrayList<>();
+            for (EmergencyRoomMessageResponse.Item it : res.getBody().getItems()) {
+                if (e.getKey().equals(HpidUtil.normalize(it.getHpid()))) items.add(it);
+            }
+            int c = erMessageStore.apply(e.getKey(), items);
+            changed += c;
+            e.getValue().update(c > 0, now, minIntervalMs, maxIntervalMs);
+        }
+        if (polled > 0) log.info("[ER-MESSAGE] polled={}, due={}, changes={}", polled, due.size(), changed);
+    }
+
+    // 실패하면 null (이 시도는 이번 sweep 에서 정리하지 않음)
+    private Map<String, List<EmergencyRoomMessageResponse.Item>> fetchRegion(String stage1) {
+        Map<String, List<EmergencyRoomMessageResponse.Item>> byHpid = new HashMap<>();
+        try {
+            int page = 1;
+            int totalCount = Integer.MAX_VALUE;
+            while ((page - 1) * SWEEP_ROWS < totalCount && page <= SWEEP_MAX_PAGES) {
+                EmergencyRoomMessageRequestDTO req = new EmergencyRoomMessageRequestDTO();
+                req.setQ0(stage1);
+                req.setPageNo(page);
+                req.setNumOfRows(SWEEP_ROWS);
+
+                EmergencyRoomMessageResponse res = emergencyRoomMessageService.getEmergencyRoomMessage(req);
+                if (res == null || res.getBody() == null || res.getBody().getItems().isEmpty()) break;
+
+                totalCount = res.getBody().getTotalCount();
+                for (EmergencyRoomMessageResponse.Item it : res.getBody().getItems()) {
+                    if (it.getHpid() == null) continue;
+                    byHpid.computeIfAbsent(HpidUtil.normalize(it.getHpid()), k -> new ArrayList<>()).add(it);
+                }
+                page++;
+            }
+            return byHpid;
+        } catch (QuotaExceededException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("[ER-MESSAGE] sweep stage1='{}' -> {}", stage1, e.getMessage());
+            return null;
+        }
+    }
+
+    private static class PollState {
+        private final String stage1;
+        private long intervalMs;
+        private long nextPollAt;
+
+        private PollState(String stage1, long intervalMs, long now) {
+            this.stage1 = stage1;
+            this.intervalMs = intervalMs;
+            this.nextPollAt = now + intervalMs;
+        }
+
+        void update(boolean changed, long now, long min, long max) {
+            intervalMs = changed ? Math.max(min, intervalMs / 2) : Math.min(max, intervalMs * 3 / 2);
+            nextPollAt = now + intervalMs;
+        }
+
+        // 조회 실패 / 응답 없음
+        void backoff(long now, long max) {
+            intervalMs = Math.min(max, intervalMs * 2);
+            nextPollAt = now + intervalMs;
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.app.ev119.service;
+
+import com.app.ev119.domain.dto.response.EmergencyRoomMessageResponse;
+import com.app.ev119.domain.dto.response.ErMessageFeedResponse;
+import com.app.ev119.domain.dto.response.ErMessageItem;
+import com.app.ev119.util.HpidUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * ✅ 응급실 메시지 저장소 (노드 메모리 + Redis 백업)
+ * - current : hpid -> (내용 해시 -> 메시지), 같은 내용은 한 번만 보관
+ * - changeLog : 변경(ADDED/REMOVED) 기록, version 오름차순, log-capacity 넘으면 앞에서부터 버림
+ * - 병원 메시지가 바뀔 때만 그 병원 목록을 Redis 해시에 저장, 재기동 시 복원 (version 도 이어서 사용)
+ * - 복원한 로그에는 REMOVED 기록이 없으므로 복원 시점 version(resetFloor) 보다 오래된 since 는 reset
+ * - reset 은 현재 게시 중인 메시지를 version 순으로 limit 개씩 (cursor 로 이어 받음)
+ * - 쓰기는 폴러 스레드 하나, 읽기는 요청 스레드 (짧은 구간만 synchronized)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ErMessageStore {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${api.emergency.message-feed.log-capacity:20000}")
+    private int logCapacity;
+
+    private static final String STATE_KEY = "emergency:messages:state";
+    private static final String VERSION_KEY = "emergency:messages:version";
+
+    private static final TypeReference<List<ErMessageItem>> ITEM_LIST = new TypeReference<>() {
+    };
+
+    private final Map<String, Map<String, ErMessageItem>> current = new HashMap<>();
+    private final List<ErMessageItem> changeLog = new ArrayList<>();
+    private long version;
+    private long resetFloor;
+
+    @PostConstruct
+    void restore() {
+        try {
+            Map<Object, Object> state = stringRedisTemplate.opsForHash().entries(STATE_KEY);
+            String storedVersion = stringRedisTemplate.opsForValue().get(VERSION_KEY);
+
+            List<ErMessageItem> restored = new ArrayList<>();
+            synchronized (this) {
+                for (Map.Entry<Object, Object> e : state.entrySet()) {
+                    Map<String, ErMessageItem> byHash = new LinkedHashMap<>();
+                    for (ErMessageItem item : objectMapper.readValue((String) e.getValue(), ITEM_LIST)) {
+                        byHash.put(item.getHash(), item);
+                        restored.add(item);
+                    }
+                    if (!byHash.isEmpty()) current.put((String) e.getKey(), byHash);
+                }
+                restored.sort(Comparator.comparingLong(ErMessageItem::getVersion));
+                changeLog.addAll(restored);
+
+                long maxRestored = restored.isEmpty() ? 0L : restored.get(restored.size() - 1).getVersion();
+                version = Math.max(maxRestored, storedVersion == null ? 0L : Long.parseLong(storedVersion));
+                resetFloor = version;
+            }
+            log.info("[ER-MESSAGE] restored hospitals={}, messages={}, version={}",
+                    current.size(), restored.size(), version);
+        } catch (DataAccessException | JsonProcessingException | NumberFormatException e) {
+            log.warn("[ER-MESSAGE] restore skipped. msg={}", e.getMessage());
+        }
+    }
+
+    /**
+     * ✅ 한 병원의 최신 메시지 목록 반영
+     * - 새 해시는 ADDED, 사라진 해시는 REMOVED 로 기록 (둘 다 새 version)
+     * @return 변경 건수 (0 이면 내용 그대로)
+     */
+    public int apply(String hpid, List<EmergencyRoomMessageResponse.Item> items) {
+        String key = HpidUtil.normalize(hpid);
+        Map<String, EmergencyRoomMessageResponse.Item> incoming = new LinkedHashMap<>();
+        for (EmergencyRoomMessageResponse.Item it : items) {
+            incoming.putIfAbsent(hash(it), it);
+        }
+
+        List<ErMessageItem> changes = new ArrayList<>();
+        List<ErMessageItem> snapshot;
+        long latest;
+        synchronized (this) {
+            Map<String, ErMessageItem> before = current.getOrDefault(key, Map.of());
+            Map<String, ErMessageItem> after = new LinkedHashMap<>();
+
+            for (Map.Entry<String, EmergencyRoomMessageResponse.Item> e : incoming.entrySet()) {
+                ErMessageItem existing = before.get(e.getKey());
+                if (existing != null) {
+                    after.put(e.getKey(), existing);
+                } else {
+                    ErMessageItem added = toItem(++version, "ADDED", e.getKey(), key, e.getValue());
+                    after.put(e.getKey(), added);
+                    changes.add(added);
+                }
+            }
+            for (ErMessageItem old : before.values()) {
+                if (after.containsKey(old.getHash())) continue;
+                ErMessageItem removed = copyOf(old);
+                removed.setVersion(++version);
+                removed.setOp("REMOVED");
+                changes.add(removed);
+            }
+            if (changes.isEmpty()) return 0;
+
+            if (after.isEmpty()) current.remove(key);
+            else current.put(key, after);
+
+            changeLog.addAll(changes);
+            if (changeLog.size() > logCapacity + logCapacity / 4) {
+                changeLog.subList(0, changeLog.size() - logCapacity).clear();
+            }
+            snapshot = new ArrayList<>(after.values());
+            latest = version;
+        }
+
+        backup(key, snapshot, latest);
+        return changes.size();
+    }
+
+    public synchronized Set<String> hospitals() {
+        return Set.copyOf(current.keySet());
+    }
+
+    /**
+     * ✅ since 이후 변경분 (hpids 가 있으면 그 병원만)
+     * - since 가 로그 보관 범위/복원 시점보다 오래됐거나 서버 version 보다 크면 reset (현재 게시 중인 메시지 전체)
+     * - cursor 가 있으면 reset 이어 받기 (since = 첫 reset 응답의 version)
+     */
+    public synchronized ErMessageFeedResponse since(long since, Long cursor, Set<String> hpids, int limit) {
+        boolean valid = since <= version && since >= resetFloor;
+        if (cursor != null && valid) return resetPage(since, cursor, hpids, limit);
+
+        long oldest = changeLog.isEmpty() ? version + 1 : changeLog.get(0).getVersion();
+        if (!valid || since < oldest - 1) return resetPage(version, 0L, hpids, limit);
+
+        ErMessageFeedResponse response = new ErMessageFeedResponse();
+        List<ErMessageItem> items = new ArrayList<>();
+        response.setItems(items);
+
+        int from = firstAfter(since);
+        for (int i = from; i < changeLog.size(); i++) {
+            ErMessageItem item = changeLog.get(i);
+            if (hpids != null && !hpids.contains(item.getHpid())) continue;
+            if (items.size() >= limit) {
+                response.setHasMore(true);
+                response.setVersion(items.get(items.size() - 1).getVersion());
+                return response;
+            }
+            items.add(copyOf(item));
+        }
+        response.setVersion(version);
+        return response;
+    }
+
+    // upTo 시점에 게시 중이던 메시지 중 version > after 인 것 (지금까지 남아 있는 것만, 이후 삭제분은 증분 피드의 REMOVED 로 전달)
+    private ErMessageFeedResponse resetPage(long upTo, long after, Set<String> hpids, int limit) {
+        List<ErMessageItem> candidates = new ArrayList<>();
+        for (Map.Entry<String, Map<String, ErMessageItem>> e : current.entrySet()) {
+            if (hpids != null && !hpids.contains(e.getKey())) continue;
+            for (ErMessageItem item : e.getValue().values()) {
+                if (item.getVersion() > after && item.getVersion() <= upTo) candidates.add(item);
+            }
+        }
+        candidates.sort(Comparator.comparingLong(ErMessageItem::getVersion));
+
+        int n = Math.min(limit, candidates.size());
+        List<ErMessageItem> items = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            items.add(copyOf(candidates.get(i)));
+        }
+
+        ErMessageFeedResponse response = new ErMessageFeedResponse();
+        response.setItems(items);
+        response.setReset(true);
+        response.setVersion(upTo);
+        if (candidates.size() > n) {
+            response.setHasMore(true);
+            response.setCursor(items.get(n - 1).getVersion());
+        }
+        return response;
+    }
+
+    public synchronized Map<String, Object> getStats() {
+        int messages = 0;
+        for (Map<String, ErMessageItem> byHash : current.values()) messages += byHash.size();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("version", version);
+        stats.put("resetFloor", resetFloor);
+        stats.put("hospitals", current.size());
+        stats.put("messages", messages);
+        stats.put("logSize", changeLog.size());
+        stats.put("oldestLogVersion", changeLog.isEmpty() ? null : changeLog.get(0).getVersion());
+        return stats;
+    }
+
+    // changeLog 에서 version > since 인 첫 위치 (이진 탐색)
+    private int firstAfter(long since) {
+        int lo = 0;
+        int hi = changeLog.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (changeLog.get(mid).getVersion() <= since) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private void backup(String hpid, List<ErMessageItem> messages, long latest) {
+        try {
+            if (messages.isEmpty()) {
+                stringRedisTemplate.opsForHash().delete(STATE_KEY, hpid);
+            } else {
+                stringRedisTemplate.opsForHash().put(STATE_KEY, hpid, objectMapper.writeValueAsString(messages));
+            }
+            stringRedisTemplate.opsForValue().set(VERSION_KEY, Long.toString(latest));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.debug("[ER-MESSAGE] backup skipped hpid={}. msg={}", hpid, e.getMessage());
+        }
+    }
+
+    // 게시 내용 기준 해시 (rnum 같은 목록 위치 값은 제외)
+    private static String hash(EmergencyRoomMessageResponse.Item it) {
+        String content = String.join("\u0001",
+                Objects.toString(it.getSymTypCod(), ""),
+                Objects.toString(it.getSymBlkMsgTyp(), ""),
+                Objects.toString(it.getSymBlkMsg(), ""),
+                Objects.toString(it.getSymBlkSttDtm(), ""),
+                Objects.toString(it.getSymBlkEndDtm(), ""),
+                Objects.toString(it.getSymOutDspYon(), ""),
+                Objects.toString(it.getSymOutDspMth(), ""));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ErMessageItem toItem(long version, String op, String hash, String hpid, EmergencyRoomMessageResponse.Item it) {
+        ErMessageItem item = new ErMessageItem();
+        item.setVersion(version);
+        item.setOp(op);
+        item.setHash(hash);
+        item.setHpid(hpid);
+        item.setDutyName(it.getDutyName());
+        item.setDutyAddr(it.getDutyAddr());
+        item.setSymTypCod(it.getSymTypCod());
+        item.setSymTypCodMag(it.getSymTypCodMag() == null ? null : it.getSymTypCodMag().intern());
+        item.setSymBlkMsgTyp(it.getSymBlkMsgTyp());
+        item.setSymBlkMsg(it.getSymBlkMsg());
+        item.setSymBlkSttDtm(it.getSymBlkSttDtm());
+        item.setSymBlkEndDtm(it.getSymBlkEndDtm());
+        item.setSymOutDspYon(it.getSymOutDspYon());
+        item.setSymOutDspMth(it.getSymOutDspMth());
+        return item;
+    }
+
+    private static ErMessageItem copyOf(ErMessageItem src) {
+        ErMessageItem item = new ErMessageItem();
+        item.setVersion(src.getVersion());
+        item.setOp(src.getOp());
+        item.setHash(src.getHash());
+        item.setHpid(src.getHpid());
+        item.setDutyName(src.getDutyName());
+        item.setDutyAddr(src.getDutyAddr());
+        item.setSymTypCod(src.getSymTypCod());
+        item.setSymTypCodMag(src.getSymTypCodMag());
+        item.setSymBlkMsgTyp(src.getSymBlkMsgTyp());
+        item.setSymBlkMsg(src.getSymBlkMsg());
+        item.setSymBlkSttDtm(src.getSymBlkSttDtm());
+        item.setSymBlkEndDtm(src.getSymBlkEndDtm());
+        item.setSymOutDspYon(src.getSymOutDspYon());
+        item.setSymOutDspMth(src.getSymOutDspMth());
+        return item;
+    }
+}
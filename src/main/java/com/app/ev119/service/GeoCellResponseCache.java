@@ -0,0 +1,148 @@
+package com.app.ev119.service;
+
+import com.app.ev119.domain.dto.response.SearchEmergencyLocationInfoItem;
+import com.app.ev119.domain.dto.response.SearchEmergencyLocationInfoResponse;
+import com.app.ev119.util.GeoUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * ✅ 좌표를 격자(cellMeters)로 묶어서 위치 API 응답 캐시
+ * - 같은 격자 + 같은 pageNo/numOfRows 면 upstream 은 격자 중심 좌표로 한 번만 호출
+ * - 돌려줄 때는 호출자의 실제 좌표로 거리를 다시 계산하고 거리순 재정렬 (격자 중심 기준 순서와 조금 다를 수 있음)
+ * - 캐시 값은 공유 객체라 항상 복사본을 돌려줌 (실시간 병합에서 item 을 수정함)
+ * - 격자 크기별 히트율을 따로 집계 (크기 바꿔가며 튜닝용)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GeoCellResponseCache implements StatusContributor {
+
+    public static final String CACHE_NAME = "emergency:location-cell";
+
+    private final CacheManager cacheManager;
+
+    @Value("${api.emergency.location-cell-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${api.emergency.location-cell-cache.cell-meters:200}")
+    private int cellMeters;
+
+    private final Map<Integer, LongAdder[]> statsByCellSize = new ConcurrentHashMap<>();
+
+    /**
+     * @param loader (격자 중심 위도, 경도) -> upstream 응답
+     */
+    public SearchEmergencyLocationInfoResponse get(double lat, double lon, int pageNo, int numOfRows,
+                                                   BiFunction<Double, Double, SearchEmergencyLocationInfoResponse> loader) {
+        if (!enabled || cellMeters <= 0) return loader.apply(lat, lon);
+
+        double latStep = cellMeters / (GeoUtil.KM_PER_DEGREE * 1000.0);
+        long latIdx = (long) Math.floor(lat / latStep);
+        double centerLat = (latIdx + 0.5) * latStep;
+
+        double lonStep = latStep / Math.max(Math.cos(Math.toRadians(centerLat)), 1e-6);
+        long lonIdx = (long) Math.floor(lon / lonStep);
+        double centerLon = (lonIdx + 0.5) * lonStep;
+
+        String key = cellMeters + "|" + latIdx + "|" + lonIdx + "|p=" + pageNo + "|r=" + numOfRows;
+        LongAdder[] stats = statsByCellSize.computeIfAbsent(cellMeters, k -> new LongAdder[]{new LongAdder(), new LongAdder()});
+
+        SearchEmergencyLocationInfoResponse cached = peek(key);
+        if (cached != null) {
+            stats[0].increment();
+        } else {
+            stats[1].increment();
+            cached = loader.apply(centerLat, centerLon);
+            if (cached != null && cached.getBody() != null) put(key, cached);
+        }
+
+        return relocate(cached, lat, lon, pageNo, numOfRows);
+    }
+
+    @Override
+    public String getStatusName() {
+        return "location-cell-cache";
+    }
+
+    // 격자 크기별 위치 응답 캐시 히트율
+    @Override
+    public Map<String, Object> getStatus() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        statsByCellSize.forEach((size, s) -> {
+            long hits = s[0].sum();
+            long misses = s[1].sum();
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("hits", hits);
+            m.put("misses", misses);
+            m.put("hitRate", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+            m.put("active", size == cellMeters);
+            result.put(size + "m", m);
+        });
+        return result;
+    }
+
+    private SearchEmergencyLocationInfoResponse peek(String key) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) return null;
+        try {
+            return cache.get(key, SearchEmergencyLocationInfoResponse.class);
+        } catch (IllegalStateException | DataAccessException e) {
+            return null;
+        }
+    }
+
+    private void put(String key, SearchEmergencyLocationInfoResponse value) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) return;
+        try {
+            cache.put(key, value);
+        } catch (DataAccessException e) {
+            log.debug("[CELL-CACHE] put failed key={}. msg={}", key, e.getMessage());
+        }
+    }
+
+    // 실제 좌표 기준 거리/순서로 다시 만든 복사본
+    private SearchEmergencyLocationInfoResponse relocate(SearchEmergencyLocationInfoResponse src, double lat, double lon,
+                                                         int pageNo, int numOfRows) {
+        if (src == null || src.getBody() == null) return src;
+
+        List<SearchEmergencyLocationInfoItem> items = new ArrayList<>();
+        if (src.getBody().getItems() != null) {
+            for (SearchEmergencyLocationInfoItem it : src.getBody().getItems()) {
+                SearchEmergencyLocationInfoItem copy = EmergencyFacilityIndexService.copyOf(it);
+                copy.setDistance(GeoUtil.haversineKm(lat, lon, it.getLatitude(), it.getLongitude()));
+                items.add(copy);
+            }
+        }
+        items.sort(Comparator.comparingDouble(SearchEmergencyLocationInfoItem::getDistance));
+        for (int i = 0; i < items.size(); i++) {
+            items.get(i).setRnum((pageNo - 1) * numOfRows + i + 1);
+        }
+
+        SearchEmergencyLocationInfoResponse.Body body = new SearchEmergencyLocationInfoResponse.Body();
+        body.setItems(items);
+        body.setNumOfRows(src.getBody().getNumOfRows());
+        body.setPageNo(src.getBody().getPageNo());
+        body.setTotalCount(src.getBody().getTotalCount());
+
+        SearchEmergencyLocationInfoResponse response = new SearchEmergencyLocationInfoResponse();
+        response.setHeader(src.getHeader());
+        response.setBody(body);
+        return response;
+    }
+}
@@ -0,0 +1,146 @@
+package com.app.ev119.service;
+
+import com.app.ev119.domain.dto.request.SearchEmergencyMedicalInfoRequestDTO;
+import com.app.ev119.domain.dto.response.EmergencyMedicalItem;
+import com.app.ev119.domain.dto.response.SearchEmergencyMedicalInfoResponse;
+import com.app.ev119.domain.entity.HospitalCatalog;
+import com.app.ev119.domain.entity.QHospitalCatalog;
+import com.app.ev119.domain.type.RegionType;
+import com.app.ev119.repository.HospitalCatalogRepository;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * ✅ 로컬 병원 목록(TBL_HOSPITAL_CATALOG) 조회
+ * - 목록 API 와 같은 Q0/Q1/QN/ORD, pageNo/numOfRows 의미로 QueryDSL 조회 (upstream 쿼터 사용 안 함)
+ * - QT/QZ/QD 는 목록 item 에 없는 값(진료요일/기관분류/진료과목)이라 로컬에서 판단 불가 -> supports() 가 false
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HospitalCatalogQueryService {
+
+    private final EntityManager entityManager;
+    private final HospitalCatalogRepository hospitalCatalogRepository;
+
+    private static final String ORD_NAME = "NAME";
+
+    // null 이면 아직 확인 전 (첫 조회 때 테이블 건수로 판단)
+    private volatile Boolean ready;
+    private volatile Instant lastSyncedAt;
+
+    public boolean isReady() {
+        Boolean current = ready;
+        if (current == null) {
+            try {
+                current = hospitalCatalogRepository.count() > 0;
+            } catch (Exception e) {
+                log.warn("[CATALOG] count failed. msg={}", e.getMessage());
+                return false;
+            }
+            ready = current;
+        }
+        return current;
+    }
+
+    // 동기화가 끝나면 호출
+    void markSynced(Instant syncedAt, boolean hasRows) {
+        lastSyncedAt = syncedAt;
+        ready = hasRows;
+    }
+
+    public Instant getLastSyncedAt() {
+        return lastSyncedAt;
+    }
+
+    public boolean supports(SearchEmergencyMedicalInfoRequestDTO req) {
+        return isBlank(req.getQt()) && isBlank(req.getQz()) && isBlank(req.getQd());
+    }
+
+    public SearchEmergencyMedicalInfoResponse search(SearchEmergencyMedicalInfoRequestDTO req) {
+        QHospitalCatalog catalog = QHospitalCatalog.hospitalCatalog;
+        JPAQueryFactory jpaQueryFactory = new JPAQueryFactory(entityManager);
+
+        BooleanBuilder where = new BooleanBuilder();
+        if (!isBlank(req.getQ0())) {
+            RegionType region = RegionType.fromName(req.getQ0());
+            where.and(catalog.stage1.eq(region == null ? req.getQ0().trim() : region.getStage1()));
+        }
+        if (!isBlank(req.getQ1())) {
+            String q1 = req.getQ1().trim();
+            where.and(catalog.stage2.eq(q1).or(catalog.dutyAddr.contains(" " + q1 + " ")));
+        }
+        if (!isBlank(req.getQn())) {
+            where.and(catalog.dutyName.contains(req.getQn().trim()));
+        }
+
+        List<OrderSpecifier<?>> order = new ArrayList<>();
+        if (ORD_NAME.equalsIgnoreCase(Objects.toString(req.getOrd(), "").trim())) {
+            order.add(catalog.dutyName.asc());
+        }
+        order.add(catalog.stage1.asc());
+        order.add(catalog.listOrder.asc());
+
+        int pageNo = Math.max(1, Objects.requireNonNullElse(req.getPageNo(), 1));
+        int numOfRows = Math.max(1, Objects.requireNonNullElse(req.getNumOfRows(), 10));
+        long offset = (long) (pageNo - 1) * numOfRows;
+
+        Long total = jpaQueryFactory.select(catalog.count()).from(catalog).where(where).fetchOne();
+        List<HospitalCatalog> rows = jpaQueryFactory.selectFrom(catalog)
+                .where(where)
+                .orderBy(order.toArray(new OrderSpecifier<?>[0]))
+                .offset(offset)
+                .limit(numOfRows)
+                .fetch();
+
+        List<EmergencyMedicalItem> items = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            items.add(toItem(rows.get(i), (int) offset + i + 1));
+        }
+
+        SearchEmergencyMedicalInfoResponse.Header header = new SearchEmergencyMedicalInfoResponse.Header();
+        header.setResultCode("00");
+        header.setResultMsg("NORMAL SERVICE.");
+
+        SearchEmergencyMedicalInfoResponse.Body body = new SearchEmergencyMedicalInfoResponse.Body();
+        body.setItems(items);
+        body.setNumOfRows(numOfRows);
+        body.setPageNo(pageNo);
+        body.setTotalCount(total == null ? 0 : total.intValue());
+
+        SearchEmergencyMedicalInfoResponse response = new SearchEmergencyMedicalInfoResponse();
+        response.setHeader(header);
+        response.setBody(body);
+        return response;
+    }
+
+    private static EmergencyMedicalItem toItem(HospitalCatalog row, int rnum) {
+        EmergencyMedicalItem item = new EmergencyMedicalItem();
+        item.setHpid(row.getHpid());
+        item.setPhpid(row.getPhpid());
+        item.setDutyName(row.getDutyName());
+        item.setDutyAddr(row.getDutyAddr());
+        item.setDutyEmcls(row.getDutyEmcls());
+        item.setDutyEmclsName(row.getDutyEmclsName());
+        item.setDutyTel1(row.getDutyTel1());
+        item.setDutyTel3(row.getDutyTel3());
+        item.setWgs84Lat(row.getWgs84Lat());
+        item.setWgs84Lon(row.getWgs84Lon());
+        item.setRnum(rnum);
+        return item;
+    }
+
+    private static boolean isBlank(String s) {
+        return s == null || s.isBlank();
+    }
+}
@@ -0,0 +1,337 @@
+package com.app.ev119.service;
+
+import com.app.ev119.domain.dto.request.SearchEmergencyMedicalInfoRequestDTO;
+import com.app.ev119.domain.dto.response.EmergencyMedicalItem;
+import com.app.ev119.domain.dto.response.SearchEmergencyMedicalInfoResponse;
+import com.app.ev119.domain.type.PublicApiType;
+import com.app.ev119.domain.type.RegionType;
+import com.app.ev119.exception.QuotaExceededException;
+import com.app.ev119.util.HpidUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ✅ 응급의료기관 목록 -> TBL_HOSPITAL_CATALOG 동기화
+ * - 매일 새벽(cron) + 관리자 수동 실행, 시도별로 목록 API 전체 페이지를 받음
+ * - 기존 행의 CONTENT_HASH(목록 순서 제외) 와 비교해서 새로 생긴/바뀐 병원만 batch INSERT/UPDATE
+ * - 내용은 같고 목록 순서만 바뀐 병원은 LIST_ORDER 만 batch UPDATE
+ * - 끝까지 받은 시도에서만, 목록에서 빠진 병원을 DELETE (중간에 끊긴 시도는 기존 행 유지)
+ * - 야간/관리자 수동 실행 모두 전용 스레드(catalogSyncExecutor)에서 한 번에 하나만, 호출 쪽은 작업 상태만 바로 받음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HospitalCatalogSyncService implements StatusContributor {
+
+    private final SearchEmergencyMedicalInfoService searchEmergencyMedicalInfoService;
+    private final HospitalCatalogQueryService hospitalCatalogQueryService;
+    private final PublicApiQuotaService publicApiQuotaService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Qualifier("catalogSyncExecutor")
+    private final ThreadPoolTaskExecutor catalogSyncExecutor;
+
+    @Value("${api.emergency.catalog.enabled:true}")
+    private boolean enabled;
+
+    private static final int NUM_OF_ROWS = 500;
+    private static final int MAX_PAGES = 30; // 안전장치
+
+    private static final String SELECT_SQL = "SELECT HPID, STAGE1, CONTENT_HASH, LIST_ORDER FROM TBL_HOSPITAL_CATALOG";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO TBL_HOSPITAL_CATALOG "
+                    + "(ID, STAGE1, STAGE2, DUTY_NAME, DUTY_ADDR, DUTY_EMCLS, DUTY_EMCLS_NAME, DUTY_TEL1, DUTY_TEL3, "
+                    + "PHPID, WGS84_LAT, WGS84_LON, LIST_ORDER, CONTENT_HASH, SYNCED_AT, HPID) "
+                    + "VALUES (SEQ_HOSPITAL_CATALOG.NEXTVAL, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // INSERT 와 파라미터 순서를 맞춰서 같은 Object[] 를 씀 (HPID 가 마지막)
+    private static final String UPDATE_SQL =
+            "UPDATE TBL_HOSPITAL_CATALOG SET "
+                    + "STAGE1 = ?, STAGE2 = ?, DUTY_NAME = ?, DUTY_ADDR = ?, DUTY_EMCLS = ?, DUTY_EMCLS_NAME = ?, "
+                    + "DUTY_TEL1 = ?, DUTY_TEL3 = ?, PHPID = ?, WGS84_LAT = ?, WGS84_LON = ?, LIST_ORDER = ?, "
+                    + "CONTENT_HASH = ?, SYNCED_AT = ? WHERE HPID = ?";
+
+    private static final String ORDER_SQL = "UPDATE TBL_HOSPITAL_CATALOG SET LIST_ORDER = ? WHERE HPID = ?";
+
+    private static final String DELETE_SQL = "DELETE FROM TBL_HOSPITAL_CATALOG WHERE HPID = ?";
+
+    // toRow 의 LIST_ORDER / CONTENT_HASH 위치
+    private static final int LIST_ORDER_INDEX = 11;
+    private static final int HASH_INDEX = 12;
+
+    private volatile Map<String, Object> lastResult = Map.of();
+
+    // 관리자 수동 실행 작업 (한 번에 하나)
+    private final AtomicBoolean jobRunning = new AtomicBoolean();
+    private final AtomicLong jobSeq = new AtomicLong();
+    private volatile Map<String, Object> lastJob = Map.of();
+
+    @Scheduled(cron = "${api.emergency.catalog.cron:0 30 3 * * *}", zone = "Asia/Seoul")
+    public void scheduledSync() {
+        if (!enabled) return;
+        if (hospitalCatalogQueryService.isReady() && publicApiQuotaService.isLow(PublicApiType.MEDICAL_LIST)) {
+            log.info("[CATALOG] medical-list quota low -> skip nightly sync");
+            return;
+        }
+        Map<String, Object> job = startSync();
+        log.info("[CATALOG] nightly sync job={}, state={}", job.get("jobId"), job.get("state"));
+    }
+
+    /**
+     * ✅ 동기화 작업 시작 (이미 실행 중이면 그 작업 상태)
+     * - 전체 시도 페이지를 받는 데 수십 초 걸리므로 요청/스케줄러 스레드에서 기다리지 않음
+     */
+    public Map<String, Object> startSync() {
+        if (!jobRunning.compareAndSet(false, true)) return getJob();
+
+        long jobId = jobSeq.incrementAndGet();
+        String requestedAt = Instant.now().toString();
+        lastJob = job(jobId, "RUNNING", requestedAt, null, null);
+        try {
+            catalogSyncExecutor.execute(() -> runJob(jobId, requestedAt));
+        } catch (TaskRejectedException e) {
+            lastJob = job(jobId, "FAILED", requestedAt, null, "rejected: " + e.getMessage());
+            jobRunning.set(false);
+        }
+        return getJob();
+    }
+
+    public Map<String, Object> getJob() {
+        return lastJob;
+    }
+
+    private void runJob(long jobId, String requestedAt) {
+        try {
+            sync();
+            lastJob = job(jobId, "DONE", requestedAt, Instant.now().toString(), null);
+        } catch (RuntimeException e) {
+            log.warn("[CATALOG] sync job={} failed. msg={}", jobId, e.getMessage());
+            lastJob = job(jobId, "FAILED", requestedAt, Instant.now().toString(), e.getMessage());
+        } finally {
+            jobRunning.set(false);
+        }
+    }
+
+    private Map<String, Object> job(long jobId, String state, String requestedAt, String finishedAt, String error) {
+        Map<String, Object> job = new LinkedHashMap<>();
+        job.put("jobId", jobId);
+        job.put("state", state);
+        job.put("requestedAt", requestedAt);
+        job.put("finishedAt", finishedAt);
+        job.put("error", error);
+        job.put("lastSync", lastResult);
+        return job;
+    }
+
+    /**
+     * 전체 동기화 (스케줄/수동 실행이 겹치지 않도록 synchronized)
+     */
+    public synchronized Map<String, Object> sync() {
+        long started = System.currentTimeMillis();
+
+        Map<String, CatalogRow> existing = new HashMap<>();
+        jdbcTemplate.query(SELECT_SQL, rs -> {
+            existing.put(rs.getString(1), new CatalogRow(rs.getString(2), rs.getString(3), rs.getInt(4)));
+        });
+
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> reorders = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        Set<String> completed = new HashSet<>();
+        int fetched = 0;
+        int unchanged = 0;
+
+        for (RegionType region : RegionType.values()) {
+            Map<String, EmergencyMedicalItem> items;
+            try {
+                items = fetchRegion(region);
+            } catch (QuotaExceededException e) {
+                log.warn("[CATALOG] quota exceeded at stage1='{}' -> stop this sync. msg={}",
+                        region.getStage1(), e.getMessage());
+                break;
+            } catch (Exception e) {
+                log.warn("[CATALOG] stage1='{}' -> {}", region.getStage1(), e.getMessage());
+                continue;
+            }
+            if (items.isEmpty()) continue;
+            completed.add(region.getStage1());
+
+            int order = 0;
+            for (Map.Entry<String, EmergencyMedicalItem> e : items.entrySet()) {
+                String hpid = e.getKey();
+                order++;
+                if (!seen.add(hpid)) continue; // 다른 시도 목록에도 나온 병원은 먼저 받은 쪽 유지
+                fetched++;
+
+                Object[] row = toRow(hpid, region.getStage1(), order, e.getValue(), now);
+                CatalogRow prev = existing.get(hpid);
+                if (prev == null) {
+                    inserts.add(row);
+                } else if (!Objects.equals(prev.contentHash(), row[HASH_INDEX])) {
+                    updates.add(row);
+                } else if (prev.listOrder() != order) {
+                    reorders.add(new Object[]{order, hpid});
+                } else {
+                    unchanged++;
+                }
+            }
+        }
+
+        List<Object[]> deletes = new ArrayList<>();
+        for (Map.Entry<String, CatalogRow> e : existing.entrySet()) {
+            if (!seen.contains(e.getKey()) && completed.contains(e.getValue().stage1())) {
+                deletes.add(new Object[]{e.getKey()});
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!inserts.isEmpty()) jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+            if (!updates.isEmpty()) jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+            if (!reorders.isEmpty()) jdbcTemplate.batchUpdate(ORDER_SQL, reorders);
+            if (!deletes.isEmpty()) jdbcTemplate.batchUpdate(DELETE_SQL, deletes);
+        });
+
+        int rows = existing.size() + inserts.size() - deletes.size();
+        hospitalCatalogQueryService.markSynced(now.toInstant(), rows > 0);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("syncedAt", now.toInstant().toString());
+        result.put("regions", completed.size() + "/" + RegionType.values().length);
+        result.put("fetched", fetched);
+        result.put("inserted", inserts.size());
+        result.put("updated", updates.size());
+        result.put("reordered", reorders.size());
+        result.put("deleted", deletes.size());
+        result.put("unchanged", unchanged);
+        result.put("rows", rows);
+        result.put("tookMs", System.currentTimeMillis() - started);
+        lastResult = result;
+
+        log.info("[CATALOG] synced regions={}/{}, fetched={}, inserted={}, updated={}, reordered={}, deleted={}, took={}ms",
+                completed.size(), RegionType.values().length, fetched,
+                inserts.size(), updates.size(), reorders.size(), deletes.size(), result.get("tookMs"));
+        return result;
+    }
+
+    @Override
+    public String getStatusName() {
+        return "catalog";
+    }
+
+    // 로컬 병원 목록 마지막 동기화 결과 (추가/변경/삭제 건수)
+    @Override
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        status.put("ready", hospitalCatalogQueryService.isReady());
+        status.put("lastSync", lastResult);
+        status.put("lastJob", lastJob);
+        return status;
+    }
+
+    // 시도 하나의 전체 페이지 (정규화된 hpid -> item, upstream 순서 유지)
+    private Map<String, EmergencyMedicalItem> fetchRegion(RegionType region) {
+        Map<String, EmergencyMedicalItem> items = new LinkedHashMap<>();
+
+        int page = 1;
+        int totalCount = Integer.MAX_VALUE;
+
+        while ((page - 1) * NUM_OF_ROWS < totalCount && page <= MAX_PAGES) {
+            SearchEmergencyMedicalInfoRequestDTO req = new SearchEmergencyMedicalInfoRequestDTO();
+            req.setQ0(region.getFullName());
+            req.setQ1("");
+            req.setPageNo(page);
+            req.setNumOfRows(NUM_OF_ROWS);
+
+            SearchEmergencyMedicalInfoResponse res = searchEmergencyMedicalInfoService.fetchSearchEmergencyMedicalInfo(req);
+            if (res == null || res.getBody() == null
+                    || res.getBody().getItems() == null || res.getBody().getItems().isEmpty()) break;
+
+            totalCount = res.getBody().getTotalCount();
+            for (EmergencyMedicalItem it : res.getBody().getItems()) {
+                if (it.getHpid() == null) continue;
+                items.putIfAbsent(HpidUtil.normalize(it.getHpid()), it);
+            }
+            page++;
+        }
+
+        return items;
+    }
+
+    // INSERT_SQL / UPDATE_SQL 파라미터 순서 (index 11 = LIST_ORDER, 12 = CONTENT_HASH)
+    private static Object[] toRow(String hpid, String stage1, int order, EmergencyMedicalItem it, Timestamp now) {
+        String stage2 = stage2Of(it.getDutyAddr());
+        Object[] row = {
+                stage1,
+                stage2,
+                it.getDutyName(),
+                it.getDutyAddr(),
+                it.getDutyEmcls(),
+                it.getDutyEmclsName(),
+                it.getDutyTel1(),
+                it.getDutyTel3(),
+                it.getPhpid(),
+                it.getWgs84Lat(),
+                it.getWgs84Lon(),
+                order,
+                null,
+                now,
+                hpid
+        };
+        row[HASH_INDEX] = hash(row);
+        return row;
+    }
+
+    // 주소 두 번째 토큰 (예: "서울특별시 강남구 ..." -> "강남구")
+    static String stage2Of(String addr) {
+        if (addr == null) return null;
+        String[] tokens = addr.trim().split("\\s+");
+        return tokens.length < 2 ? null : tokens[1];
+    }
+
+    // 병원 정보 컬럼만 (목록 순서는 ORDER_SQL 로 따로 갱신, 순서만 바뀐 병원까지 전체 UPDATE 하지 않도록)
+    private static String hash(Object[] row) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < LIST_ORDER_INDEX; i++) {
+            sb.append(Objects.toString(row[i], "")).append('\u0001');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record CatalogRow(String stage1, String contentHash, int listOrder) {
+    }
+}
@@ -0,0 +1,221 @@
+package com.app.ev119.service;
+
+import com.app.ev119.domain.dto.response.CheckEmergencyRealtimeItem;
+import com.app.ev119.util.HpidUtil;
+import com.app.ev119.util.HvidateUtil;
+import com.app.ev119.util.SeasonalTrendModel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ✅ 병원별 단기 응급실 병상 예측 (+15/+30/+60분)
+ * - 스냅샷이 갱신될 때 hvidate 가 바뀐 병원만 관측 1건 추가 (병원당 O(1))
+ * - 병원별로 최근 관측 링버퍼 + hvec/hvgc 각각 SeasonalTrendModel
+ * - 관측이 min-observations 건 미만이면 예측하지 않음 (null)
+ */
+@Service
+@Slf4j
+public class HospitalForecastService implements StatusContributor {
+
+    public static final int[] HORIZONS_MINUTES = {15, 30, 60};
+
+    // 시간대 계절성은 한국 시간 기준
+    private static final long KST_OFFSET_MINUTES = 9 * 60;
+    private static final int RING_SIZE = 32;
+
+    @Value("${api.emergency.forecast.enabled:true}")
+    private boolean enabled;
+
+    @Value("${api.emergency.forecast.alpha:0.3}")
+    private double alpha;
+
+    @Value("${api.emergency.forecast.beta:0.1}")
+    private double beta;
+
+    @Value("${api.emergency.forecast.gamma:0.05}")
+    private double gamma;
+
+    @Value("${api.emergency.forecast.trend-damping:0.97}")
+    private double phi;
+
+    // 평활 계수가 기준으로 삼는 관측 간격(분) = 스냅샷 주기
+    @Value("${api.emergency.forecast.step-minutes:1}")
+    private double stepMinutes;
+
+    @Value("${api.emergency.forecast.season-slot-minutes:60}")
+    private int seasonSlotMinutes;
+
+    @Value("${api.emergency.forecast.min-observations:5}")
+    private int minObservations;
+
+    private final Map<String, Tracker> trackers = new ConcurrentHashMap<>();
+    private final AtomicLong observations = new AtomicLong();
+
+    @EventListener
+    public void onSnapshotRefreshed(EmergencyRealtimeSnapshotRefreshedEvent event) {
+        if (!enabled) return;
+
+        Instant fetchedAt = event.getCurrent().getRefreshedAt();
+        for (Map.Entry<String, CheckEmergencyRealtimeItem> e : event.getCurrent().getItems().entrySet()) {
+            observe(e.getKey(), e.getValue(), fetchedAt);
+        }
+    }
+
+    public void observe(String normalizedHpid, CheckEmergencyRealtimeItem item, Instant fetchedAt) {
+        Integer hvec = parse(item.getHvec());
+        Integer hvgc = parse(item.getHvgc());
+        if (hvec == null && hvgc == null) return;
+
+        Instant at = HvidateUtil.toInstant(item.getHvidate());
+        if (at == null) at = fetchedAt == null ? Instant.now() : fetchedAt;
+
+        Tracker tracker = trackers.computeIfAbsent(normalizedHpid, k -> new Tracker(newModel(), newModel()));
+        if (tracker.add(item.getHvidate(), toEpochMinute(at), hvec, hvgc)) {
+            observations.incrementAndGet();
+        }
+    }
+
+    /**
+     * @return HORIZONS_MINUTES 순서의 hvec 예측값, 관측이 부족하면 null
+     */
+    public double[] forecastHvec(String hpid) {
+        Tracker tracker = hpid == null ? null : trackers.get(HpidUtil.normalize(hpid));
+        return tracker == null ? null : tracker.forecast(true, minObservations, toEpochMinute(Instant.now()));
+    }
+
+    public double[] forecastHvgc(String hpid) {
+        Tracker tracker = hpid == null ? null : trackers.get(HpidUtil.normalize(hpid));
+        return tracker == null ? null : tracker.forecast(false, minObservations, toEpochMinute(Instant.now()));
+    }
+
+    /**
+     * 최근 관측(오래된 순) + 예측, 병원 한 곳 상세 조회용
+     */
+    public Map<String, Object> getForecast(String hpid) {
+        String key = HpidUtil.normalize(hpid);
+        Tracker tracker = key == null ? null : trackers.get(key);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("hpid", key);
+        result.put("horizonsMinutes", HORIZONS_MINUTES);
+        if (tracker == null) {
+            result.put("observations", List.of());
+            return result;
+        }
+        long now = toEpochMinute(Instant.now());
+        result.put("observations", tracker.recent());
+        result.put("hvecForecast", tracker.forecast(true, minObservations, now));
+        result.put("hvgcForecast", tracker.forecast(false, minObservations, now));
+        return result;
+    }
+
+    @Override
+    public String getStatusName() {
+        return "forecast";
+    }
+
+    // 예측 모델을 유지 중인 병원 수 / 누적 관측 수
+    @Override
+    public Map<String, Object> getStatus() {
+        int ready = 0;
+        for (Tracker t : trackers.values()) {
+            if (t.hvec.getObservations() >= minObservations) ready++;
+        }
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        status.put("trackedHospitals", trackers.size());
+        status.put("readyHospitals", ready);
+        status.put("observations", observations.get());
+        status.put("minObservations", minObservations);
+        return status;
+    }
+
+    private SeasonalTrendModel newModel() {
+        return new SeasonalTrendModel(alpha, beta, gamma, phi, stepMinutes, seasonSlotMinutes);
+    }
+
+    private static long toEpochMinute(Instant at) {
+        return Math.floorDiv(at.getEpochSecond(), 60L) + KST_OFFSET_MINUTES;
+    }
+
+    private static Integer parse(String s) {
+        if (s == null || s.isBlank()) return null;
+        try {
+            return Integer.parseInt(s.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 병원 하나의 최근 관측(링버퍼, 원시 배열) + 모델 2개
+     */
+    private static class Tracker {
+        private final long[] minutes = new long[RING_SIZE];
+        private final int[] hvecs = new int[RING_SIZE];
+        private final int[] hvgcs = new int[RING_SIZE];
+        private int head;
+        private int size;
+
+        private final SeasonalTrendModel hvec;
+        private final SeasonalTrendModel hvgc;
+        private String lastHvidate;
+
+        private Tracker(SeasonalTrendModel hvec, SeasonalTrendModel hvgc) {
+            this.hvec = hvec;
+            this.hvgc = hvgc;
+        }
+
+        synchronized boolean add(String hvidate, long epochMinute, Integer ec, Integer gc) {
+            if (hvidate != null && Objects.equals(hvidate, lastHvidate)) return false;
+            lastHvidate = hvidate;
+
+            minutes[head] = epochMinute;
+            hvecs[head] = ec == null ? Integer.MIN_VALUE : ec;
+            hvgcs[head] = gc == null ? Integer.MIN_VALUE : gc;
+            head = (head + 1) % RING_SIZE;
+            if (size < RING_SIZE) size++;
+
+            if (ec != null) hvec.observe(epochMinute, ec);
+            if (gc != null) hvgc.observe(epochMinute, gc);
+            return true;
+        }
+
+        // 지금 기준 +h 분 (마지막 관측 이후 지난 시간만큼 더 멀리 예측)
+        synchronized double[] forecast(boolean er, int minObservations, long nowMinute) {
+            SeasonalTrendModel model = er ? hvec : hvgc;
+            if (model.getObservations() < minObservations) return null;
+
+            long elapsed = Math.max(0, nowMinute - model.getLastEpochMinute());
+            double[] result = new double[HORIZONS_MINUTES.length];
+            for (int i = 0; i < HORIZONS_MINUTES.length; i++) {
+                result[i] = Math.round(model.forecast(elapsed + HORIZONS_MINUTES[i]) * 10) / 10.0;
+            }
+            return result;
+        }
+
+        synchronized List<Map<String, Object>> recent() {
+            List<Map<String, Object>> list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                int p = Math.floorMod(head - size + i, RING_SIZE);
+                Map<String, Object> o = new LinkedHashMap<>();
+                o.put("at", Instant.ofEpochSecond((minutes[p] - KST_OFFSET_MINUTES) * 60).toString());
+                o.put("hvec", hvecs[p] == Integer.MIN_VALUE ? null : hvecs[p]);
+                o.put("hvgc", hvgcs[p] == Integer.MIN_VALUE ? null : hvgcs[p]);
+                list.add(o);
+            }
+            return list;
+        }
+    }
+}
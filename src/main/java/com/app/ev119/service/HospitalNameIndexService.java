@@ -0,0 +1,143 @@
+package com.app.ev119.service;
+
+import com.app.ev119.domain.dto.response.HospitalSuggestItem;
+import com.app.ev119.domain.dto.response.HospitalSuggestResponse;
+import com.app.ev119.domain.dto.response.SearchEmergencyLocationInfoItem;
+import com.app.ev119.exception.DataNotReadyException;
+import com.app.ev119.util.HpidUtil;
+import com.app.ev119.util.NameAutocompleteIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ✅ 기관명 자동완성 (노드 메모리)
+ * - 위치 인덱스와 같은 기관 목록으로 접두/초성 인덱스를 만들어 두고, 키 입력마다 DB/upstream 없이 응답
+ * - 교체는 새 인덱스를 다 만든 뒤 참조만 바꿈 (조회 중인 요청은 이전 인덱스를 끝까지 사용)
+ */
+@Service
+@Slf4j
+public class HospitalNameIndexService implements StatusContributor {
+
+    @Value("${api.emergency.suggest.max-limit:20}")
+    private int maxLimit;
+
+    private volatile NameIndex index;
+
+    public boolean isReady() {
+        NameIndex current = index;
+        return current != null && current.autocomplete.size() > 0;
+    }
+
+    /**
+     * 전체 기관 목록으로 인덱스 교체 (hpid 중복 제거, 이름 순으로 정렬해서 점수가 같으면 가나다 순)
+     */
+    public void replace(List<SearchEmergencyLocationInfoItem> facilities) {
+        Map<String, SearchEmergencyLocationInfoItem> unique = new LinkedHashMap<>();
+        for (SearchEmergencyLocationInfoItem it : facilities) {
+            if (it.getHpid() == null || it.getDutyName() == null || it.getDutyName().isBlank()) continue;
+            unique.putIfAbsent(HpidUtil.normalize(it.getHpid()), it);
+        }
+
+        long started = System.nanoTime();
+        List<Map.Entry<String, SearchEmergencyLocationInfoItem>> sorted = new ArrayList<>(unique.entrySet());
+        sorted.sort(Comparator.comparing(e -> e.getValue().getDutyName()));
+
+        int n = sorted.size();
+        String[] hpid = new String[n];
+        String[] name = new String[n];
+        String[] addr = new String[n];
+        double[] lat = new double[n];
+        double[] lon = new double[n];
+        for (int i = 0; i < n; i++) {
+            SearchEmergencyLocationInfoItem it = sorted.get(i).getValue();
+            hpid[i] = sorted.get(i).getKey();
+            name[i] = it.getDutyName().trim();
+            addr[i] = it.getDutyAddr();
+            lat[i] = it.getLatitude();
+            lon[i] = it.getLongitude();
+        }
+
+        NameIndex next = new NameIndex(new NameAutocompleteIndex(name), hpid, name, addr, lat, lon, Instant.now());
+        index = next;
+
+        log.info("[NAME-INDEX] rebuilt hospitals={}, keys={}, took={}us",
+                n, next.autocomplete.keyCount(), (System.nanoTime() - started) / 1000);
+    }
+
+    /**
+     * 접두/초성 일치 상위 limit 개 (예: "서울대", "ㅅㅇㄷ", "서울ㄷ")
+     */
+    public HospitalSuggestResponse suggest(String query, int limit) {
+        NameIndex current = index;
+        if (current == null) {
+            throw new DataNotReadyException("기관명 인덱스 준비 중입니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        int[] found = current.autocomplete.search(query, Math.max(1, Math.min(limit, maxLimit)));
+        List<HospitalSuggestItem> items = new ArrayList<>(found.length);
+        for (int i : found) {
+            HospitalSuggestItem item = new HospitalSuggestItem();
+            item.setHpid(current.hpid[i]);
+            item.setDutyName(current.name[i]);
+            item.setDutyAddr(current.addr[i]);
+            // 좌표 없는 기관은 null
+            if (current.lat[i] != 0.0 || current.lon[i] != 0.0) {
+                item.setLatitude(current.lat[i]);
+                item.setLongitude(current.lon[i]);
+            }
+            items.add(item);
+        }
+
+        HospitalSuggestResponse response = new HospitalSuggestResponse();
+        response.setQuery(query);
+        response.setIndexBuiltAt(current.builtAt.toString());
+        response.setItems(items);
+        return response;
+    }
+
+    @Override
+    public String getStatusName() {
+        return "name-index";
+    }
+
+    // 기관명 자동완성 인덱스 (기관 수 / 키 수)
+    @Override
+    public Map<String, Object> getStatus() {
+        NameIndex current = index;
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("ready", isReady());
+        status.put("hospitals", current == null ? 0 : current.autocomplete.size());
+        status.put("keys", current == null ? 0 : current.autocomplete.keyCount());
+        status.put("builtAt", current == null ? null : current.builtAt.toString());
+        return status;
+    }
+
+    private static class NameIndex {
+        private final NameAutocompleteIndex autocomplete;
+        private final String[] hpid;
+        private final String[] name;
+        private final String[] addr;
+        private final double[] lat;
+        private final double[] lon;
+        private final Instant builtAt;
+
+        NameIndex(NameAutocompleteIndex autocomplete, String[] hpid, String[] name, String[] addr,
+                  double[] lat, double[] lon, Instant builtAt) {
+            this.autocomplete = autocomplete;
+            this.hpid = hpid;
+            this.name = name;
+            this.addr = addr;
+            this.lat = lat;
+            this.lon = lon;
+            this.builtAt = builtAt;
+        }
+    }
+}
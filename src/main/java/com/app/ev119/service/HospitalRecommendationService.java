@@ -0,0 +1,194 @@
+package com.app.ev119.service;
+
+import com.app.ev119.domain.dto.request.SearchEmergencyLocationInfoRequestDTO;
+import com.app.ev119.domain.dto.response.HospitalRecommendationResponse;
+import com.app.ev119.domain.dto.response.RecommendedHospitalItem;
+import com.app.ev119.domain.dto.response.SearchEmergencyLocationInfoItem;
+import com.app.ev119.domain.dto.response.SearchEmergencyLocationInfoResponse;
+import com.app.ev119.domain.type.EquipmentType;
+import com.app.ev119.util.HpidUtil;
+import com.app.ev119.util.HvidateUtil;
+import com.app.ev119.util.TopKSelector;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HospitalRecommendationService {
+
+    private final SearchEmergencyLocationInfoService searchEmergencyLocationInfoService;
+    private final AvailabilityStoreService availabilityStoreService;
+
+    // ✅ 항목별 가중치 (합이 1 이 아니어도 됨, 합으로 나눠서 0~1 점수로 맞춤)
+    @Value("${api.emergency.recommend.weight.distance:0.4}")
+    private double distanceWeight;
+
+    @Value("${api.emergency.recommend.weight.er-beds:0.35}")
+    private double erBedWeight;
+
+    @Value("${api.emergency.recommend.weight.equipment:0.15}")
+    private double equipmentWeight;
+
+    @Value("${api.emergency.recommend.weight.freshness:0.1}")
+    private double freshnessWeight;
+
+    // 거리 점수가 0.5 가 되는 거리(km)
+    @Value("${api.emergency.recommend.distance-half-km:5}")
+    private double distanceHalfKm;
+
+    // 응급실 일반병상이 이 수 이상이면 병상 점수 만점
+    @Value("${api.emergency.recommend.er-bed-cap:5}")
+    private int erBedCap;
+
+    // 입력일시(hvidate)가 이만큼 지나면 최신성 점수 절반
+    @Value("${api.emergency.recommend.freshness-half-life-minutes:30}")
+    private double freshnessHalfLifeMinutes;
+
+    @Value("${api.emergency.recommend.max-candidates:100}")
+    private int maxCandidates;
+
+    private static final int MAX_TOP_K = 50;
+
+    /**
+     * ✅ 주변 응급실 추천
+     * - 가까운 순 후보 candidates 개를 실시간 병상과 병합한 뒤(getSearchEmergencyLocationInfoWithStatus) 점수 계산
+     * - 점수 = 거리 / 응급실 가용병상 / 요청 장비 가용 / 실시간 정보 최신성 가중합
+     * - 크기 topK 힙으로 상위만 골라서 그 항목만 응답 객체로 만듦
+     */
+    public HospitalRecommendationResponse recommend(double lat, double lon, String equipment, int topK, int candidates) {
+        Set<EquipmentType> required = AvailabilityStoreService.parseEquipment(equipment);
+        int k = Math.max(1, Math.min(topK, MAX_TOP_K));
+        int n = Math.max(k, Math.min(candidates, maxCandidates));
+
+        SearchEmergencyLocationInfoRequestDTO req = new SearchEmergencyLocationInfoRequestDTO();
+        req.setWgs84Lat(lat);
+        req.setWgs84Lon(lon);
+        req.setPageNo(1);
+        req.setNumOfRows(n);
+
+        SearchEmergencyLocationInfoResponse merged = searchEmergencyLocationInfoService.getSearchEmergencyLocationInfoWithStatus(req);
+
+        HospitalRecommendationResponse response = new HospitalRecommendationResponse();
+        response.setItems(new ArrayList<>());
+        if (merged == null || merged.getBody() == null || merged.getBody().getItems() == null) {
+            return response;
+        }
+        response.setRealtimeVersion(merged.getRealtimeVersion());
+        response.setRealtimeRefreshedAt(merged.getRealtimeRefreshedAt());
+
+        List<SearchEmergencyLocationInfoItem> items = merged.getBody().getItems();
+        response.setCandidates(items.size());
+        if (items.isEmpty()) return response;
+
+        AvailabilityTable table = availabilityStoreService.getTable();
+        Instant now = Instant.now();
+        double weightSum = distanceWeight + erBedWeight + equipmentWeight + freshnessWeight;
+        if (weightSum <= 0) weightSum = 1;
+
+        // 1) 점수만 계산해서 힙에 (번호, 점수)
+        TopKSelector selector = new TopKSelector(k);
+        for (int i = 0; i < items.size(); i++) {
+            SearchEmergencyLocationInfoItem it = items.get(i);
+            double score = (distanceWeight * distanceScore(it)
+                    + erBedWeight * erBedScore(it)
+                    + equipmentWeight * equipmentScore(it, required, table)
+                    + freshnessWeight * freshnessScore(it, now)) / weightSum;
+            selector.offer(i, score);
+        }
+
+        // 2) 상위 K 개만 응답 항목으로
+        int[] ranked = selector.sortedIndexes();
+        for (int r = 0; r < ranked.length; r++) {
+            response.getItems().add(toItem(r + 1, items.get(ranked[r]), required, table, now, weightSum));
+        }
+
+        log.info("[RECOMMEND] candidates={}, topK={}, equipment={}, realtimeVersion={}",
+                items.size(), ranked.length, required, merged.getRealtimeVersion());
+        return response;
+    }
+
+    private double distanceScore(SearchEmergencyLocationInfoItem it) {
+        double d = Math.max(0, it.getDistance());
+        return distanceHalfKm <= 0 ? 1.0 : 1.0 / (1.0 + d / distanceHalfKm);
+    }
+
+    // 병상 정보가 없거나 0 이하(만실/대기)면 0
+    private double erBedScore(SearchEmergencyLocationInfoItem it) {
+        int beds = parseBeds(it.getHvec());
+        if (beds <= 0) return 0.0;
+        return erBedCap <= 0 ? 1.0 : Math.min(beds, erBedCap) / (double) erBedCap;
+    }
+
+    // 요청 장비 중 가용 비율, 요청 장비가 없으면 만점
+    private double equipmentScore(SearchEmergencyLocationInfoItem it, Set<EquipmentType> required, AvailabilityTable table) {
+        if (required.isEmpty()) return 1.0;
+        Integer row = table.rowOf(HpidUtil.normalize(it.getHpid()));
+        if (row == null) return 0.0;
+
+        int available = 0;
+        for (EquipmentType type : required) {
+            if (table.hasEquipment(row, type)) available++;
+        }
+        return available / (double) required.size();
+    }
+
+    private double freshnessScore(SearchEmergencyLocationInfoItem it, Instant now) {
+        Instant at = HvidateUtil.toInstant(it.getHvidate());
+        if (at == null) return 0.0;
+        double ageMinutes = Math.max(0, Duration.between(at, now).toSeconds() / 60.0);
+        return freshnessHalfLifeMinutes <= 0 ? 1.0 : Math.pow(0.5, ageMinutes / freshnessHalfLifeMinutes);
+    }
+
+    private RecommendedHospitalItem toItem(int rank, SearchEmergencyLocationInfoItem it, Set<EquipmentType> required,
+                                           AvailabilityTable table, Instant now, double weightSum) {
+        RecommendedHospitalItem item = new RecommendedHospitalItem();
+        item.setRank(rank);
+        item.setHpid(it.getHpid());
+        item.setDutyName(it.getDutyName());
+        item.setDutyAddr(it.getDutyAddr());
+        item.setDutyTel1(it.getDutyTel1());
+        item.setLatitude(it.getLatitude());
+        item.setLongitude(it.getLongitude());
+        item.setDistance(it.getDistance());
+        item.setHvec(it.getHvec());
+        item.setHvgc(it.getHvgc());
+        item.setHvidate(it.getHvidate());
+
+        item.setDistanceScore(distanceScore(it));
+        item.setErBedScore(erBedScore(it));
+        item.setEquipmentScore(equipmentScore(it, required, table));
+        item.setFreshnessScore(freshnessScore(it, now));
+        item.setScore((distanceWeight * item.getDistanceScore()
+                + erBedWeight * item.getErBedScore()
+                + equipmentWeight * item.getEquipmentScore()
+                + freshnessWeight * item.getFreshnessScore()) / weightSum);
+
+        List<String> equipment = new ArrayList<>();
+        Integer row = table.rowOf(HpidUtil.normalize(it.getHpid()));
+        if (row != null) {
+            for (EquipmentType type : required) {
+                if (table.hasEquipment(row, type)) equipment.add(type.name());
+            }
+        }
+        item.setEquipment(equipment);
+        return item;
+    }
+
+    private static int parseBeds(String s) {
+        if (s == null || s.isBlank()) return 0;
+        try {
+            return Integer.parseInt(s.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.app.ev119.service;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class HttpPoolStatusService implements StatusContributor {
+
+    private final PoolingHttpClientConnectionManager httpClientConnectionManager;
+
+    @Override
+    public String getStatusName() {
+        return "http-pool";
+    }
+
+    /**
+     * ✅ HTTP 커넥션 풀 포화도
+     * - pending > 0 이면 연결을 기다리는 요청이 있다는 뜻 (풀 부족 또는 upstream 지연)
+     */
+    @Override
+    public Map<String, Object> getStatus() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("total", toMap(httpClientConnectionManager.getTotalStats()));
+
+        Map<String, Object> routes = new LinkedHashMap<>();
+        for (HttpRoute route : httpClientConnectionManager.getRoutes()) {
+            routes.put(route.getTargetHost().toURI(), toMap(httpClientConnectionManager.getStats(route)));
+        }
+        result.put("routes", routes);
+        return result;
+    }
+
+    private Map<String, Object> toMap(PoolStats stats) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("leased", stats.getLeased());
+        map.put("pending", stats.getPending());
+        map.put("available", stats.getAvailable());
+        map.put("max", stats.getMax());
+        map.put("saturation", stats.getMax() == 0 ? 0.0 : (double) stats.getLeased() / stats.getMax());
+        return map;
+    }
+}
@@ -0,0 +1,56 @@
+package com.app.ev119.service;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * ✅ 페이지 firstPage..lastPage 를 동시에 최대 concurrency 개까지 띄우고(슬라이딩 윈도우) 페이지 순서대로 소비
+ * - 소비 순서가 순차 조회와 같으므로 putIfAbsent 병합 결과도 같음
+ * - consumer 가 false 를 돌려주면(빈 페이지/실패) 거기서 중단하고 남은 조회는 취소
+ * - 조회 예외는 await 에서 그대로 전파 (순차 코드와 동일)
+ */
+final class OrderedPageFetcher {
+
+    private OrderedPageFetcher() {
+    }
+
+    @FunctionalInterface
+    interface PageConsumer<T> {
+        boolean accept(int page, T response);
+    }
+
+    /**
+     * @return 마지막 페이지까지 다 소비했으면 true
+     */
+    static <T> boolean fetchInOrder(int firstPage, int lastPage, int concurrency,
+                                    Function<Integer, Callable<T>> loader,
+                                    Function<Callable<T>, Future<T>> submitter,
+                                    Function<Future<T>, T> await,
+                                    PageConsumer<T> consumer) {
+        if (concurrency <= 0) throw new IllegalArgumentException("concurrency must be positive");
+
+        ArrayDeque<Future<T>> window = new ArrayDeque<>();
+        int nextPage = firstPage;
+
+        try {
+            while (nextPage <= lastPage && window.size() < concurrency) {
+                window.add(submitter.apply(loader.apply(nextPage++)));
+            }
+
+            for (int page = firstPage; page <= lastPage; page++) {
+                // 현재 페이지가 끝난 뒤에 다음 페이지를 띄워야 동시 조회 수가 concurrency 를 넘지 않음
+                T response = await.apply(window.poll());
+                if (nextPage <= lastPage) {
+                    window.add(submitter.apply(loader.apply(nextPage++)));
+                }
+
+                if (!consumer.accept(page, response)) return false;
+            }
+            return true;
+        } finally {
+            window.forEach(f -> f.cancel(true));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.app.ev119.service;
+
+import com.app.ev119.domain.dto.response.CheckEmergencyRealtimeItem;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ✅ 시도(STAGE1) 단위로 한 번에 받아온 실시간 가용병상 (노드 로컬)
+ * - STAGE2 없이 전체 페이지를 받아서 hpid 로 보관 (검색 결과 병원은 hpid 로만 매칭)
+ * - 만료 전까지 같은 시도 검색은 upstream 호출 없이 여기서 매칭
+ */
+@Component
+public class ProvinceRealtimeCache implements StatusContributor {
+
+    @Value("${api.emergency.realtime-province.ttl-ms:60000}")
+    private long ttlMs;
+
+    private final Map<String, Province> provinces = new ConcurrentHashMap<>();
+
+    public Province getFresh(String stage1) {
+        Province p = provinces.get(stage1);
+        if (p == null) return null;
+        return p.getFetchedAt().plusMillis(ttlMs).isAfter(Instant.now()) ? p : null;
+    }
+
+    public void put(Province province) {
+        provinces.put(province.getStage1(), province);
+    }
+
+    @Override
+    public String getStatusName() {
+        return "province";
+    }
+
+    // 시도 단위로 받아둔 실시간 데이터 (병원 수)
+    @Override
+    public Map<String, Object> getStatus() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        provinces.forEach((stage1, p) -> {
+            Map<String, Object> status = new LinkedHashMap<>();
+            status.put("fetchedAt", p.getFetchedAt().toString());
+            status.put("fresh", getFresh(stage1) != null);
+            status.put("hospitals", p.getItems().size());
+            result.put(stage1, status);
+        });
+        return result;
+    }
+
+    @Getter
+    public static class Province {
+        private final String stage1;
+        private final Instant fetchedAt;
+        private final Map<String, CheckEmergencyRealtimeItem> items;
+
+        public Province(String stage1, Map<String, CheckEmergencyRealtimeItem> items) {
+            this.stage1 = stage1;
+            this.fetchedAt = Instant.now();
+            this.items = Collections.unmodifiableMap(items);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.app.ev119.service;
+
+import com.app.ev119.config.QuotaProperties;
+import com.app.ev119.config.ServiceKeyProperties;
+import com.app.ev119.domain.type.PublicApiType;
+import com.app.ev119.exception.QuotaExceededException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PublicApiQuotaService implements StatusContributor {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> quotaTokenBucketScript;
+    private final RedisScript<Long> quotaBlockScript;
+    private final QuotaProperties quotaProperties;
+    private final ServiceKeyProperties serviceKeyProperties;
+
+    private static final String BUCKET_PREFIX = "emergency:quota:bucket:";
+    private static final String DAILY_PREFIX = "emergency:quota:daily:";
+    private static final long DAILY_TTL_SECONDS = 60 * 60 * 48;
+    private static final DateTimeFormatter DAY = DateTimeFormatter.BASIC_ISO_DATE;
+
+    /**
+     * ✅ upstream 호출 전 토큰 1개 확보 (클러스터 공용 토큰 버킷 + 일일 예산)
+     * - 토큰/예산이 없으면 429 를 직접 맞기 전에 QuotaExceededException
+     */
+    public void acquire(PublicApiType api) {
+        if (!tryAcquire(api)) {
+            throw new QuotaExceededException("공공 API 호출 한도(" + api.getKey() + ")에 도달했습니다. 잠시 후 다시 시도해 주세요.");
+        }
+    }
+
+    public boolean tryAcquire(PublicApiType api) {
+        if (!quotaProperties.isEnabled()) return true;
+
+        QuotaProperties.Bucket bucket = quotaProperties.bucketOf(api.getKey());
+        try {
+            List<?> result = stringRedisTemplate.execute(
+                    quotaTokenBucketScript,
+                    List.of(bucketKey(api), dailyKey(api)),
+                    String.valueOf(bucket.getCapacity()),
+                    String.valueOf(bucket.getRefillPerSecond()),
+                    String.valueOf(dailyBudget(bucket)),
+                    String.valueOf(DAILY_TTL_SECONDS)
+            );
+            boolean allowed = result != null && !result.isEmpty() && toLong(result.get(0)) == 1L;
+            if (!allowed) {
+                log.warn("[QUOTA] denied api={}, result={}", api.getKey(), result);
+            }
+            return allowed;
+        } catch (DataAccessException e) {
+            // Redis 장애로 공공 API 조회 자체가 막히면 안 되므로 fail-open
+            log.warn("[QUOTA] redis unavailable -> allow api={}. msg={}", api.getKey(), e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * ✅ 남은 양이 적은지 (호출 측이 upstream 대신 캐시/스냅샷을 쓰도록 판단할 때 사용)
+     */
+    public boolean isLow(PublicApiType api) {
+        if (!quotaProperties.isEnabled()) return false;
+
+        QuotaProperties.Bucket bucket = quotaProperties.bucketOf(api.getKey());
+        try {
+            long budget = dailyBudget(bucket);
+            if (budget > 0) {
+                long remaining = budget - dailyUsed(api);
+                if (remaining <= budget * bucket.getLowWatermark()) return true;
+            }
+            List<Object> bucketState = stringRedisTemplate.opsForHash().multiGet(bucketKey(api), List.of("tokens", "blockedUntil"));
+            if (isBlocked(bucketState.get(1))) return true;
+            Object tokens = bucketState.get(0);
+            return tokens != null && Double.parseDouble(tokens.toString()) < 1.0;
+        } catch (DataAccessException | NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * ✅ 실제 429 를 맞으면 버킷을 비우고 blockMillis 동안 막아서 다른 노드/다른 stage 조합도 멈추게 함
+     * - tokens=0, ts=now, blockedUntil=now+blockMillis (Redis 서버 시간), 해제 후에는 해제 시각부터 다시 충전
+     */
+    public void markExhausted(PublicApiType api) {
+        if (!quotaProperties.isEnabled()) return;
+
+        QuotaProperties.Bucket bucket = quotaProperties.bucketOf(api.getKey());
+        try {
+            Long blockedUntil = stringRedisTemplate.execute(
+                    quotaBlockScript,
+                    List.of(bucketKey(api)),
+                    String.valueOf(quotaProperties.getBlockMillis()),
+                    String.valueOf(bucketTtlMillis(bucket))
+            );
+            log.warn("[QUOTA] upstream 429 -> bucket blocked api={}, until={}", api.getKey(), blockedUntil);
+        } catch (DataAccessException e) {
+            log.warn("[QUOTA] markExhausted failed api={}. msg={}", api.getKey(), e.getMessage());
+        }
+    }
+
+    @Override
+    public String getStatusName() {
+        return "quota";
+    }
+
+    @Override
+    public Map<String, Object> getStatus() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (PublicApiType api : PublicApiType.values()) {
+            QuotaProperties.Bucket bucket = quotaProperties.bucketOf(api.getKey());
+            Map<String, Object> status = new LinkedHashMap<>();
+            try {
+                long used = dailyUsed(api);
+                long budget = dailyBudget(bucket);
+                List<Object> bucketState = stringRedisTemplate.opsForHash().multiGet(bucketKey(api), List.of("tokens", "blockedUntil"));
+                Object tokens = bucketState.get(0);
+
+                status.put("dailyBudget", budget);
+                status.put("dailyUsed", used);
+                status.put("dailyRemaining", budget > 0 ? Math.max(0, budget - used) : null);
+                status.put("capacity", bucket.getCapacity());
+                status.put("refillPerSecond", bucket.getRefillPerSecond());
+                status.put("tokens", tokens == null ? bucket.getCapacity() : tokens);
+                status.put("blockedUntil", isBlocked(bucketState.get(1)) ? bucketState.get(1) : null);
+                status.put("low", isLow(api));
+            } catch (DataAccessException e) {
+                status.put("error", "REDIS_UNAVAILABLE");
+            }
+            result.put(api.getKey(), status);
+        }
+        return result;
+    }
+
+    /**
+     * 엔드포인트 일일 예산 = 서비스키별 예산 합, 엔드포인트 설정(dailyBudget > 0)이 있으면 그 값으로 한 번 더 제한
+     * - 0 이면 무제한 (Lua 스크립트에서 0 이하는 검사 안 함)
+     */
+    long dailyBudget(QuotaProperties.Bucket bucket) {
+        long keySum = serviceKeyProperties.dailyBudgetSum();
+        long cap = bucket.getDailyBudget();
+        if (keySum <= 0) return Math.max(0, cap);
+        return cap > 0 ? Math.min(keySum, cap) : keySum;
+    }
+
+    // blockedUntil 은 Redis 서버 시간 기준이라 노드 시계와 약간 어긋날 수 있음 (isLow/상태 표시용으로만 사용)
+    private boolean isBlocked(Object blockedUntil) {
+        return blockedUntil != null && Long.parseLong(blockedUntil.toString()) > System.currentTimeMillis();
+    }
+
+    // quota-token-bucket.lua 의 PEXPIRE 와 같은 값
+    private long bucketTtlMillis(QuotaProperties.Bucket bucket) {
+        return (long) Math.ceil(bucket.getCapacity() / Math.max(bucket.getRefillPerSecond(), 0.001) * 1000) + 60_000L;
+    }
+
+    private long dailyUsed(PublicApiType api) {
+        String used = stringRedisTemplate.opsForValue().get(dailyKey(api));
+        return used == null ? 0L : Long.parseLong(used);
+    }
+
+    private String bucketKey(PublicApiType api) {
+        return BUCKET_PREFIX + api.getKey();
+    }
+
+    private String dailyKey(PublicApiType api) {
+        return DAILY_PREFIX + api.getKey() + ":" + LocalDate.now(ZoneId.of(quotaProperties.getZone())).format(DAY);
+    }
+
+    private long toLong(Object o) {
+        if (o instanceof Number n) return n.longValue();
+        return o == null ? 0L : Long.parseLong(o.toString());
+    }
+}
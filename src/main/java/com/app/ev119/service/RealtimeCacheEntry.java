@@ -0,0 +1,32 @@
+package com.app.ev119.service;
+
+import com.app.ev119.domain.dto.response.CheckEmergencyRealtimeResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * emergency:realtime 캐시에 저장하는 값 (stale-while-revalidate 용)
+ * - softExpireAt 이 지나면 값은 그대로 주고 뒤에서 한 번 갱신
+ * - hardExpireAt 이 지나면 새로 받아올 때까지 기다림 (upstream 실패 시에만 이 값으로 대체)
+ * - loadMillis : 지난번 upstream 호출에 걸린 시간 (조기 갱신 확률 계산용)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RealtimeCacheEntry {
+
+    private CheckEmergencyRealtimeResponse value;
+    private long loadedAt;
+    private long softExpireAt;
+    private long hardExpireAt;
+    private long loadMillis;
+
+    public boolean isFresh(long now) {
+        return now < softExpireAt;
+    }
+
+    public boolean isUsable(long now) {
+        return now < hardExpireAt;
+    }
+}
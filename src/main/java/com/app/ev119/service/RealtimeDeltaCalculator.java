@@ -0,0 +1,62 @@
+package com.app.ev119.service;
+
+import com.app.ev119.domain.dto.response.CheckEmergencyRealtimeItem;
+import com.app.ev119.domain.type.EquipmentType;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * ✅ 연속된 두 스냅샷 사이의 병원별 변경분 계산
+ * - hvidate(입력일시)가 같으면 병원이 값을 다시 입력하지 않은 것이므로 비교 생략
+ * - hvidate 가 바뀐 병원만 hvec/hvgc/장비 가용 여부를 비교해서 바뀐 필드만 담음
+ * - 이전 스냅샷에 없던 병원은 전체 필드
+ */
+final class RealtimeDeltaCalculator {
+
+    private RealtimeDeltaCalculator() {
+    }
+
+    /**
+     * @return 정규화 hpid -> 바뀐 필드 (hvec, hvgc, hvidate, equipment{CT: true ...})
+     */
+    static Map<String, Map<String, Object>> diff(EmergencyRealtimeSnapshot previous, EmergencyRealtimeSnapshot current) {
+        Map<String, Map<String, Object>> deltas = new LinkedHashMap<>();
+
+        for (Map.Entry<String, CheckEmergencyRealtimeItem> e : current.getItems().entrySet()) {
+            CheckEmergencyRealtimeItem now = e.getValue();
+            CheckEmergencyRealtimeItem before = previous.getItems().get(e.getKey());
+
+            if (before != null && Objects.equals(before.getHvidate(), now.getHvidate())) continue;
+
+            Map<String, Object> changes = changes(before, now);
+            if (!changes.isEmpty()) {
+                changes.put("hvidate", now.getHvidate());
+                deltas.put(e.getKey(), changes);
+            }
+        }
+        return deltas;
+    }
+
+    // 구독 직후 초기값용 (이전 값 없이 전체 필드)
+    static Map<String, Object> full(CheckEmergencyRealtimeItem item) {
+        Map<String, Object> changes = changes(null, item);
+        changes.put("hvidate", item.getHvidate());
+        return changes;
+    }
+
+    private static Map<String, Object> changes(CheckEmergencyRealtimeItem before, CheckEmergencyRealtimeItem now) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        if (before == null || !Objects.equals(before.getHvec(), now.getHvec())) changes.put("hvec", now.getHvec());
+        if (before == null || !Objects.equals(before.getHvgc(), now.getHvgc())) changes.put("hvgc", now.getHvgc());
+
+        Map<String, Boolean> equipment = new LinkedHashMap<>();
+        for (EquipmentType type : EquipmentType.values()) {
+            boolean available = type.isAvailable(now);
+            if (before == null || type.isAvailable(before) != available) equipment.put(type.name(), available);
+        }
+        if (!equipment.isEmpty()) changes.put("equipment", equipment);
+        return changes;
+    }
+}
@@ -0,0 +1,152 @@
+package com.app.ev119.service;
+
+import com.app.ev119.domain.dto.response.CheckEmergencyRealtimeItem;
+import com.app.ev119.domain.type.HistoryResolution;
+import com.app.ev119.util.HpidUtil;
+import com.app.ev119.util.HvidateUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ✅ 실시간 가용병상 이력 적재
+ * - record() 는 메모리 큐에 넣기만 함 (가득 차면 버리고 카운트, 요청 스레드는 절대 기다리지 않음)
+ * - 스케줄러가 주기적으로 큐를 비우며 JDBC batchUpdate 로 한 번에 INSERT
+ * - 병원별 마지막 hvidate 와 같으면 기록하지 않음 (병원이 값을 다시 입력했을 때만 1건)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RealtimeHistoryRecorder {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${api.emergency.history.enabled:true}")
+    private boolean enabled;
+
+    @Value("${api.emergency.history.batch-size:500}")
+    private int batchSize;
+
+    private static final int QUEUE_CAPACITY = 50_000;
+
+    static final String INSERT_SQL =
+            "INSERT INTO TBL_REALTIME_CAPACITY_HISTORY "
+                    + "(ID, HPID, RESOLUTION, BUCKET_AT, HVEC, HVGC, HVICC, HVOC, HVNCC, HVEC_MIN, HVEC_MAX, SAMPLE_COUNT) "
+                    + "VALUES (SEQ_REALTIME_CAPACITY_HISTORY.NEXTVAL, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 1)";
+
+    private final BlockingQueue<Object[]> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Map<String, String> lastHvidate = new ConcurrentHashMap<>();
+
+    private final AtomicLong recorded = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    // 전국 스냅샷이 갱신될 때마다 (hvidate 가 바뀐 병원만 실제로 큐에 들어감)
+    @EventListener
+    public void onSnapshotRefreshed(EmergencyRealtimeSnapshotRefreshedEvent event) {
+        Instant fetchedAt = event.getCurrent().getRefreshedAt();
+        for (CheckEmergencyRealtimeItem item : event.getCurrent().getItems().values()) {
+            record(item, fetchedAt);
+        }
+    }
+
+    public void recordAll(List<CheckEmergencyRealtimeItem> items, Instant fetchedAt) {
+        if (items == null) return;
+        for (CheckEmergencyRealtimeItem item : items) {
+            record(item, fetchedAt);
+        }
+    }
+
+    public void record(CheckEmergencyRealtimeItem item, Instant fetchedAt) {
+        if (!enabled || item == null || item.getHpid() == null) return;
+
+        String hpid = HpidUtil.normalize(item.getHpid());
+        String hvidate = item.getHvidate();
+        if (hvidate != null && Objects.equals(lastHvidate.put(hpid, hvidate), hvidate)) return;
+
+        Instant at = HvidateUtil.toInstant(hvidate);
+        if (at == null) at = fetchedAt == null ? Instant.now() : fetchedAt;
+
+        Integer hvec = parse(item.getHvec());
+        Object[] row = {
+                hpid,
+                HistoryResolution.MINUTE_1.name(),
+                Timestamp.from(HistoryResolution.MINUTE_1.floor(at)),
+                hvec == null ? null : hvec.doubleValue(),
+                toDouble(item.getHvgc()),
+                toDouble(item.getHvicc()),
+                toDouble(item.getHvoc()),
+                toDouble(item.getHvncc()),
+                hvec,
+                hvec
+        };
+
+        if (queue.offer(row)) {
+            recorded.incrementAndGet();
+        } else {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * ✅ 큐 비우기 (batch-size 단위 batchUpdate)
+     * - 실패한 배치는 버림 (이력은 통계용이라 재시도로 큐를 막지 않음)
+     */
+    @Scheduled(fixedDelayString = "${api.emergency.history.flush-ms:2000}")
+    public void flush() {
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            try {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                written.addAndGet(batch.size());
+            } catch (DataAccessException e) {
+                failed.addAndGet(batch.size());
+                log.warn("[RT-HISTORY] batch insert failed. rows={}, msg={}", batch.size(), e.getMessage());
+            }
+            batch.clear();
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("queued", queue.size());
+        stats.put("recorded", recorded.get());
+        stats.put("written", written.get());
+        stats.put("dropped", dropped.get());
+        stats.put("failed", failed.get());
+        return stats;
+    }
+
+    private static Integer parse(String s) {
+        if (s == null || s.isBlank()) return null;
+        try {
+            return Integer.parseInt(s.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Double toDouble(String s) {
+        Integer v = parse(s);
+        return v == null ? null : v.doubleValue();
+    }
+}
@@ -0,0 +1,211 @@
+package com.app.ev119.service;
+
+import com.app.ev119.domain.dto.response.CapacityHistoryResponse;
+import com.app.ev119.domain.entity.RealtimeCapacityHistory;
+import com.app.ev119.domain.type.HistoryResolution;
+import com.app.ev119.exception.EmergencyQueryException;
+import com.app.ev119.repository.RealtimeCapacityHistoryRepository;
+import com.app.ev119.util.HpidUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RealtimeHistoryService implements StatusContributor {
+
+    private final RealtimeCapacityHistoryRepository realtimeCapacityHistoryRepository;
+    private final RealtimeHistoryRecorder realtimeHistoryRecorder;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // ✅ 보관 기간: 1분 원본 -> 15분 -> 1시간 -> 삭제
+    @Value("${api.emergency.history.raw-retention-hours:24}")
+    private long rawRetentionHours;
+
+    @Value("${api.emergency.history.quarter-retention-days:7}")
+    private long quarterRetentionDays;
+
+    @Value("${api.emergency.history.hourly-retention-days:365}")
+    private long hourlyRetentionDays;
+
+    private static final Duration MAX_RANGE = Duration.ofDays(92);
+
+    private static final String[] AVG_COLUMNS = {"HVEC", "HVGC", "HVICC", "HVOC", "HVNCC"};
+
+    /**
+     * ✅ 병원별 구간 조회
+     * - resolution 을 안 주면 기간으로 결정 (1일 이하 1분, 7일 이하 15분, 그 이상 1시간)
+     * - 아직 다운샘플링 안 된 세밀한 행은 요청 단위로 메모리에서 묶고, 이미 더 굵게 묶인 행은 그 단위 그대로
+     */
+    public CapacityHistoryResponse getHistory(String hpid, Instant from, Instant to, HistoryResolution resolution) {
+        if (hpid == null || hpid.isBlank()) throw new EmergencyQueryException("hpid 는 필수입니다.");
+        if (!from.isBefore(to)) throw new EmergencyQueryException("from 은 to 보다 이전이어야 합니다.");
+        if (Duration.between(from, to).compareTo(MAX_RANGE) > 0) {
+            throw new EmergencyQueryException("조회 기간은 최대 " + MAX_RANGE.toDays() + "일입니다.");
+        }
+
+        HistoryResolution target = resolution != null ? resolution : autoResolution(Duration.between(from, to));
+        String key = HpidUtil.normalize(hpid);
+
+        List<RealtimeCapacityHistory> rows = realtimeCapacityHistoryRepository
+                .findByHpidAndBucketAtGreaterThanEqualAndBucketAtLessThanOrderByBucketAtAsc(key, Date.from(from), Date.from(to));
+
+        Map<Instant, Accumulator> buckets = new TreeMap<>();
+        for (RealtimeCapacityHistory row : rows) {
+            HistoryResolution unit = row.getResolution().coarser(target);
+            Instant at = unit.floor(row.getBucketAt().toInstant());
+            buckets.computeIfAbsent(at, k -> new Accumulator()).add(row);
+        }
+
+        List<CapacityHistoryResponse.Point> points = new ArrayList<>(buckets.size());
+        buckets.forEach((at, acc) -> points.add(acc.toPoint(at)));
+
+        CapacityHistoryResponse response = new CapacityHistoryResponse();
+        response.setHpid(key);
+        response.setResolution(target.name());
+        response.setFrom(from.toString());
+        response.setTo(to.toString());
+        response.setPoints(points);
+        return response;
+    }
+
+    /**
+     * ✅ 다운샘플링 (15분마다)
+     * - 보관 기간이 지난 행을 다음 단위 구간별 가중 평균(표본 수 기준)으로 INSERT 후 원래 행 DELETE, 한 트랜잭션
+     * - 기준 시각은 다음 단위 경계로 내려서 한 구간이 두 번에 나뉘어 묶이지 않게 함
+     */
+    @Scheduled(
+            initialDelayString = "${api.emergency.history.downsample-initial-delay-ms:60000}",
+            fixedDelayString = "${api.emergency.history.downsample-ms:900000}"
+    )
+    public void downsample() {
+        Instant now = Instant.now();
+        try {
+            rollUp(HistoryResolution.MINUTE_1, HistoryResolution.MINUTE_15, now.minus(Duration.ofHours(rawRetentionHours)));
+            rollUp(HistoryResolution.MINUTE_15, HistoryResolution.HOUR_1, now.minus(Duration.ofDays(quarterRetentionDays)));
+
+            int purged = jdbcTemplate.update(
+                    "DELETE FROM TBL_REALTIME_CAPACITY_HISTORY WHERE RESOLUTION = ? AND BUCKET_AT < ?",
+                    HistoryResolution.HOUR_1.name(), Timestamp.from(now.minus(Duration.ofDays(hourlyRetentionDays))));
+            if (purged > 0) log.info("[RT-HISTORY] purged hourly rows={}", purged);
+        } catch (DataAccessException e) {
+            log.warn("[RT-HISTORY] downsample failed. msg={}", e.getMessage());
+        }
+    }
+
+    @Override
+    public String getStatusName() {
+        return "history";
+    }
+
+    // 이력 적재 큐 / 기록 / 실패 건수
+    @Override
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>(realtimeHistoryRecorder.getStats());
+        status.put("rawRetentionHours", rawRetentionHours);
+        status.put("quarterRetentionDays", quarterRetentionDays);
+        status.put("hourlyRetentionDays", hourlyRetentionDays);
+        return status;
+    }
+
+    private void rollUp(HistoryResolution source, HistoryResolution target, Instant olderThan) {
+        Timestamp cutoff = Timestamp.from(target.floor(olderThan));
+
+        int[] counts = transactionTemplate.execute(status -> {
+            int inserted = jdbcTemplate.update(rollUpSql(target), source.name(), cutoff);
+            int deleted = jdbcTemplate.update(
+                    "DELETE FROM TBL_REALTIME_CAPACITY_HISTORY WHERE RESOLUTION = ? AND BUCKET_AT < ?",
+                    source.name(), cutoff);
+            return new int[]{inserted, deleted};
+        });
+
+        if (counts != null && counts[1] > 0) {
+            log.info("[RT-HISTORY] {} -> {} : {} rows -> {} rows (before {})",
+                    source, target, counts[1], counts[0], cutoff.toInstant());
+        }
+    }
+
+    // Oracle: 구간 시작 = 시 단위 내림 + (분 / 단위) * 단위
+    private static String rollUpSql(HistoryResolution target) {
+        String bucket = "TRUNC(BUCKET_AT, 'HH24') + FLOOR(TO_NUMBER(TO_CHAR(BUCKET_AT, 'MI')) / "
+                + target.getMinutes() + ") * " + target.getMinutes() + " / 1440";
+
+        StringBuilder avg = new StringBuilder();
+        for (String c : AVG_COLUMNS) {
+            avg.append("SUM(").append(c).append(" * SAMPLE_COUNT) / NULLIF(SUM(CASE WHEN ").append(c)
+                    .append(" IS NOT NULL THEN SAMPLE_COUNT END), 0) AS ").append(c).append(", ");
+        }
+
+        return "INSERT INTO TBL_REALTIME_CAPACITY_HISTORY "
+                + "(ID, HPID, RESOLUTION, BUCKET_AT, HVEC, HVGC, HVICC, HVOC, HVNCC, HVEC_MIN, HVEC_MAX, SAMPLE_COUNT) "
+                + "SELECT SEQ_REALTIME_CAPACITY_HISTORY.NEXTVAL, g.HPID, '" + target.name() + "', g.BUCKET_AT, "
+                + "g.HVEC, g.HVGC, g.HVICC, g.HVOC, g.HVNCC, g.HVEC_MIN, g.HVEC_MAX, g.SAMPLE_COUNT FROM ("
+                + "SELECT HPID, " + bucket + " AS BUCKET_AT, " + avg
+                + "MIN(HVEC_MIN) AS HVEC_MIN, MAX(HVEC_MAX) AS HVEC_MAX, SUM(SAMPLE_COUNT) AS SAMPLE_COUNT "
+                + "FROM TBL_REALTIME_CAPACITY_HISTORY WHERE RESOLUTION = ? AND BUCKET_AT < ? "
+                + "GROUP BY HPID, " + bucket + ") g";
+    }
+
+    private static HistoryResolution autoResolution(Duration range) {
+        if (range.compareTo(Duration.ofDays(1)) <= 0) return HistoryResolution.MINUTE_1;
+        if (range.compareTo(Duration.ofDays(7)) <= 0) return HistoryResolution.MINUTE_15;
+        return HistoryResolution.HOUR_1;
+    }
+
+    // 표본 수 가중 평균
+    private static class Accumulator {
+        private final double[] sum = new double[5];
+        private final int[] weight = new int[5];
+        private Integer hvecMin;
+        private Integer hvecMax;
+        private int samples;
+
+        void add(RealtimeCapacityHistory row) {
+            int n = row.getSampleCount() == null ? 1 : row.getSampleCount();
+            Double[] values = {row.getHvec(), row.getHvgc(), row.getHvicc(), row.getHvoc(), row.getHvncc()};
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] == null) continue;
+                sum[i] += values[i] * n;
+                weight[i] += n;
+            }
+            if (row.getHvecMin() != null) hvecMin = hvecMin == null ? row.getHvecMin() : Math.min(hvecMin, row.getHvecMin());
+            if (row.getHvecMax() != null) hvecMax = hvecMax == null ? row.getHvecMax() : Math.max(hvecMax, row.getHvecMax());
+            samples += n;
+        }
+
+        CapacityHistoryResponse.Point toPoint(Instant at) {
+            CapacityHistoryResponse.Point p = new CapacityHistoryResponse.Point();
+            p.setAt(at.toString());
+            p.setHvec(avg(0));
+            p.setHvgc(avg(1));
+            p.setHvicc(avg(2));
+            p.setHvoc(avg(3));
+            p.setHvncc(avg(4));
+            p.setHvecMin(hvecMin);
+            p.setHvecMax(hvecMax);
+            p.setSamples(samples);
+            return p;
+        }
+
+        private Double avg(int i) {
+            return weight[i] == 0 ? null : sum[i] / weight[i];
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.app.ev119.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ✅ 실시간 API 가 받아주는 STAGE1/STAGE2 조합을 학습해서 Redis 에 보관
+ * - hpid -> "stage1||stage2" (조회 성공한 병원)
+ * - 주소 prefix("정규화 stage1||주소 stage2") -> "stage1||stage2" (후보 탐색에서 처음 totalCount > 0 이 나온 후보)
+ * - 매핑은 항목마다 별도 키 + 각자 TTL (다시 학습될 때마다 연장, 안 쓰이는 매핑은 만료)
+ * - 학습된 조합이 0건을 주면 forget() 으로 지우고 다시 후보 탐색
+ * - totalCount = 0 이 나온 후보는 negative 캐시 (TTL 동안 다시 치지 않음)
+ * - Redis 장애 시에는 학습 없이 기존 후보 탐색으로 동작
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RegionMappingService {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${api.emergency.region-mapping.ttl-days:30}")
+    private long mappingTtlDays;
+
+    @Value("${api.emergency.region-mapping.negative-ttl-hours:6}")
+    private long negativeTtlHours;
+
+    private static final String HPID_PREFIX = "emergency:region:hpid:";
+    private static final String ADDR_PREFIX = "emergency:region:addr:";
+    private static final String EMPTY_PREFIX = "emergency:region:empty:";
+
+    public static final String PAIR_DELIMITER = "||";
+
+    public Map<String, String> findByHpids(Collection<String> hpids) {
+        return multiGet(HPID_PREFIX, hpids);
+    }
+
+    public Map<String, String> findByAddresses(Collection<String> addrKeys) {
+        return multiGet(ADDR_PREFIX, addrKeys);
+    }
+
+    public void learnHpids(Map<String, String> hpidToPair) {
+        putAll(HPID_PREFIX, hpidToPair);
+    }
+
+    public void learnAddress(String addrKey, String pair) {
+        putAll(ADDR_PREFIX, Map.of(addrKey, pair));
+    }
+
+    /**
+     * 학습된 조합이 더 이상 맞지 않을 때 (정상 응답인데 0건) 해당 매핑 삭제
+     */
+    public void forget(Collection<String> hpids, Collection<String> addrKeys) {
+        List<String> keys = new ArrayList<>(hpids.size() + addrKeys.size());
+        hpids.forEach(h -> keys.add(HPID_PREFIX + h));
+        addrKeys.forEach(a -> keys.add(ADDR_PREFIX + a));
+        if (keys.isEmpty()) return;
+        try {
+            stringRedisTemplate.delete(keys);
+        } catch (DataAccessException e) {
+            log.debug("[REGION-MAP] forget failed keys={}. msg={}", keys.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 후보 중 negative 캐시에 없는 것만 (순서 유지)
+     */
+    public List<String> filterKnownEmpty(String stage1, List<String> candidates) {
+        if (candidates.isEmpty()) return candidates;
+        try {
+            List<String> keys = candidates.stream().map(c -> emptyKey(stage1, c)).toList();
+            List<String> flags = stringRedisTemplate.opsForValue().multiGet(keys);
+            if (flags == null) return candidates;
+
+            List<String> result = new ArrayList<>(candidates.size());
+            for (int i = 0; i < candidates.size(); i++) {
+                if (flags.get(i) == null) result.add(candidates.get(i));
+            }
+            return result;
+        } catch (DataAccessException e) {
+            log.debug("[REGION-MAP] negative lookup skipped stage1={}. msg={}", stage1, e.getMessage());
+            return candidates;
+        }
+    }
+
+    public void markEmpty(String stage1, String stage2) {
+        try {
+            stringRedisTemplate.opsForValue().set(emptyKey(stage1, stage2), "1", Duration.ofHours(negativeTtlHours));
+        } catch (DataAccessException e) {
+            log.debug("[REGION-MAP] markEmpty failed stage1={}, stage2={}. msg={}", stage1, stage2, e.getMessage());
+        }
+    }
+
+    public static String pair(String stage1, String stage2) {
+        return stage1 + PAIR_DELIMITER + stage2;
+    }
+
+    private Map<String, String> multiGet(String prefix, Collection<String> ids) {
+        Map<String, String> result = new HashMap<>();
+        if (ids.isEmpty()) return result;
+
+        List<String> idList = new ArrayList<>(ids);
+        try {
+            List<String> values = stringRedisTemplate.opsForValue().multiGet(idList.stream().map(id -> prefix + id).toList());
+            if (values == null) return result;
+            for (int i = 0; i < idList.size(); i++) {
+                String v = values.get(i);
+                if (v != null) result.put(idList.get(i), v);
+            }
+        } catch (DataAccessException e) {
+            log.debug("[REGION-MAP] lookup skipped prefix={}. msg={}", prefix, e.getMessage());
+        }
+        return result;
+    }
+
+    // 항목마다 SETEX (한 번의 pipeline 으로)
+    private void putAll(String prefix, Map<String, String> entries) {
+        if (entries.isEmpty()) return;
+        long ttlSeconds = Duration.ofDays(mappingTtlDays).toSeconds();
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                entries.forEach((id, pair) -> conn.setEx(prefix + id, ttlSeconds, pair));
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.debug("[REGION-MAP] learn failed prefix={}. msg={}", prefix, e.getMessage());
+        }
+    }
+
+    private String emptyKey(String stage1, String stage2) {
+        return EMPTY_PREFIX + stage1 + "|" + stage2;
+    }
+}
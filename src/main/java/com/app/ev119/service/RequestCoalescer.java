@@ -0,0 +1,210 @@
+package com.app.ev119.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * ✅ 같은 키로 동시에 들어온 upstream 호출을 한 번으로 합침 (single-flight)
+ * - 노드 안: 먼저 온 호출(leader)만 upstream 을 치고 나머지는 같은 future 결과를 공유
+ * - 노드 간(옵션): Redis 짧은 lease 를 잡은 노드만 호출, 못 잡은 노드는 캐시에 결과가 올라올 때까지 잠깐 대기
+ * - 예외도 그대로 공유 (429 가 났는데 대기자들이 다시 upstream 을 치지 않도록)
+ * - 대기자는 follower-wait-ms 까지만 기다림 (leader 가 멈춰도 요청 스레드가 묶이지 않도록)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RequestCoalescer implements StatusContributor {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${api.emergency.coalescing.redis-lease.enabled:false}")
+    private boolean leaseEnabled;
+
+    @Value("${api.emergency.coalescing.redis-lease.lease-ms:3000}")
+    private long leaseMs;
+
+    @Value("${api.emergency.coalescing.redis-lease.poll-ms:100}")
+    private long pollMs;
+
+    // 응답 타임아웃 + 여유, 넘기면 ResourceAccessException (호출 측의 stale 폴백 대상)
+    @Value("${api.emergency.coalescing.follower-wait-ms:10000}")
+    private long followerWaitMs;
+
+    private static final String LEASE_PREFIX = "emergency:coalesce:lease:";
+
+    // 내 토큰일 때만 삭제 (lease 가 만료돼 다른 노드가 잡은 경우 지우지 않음)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final Map<String, CompletableFuture<Object>> inflight = new ConcurrentHashMap<>();
+
+    private final LongAdder leaders = new LongAdder();
+    private final LongAdder coalescedLocal = new LongAdder();
+    private final LongAdder coalescedRemote = new LongAdder();
+    private final LongAdder remoteWaitTimeouts = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder followerTimeouts = new LongAdder();
+
+    public <T> T execute(String key, Supplier<T> loader) {
+        return execute(key, loader, null);
+    }
+
+    /**
+     * @param remoteResult 다른 노드가 lease 를 잡고 있을 때 결과를 확인할 방법 (보통 L2 캐시 조회). null 이면 노드 간 합치기 생략
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> loader, Supplier<T> remoteResult) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inflight.putIfAbsent(key, future);
+
+        if (existing != null) {
+            coalescedLocal.increment();
+            return (T) await(key, existing);
+        }
+
+        leaders.increment();
+        String token = null;
+        try {
+            T result = null;
+            boolean loaded = false;
+
+            if (leaseEnabled && remoteResult != null) {
+                token = tryLease(key);
+                if (token == null) {
+                    result = awaitRemote(key, remoteResult);
+                    loaded = result != null;
+                }
+            }
+
+            if (!loaded) {
+                result = loader.get();
+            }
+
+            future.complete(result);
+            return result;
+
+        } catch (RuntimeException | Error e) {
+            failures.increment();
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            // 위에서 못 잡은 예외(검사 예외 우회 등)로 빠져나가도 대기자가 남지 않도록
+            if (!future.isDone()) {
+                failures.increment();
+                future.completeExceptionally(new IllegalStateException("coalesced load did not complete. key=" + key));
+            }
+            inflight.remove(key, future);
+            if (token != null) releaseLease(key, token);
+        }
+    }
+
+    // lease 잡으면 토큰, 다른 노드가 잡고 있으면 null (Redis 장애 시에는 그냥 직접 호출하도록 빈 토큰)
+    private String tryLease(String key) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean ok = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(LEASE_PREFIX + key, token, Duration.ofMillis(leaseMs));
+            return Boolean.FALSE.equals(ok) ? null : token;
+        } catch (DataAccessException e) {
+            log.debug("[COALESCE] lease skipped key={}. msg={}", key, e.getMessage());
+            return "";
+        }
+    }
+
+    private <T> T awaitRemote(String key, Supplier<T> remoteResult) {
+        long deadline = System.currentTimeMillis() + leaseMs;
+        try {
+            while (System.currentTimeMillis() < deadline) {
+                T value = remoteResult.get();
+                if (value != null) {
+                    coalescedRemote.increment();
+                    return value;
+                }
+                // lease 가 풀렸는데 결과가 없으면 상대 노드가 실패한 것 -> 직접 호출
+                if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(LEASE_PREFIX + key))) {
+                    return remoteResult.get();
+                }
+                Thread.sleep(pollMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (DataAccessException e) {
+            log.debug("[COALESCE] remote wait aborted key={}. msg={}", key, e.getMessage());
+        }
+        remoteWaitTimeouts.increment();
+        return null;
+    }
+
+    private void releaseLease(String key, String token) {
+        if (token.isEmpty()) return;
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_PREFIX + key), token);
+        } catch (DataAccessException e) {
+            log.debug("[COALESCE] lease release failed key={}. msg={}", key, e.getMessage());
+        }
+    }
+
+    private Object await(String key, CompletableFuture<Object> future) {
+        try {
+            return future.get(followerWaitMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            if (cause instanceof Error err) throw err;
+            throw new IllegalStateException(cause);
+        } catch (TimeoutException e) {
+            followerTimeouts.increment();
+            throw new ResourceAccessException("coalesced call timed out after " + followerWaitMs + "ms. key=" + key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("interrupted while waiting for coalesced call. key=" + key);
+        }
+    }
+
+    @Override
+    public String getStatusName() {
+        return "coalescing";
+    }
+
+    // upstreamSavedRatio : 캐시 미스 중 upstream 호출 없이 다른 호출 결과를 받은 비율
+    @Override
+    public Map<String, Object> getStatus() {
+        long leaderCount = leaders.sum();
+        long local = coalescedLocal.sum();
+        long remote = coalescedRemote.sum();
+        long total = leaderCount + local;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("inflight", inflight.size());
+        stats.put("leaders", leaderCount);
+        stats.put("coalescedLocal", local);
+        stats.put("coalescedRemote", remote);
+        stats.put("remoteWaitTimeouts", remoteWaitTimeouts.sum());
+        stats.put("failures", failures.sum());
+        stats.put("followerTimeouts", followerTimeouts.sum());
+        stats.put("upstreamSavedRatio", total == 0 ? 0.0 : (double) (local + remote) / total);
+        stats.put("redisLeaseEnabled", leaseEnabled);
+        return stats;
+    }
+}
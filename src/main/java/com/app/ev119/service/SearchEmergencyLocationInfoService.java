@@ -6,27 +6,55 @@ import com.app.ev119.domain.dto.response.CheckEmergencyRealtimeItem;
 import com.app.ev119.domain.dto.response.CheckEmergencyRealtimeResponse;
 import com.app.ev119.domain.dto.response.SearchEmergencyLocationInfoItem;
 import com.app.ev119.domain.dto.response.SearchEmergencyLocationInfoResponse;
+import com.app.ev119.domain.type.PublicApiType;
+import com.app.ev119.domain.type.RegionType;
+import com.app.ev119.exception.DataNotReadyException;
 import com.app.ev119.exception.QuotaExceededException;
+import com.app.ev119.util.HpidUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class SearchEmergencyLocationInfoService {
+public class SearchEmergencyLocationInfoService implements StatusContributor {
 
     private final RestTemplate restTemplate;
+    private final PublicApiQuotaService publicApiQuotaService;
+    private final ServiceKeyPool serviceKeyPool;
     private final CheckEmergencyRealtimeService checkEmergencyRealtimeService;
+    private final EmergencyRealtimeSnapshotService emergencyRealtimeSnapshotService;
+    private final RegionMappingService regionMappingService;
+    private final ProvinceRealtimeCache provinceRealtimeCache;
+    private final EmergencyFacilityIndexService emergencyFacilityIndexService;
+    private final GeoCellResponseCache geoCellResponseCache;
+    private final RequestCoalescer requestCoalescer;
+    private final HospitalForecastService hospitalForecastService;
+    private final HospitalNameIndexService hospitalNameIndexService;
 
-    @Value("${api.emergency.service-key}")
-    private String serviceKey;
+    @Qualifier("realtimeFanoutExecutor")
+    private final ThreadPoolTaskExecutor realtimeFanoutExecutor;
+
+    @Qualifier("realtimeFetchExecutor")
+    private final ThreadPoolTaskExecutor realtimeFetchExecutor;
+
+    // 실시간 병합 중 upstream 오류로 실패한 stage 조합/시도 작업 수 (마감 초과는 제외)
+    private final AtomicLong realtimeFailures = new AtomicLong();
 
     @Value("${api.emergency.search-emergency-location-url}")
     private String searchEmergencyLocationUrl;
@@ -34,21 +62,149 @@ public class SearchEmergencyLocationInfoService {
     // ✅ 한 요청에서 실시간 API를 너무 많이 치지 않도록 상한(권장 3~5)
     private static final int REALTIME_STAGEPAIR_LIMIT = 5;
 
+    // ✅ 실시간 페이지 조회: 한 stage 조합당 동시에 띄워두는 페이지 수 / 최대 페이지(안전장치)
+    private static final int REALTIME_PAGE_ROWS = 500;
+    private static final int REALTIME_PAGE_CONCURRENCY = 4;
+    private static final int REALTIME_MAX_PAGES = 30;
+
+    // ✅ 위치 인덱스: 전국 중심 좌표에서 전체 기관을 페이지 단위로 받아옴
+    @Value("${api.emergency.facility-index.enabled:true}")
+    private boolean facilityIndexEnabled;
+
+    private static final double FACILITY_INDEX_SEED_LON = 127.8;
+    private static final double FACILITY_INDEX_SEED_LAT = 36.4;
+    private static final int FACILITY_INDEX_PAGE_ROWS = 1000;
+    private static final int FACILITY_INDEX_MAX_PAGES = 20;
+
+    // ✅ 시도 단위 조회 모드 (같은 시도 안 시군구 조합이 min-pairs 개 이상일 때 시도 전체 1회 조회)
+    @Value("${api.emergency.realtime-province.enabled:false}")
+    private boolean provinceMode;
+
+    @Value("${api.emergency.realtime-province.min-pairs:2}")
+    private int provinceMinPairs;
+
+    // ✅ 주소 정규화용 패턴 (요청마다 다시 컴파일하지 않게)
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PUNCTUATION = Pattern.compile("[,()]");
+    private static final Pattern ADMIN_SUFFIX = Pattern.compile("(특별시|광역시|자치시|시|군|구)$");
+    private static final Pattern DISTRICT_SUFFIX = Pattern.compile("(시|군|구)$");
+    private static final Pattern PAIR_SPLIT = Pattern.compile(Pattern.quote(RegionMappingService.PAIR_DELIMITER));
+
+    // 페이지 크기 상한 (위치 인덱스/격자 캐시가 한 번에 만드는 목록 크기)
+    private static final int MAX_NUM_OF_ROWS = 500;
+
+    // ✅ 실시간 병합 전체 마감 시간. 넘으면 도착한 것만 병합하고 나머지는 base 그대로
+    @Value("${api.emergency.realtime-fanout.deadline-ms:3000}")
+    private long realtimeDeadlineMs;
+
+    /**
+     * ✅ 좌표 기준 주변 응급의료기관
+     * - 위치 인덱스가 준비돼 있으면 로컬에서 계산 (upstream 호출 없음)
+     * - 기동 직후 인덱스가 없을 때만 위치 API 호출 (좌표를 격자로 묶어 캐시, GeoCellResponseCache)
+     */
     public SearchEmergencyLocationInfoResponse getSearchEmergencyLocationInfo(SearchEmergencyLocationInfoRequestDTO req) {
-        String url = UriComponentsBuilder
-                .fromHttpUrl(searchEmergencyLocationUrl)
-                .queryParam("serviceKey", serviceKey)
-                .queryParam("WGS84_LON", req.getWgs84Lon())
-                .queryParam("WGS84_LAT", req.getWgs84Lat())
-                .queryParam("pageNo", req.getPageNo())
-                .queryParam("numOfRows", req.getNumOfRows())
-                .toUriString();
+        int pageNo = clampPageNo(req.getPageNo());
+        int numOfRows = clampNumOfRows(req.getNumOfRows());
+
+        if (facilityIndexEnabled && emergencyFacilityIndexService.isReady()) {
+            return emergencyFacilityIndexService.nearest(req.getWgs84Lat(), req.getWgs84Lon(), pageNo, numOfRows);
+        }
+
+        return geoCellResponseCache.get(req.getWgs84Lat(), req.getWgs84Lon(), pageNo, numOfRows, (cellLat, cellLon) -> {
+            SearchEmergencyLocationInfoRequestDTO cellReq = new SearchEmergencyLocationInfoRequestDTO();
+            cellReq.setWgs84Lat(cellLat);
+            cellReq.setWgs84Lon(cellLon);
+            cellReq.setPageNo(pageNo);
+            cellReq.setNumOfRows(numOfRows);
+            return fetchSearchEmergencyLocationInfo(cellReq);
+        });
+    }
+
+    /**
+     * ✅ 반경(km) 안 응급의료기관 (위치 인덱스 전용)
+     */
+    public SearchEmergencyLocationInfoResponse getSearchEmergencyWithinRadius(SearchEmergencyLocationInfoRequestDTO req, double radiusKm) {
+        if (!emergencyFacilityIndexService.isReady()) {
+            throw new DataNotReadyException("응급의료기관 위치 인덱스 준비 중입니다. 잠시 후 다시 시도해 주세요.");
+        }
+        return emergencyFacilityIndexService.withinRadius(req.getWgs84Lat(), req.getWgs84Lon(), radiusKm,
+                clampPageNo(req.getPageNo()), clampNumOfRows(req.getNumOfRows()));
+    }
+
+    // pageNo >= 1, 1 <= numOfRows <= MAX_NUM_OF_ROWS (0/음수/과대 값으로 빈 목록이나 거대한 목록을 만들지 않도록)
+    static int clampPageNo(Integer pageNo) {
+        return Math.max(1, Objects.requireNonNullElse(pageNo, 1));
+    }
 
-        return restTemplate.getForObject(url, SearchEmergencyLocationInfoResponse.class);
+    static int clampNumOfRows(Integer numOfRows) {
+        return Math.min(MAX_NUM_OF_ROWS, Math.max(1, Objects.requireNonNullElse(numOfRows, 10)));
+    }
+
+    /**
+     * ✅ 위치 인덱스 주기 재구성
+     * - 기관 목록은 거의 바뀌지 않으므로 위치 API 는 여기서만 사용 (전국 중심 좌표 기준 전체 페이지)
+     * - 실패하면 기존 인덱스 유지
+     * - 같은 목록으로 기관명 자동완성 인덱스도 함께 교체
+     */
+    @Scheduled(
+            initialDelayString = "${api.emergency.facility-index.initial-delay-ms:10000}",
+            fixedDelayString = "${api.emergency.facility-index.refresh-ms:21600000}"
+    )
+    public void refreshFacilityIndex() {
+        if (!facilityIndexEnabled) return;
+
+        List<SearchEmergencyLocationInfoItem> all = new ArrayList<>();
+        try {
+            int totalCount = Integer.MAX_VALUE;
+            for (int page = 1; all.size() < totalCount && page <= FACILITY_INDEX_MAX_PAGES; page++) {
+                SearchEmergencyLocationInfoRequestDTO req = new SearchEmergencyLocationInfoRequestDTO();
+                req.setWgs84Lon(FACILITY_INDEX_SEED_LON);
+                req.setWgs84Lat(FACILITY_INDEX_SEED_LAT);
+                req.setPageNo(page);
+                req.setNumOfRows(FACILITY_INDEX_PAGE_ROWS);
+
+                SearchEmergencyLocationInfoResponse res = fetchSearchEmergencyLocationInfo(req);
+                if (res == null || res.getBody() == null || res.getBody().getItems() == null
+                        || res.getBody().getItems().isEmpty()) break;
+
+                totalCount = res.getBody().getTotalCount();
+                all.addAll(res.getBody().getItems());
+            }
+        } catch (Exception e) {
+            log.warn("[FACILITY-INDEX] refresh failed, keep previous index. msg={}", e.getMessage());
+            return;
+        }
+
+        if (all.isEmpty()) {
+            log.info("[FACILITY-INDEX] upstream returned no facilities, keep previous index.");
+            return;
+        }
+        emergencyFacilityIndexService.replace(all);
+        hospitalNameIndexService.replace(all);
+    }
+
+    /**
+     * 위치 API 직접 호출
+     */
+    public SearchEmergencyLocationInfoResponse fetchSearchEmergencyLocationInfo(SearchEmergencyLocationInfoRequestDTO req) {
+        return serviceKeyPool.execute(PublicApiType.LOCATION, serviceKey -> {
+            String url = UriComponentsBuilder
+                    .fromHttpUrl(searchEmergencyLocationUrl)
+                    .queryParam("serviceKey", serviceKey)
+                    .queryParam("WGS84_LON", req.getWgs84Lon())
+                    .queryParam("WGS84_LAT", req.getWgs84Lat())
+                    .queryParam("pageNo", req.getPageNo())
+                    .queryParam("numOfRows", req.getNumOfRows())
+                    .toUriString();
+
+            return restTemplate.getForObject(url, SearchEmergencyLocationInfoResponse.class);
+        });
     }
 
     /**
      * ✅ 목표:
+     * - 전국 스냅샷이 준비돼 있으면 스냅샷에서 hpid 로 바로 조회 (실시간 API 호출 0회)
+     * - 스냅샷 준비 전(기동 직후)에만 stage 조합별 실시간 API 조회
      * - 실시간 포화 API가 429(쿼터초과) 나면 더 때리지 않고 즉시 중단
      * - 그 경우에도 base(주변 병원) 목록은 화면에 보여야 하므로 base 응답 그대로 반환
      */
@@ -62,69 +218,303 @@ public class SearchEmergencyLocationInfoService {
 
         List<SearchEmergencyLocationInfoItem> items = base.getBody().getItems();
 
-        // 1) 주소에서 stage1/stage2 후보 뽑기
-        LinkedHashSet<String> stagePairs = new LinkedHashSet<>();
-        for (SearchEmergencyLocationInfoItem it : items) {
-            Stage st = extractStage1Stage2(it.getDutyAddr());
-            if (st.stage1 != null && st.stage2 != null) {
-                stagePairs.add(st.stage1 + "||" + st.stage2);
-            }
+        EmergencyRealtimeSnapshot snapshot = emergencyRealtimeSnapshotService.getSnapshot();
+        if (snapshot.isReady()) {
+            applySnapshot(base, items, snapshot);
+            return base;
         }
 
-        if (stagePairs.isEmpty()) {
+        // 1) 병원별 조회할 stage 조합 정하기 (학습된 hpid 매핑 -> 학습된 주소 매핑 -> 주소 파싱 후 후보 탐색)
+        StagePlan plan = planStageQueries(items);
+
+        if (plan.queries.isEmpty()) {
             log.info("[MERGE] stagePairs empty.");
             return base;
         }
 
-        Map<String, CheckEmergencyRealtimeItem> rtMap = new HashMap<>();
+        // ✅ 쿼터가 얼마 안 남았으면 요청마다 실시간 API 를 치지 않고 base 만 반환 (스냅샷 갱신 몫으로 남겨둠)
+        if (publicApiQuotaService.isLow(PublicApiType.REALTIME)) {
+            log.info("[MERGE-FALLBACK] realtime quota low -> return base only.");
+            return base;
+        }
 
-        // ✅ 실시간 API 호출: 429 뜨면 즉시 폴백(base 반환)
+        // ✅ 실시간 API 호출: stage 조합별로 병렬 실행 + 전체 마감 시간
+        // - 429 뜨면 나머지 작업 취소하고 즉시 폴백(base 반환)
+        Map<String, CheckEmergencyRealtimeItem> rtMap;
         try {
-            int count = 0;
-            for (String pair : stagePairs) {
-                if (count >= REALTIME_STAGEPAIR_LIMIT) break;
-
-                String[] p = pair.split("\\|\\|");
-                if (p.length < 2) continue;
-
-                String stage1 = normalizeStage1(p[0]);
-                String stage2 = normalizeStage2(p[1]);
-
-                if (stage1 == null || stage2 == null) continue;
-
-                mergeRealtimeWithFallback(stage1, stage2, rtMap);
-                count++;
-            }
+            rtMap = provinceMode ? fetchRealtimeByProvince(plan) : fetchRealtimeConcurrently(plan.queries.values());
         } catch (QuotaExceededException e) {
             log.warn("[MERGE-FALLBACK] realtime quota exceeded -> return base only. msg={}", e.getMessage());
             return base;
         }
 
-        // 3) 병원별 매칭해서 hvec/hvgc 채우기
+        // 3) 병원별 매칭해서 hvec/hvgc 채우기 + 실제로 찾은 조합은 hpid 매핑으로 학습
+        Map<String, String> learned = new HashMap<>();
         for (SearchEmergencyLocationInfoItem it : items) {
             if (it.getHpid() == null) continue;
 
-            String key = normalizeKey(it.getHpid());
+            String key = HpidUtil.normalize(it.getHpid());
             CheckEmergencyRealtimeItem rti = rtMap.get(key);
+            applyRealtime(it, rti);
 
-            if (rti != null) {
-                it.setHvec(rti.getHvec());
-                it.setHvgc(rti.getHvgc());
+            StageQuery q = plan.byHpid.get(key);
+            if (rti != null && q != null && q.resolvedStage2 != null) {
+                learned.put(key, RegionMappingService.pair(q.stage1, q.resolvedStage2));
             }
         }
+        regionMappingService.learnHpids(learned);
 
         long matched = items.stream()
                 .filter(x -> x.getHvec() != null && !x.getHvec().trim().isEmpty())
                 .count();
 
         log.info("[MERGE] totalItems={}, matchedHvec={}", items.size(), matched);
-        log.info("[MERGE] stagePairs.size={}, limited={}", stagePairs.size(), REALTIME_STAGEPAIR_LIMIT);
-        stagePairs.stream().limit(10).forEach(p -> log.info("[MERGE] pair={}", p));
+        log.info("[MERGE] stagePairs.size={}, limited={}", plan.queries.size(), REALTIME_STAGEPAIR_LIMIT);
+        plan.queries.values().stream().limit(10)
+                .forEach(q -> log.info("[MERGE] pair={}||{}, learned={}", q.stage1, q.stage2, q.learned));
         log.info("[MERGE] rtMap.size={}", rtMap.size());
 
         return base;
     }
 
+    private void applySnapshot(SearchEmergencyLocationInfoResponse base,
+                               List<SearchEmergencyLocationInfoItem> items,
+                               EmergencyRealtimeSnapshot snapshot) {
+        int matched = 0;
+        // 응답에 쓴 항목 중 가장 오래된 지역 갱신 시각 (일부 지역이 이전 값이면 그 시각으로 표시)
+        Instant oldest = null;
+        for (SearchEmergencyLocationInfoItem it : items) {
+            CheckEmergencyRealtimeItem rti = snapshot.get(it.getHpid());
+            if (rti != null) {
+                applyRealtime(it, rti);
+                matched++;
+                Instant at = snapshot.refreshedAtOf(it.getHpid());
+                if (at != null && (oldest == null || at.isBefore(oldest))) oldest = at;
+            }
+        }
+
+        base.setRealtimeVersion(snapshot.getVersion());
+        base.setRealtimeRefreshedAt((oldest != null ? oldest : snapshot.getRefreshedAt()).toString());
+
+        log.info("[MERGE-SNAPSHOT] version={}, totalItems={}, matched={}", snapshot.getVersion(), items.size(), matched);
+    }
+
+    private void applyRealtime(SearchEmergencyLocationInfoItem it, CheckEmergencyRealtimeItem rti) {
+        if (rti == null) return;
+        it.setHvec(rti.getHvec());
+        it.setHvgc(rti.getHvgc());
+        it.setHvidate(rti.getHvidate());
+
+        // ✅ 도착 시점 병상 예측 (+15/+30/+60분)
+        double[] forecast = hospitalForecastService.forecastHvec(it.getHpid());
+        if (forecast != null) {
+            it.setHvecForecast15(forecast[0]);
+            it.setHvecForecast30(forecast[1]);
+            it.setHvecForecast60(forecast[2]);
+        }
+    }
+
+    /**
+     * ✅ 병원별로 어떤 stage 조합을 조회할지 결정
+     * - hpid 로 학습된 조합이 있으면 그대로 (후보 탐색 없음)
+     * - 없으면 주소에서 stage1/stage2 를 뽑고, 그 주소로 학습된 조합이 있으면 그대로
+     * - 둘 다 없을 때만 후보 탐색 대상
+     */
+    private StagePlan planStageQueries(List<SearchEmergencyLocationInfoItem> items) {
+        LinkedHashMap<String, Stage> addrByHpid = new LinkedHashMap<>();
+        Set<String> addrKeys = new LinkedHashSet<>();
+
+        for (SearchEmergencyLocationInfoItem it : items) {
+            if (it.getHpid() == null) continue;
+            String hpid = HpidUtil.normalize(it.getHpid());
+
+            Stage st = extractStage1Stage2(it.getDutyAddr());
+            String stage1 = normalizeStage1(st.stage1);
+            String stage2 = normalizeStage2(st.stage2);
+
+            Stage parsed = stage1 != null && stage2 != null ? new Stage(stage1, stage2) : null;
+            addrByHpid.put(hpid, parsed);
+            if (parsed != null) addrKeys.add(RegionMappingService.pair(stage1, stage2));
+        }
+
+        Map<String, String> byHpid = regionMappingService.findByHpids(addrByHpid.keySet());
+        Map<String, String> byAddr = regionMappingService.findByAddresses(addrKeys);
+
+        StagePlan plan = new StagePlan();
+        addrByHpid.forEach((hpid, parsed) -> {
+            String known = byHpid.get(hpid);
+            if (known == null && parsed != null) {
+                known = byAddr.get(RegionMappingService.pair(parsed.stage1, parsed.stage2));
+            }
+
+            StageQuery q;
+            if (known != null) {
+                String[] p = PAIR_SPLIT.split(known, 2);
+                if (p.length < 2) return;
+                q = plan.queries.computeIfAbsent(known, k -> new StageQuery(p[0], p[1], true));
+            } else if (parsed != null) {
+                q = plan.queries.computeIfAbsent(RegionMappingService.pair(parsed.stage1, parsed.stage2),
+                        k -> new StageQuery(parsed.stage1, parsed.stage2, false));
+            } else {
+                return;
+            }
+            q.hpids.add(hpid);
+            if (parsed != null) q.addrStage2.put(RegionMappingService.pair(parsed.stage1, parsed.stage2), parsed.stage2);
+            plan.byHpid.put(hpid, q);
+        });
+
+        log.info("[MERGE-PLAN] hospitals={}, learnedByHpid={}, learnedByAddr={}, queries={}",
+                addrByHpid.size(), byHpid.size(), byAddr.size(), plan.queries.size());
+        return plan;
+    }
+
+    private Map<String, CheckEmergencyRealtimeItem> fetchRealtimeConcurrently(Collection<StageQuery> queries) {
+        List<FanoutTask> tasks = new ArrayList<>();
+        for (StageQuery query : queries) {
+            if (tasks.size() >= REALTIME_STAGEPAIR_LIMIT) break;
+            tasks.add((shared, fanout) -> mergeRealtimeWithFallback(query, shared, fanout));
+        }
+        return runFanout(tasks, new HashMap<>());
+    }
+
+    /**
+     * ✅ 시도 단위 모드 (api.emergency.realtime-province.enabled)
+     * - 이미 받아둔 시도(만료 전)는 upstream 호출 없이 바로 매칭
+     * - 같은 시도 안에서 시군구 조합이 min-pairs 개 이상이면 STAGE2 없이 시도 전체를 한 번에 받음
+     *   (시도 전체 응급실 수가 한 페이지(500건) 안이라 보통 호출 1번으로 시군구 N번 조회를 대체)
+     * - 나머지(조합이 적은 시도)는 기존처럼 시군구 조합별 조회
+     */
+    private Map<String, CheckEmergencyRealtimeItem> fetchRealtimeByProvince(StagePlan plan) {
+        Map<String, List<StageQuery>> byStage1 = new LinkedHashMap<>();
+        for (StageQuery q : plan.queries.values()) {
+            byStage1.computeIfAbsent(q.stage1, k -> new ArrayList<>()).add(q);
+        }
+
+        Map<String, CheckEmergencyRealtimeItem> ready = new HashMap<>();
+        List<FanoutTask> tasks = new ArrayList<>();
+        int districtQueries = 0;
+
+        for (Map.Entry<String, List<StageQuery>> e : byStage1.entrySet()) {
+            String stage1 = e.getKey();
+
+            ProvinceRealtimeCache.Province cached = provinceRealtimeCache.getFresh(stage1);
+            if (cached != null) {
+                ready.putAll(cached.getItems());
+                continue;
+            }
+
+            if (e.getValue().size() >= provinceMinPairs) {
+                tasks.add((shared, fanout) -> {
+                    ProvinceRealtimeCache.Province province = loadProvince(stage1, fanout);
+                    if (province != null) shared.putAll(province.getItems());
+                });
+                continue;
+            }
+
+            for (StageQuery q : e.getValue()) {
+                if (districtQueries >= REALTIME_STAGEPAIR_LIMIT) break;
+                tasks.add((shared, fanout) -> mergeRealtimeWithFallback(q, shared, fanout));
+                districtQueries++;
+            }
+        }
+
+        log.info("[MERGE-PROVINCE] provinces={}, cachedHospitals={}, tasks={}", byStage1.keySet(), ready.size(), tasks.size());
+        return tasks.isEmpty() ? ready : runFanout(tasks, ready);
+    }
+
+    private ProvinceRealtimeCache.Province loadProvince(String stage1, Fanout fanout) {
+        return requestCoalescer.execute("emergency:realtime-province:" + stage1, () -> {
+            ProvinceRealtimeCache.Province cached = provinceRealtimeCache.getFresh(stage1);
+            if (cached != null) return cached;
+
+            CheckEmergencyRealtimeResponse first = fetchRealtimeFirstPage(stage1, "", 1, REALTIME_PAGE_ROWS);
+            if (safeTotalCount(first) <= 0) return null;
+
+            Map<String, CheckEmergencyRealtimeItem> items = new HashMap<>();
+            boolean complete = mergeRealtimeAllPages(stage1, "", first, items, fanout);
+
+            ProvinceRealtimeCache.Province province = new ProvinceRealtimeCache.Province(stage1, items);
+            // 마감 시간에 걸려 일부 페이지만 받은 결과는 이번 요청에만 쓰고 보관하지 않음
+            if (complete) provinceRealtimeCache.put(province);
+
+            log.info("[RT-PROVINCE] stage1='{}', hospitals={}, complete={}", stage1, items.size(), complete);
+            return province;
+        });
+    }
+
+    /**
+     * stage 조합/시도 단위 작업 하나 (공유 결과 맵에 병합)
+     */
+    @FunctionalInterface
+    private interface FanoutTask {
+        void run(Map<String, CheckEmergencyRealtimeItem> shared, Fanout fanout);
+    }
+
+    private Map<String, CheckEmergencyRealtimeItem> runFanout(List<FanoutTask> tasks, Map<String, CheckEmergencyRealtimeItem> initial) {
+        Fanout fanout = new Fanout(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(realtimeDeadlineMs));
+        Map<String, CheckEmergencyRealtimeItem> shared = new ConcurrentHashMap<>(initial);
+
+        ExecutorCompletionService<Void> ecs = new ExecutorCompletionService<>(realtimeFanoutExecutor);
+        List<Future<Void>> futures = new ArrayList<>();
+
+        for (FanoutTask task : tasks) {
+            futures.add(ecs.submit(() -> {
+                task.run(shared, fanout);
+                return null;
+            }));
+        }
+
+        try {
+            for (int pending = futures.size(); pending > 0; pending--) {
+                long remaining = fanout.remainingNanos();
+                Future<Void> done = remaining > 0 ? ecs.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                if (done == null) {
+                    log.warn("[MERGE-DEADLINE] {}ms passed, pending={} -> merge arrived only", realtimeDeadlineMs, pending);
+                    break;
+                }
+                try {
+                    done.get();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof QuotaExceededException q) throw q;
+                    log.warn("[MERGE] stage pair failed (total={}) -> {}",
+                            realtimeFailures.incrementAndGet(), String.valueOf(e.getCause()));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            fanout.cancel();
+            futures.forEach(f -> f.cancel(true));
+        }
+
+        // 마감 이후 늦게 도착하는 쓰기와 분리
+        return new HashMap<>(shared);
+    }
+
+    /**
+     * 한 요청의 실시간 병합 작업들이 공유하는 마감 시간/취소 플래그
+     */
+    private static class Fanout {
+        private final long deadlineNanos;
+        private final AtomicBoolean cancelled = new AtomicBoolean(false);
+
+        Fanout(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        long remainingNanos() {
+            return deadlineNanos - System.nanoTime();
+        }
+
+        boolean isStopped() {
+            return cancelled.get() || remainingNanos() <= 0;
+        }
+
+        void cancel() {
+            cancelled.set(true);
+        }
+    }
+
     private static class Stage {
         String stage1;
         String stage2;
@@ -135,30 +525,39 @@ public class SearchEmergencyLocationInfoService {
         }
     }
 
+    /**
+     * 한 요청에서 조회할 stage 조합들 + 병원(hpid)별로 어느 조합에 속하는지
+     */
+    private static class StagePlan {
+        final LinkedHashMap<String, StageQuery> queries = new LinkedHashMap<>();
+        final Map<String, StageQuery> byHpid = new HashMap<>();
+    }
+
+    private static class StageQuery {
+        final String stage1;
+        final String stage2;
+        // true 면 이미 API 가 받아준 조합 -> 후보 탐색 없이 그대로 조회
+        final boolean learned;
+        // 실제로 totalCount > 0 이 나온 stage2 (작업 스레드에서 기록)
+        volatile String resolvedStage2;
+        // 이 조합으로 묶인 병원 / 주소 키("stage1||주소 stage2") -> 주소 stage2 (계획 단계에서만 채움)
+        final Set<String> hpids = new LinkedHashSet<>();
+        final Map<String, String> addrStage2 = new LinkedHashMap<>();
+
+        StageQuery(String stage1, String stage2, boolean learned) {
+            this.stage1 = stage1;
+            this.stage2 = stage2;
+            this.learned = learned;
+        }
+    }
+
     private String normalizeStage1(String stage1) {
         if (stage1 == null) return null;
         String s = stage1.trim();
         if (s.isEmpty()) return null;
 
-        if (s.equals("서울특별시")) return "서울";
-        if (s.equals("부산광역시")) return "부산";
-        if (s.equals("대구광역시")) return "대구";
-        if (s.equals("인천광역시")) return "인천";
-        if (s.equals("광주광역시")) return "광주";
-        if (s.equals("대전광역시")) return "대전";
-        if (s.equals("울산광역시")) return "울산";
-        if (s.equals("세종특별자치시")) return "세종";
-        if (s.equals("제주특별자치도")) return "제주";
-        if (s.equals("경기도")) return "경기";
-        if (s.equals("강원특별자치도") || s.equals("강원도")) return "강원";
-        if (s.equals("충청북도")) return "충북";
-        if (s.equals("충청남도")) return "충남";
-        if (s.equals("전라북도")) return "전북";
-        if (s.equals("전라남도")) return "전남";
-        if (s.equals("경상북도")) return "경북";
-        if (s.equals("경상남도")) return "경남";
-
-        return s;
+        RegionType region = RegionType.fromName(s);
+        return region != null ? region.getStage1() : s;
     }
 
     private String normalizeStage2(String stage2) {
@@ -166,25 +565,18 @@ public class SearchEmergencyLocationInfoService {
         String s = stage2.trim();
         if (s.isEmpty()) return null;
 
-        s = s.replaceAll("[,()]", "").trim();
-        s = s.replaceAll("\\s+", " ").trim();
+        s = PUNCTUATION.matcher(s).replaceAll("").trim();
+        s = WHITESPACE.matcher(s).replaceAll(" ").trim();
 
         return s.isEmpty() ? null : s;
     }
 
-    private String normalizeKey(String s) {
-        if (s == null) return null;
-        return s.replace('\u00A0', ' ')
-                .replaceAll("\\s+", "")
-                .trim();
-    }
-
     private Stage extractStage1Stage2(String dutyAddr) {
         if (dutyAddr == null) return new Stage(null, null);
         String a = dutyAddr.trim();
         if (a.isEmpty()) return new Stage(null, null);
 
-        String[] parts = a.split("\\s+");
+        String[] parts = WHITESPACE.split(a);
         if (parts.length < 2) return new Stage(null, null);
 
         String stage1 = parts[0].trim();
@@ -202,55 +594,138 @@ public class SearchEmergencyLocationInfoService {
         return new Stage(stage1, stage2);
     }
 
-    private void mergeRealtimeWithFallback(String stage1, String stage2, Map<String, CheckEmergencyRealtimeItem> rtMap) {
-        List<String> candidates = buildStage2Candidates(stage2);
+    private void mergeRealtimeWithFallback(StageQuery query, Map<String, CheckEmergencyRealtimeItem> rtMap, Fanout fanout) {
+        String stage1 = query.stage1;
+        String stage2 = query.stage2;
+
+        if (!query.learned) {
+            // ✅ 후보 중 최근에 0건이었던 것(negative 캐시)은 빼고 탐색
+            List<String> candidates = regionMappingService.filterKnownEmpty(stage1, buildStage2Candidates(stage2));
+            if (probeCandidates(query, candidates, rtMap, fanout) == ProbeResult.EMPTY) {
+                log.info("[RT-FAIL] stage1='{}', stage2(original)='{}' -> all candidates empty", stage1, stage2);
+            }
+            return;
+        }
+
+        // ✅ 학습된 조합은 그 조합 하나만
+        if (probeCandidates(query, List.of(stage2), rtMap, fanout) != ProbeResult.EMPTY) return;
+
+        // 학습된 조합이 정상 응답인데 0건 -> 매핑이 낡음 (행정구역 변경 등): 지우고 주소 기준으로 다시 탐색
+        log.info("[RT-STALE] stage1='{}', learned stage2='{}' -> empty, forget {} hpid(s) and re-probe",
+                stage1, stage2, query.hpids.size());
+        regionMappingService.forget(query.hpids, query.addrStage2.keySet());
+
+        LinkedHashSet<String> retry = new LinkedHashSet<>();
+        for (String addrStage2 : query.addrStage2.values()) {
+            retry.addAll(buildStage2Candidates(addrStage2));
+        }
+        retry.remove(stage2);
+        List<String> candidates = regionMappingService.filterKnownEmpty(stage1, new ArrayList<>(retry));
+        if (probeCandidates(query, candidates, rtMap, fanout) == ProbeResult.EMPTY) {
+            log.info("[RT-FAIL] stage1='{}', stage2(learned)='{}' -> all candidates empty", stage1, stage2);
+        }
+    }
+
+    private enum ProbeResult { FOUND, EMPTY, STOPPED }
+
+    /**
+     * ✅ 후보는 우선순위 순서대로 하나씩 조회 (순차 코드와 같은 호출 수, 찾으면 나머지 후보는 보내지 않음)
+     * - 조회 자체는 fetch 풀에서 돌려서 마감 시간이 지나면 기다리지 않고 취소
+     * - 찾으면 주소 키 -> 조합 학습, 정상 응답인데 0건인 후보만 negative 캐시
+     */
+    private ProbeResult probeCandidates(StageQuery query, List<String> candidates,
+                                        Map<String, CheckEmergencyRealtimeItem> rtMap, Fanout fanout) {
+        String stage1 = query.stage1;
+        ProbeResult result = ProbeResult.EMPTY;
 
         for (String cand : candidates) {
+            if (fanout.isStopped()) {
+                log.info("[RT-STOP] stage1='{}', stage2='{}' -> cancelled or deadline passed", stage1, cand);
+                return ProbeResult.STOPPED;
+            }
+
+            Future<CheckEmergencyRealtimeResponse> probe =
+                    realtimeFetchExecutor.submit(() -> fetchRealtimeFirstPage(stage1, cand, 1, REALTIME_PAGE_ROWS));
             try {
-                CheckEmergencyRealtimeResponse first = fetchRealtimeFirstPage(stage1, cand, 1, 500);
+                CheckEmergencyRealtimeResponse first = awaitFetch(probe, fanout);
                 int totalCount = safeTotalCount(first);
 
                 log.info("[RT-TRY] stage1='{}', stage2='{}', totalCount={}", stage1, cand, totalCount);
 
                 if (totalCount > 0) {
-                    mergeRealtimeAllPages(stage1, cand, rtMap);
-                    return;
+                    query.resolvedStage2 = cand;
+                    if (!query.learned || !cand.equals(query.stage2)) {
+                        String pair = RegionMappingService.pair(stage1, cand);
+                        query.addrStage2.keySet().forEach(addrKey -> regionMappingService.learnAddress(addrKey, pair));
+                    }
+                    mergeRealtimeAllPages(stage1, cand, first, rtMap, fanout);
+                    return ProbeResult.FOUND;
+                }
+
+                if (first != null && first.getBody() != null) {
+                    regionMappingService.markEmpty(stage1, cand);
+                } else {
+                    // 마감/취소로 응답을 못 받은 후보는 0건으로 보지 않음
+                    result = ProbeResult.STOPPED;
                 }
             } catch (QuotaExceededException e) {
                 // ✅ 429면 후보(stage2) 바꿔가며 재시도 금지. 즉시 상위로 전파해서 base 반환하게 만들기
                 log.warn("[RT-EX] quota exceeded while trying stage1='{}', stage2='{}' -> stop all realtime", stage1, cand);
+                fanout.cancel();
                 throw e;
+            } finally {
+                probe.cancel(true);
             }
         }
+        return result;
+    }
 
-        log.info("[RT-FAIL] stage1='{}', stage2(original)='{}' -> all candidates empty", stage1, stage2);
+    /**
+     * 마감 시간까지만 기다림 (마감/취소는 null)
+     * - 조회 중 예외는 순차 코드처럼 그대로 전파 (runFanout 에서 실패로 집계/로그)
+     */
+    private CheckEmergencyRealtimeResponse awaitFetch(Future<CheckEmergencyRealtimeResponse> fetch, Fanout fanout) {
+        try {
+            long remaining = fanout.remainingNanos();
+            if (remaining <= 0) return null;
+            return fetch.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            if (e.getCause() instanceof Error err) throw err;
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException | CancellationException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
     }
 
     private List<String> buildStage2Candidates(String stage2) {
         LinkedHashSet<String> set = new LinkedHashSet<>();
         if (stage2 == null) return new ArrayList<>();
 
-        String s = stage2.trim().replaceAll("\\s+", " ");
+        String s = WHITESPACE.matcher(stage2.trim()).replaceAll(" ");
         if (s.isEmpty()) return new ArrayList<>();
 
         set.add(s);
 
         if (s.contains(" ")) {
-            set.add(s.split("\\s+")[0]);
+            set.add(WHITESPACE.split(s)[0]);
         }
 
-        String stripped = s.replaceAll("(특별시|광역시|자치시|시|군|구)$", "").trim();
+        String stripped = ADMIN_SUFFIX.matcher(s).replaceAll("").trim();
         if (!stripped.isEmpty() && !stripped.equals(s)) {
             set.add(stripped);
         }
 
         if (s.contains(" ")) {
-            String[] arr = s.split("\\s+");
+            String[] arr = WHITESPACE.split(s);
             if (arr.length >= 2) set.add(arr[arr.length - 1]);
         }
 
         List<String> more = set.stream()
-                .map(x -> x.replaceAll("(시|군|구)$", "").trim())
+                .map(x -> DISTRICT_SUFFIX.matcher(x).replaceAll("").trim())
                 .filter(x -> !x.isEmpty())
                 .collect(Collectors.toList());
         set.addAll(more);
@@ -258,40 +733,55 @@ public class SearchEmergencyLocationInfoService {
         return new ArrayList<>(set);
     }
 
-    private void mergeRealtimeAllPages(String stage1, String stage2, Map<String, CheckEmergencyRealtimeItem> rtMap) {
-        int page = 1;
-        int numOfRows = 500;
-        int totalCount = Integer.MAX_VALUE;
-
-        while ((page - 1) * numOfRows < totalCount) {
-            CheckEmergencyRealtimeRequestDTO rtReq = new CheckEmergencyRealtimeRequestDTO();
-            rtReq.setStage1(stage1);
-            rtReq.setStage2(stage2);
-            rtReq.setPageNo(page);
-            rtReq.setNumOfRows(numOfRows);
+    /**
+     * ✅ 첫 페이지의 totalCount 로 마지막 페이지를 정하고 2..N 페이지를 병렬 조회
+     * - 동시에 REALTIME_PAGE_CONCURRENCY 개까지만 띄우고(슬라이딩 윈도우) 페이지 순서대로 병합
+     * - 순서대로 putIfAbsent 하므로 순차 조회와 결과 동일 (빈 페이지/실패 페이지에서 중단하는 것도 동일)
+     * - 마지막 페이지까지 다 병합했으면 true
+     */
+    private boolean mergeRealtimeAllPages(String stage1, String stage2, CheckEmergencyRealtimeResponse first,
+                                          Map<String, CheckEmergencyRealtimeItem> rtMap, Fanout fanout) {
+        if (!mergeRealtimePage(stage1, stage2, 1, first, rtMap)) return false;
+
+        int totalCount = first.getBody().getTotalCount();
+        int lastPage = Math.min(REALTIME_MAX_PAGES, (totalCount + REALTIME_PAGE_ROWS - 1) / REALTIME_PAGE_ROWS);
+        if (lastPage <= 1) return true;
+
+        return OrderedPageFetcher.<CheckEmergencyRealtimeResponse>fetchInOrder(2, lastPage, REALTIME_PAGE_CONCURRENCY,
+                page -> () -> loadRealtimePage(stage1, stage2, page),
+                realtimeFetchExecutor::submit,
+                f -> awaitFetch(f, fanout),
+                (page, rt) -> mergeRealtimePage(stage1, stage2, page, rt, rtMap));
+    }
 
-            CheckEmergencyRealtimeResponse rt = checkEmergencyRealtimeService.getCheckEmergencyRealtimeResponse(rtReq);
+    private CheckEmergencyRealtimeResponse loadRealtimePage(String stage1, String stage2, int page) {
+        CheckEmergencyRealtimeRequestDTO rtReq = new CheckEmergencyRealtimeRequestDTO();
+        rtReq.setStage1(stage1);
+        rtReq.setStage2(stage2);
+        rtReq.setPageNo(page);
+        rtReq.setNumOfRows(REALTIME_PAGE_ROWS);
 
-            if (rt == null || rt.getBody() == null || rt.getBody().getItems() == null) {
-                log.info("[RT] stage1='{}', stage2='{}' page={} -> response null/body/items null", stage1, stage2, page);
-                break;
-            }
+        return checkEmergencyRealtimeService.getCheckEmergencyRealtimeResponse(rtReq);
+    }
 
-            totalCount = rt.getBody().getTotalCount();
-            List<CheckEmergencyRealtimeItem> list = rt.getBody().getItems();
-            if (list.isEmpty()) {
-                log.info("[RT] stage1='{}', stage2='{}' page={} -> items empty", stage1, stage2, page);
-                break;
-            }
+    private boolean mergeRealtimePage(String stage1, String stage2, int page, CheckEmergencyRealtimeResponse rt,
+                                      Map<String, CheckEmergencyRealtimeItem> rtMap) {
+        if (rt == null || rt.getBody() == null || rt.getBody().getItems() == null) {
+            log.info("[RT] stage1='{}', stage2='{}' page={} -> response null/body/items null", stage1, stage2, page);
+            return false;
+        }
 
-            for (CheckEmergencyRealtimeItem rti : list) {
-                if (rti.getHpid() == null) continue;
-                rtMap.putIfAbsent(normalizeKey(rti.getHpid()), rti);
-            }
+        List<CheckEmergencyRealtimeItem> list = rt.getBody().getItems();
+        if (list.isEmpty()) {
+            log.info("[RT] stage1='{}', stage2='{}' page={} -> items empty", stage1, stage2, page);
+            return false;
+        }
 
-            page++;
-            if (page > 30) break; // 안전장치
+        for (CheckEmergencyRealtimeItem rti : list) {
+            if (rti.getHpid() == null) continue;
+            rtMap.putIfAbsent(HpidUtil.normalize(rti.getHpid()), rti);
         }
+        return true;
     }
 
     private CheckEmergencyRealtimeResponse fetchRealtimeFirstPage(String stage1, String stage2, int pageNo, int numOfRows) {
@@ -309,12 +799,28 @@ public class SearchEmergencyLocationInfoService {
             log.warn("[RT-429] QUOTA EXCEEDED stage1='{}', stage2='{}' -> {}", stage1, stage2, e.getMessage());
             throw e;
 
-        } catch (Exception e) {
+        } catch (RuntimeException e) {
+            // null 로 삼키면 마감/취소와 구분이 안 됨 -> 나머지 페이지처럼 전파 (runFanout 에서 실패로 집계)
             log.warn("[RT-EX] stage1='{}', stage2='{}' -> {}", stage1, stage2, e.getMessage());
-            return null;
+            throw e;
         }
     }
 
+    @Override
+    public String getStatusName() {
+        return "location-merge";
+    }
+
+    // 요청 경로 실시간 병합 설정 / upstream 오류로 실패한 작업 수
+    @Override
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("provinceMode", provinceMode);
+        status.put("deadlineMs", realtimeDeadlineMs);
+        status.put("realtimeFailures", realtimeFailures.get());
+        return status;
+    }
+
     private int safeTotalCount(CheckEmergencyRealtimeResponse rt) {
         try {
             if (rt == null || rt.getBody() == null) return 0;
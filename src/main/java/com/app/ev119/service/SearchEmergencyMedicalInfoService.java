@@ -2,6 +2,7 @@ package com.app.ev119.service;
 
 import com.app.ev119.domain.dto.request.SearchEmergencyMedicalInfoRequestDTO;
 import com.app.ev119.domain.dto.response.SearchEmergencyMedicalInfoResponse;
+import com.app.ev119.domain.type.PublicApiType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,34 +18,52 @@ import java.util.Collections;
 public class SearchEmergencyMedicalInfoService {
 
     private final RestTemplate restTemplate;
-
-    @Value("${api.emergency.service-key}")
-    private String serviceKey;
+    private final ServiceKeyPool serviceKeyPool;
+    private final HospitalCatalogQueryService hospitalCatalogQueryService;
 
     @Value("${api.emergency.search-emergency-list-url}")
     private String searchEmergencyListUrl;
 
+    @Value("${api.emergency.catalog.local-query:true}")
+    private boolean localQuery;
+
+    /**
+     * ✅ 목록 조회
+     * - 로컬 병원 목록(TBL_HOSPITAL_CATALOG)이 채워져 있으면 upstream 없이 QueryDSL 로 응답
+     * - QT/QZ/QD 처럼 로컬에 없는 조건이 있거나, 아직 동기화 전이면 기존처럼 upstream 호출
+     */
     public SearchEmergencyMedicalInfoResponse getSearchEmergencyMedicalInfo(SearchEmergencyMedicalInfoRequestDTO req) {
+        if (localQuery && hospitalCatalogQueryService.supports(req) && hospitalCatalogQueryService.isReady()) {
+            return hospitalCatalogQueryService.search(req);
+        }
+        return fetchSearchEmergencyMedicalInfo(req);
+    }
+
+    /**
+     * 목록 API 직접 호출
+     */
+    public SearchEmergencyMedicalInfoResponse fetchSearchEmergencyMedicalInfo(SearchEmergencyMedicalInfoRequestDTO req) {
+
+        SearchEmergencyMedicalInfoResponse response = serviceKeyPool.execute(PublicApiType.MEDICAL_LIST, serviceKey -> {
+            UriComponentsBuilder builder = UriComponentsBuilder
+                    .fromHttpUrl(searchEmergencyListUrl)
+                    .queryParam("serviceKey", serviceKey)
+                    .queryParam("Q0", req.getQ0())
+                    .queryParam("Q1", req.getQ1())
+                    .queryParam("pageNo", req.getPageNo())
+                    .queryParam("numOfRows", req.getNumOfRows());
+
+            if (req.getQt() != null && !req.getQt().isBlank()) builder.queryParam("QT", req.getQt());
+            if (req.getQz() != null && !req.getQz().isBlank()) builder.queryParam("QZ", req.getQz());
+            if (req.getQd() != null && !req.getQd().isBlank()) builder.queryParam("QD", req.getQd());
+            if (req.getQn() != null && !req.getQn().isBlank()) builder.queryParam("QN", req.getQn());
+            if (req.getOrd() != null && !req.getOrd().isBlank()) builder.queryParam("ORD", req.getOrd());
+
+            String url = builder.build(false).toUriString();
+            log.info("URL = {}", ServiceKeyPool.redact(url));
 
-        UriComponentsBuilder builder = UriComponentsBuilder
-                .fromHttpUrl(searchEmergencyListUrl)
-                .queryParam("serviceKey", serviceKey)
-                .queryParam("Q0", req.getQ0())
-                .queryParam("Q1", req.getQ1())
-                .queryParam("pageNo", req.getPageNo())
-                .queryParam("numOfRows", req.getNumOfRows());
-
-        if (req.getQt() != null && !req.getQt().isBlank()) builder.queryParam("QT", req.getQt());
-        if (req.getQz() != null && !req.getQz().isBlank()) builder.queryParam("QZ", req.getQz());
-        if (req.getQd() != null && !req.getQd().isBlank()) builder.queryParam("QD", req.getQd());
-        if (req.getQn() != null && !req.getQn().isBlank()) builder.queryParam("QN", req.getQn());
-        if (req.getOrd() != null && !req.getOrd().isBlank()) builder.queryParam("ORD", req.getOrd());
-
-        String url = builder.build(false).toUriString();
-        log.info("URL = {}", url);
-
-        SearchEmergencyMedicalInfoResponse response =
-                restTemplate.getForObject(url, SearchEmergencyMedicalInfoResponse.class);
+            return restTemplate.getForObject(url, SearchEmergencyMedicalInfoResponse.class);
+        });
 
 
         if (response != null
@@ -0,0 +1,277 @@
+package com.app.ev119.service;
+
+import com.app.ev119.config.QuotaProperties;
+import com.app.ev119.config.ServiceKeyProperties;
+import com.app.ev119.domain.type.PublicApiType;
+import com.app.ev119.exception.QuotaExceededException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ServiceKeyPool implements StatusContributor {
+
+    private final ServiceKeyProperties serviceKeyProperties;
+    private final QuotaProperties quotaProperties;
+    private final PublicApiQuotaService publicApiQuotaService;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private static final String COOLDOWN_PREFIX = "emergency:quota:key-cooldown:";
+    private static final String KEY_DAILY_PREFIX = "emergency:quota:key-daily:";
+    private static final Duration KEY_DAILY_TTL = Duration.ofHours(48);
+    private static final Pattern SERVICE_KEY_PARAM = Pattern.compile("(?i)(serviceKey=)[^&\\s\"]*");
+
+    private final List<KeyState> keys = new ArrayList<>();
+
+    @PostConstruct
+    void init() {
+        for (ServiceKeyProperties.Key k : serviceKeyProperties.resolveKeys()) {
+            keys.add(new KeyState(k.getKey().trim(), Math.max(1, k.getWeight()), k.getDailyBudget()));
+        }
+        log.info("[KEY-POOL] {} service key(s) registered: {}", keys.size(), keys.stream().map(k -> k.id).toList());
+    }
+
+    /**
+     * ✅ 서비스키 하나를 골라 upstream 호출
+     * - 엔드포인트 토큰 버킷(PublicApiQuotaService)에서 토큰 확보 후 가중치 라운드로빈으로 키 선택
+     * - 429 를 받으면 그 키의 해당 API 만 쿨다운시키고 다른 키로 재시도, 모든 키가 429 면 버킷을 막고 예외 전파
+     * - 쿨다운/일일 사용량은 키 x API 단위 (공공데이터 쿼터가 API 마다 따로 잡힘)
+     */
+    public <T> T execute(PublicApiType api, Function<String, T> call) {
+        HttpClientErrorException last = null;
+
+        for (int attempt = 0; attempt < Math.max(1, keys.size()); attempt++) {
+            publicApiQuotaService.acquire(api);
+            KeyState key = select(api);
+            recordUse(key, api);
+            log.debug("[KEY-POOL] api={}, key={}", api.getKey(), key.id);
+
+            try {
+                return call.apply(key.value);
+            } catch (HttpClientErrorException e) {
+                if (e.getStatusCode() != HttpStatus.TOO_MANY_REQUESTS) throw e;
+                coolDown(key, api);
+                last = e;
+            } catch (ResourceAccessException e) {
+                // I/O 오류 메시지에 요청 URL(서비스키 포함)이 들어가므로 키를 지우고 다시 던짐
+                throw new ResourceAccessException(redact(e.getMessage()),
+                        e.getCause() instanceof IOException io ? io : null);
+            }
+        }
+
+        publicApiQuotaService.markExhausted(api);
+        throw last;
+    }
+
+    // smooth weighted round-robin (해당 API 에서 쿨다운/일일 예산 소진된 키 제외)
+    private synchronized KeyState select(PublicApiType api) {
+        long now = System.currentTimeMillis();
+        KeyState best = null;
+        int total = 0;
+
+        for (KeyState k : keys) {
+            ApiState s = k.stateOf(api);
+            if (!k.isAvailable(s, now)) continue;
+            s.currentWeight += k.weight;
+            total += k.weight;
+            if (best == null || s.currentWeight > best.stateOf(api).currentWeight) best = k;
+        }
+
+        if (best == null) {
+            throw new QuotaExceededException("사용 가능한 공공 API 서비스키가 없습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        best.stateOf(api).currentWeight -= total;
+        return best;
+    }
+
+    private void recordUse(KeyState key, PublicApiType api) {
+        ApiState s = key.stateOf(api);
+        s.localUsed++;
+        String dailyKey = dailyKey(key, api);
+        try {
+            Long used = stringRedisTemplate.opsForValue().increment(dailyKey);
+            if (used != null) {
+                if (used == 1L) stringRedisTemplate.expire(dailyKey, KEY_DAILY_TTL);
+                s.dailyUsed = used;
+            }
+        } catch (DataAccessException e) {
+            s.dailyUsed++;
+        }
+    }
+
+    private void coolDown(KeyState key, PublicApiType api) {
+        long seconds = serviceKeyProperties.getKeyCoolDownSeconds();
+        long until = System.currentTimeMillis() + seconds * 1000;
+        key.stateOf(api).coolDownUntil = until;
+        log.warn("[KEY-POOL] 429 on key={}, api={} -> cool down {}s", key.id, api.getKey(), seconds);
+        try {
+            // 값 = 쿨다운 해제 시각(ms), 다른 노드가 MGET 한 번으로 읽음
+            stringRedisTemplate.opsForValue().set(coolDownKey(key, api), String.valueOf(until), Duration.ofSeconds(seconds));
+        } catch (DataAccessException e) {
+            log.warn("[KEY-POOL] cool down sync failed key={}, api={}. msg={}", key.id, api.getKey(), e.getMessage());
+        }
+    }
+
+    /**
+     * ✅ 다른 노드가 걸어둔 쿨다운/일일 사용량을 주기적으로 반영 (키 x API 전체를 MGET 한 번으로)
+     */
+    @Scheduled(fixedDelayString = "${api.emergency.key-sync-ms:5000}")
+    public void syncFromRedis() {
+        if (keys.isEmpty()) return;
+
+        PublicApiType[] apis = PublicApiType.values();
+        List<String> redisKeys = new ArrayList<>(keys.size() * apis.length * 2);
+        for (KeyState k : keys) {
+            for (PublicApiType api : apis) {
+                redisKeys.add(coolDownKey(k, api));
+                redisKeys.add(dailyKey(k, api));
+            }
+        }
+
+        List<String> values;
+        try {
+            values = stringRedisTemplate.opsForValue().multiGet(redisKeys);
+        } catch (DataAccessException e) {
+            log.debug("[KEY-POOL] sync skipped. msg={}", e.getMessage());
+            return;
+        }
+        if (values == null || values.size() != redisKeys.size()) return;
+
+        int i = 0;
+        for (KeyState k : keys) {
+            for (PublicApiType api : apis) {
+                ApiState s = k.stateOf(api);
+                long until = parseLong(values.get(i++));
+                s.coolDownUntil = Math.max(s.coolDownUntil, until);
+                s.dailyUsed = parseLong(values.get(i++));
+            }
+        }
+    }
+
+    @Override
+    public String getStatusName() {
+        return "service-keys";
+    }
+
+    // 키 값은 노출하지 않고 해시 id 로만 표시, API 별 사용량/쿨다운
+    @Override
+    public List<Map<String, Object>> getStatus() {
+        long now = System.currentTimeMillis();
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (KeyState k : keys) {
+            Map<String, Object> status = new LinkedHashMap<>();
+            status.put("id", k.id);
+            status.put("weight", k.weight);
+            status.put("dailyBudget", k.dailyBudget);
+
+            Map<String, Object> apis = new LinkedHashMap<>();
+            for (PublicApiType api : PublicApiType.values()) {
+                ApiState s = k.stateOf(api);
+                Map<String, Object> apiStatus = new LinkedHashMap<>();
+                apiStatus.put("dailyUsed", s.dailyUsed);
+                apiStatus.put("localUsed", s.localUsed);
+                apiStatus.put("coolDownSeconds", Math.max(0, (s.coolDownUntil - now) / 1000));
+                apiStatus.put("available", k.isAvailable(s, now));
+                apis.put(api.getKey(), apiStatus);
+            }
+            status.put("apis", apis);
+            result.add(status);
+        }
+        return result;
+    }
+
+    /**
+     * ✅ 로그용 URL/메시지에서 serviceKey 값 제거
+     */
+    public static String redact(String text) {
+        return text == null ? null : SERVICE_KEY_PARAM.matcher(text).replaceAll("$1***");
+    }
+
+    private String coolDownKey(KeyState key, PublicApiType api) {
+        return COOLDOWN_PREFIX + key.id + ":" + api.getKey();
+    }
+
+    private String dailyKey(KeyState key, PublicApiType api) {
+        String day = LocalDate.now(ZoneId.of(quotaProperties.getZone())).format(DateTimeFormatter.BASIC_ISO_DATE);
+        return KEY_DAILY_PREFIX + key.id + ":" + api.getKey() + ":" + day;
+    }
+
+    private static long parseLong(String value) {
+        if (value == null) return 0L;
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private static class KeyState {
+        private final String id;
+        private final String value;
+        private final int weight;
+        private final long dailyBudget;
+        private final Map<PublicApiType, ApiState> apis = new EnumMap<>(PublicApiType.class);
+
+        KeyState(String value, int weight, long dailyBudget) {
+            this.id = fingerprint(value);
+            this.value = value;
+            this.weight = weight;
+            this.dailyBudget = dailyBudget;
+            for (PublicApiType api : PublicApiType.values()) {
+                apis.put(api, new ApiState());
+            }
+        }
+
+        ApiState stateOf(PublicApiType api) {
+            return apis.get(api);
+        }
+
+        boolean isAvailable(ApiState s, long now) {
+            return now >= s.coolDownUntil && (dailyBudget <= 0 || s.dailyUsed < dailyBudget);
+        }
+
+        // Redis 키/로그에 실제 서비스키가 남지 않도록 해시 앞부분만 사용
+        private static String fingerprint(String value) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+                return HexFormat.of().formatHex(digest, 0, 4);
+            } catch (NoSuchAlgorithmException e) {
+                return Integer.toHexString(value.hashCode());
+            }
+        }
+    }
+
+    // 키 하나의 API 별 상태 (생성 후 맵 구조는 바뀌지 않음)
+    private static class ApiState {
+        private int currentWeight;
+        private volatile long coolDownUntil;
+        private volatile long dailyUsed;
+        private volatile long localUsed;
+    }
+}
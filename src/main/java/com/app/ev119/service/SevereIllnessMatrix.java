@@ -0,0 +1,110 @@
+package com.app.ev119.service;
+
+import com.app.ev119.domain.dto.response.CheckAvailabilityIllPatientsItem;
+import com.app.ev119.domain.type.SevereIllnessType;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * ✅ 병원 × 중증질환 수용 가능 여부 행렬 (불변)
+ * - 병원 한 곳 = 행 번호, 질환 코드(MKioskTy1~28)마다 BitSet 하나 (Y 인 병원 비트 on)
+ * - "질환 A, B 모두 수용 가능" = 해당 BitSet AND
+ */
+@Getter
+public class SevereIllnessMatrix {
+
+    public static final SevereIllnessMatrix EMPTY = new SevereIllnessMatrix(0L, null, List.of(), List.of(), List.of());
+
+    private static final List<Function<CheckAvailabilityIllPatientsItem, String>> FLAGS = List.of(
+            CheckAvailabilityIllPatientsItem::getMKioskTy1, CheckAvailabilityIllPatientsItem::getMKioskTy2,
+            CheckAvailabilityIllPatientsItem::getMKioskTy3, CheckAvailabilityIllPatientsItem::getMKioskTy4,
+            CheckAvailabilityIllPatientsItem::getMKioskTy5, CheckAvailabilityIllPatientsItem::getMKioskTy6,
+            CheckAvailabilityIllPatientsItem::getMKioskTy7, CheckAvailabilityIllPatientsItem::getMKioskTy8,
+            CheckAvailabilityIllPatientsItem::getMKioskTy9, CheckAvailabilityIllPatientsItem::getMKioskTy10,
+            CheckAvailabilityIllPatientsItem::getMKioskTy11, CheckAvailabilityIllPatientsItem::getMKioskTy12,
+            CheckAvailabilityIllPatientsItem::getMKioskTy13, CheckAvailabilityIllPatientsItem::getMKioskTy14,
+            CheckAvailabilityIllPatientsItem::getMKioskTy15, CheckAvailabilityIllPatientsItem::getMKioskTy16,
+            CheckAvailabilityIllPatientsItem::getMKioskTy17, CheckAvailabilityIllPatientsItem::getMKioskTy18,
+            CheckAvailabilityIllPatientsItem::getMKioskTy19, CheckAvailabilityIllPatientsItem::getMKioskTy20,
+            CheckAvailabilityIllPatientsItem::getMKioskTy21, CheckAvailabilityIllPatientsItem::getMKioskTy22,
+            CheckAvailabilityIllPatientsItem::getMKioskTy23, CheckAvailabilityIllPatientsItem::getMKioskTy24,
+            CheckAvailabilityIllPatientsItem::getMKioskTy25, CheckAvailabilityIllPatientsItem::getMKioskTy26,
+            CheckAvailabilityIllPatientsItem::getMKioskTy27, CheckAvailabilityIllPatientsItem::getMKioskTy28
+    );
+
+    private final long version;
+    private final Instant refreshedAt;
+    private final int size;
+
+    private final String[] hpid;
+    private final String[] dutyName;
+    private final String[] stage1;
+
+    // index = 질환 코드 (0 은 사용 안 함)
+    private final BitSet[] accepts = new BitSet[SevereIllnessType.MAX_CODE + 1];
+    private final Map<String, BitSet> regions = new HashMap<>();
+
+    /**
+     * @param hpids 정규화 hpid (items 와 같은 순서)
+     */
+    public SevereIllnessMatrix(long version, Instant refreshedAt, List<String> hpids,
+                               List<CheckAvailabilityIllPatientsItem> items, List<String> stage1s) {
+        this.version = version;
+        this.refreshedAt = refreshedAt;
+        this.size = items.size();
+        this.hpid = new String[size];
+        this.dutyName = new String[size];
+        this.stage1 = new String[size];
+
+        for (int code = 1; code <= SevereIllnessType.MAX_CODE; code++) {
+            accepts[code] = new BitSet(size);
+        }
+
+        for (int row = 0; row < size; row++) {
+            CheckAvailabilityIllPatientsItem it = items.get(row);
+            hpid[row] = hpids.get(row);
+            dutyName[row] = it.getDutyName();
+            stage1[row] = stage1s.get(row);
+            regions.computeIfAbsent(stage1[row], k -> new BitSet(size)).set(row);
+
+            for (int code = 1; code <= SevereIllnessType.MAX_CODE; code++) {
+                if ("Y".equalsIgnoreCase(trim(FLAGS.get(code - 1).apply(it)))) accepts[code].set(row);
+            }
+        }
+    }
+
+    /**
+     * 모든 질환 코드를 수용 가능한 행 (지역 조건은 선택)
+     */
+    public BitSet filter(int[] codes, String stage1Filter) {
+        BitSet result = new BitSet(size);
+        result.set(0, size);
+        for (int code : codes) {
+            result.and(accepts[code]);
+        }
+        if (stage1Filter != null) {
+            BitSet regionBits = regions.get(stage1Filter);
+            if (regionBits == null) return new BitSet();
+            result.and(regionBits);
+        }
+        return result;
+    }
+
+    public boolean accepts(int row, int code) {
+        return accepts[code].get(row);
+    }
+
+    public int acceptCount(int code) {
+        return accepts[code].cardinality();
+    }
+
+    private static String trim(String s) {
+        return s == null ? null : s.trim();
+    }
+}
@@ -0,0 +1,290 @@
+package com.app.ev119.service;
+
+import com.app.ev119.domain.dto.request.CheckAvailabilityIllPatientsRequestDTO;
+import com.app.ev119.domain.dto.response.CheckAvailabilityIllPatientsItem;
+import com.app.ev119.domain.dto.response.CheckAvailabilityIllPatientsResponse;
+import com.app.ev119.domain.dto.response.SevereAcceptanceItem;
+import com.app.ev119.domain.dto.response.SevereAcceptanceResponse;
+import com.app.ev119.domain.type.PublicApiType;
+import com.app.ev119.domain.type.RegionType;
+import com.app.ev119.domain.type.SevereIllnessType;
+import com.app.ev119.exception.DataNotReadyException;
+import com.app.ev119.exception.EmergencyQueryException;
+import com.app.ev119.exception.QuotaExceededException;
+import com.app.ev119.util.GeoUtil;
+import com.app.ev119.util.HpidUtil;
+import com.app.ev119.util.TopKSelector;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ✅ 중증질환자 수용가능정보 로컬 행렬
+ * - 주기적으로 시도(STAGE1) 단위 전체 페이지를 받아 병원 × 질환 BitSet 행렬로 교체
+ * - 조회("내 주변에서 질환 X 수용 가능한 병원")는 BitSet AND + 위치 인덱스 좌표로 거리순, upstream 호출 없음
+ * - 지역 조회가 실패하면 그 지역은 이전 행렬 값 유지, max-missed-cycles 주기 넘게 실패하면 제외
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SevereIllnessMatrixService implements StatusContributor {
+
+    private final CheckAvailabilityIllPatientsService checkAvailabilityIllPatientsService;
+    private final PublicApiQuotaService publicApiQuotaService;
+    private final EmergencyFacilityIndexService emergencyFacilityIndexService;
+
+    @Value("${api.emergency.severe-matrix.enabled:true}")
+    private boolean enabled;
+
+    @Value("${api.emergency.severe-matrix.refresh-ms:300000}")
+    private long refreshMs;
+
+    @Value("${api.emergency.severe-matrix.max-missed-cycles:3}")
+    private int maxMissedCycles;
+
+    private static final int NUM_OF_ROWS = 500;
+    private static final int MAX_PAGES = 10; // 안전장치
+    private static final int MAX_LIMIT = 200;
+
+    private volatile SevereIllnessMatrix matrix = SevereIllnessMatrix.EMPTY;
+
+    // 지역별 마지막 성공 결과
+    private final Map<String, RegionResult> regions = new LinkedHashMap<>();
+
+    // refreshedAt : 그 지역을 마지막으로 받은 시각, items : 정규화 hpid -> item
+    private record RegionResult(Instant refreshedAt, Map<String, CheckAvailabilityIllPatientsItem> items) {
+    }
+
+    @Scheduled(
+            initialDelayString = "${api.emergency.severe-matrix.initial-delay-ms:20000}",
+            fixedDelayString = "${api.emergency.severe-matrix.refresh-ms:300000}"
+    )
+    public void refresh() {
+        if (!enabled) return;
+
+        SevereIllnessMatrix previous = matrix;
+        long started = System.currentTimeMillis();
+        int refreshed = 0;
+
+        if (previous.getVersion() > 0 && publicApiQuotaService.isLow(PublicApiType.ILL_PATIENTS)) {
+            log.info("[SEVERE-MATRIX] quota low -> skip cycle, keep version={}", previous.getVersion());
+        } else {
+            refreshed = refreshRegions();
+        }
+
+        int dropped = dropStaleRegions(Instant.now());
+
+        if (refreshed == 0 && dropped == 0) {
+            log.info("[SEVERE-MATRIX] no region refreshed. keep version={}", previous.getVersion());
+            return;
+        }
+
+        // 같은 hpid 가 여러 지역에 있으면 가장 최근에 받은 지역 값을 씀
+        // 행렬 refreshedAt 은 남아 있는 지역 중 가장 오래된 갱신 시각
+        List<Map.Entry<String, RegionResult>> newestFirst = new ArrayList<>(regions.entrySet());
+        newestFirst.sort(Comparator.comparing((Map.Entry<String, RegionResult> e) -> e.getValue().refreshedAt()).reversed());
+
+        List<String> hpids = new ArrayList<>();
+        List<CheckAvailabilityIllPatientsItem> items = new ArrayList<>();
+        List<String> stage1s = new ArrayList<>();
+        Set<String> seen = new LinkedHashSet<>();
+        Instant oldest = null;
+        for (Map.Entry<String, RegionResult> region : newestFirst) {
+            oldest = region.getValue().refreshedAt();
+            region.getValue().items().forEach((hpid, item) -> {
+                if (!seen.add(hpid)) return;
+                hpids.add(hpid);
+                items.add(item);
+                stage1s.add(region.getKey());
+            });
+        }
+
+        SevereIllnessMatrix next = new SevereIllnessMatrix(previous.getVersion() + 1,
+                oldest != null ? oldest : Instant.now(), hpids, items, stage1s);
+        matrix = next;
+
+        log.info("[SEVERE-MATRIX] version={}, regions={}/{}, dropped={}, hospitals={}, took={}ms",
+                next.getVersion(), refreshed, RegionType.values().length, dropped, next.getSize(),
+                System.currentTimeMillis() - started);
+    }
+
+    // 지역별 조회, 성공한 지역 수 반환
+    private int refreshRegions() {
+        int refreshed = 0;
+        for (RegionType region : RegionType.values()) {
+            try {
+                Map<String, CheckAvailabilityIllPatientsItem> items = fetchRegion(region.getStage1());
+                if (items.isEmpty()) continue;
+                regions.put(region.getStage1(), new RegionResult(Instant.now(), items));
+                refreshed++;
+            } catch (QuotaExceededException e) {
+                log.warn("[SEVERE-MATRIX] quota exceeded at stage1='{}' -> stop this cycle. msg={}",
+                        region.getStage1(), e.getMessage());
+                break;
+            } catch (Exception e) {
+                log.warn("[SEVERE-MATRIX] stage1='{}' -> {}", region.getStage1(), e.getMessage());
+            }
+        }
+        return refreshed;
+    }
+
+    // 갱신 시각이 refresh-ms * max-missed-cycles 보다 오래된 지역 제거, 제거한 수 반환
+    private int dropStaleRegions(Instant now) {
+        Instant limit = now.minusMillis(refreshMs * maxMissedCycles);
+        int before = regions.size();
+        regions.entrySet().removeIf(e -> {
+            if (!e.getValue().refreshedAt().isBefore(limit)) return false;
+            log.warn("[SEVERE-MATRIX] stage1='{}' not refreshed since {} -> drop", e.getKey(), e.getValue().refreshedAt());
+            return true;
+        });
+        return before - regions.size();
+    }
+
+    /**
+     * ✅ 질환 코드 모두 수용 가능한 병원
+     * - smType : 쉼표 구분, 이름(BRAIN_HEMORRHAGE_SURGERY) 또는 번호(1~28)
+     * - lat/lon 을 주면 가까운 순 (위치 인덱스에 좌표가 없는 병원은 뒤로)
+     */
+    public SevereAcceptanceResponse findAccepting(String smType, Double lat, Double lon, String stage1, int limit) {
+        SevereIllnessMatrix current = matrix;
+        if (current.getVersion() == 0L) {
+            throw new DataNotReadyException("중증질환 수용가능 정보를 준비 중입니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        int[] codes = parseCodes(smType);
+        String stage1Filter = null;
+        if (stage1 != null && !stage1.isBlank()) {
+            RegionType region = RegionType.fromName(stage1);
+            if (region == null) throw new EmergencyQueryException("알 수 없는 지역입니다: " + stage1.trim());
+            stage1Filter = region.getStage1();
+        }
+
+        BitSet matched = current.filter(codes, stage1Filter);
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        boolean byDistance = lat != null && lon != null;
+
+        // 거리 점수 = -거리, 좌표 없는 병원은 가장 낮은 점수 (같으면 행 순서)
+        TopKSelector selector = new TopKSelector(size);
+        double[][] coordinates = new double[current.getSize()][];
+        double[] distances = new double[current.getSize()];
+        for (int row = matched.nextSetBit(0); row >= 0; row = matched.nextSetBit(row + 1)) {
+            coordinates[row] = emergencyFacilityIndexService.coordinatesOf(current.getHpid()[row]);
+            if (byDistance && coordinates[row] != null) {
+                distances[row] = GeoUtil.haversineKm(lat, lon, coordinates[row][0], coordinates[row][1]);
+                selector.offer(row, -distances[row]);
+            } else {
+                distances[row] = Double.NaN;
+                selector.offer(row, byDistance ? Double.NEGATIVE_INFINITY : 0.0);
+            }
+        }
+
+        List<SevereAcceptanceItem> items = new ArrayList<>(selector.size());
+        for (int row : selector.sortedIndexes()) {
+            items.add(toItem(current, row, coordinates[row], distances[row]));
+        }
+
+        List<Integer> codeList = new ArrayList<>(codes.length);
+        for (int code : codes) codeList.add(code);
+
+        SevereAcceptanceResponse response = new SevereAcceptanceResponse();
+        response.setMatrixVersion(current.getVersion());
+        response.setRefreshedAt(current.getRefreshedAt().toString());
+        response.setCodes(codeList);
+        response.setTotalMatched(matched.cardinality());
+        response.setItems(items);
+        return response;
+    }
+
+    @Override
+    public String getStatusName() {
+        return "severe-matrix";
+    }
+
+    // 중증질환 수용가능 행렬 버전 / 질환별 수용 가능 병원 수
+    @Override
+    public Map<String, Object> getStatus() {
+        SevereIllnessMatrix current = matrix;
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("version", current.getVersion());
+        status.put("refreshedAt", current.getRefreshedAt() == null ? null : current.getRefreshedAt().toString());
+        status.put("hospitals", current.getSize());
+
+        Map<String, Object> accepting = new LinkedHashMap<>();
+        for (SevereIllnessType type : SevereIllnessType.values()) {
+            accepting.put(type.name(), current.getVersion() == 0L ? 0 : current.acceptCount(type.getCode()));
+        }
+        status.put("accepting", accepting);
+        return status;
+    }
+
+    private Map<String, CheckAvailabilityIllPatientsItem> fetchRegion(String stage1) {
+        Map<String, CheckAvailabilityIllPatientsItem> items = new LinkedHashMap<>();
+
+        int page = 1;
+        int totalCount = Integer.MAX_VALUE;
+        while ((page - 1) * NUM_OF_ROWS < totalCount && page <= MAX_PAGES) {
+            CheckAvailabilityIllPatientsRequestDTO req = new CheckAvailabilityIllPatientsRequestDTO();
+            req.setStage1(stage1);
+            req.setStage2("");
+            req.setSmTown("");
+            req.setPageNo(page);
+            req.setNumOfRows(NUM_OF_ROWS);
+
+            CheckAvailabilityIllPatientsResponse res = checkAvailabilityIllPatientsService.getCheckAvailabilityIllPatients(req);
+            if (res == null || res.getBody() == null || res.getBody().getItems() == null
+                    || res.getBody().getItems().isEmpty()) break;
+
+            totalCount = res.getBody().getTotalCount();
+            for (CheckAvailabilityIllPatientsItem it : res.getBody().getItems()) {
+                if (it.getHpid() == null) continue;
+                items.putIfAbsent(HpidUtil.normalize(it.getHpid()), it);
+            }
+            page++;
+        }
+        return items;
+    }
+
+    private static int[] parseCodes(String smType) {
+        if (smType == null || smType.isBlank()) throw new EmergencyQueryException("smType 은 필수입니다.");
+
+        Set<Integer> codes = new LinkedHashSet<>();
+        for (String token : smType.split(",")) {
+            if (token.isBlank()) continue;
+            int code = SevereIllnessType.toCode(token);
+            if (code < 0) throw new EmergencyQueryException("알 수 없는 중증질환 유형입니다: " + token.trim());
+            codes.add(code);
+        }
+        return codes.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static SevereAcceptanceItem toItem(SevereIllnessMatrix m, int row, double[] coordinates, double distance) {
+        SevereAcceptanceItem item = new SevereAcceptanceItem();
+        item.setHpid(m.getHpid()[row]);
+        item.setDutyName(m.getDutyName()[row]);
+        item.setStage1(m.getStage1()[row]);
+        if (coordinates != null) {
+            item.setLatitude(coordinates[0]);
+            item.setLongitude(coordinates[1]);
+        }
+        item.setDistance(Double.isNaN(distance) ? null : distance);
+
+        List<Integer> accept = new ArrayList<>();
+        for (int code = 1; code <= SevereIllnessType.MAX_CODE; code++) {
+            if (m.accepts(row, code)) accept.add(code);
+        }
+        item.setAcceptCodes(accept);
+        return item;
+    }
+}
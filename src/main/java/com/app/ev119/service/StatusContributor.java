@@ -0,0 +1,13 @@
+package com.app.ev119.service;
+
+/**
+ * ✅ 운영용 상태 제공자
+ * - 기능별 서비스가 직접 구현, UpstreamStatusApi 가 /api/admin/upstream/{statusName} 으로 노출
+ */
+public interface StatusContributor {
+
+    // URL 경로에 쓰는 이름 (예: quota, http-pool)
+    String getStatusName();
+
+    Object getStatus();
+}
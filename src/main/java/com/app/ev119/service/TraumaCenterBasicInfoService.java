@@ -2,6 +2,7 @@ package com.app.ev119.service;
 
 import com.app.ev119.domain.dto.request.TraumaCenterBasicInfoRequestDTO;
 import com.app.ev119.domain.dto.response.TraumaCenterBasicInfoResponse;
+import com.app.ev119.domain.type.PublicApiType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,23 +16,23 @@ import org.springframework.web.util.UriComponentsBuilder;
 public class TraumaCenterBasicInfoService {
 
     private final RestTemplate restTemplate;
-
-    @Value("${api.emergency.service-key}")
-    private String serviceKey;
+    private final ServiceKeyPool serviceKeyPool;
 
     @Value("${api.emergency.search-trauma-basic-url}")
     private String searchTraumaBasicUrl;
 
     public TraumaCenterBasicInfoResponse getTraumaBasicInfo(TraumaCenterBasicInfoRequestDTO req) {
-        String url = UriComponentsBuilder
-                .fromHttpUrl(searchTraumaBasicUrl)
-                .queryParam("serviceKey", serviceKey)
-                .queryParam("pageNo", req.getPageNo())
-                .queryParam("numOfRows", req.getNumOfRows())
-                .queryParam("hpid", req.getHpid())
-                .toUriString();
-
-        return restTemplate.getForObject(url, TraumaCenterBasicInfoResponse.class);
+        return serviceKeyPool.execute(PublicApiType.TRAUMA_BASIC, serviceKey -> {
+            String url = UriComponentsBuilder
+                    .fromHttpUrl(searchTraumaBasicUrl)
+                    .queryParam("serviceKey", serviceKey)
+                    .queryParam("pageNo", req.getPageNo())
+                    .queryParam("numOfRows", req.getNumOfRows())
+                    .queryParam("hpid", req.getHpid())
+                    .toUriString();
+
+            return restTemplate.getForObject(url, TraumaCenterBasicInfoResponse.class);
+        });
 
 
     }
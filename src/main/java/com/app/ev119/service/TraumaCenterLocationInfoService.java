@@ -2,6 +2,7 @@ package com.app.ev119.service;
 
 import com.app.ev119.domain.dto.request.TraumaCenterLocationInfoRequestDTO;
 import com.app.ev119.domain.dto.response.TraumaCenterLocationInfoResponse;
+import com.app.ev119.domain.type.PublicApiType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -13,24 +14,24 @@ import org.springframework.web.util.UriComponentsBuilder;
 public class TraumaCenterLocationInfoService {
 
     private final RestTemplate restTemplate;
-
-    @Value("${api.emergency.service-key}")
-    private String serviceKey;
+    private final ServiceKeyPool serviceKeyPool;
 
     @Value("${api.emergency.trauma-location-url}")
     private String traumaUrl;
 
     public TraumaCenterLocationInfoResponse getTraumaCenterLocationInfo(TraumaCenterLocationInfoRequestDTO req){
-        String url = UriComponentsBuilder
-                .fromHttpUrl(traumaUrl)
-                .queryParam("serviceKey", serviceKey)
-                .queryParam("pageNo", req.getPageNo())
-                .queryParam("numOfRows", req.getNumOfRows())
-                .queryParam("WGS84_LON", req.getWgs84Lon())
-                .queryParam("WGS84_LAT", req.getWgs84Lat())
-                .toUriString();
-
-        return restTemplate.getForObject(url, TraumaCenterLocationInfoResponse.class);
+        return serviceKeyPool.execute(PublicApiType.TRAUMA_LOCATION, serviceKey -> {
+            String url = UriComponentsBuilder
+                    .fromHttpUrl(traumaUrl)
+                    .queryParam("serviceKey", serviceKey)
+                    .queryParam("pageNo", req.getPageNo())
+                    .queryParam("numOfRows", req.getNumOfRows())
+                    .queryParam("WGS84_LON", req.getWgs84Lon())
+                    .queryParam("WGS84_LAT", req.getWgs84Lat())
+                    .toUriString();
+
+            return restTemplate.getForObject(url, TraumaCenterLocationInfoResponse.class);
+        });
     }
 
 }
@@ -0,0 +1,291 @@
+package com.app.ev119.util;
+
+import java.util.Arrays;
+
+/**
+ * ✅ 위경도 격자 인덱스 (불변)
+ * - 좌표는 double[] 로만 보관, 격자(cellDeg 도 단위) 별로 점 번호를 묶어 정렬된 배열(CSR)로 저장
+ * - nearest : 질의 좌표 격자부터 바깥 고리로 넓혀가며 K 개 최대 힙 유지, 남은 고리의 최소 거리가 K번째보다 멀면 중단
+ * - withinRadius : 반경을 덮는 격자만 훑음
+ * - 거리는 haversine(km)
+ */
+public class GeoGridIndex {
+
+    private final double cellDeg;
+    private final double[] lat;
+    private final double[] lon;
+    private final int cols;
+
+    // 점이 있는 격자 키(오름차순) / 각 격자의 order 시작 위치 / 격자 순서로 나열한 점 번호
+    private final long[] cellKeys;
+    private final int[] cellStart;
+    private final int[] order;
+
+    private final int minRow;
+    private final int maxRow;
+    private final int minCol;
+    private final int maxCol;
+
+    public GeoGridIndex(double[] lat, double[] lon, double cellDeg) {
+        if (lat.length != lon.length) throw new IllegalArgumentException("lat/lon length mismatch");
+
+        this.cellDeg = cellDeg;
+        this.lat = lat.clone();
+        this.lon = lon.clone();
+        this.cols = (int) Math.ceil(360.0 / cellDeg) + 1;
+
+        int n = lat.length;
+        long[] packed = new long[n];
+        int rMin = Integer.MAX_VALUE, rMax = Integer.MIN_VALUE, cMin = Integer.MAX_VALUE, cMax = Integer.MIN_VALUE;
+
+        for (int i = 0; i < n; i++) {
+            int r = row(lat[i]);
+            int c = col(lon[i]);
+            rMin = Math.min(rMin, r);
+            rMax = Math.max(rMax, r);
+            cMin = Math.min(cMin, c);
+            cMax = Math.max(cMax, c);
+            packed[i] = (key(r, c) << 32) | i;
+        }
+        Arrays.sort(packed);
+
+        this.order = new int[n];
+        long[] keys = new long[n];
+        int[] starts = new int[n + 1];
+        int cells = 0;
+        long prev = -1;
+
+        for (int i = 0; i < n; i++) {
+            long k = packed[i] >>> 32;
+            order[i] = (int) packed[i];
+            if (k != prev) {
+                keys[cells] = k;
+                starts[cells] = i;
+                cells++;
+                prev = k;
+            }
+        }
+        starts[cells] = n;
+
+        this.cellKeys = Arrays.copyOf(keys, cells);
+        this.cellStart = Arrays.copyOf(starts, cells + 1);
+        this.minRow = rMin;
+        this.maxRow = rMax;
+        this.minCol = cMin;
+        this.maxCol = cMax;
+    }
+
+    public int size() {
+        return lat.length;
+    }
+
+    public int cellCount() {
+        return cellKeys.length;
+    }
+
+    /**
+     * 가까운 순서로 최대 k 개
+     */
+    public Result nearest(double qLat, double qLon, int k) {
+        k = Math.min(k, size());
+        if (k <= 0) return Result.EMPTY;
+
+        TopK heap = new TopK(k);
+        int r0 = row(qLat);
+        int c0 = col(qLon);
+        int maxRing = Math.max(Math.max(Math.abs(r0 - minRow), Math.abs(r0 - maxRow)),
+                Math.max(Math.abs(c0 - minCol), Math.abs(c0 - maxCol)));
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int r = r0 - ring; r <= r0 + ring; r++) {
+                if (r < minRow || r > maxRow) continue;
+                boolean edgeRow = r == r0 - ring || r == r0 + ring;
+                int step = edgeRow ? 1 : Math.max(1, 2 * ring);
+                for (int c = c0 - ring; c <= c0 + ring; c += step) {
+                    if (c < minCol || c > maxCol) continue;
+                    scanCell(r, c, qLat, qLon, heap);
+                }
+            }
+
+            if (heap.isFull() && minDistanceBeyond(ring, qLat) > heap.worst()) break;
+        }
+
+        return heap.toSortedResult();
+    }
+
+    /**
+     * 반경 radiusKm 안의 점 전체 (가까운 순)
+     */
+    public Result withinRadius(double qLat, double qLon, double radiusKm) {
+        double dLat = radiusKm / GeoUtil.KM_PER_DEGREE;
+        double cosLat = Math.cos(Math.toRadians(Math.min(89.0, Math.abs(qLat) + dLat)));
+        double dLon = dLat / Math.max(cosLat, 1e-6);
+
+        int rFrom = Math.max(minRow, row(qLat - dLat));
+        int rTo = Math.min(maxRow, row(qLat + dLat));
+        int cFrom = Math.max(minCol, col(qLon - dLon));
+        int cTo = Math.min(maxCol, col(qLon + dLon));
+
+        int[] idx = new int[16];
+        double[] dist = new double[16];
+        int count = 0;
+
+        for (int r = rFrom; r <= rTo; r++) {
+            for (int c = cFrom; c <= cTo; c++) {
+                int cell = Arrays.binarySearch(cellKeys, key(r, c));
+                if (cell < 0) continue;
+                for (int j = cellStart[cell]; j < cellStart[cell + 1]; j++) {
+                    int p = order[j];
+                    double d = GeoUtil.haversineKm(qLat, qLon, lat[p], lon[p]);
+                    if (d > radiusKm) continue;
+                    if (count == idx.length) {
+                        idx = Arrays.copyOf(idx, count * 2);
+                        dist = Arrays.copyOf(dist, count * 2);
+                    }
+                    idx[count] = p;
+                    dist[count] = d;
+                    count++;
+                }
+            }
+        }
+
+        return Result.sorted(Arrays.copyOf(idx, count), Arrays.copyOf(dist, count));
+    }
+
+    private void scanCell(int r, int c, double qLat, double qLon, TopK heap) {
+        int cell = Arrays.binarySearch(cellKeys, key(r, c));
+        if (cell < 0) return;
+        for (int j = cellStart[cell]; j < cellStart[cell + 1]; j++) {
+            int p = order[j];
+            heap.offer(p, GeoUtil.haversineKm(qLat, qLon, lat[p], lon[p]));
+        }
+    }
+
+    // ring 고리 바깥 점까지의 최소 거리 하한 (경도 방향은 고위도 쪽 cos 로 보수적으로)
+    private double minDistanceBeyond(int ring, double qLat) {
+        double deg = ring * cellDeg;
+        double maxLat = Math.min(90.0, Math.abs(qLat) + (ring + 1) * cellDeg);
+        return deg * GeoUtil.KM_PER_DEGREE * Math.cos(Math.toRadians(maxLat));
+    }
+
+    private int row(double latitude) {
+        return (int) Math.floor((latitude + 90.0) / cellDeg);
+    }
+
+    private int col(double longitude) {
+        return (int) Math.floor((longitude + 180.0) / cellDeg);
+    }
+
+    private long key(int r, int c) {
+        return (long) r * cols + c;
+    }
+
+    /**
+     * 점 번호 + 거리(km), 가까운 순
+     */
+    public static class Result {
+        static final Result EMPTY = new Result(new int[0], new double[0]);
+
+        private final int[] index;
+        private final double[] distanceKm;
+
+        private Result(int[] index, double[] distanceKm) {
+            this.index = index;
+            this.distanceKm = distanceKm;
+        }
+
+        static Result sorted(int[] index, double[] distanceKm) {
+            int n = index.length;
+            Integer[] pos = new Integer[n];
+            for (int i = 0; i < n; i++) pos[i] = i;
+            Arrays.sort(pos, (a, b) -> Double.compare(distanceKm[a], distanceKm[b]));
+
+            int[] idx = new int[n];
+            double[] dist = new double[n];
+            for (int i = 0; i < n; i++) {
+                idx[i] = index[pos[i]];
+                dist[i] = distanceKm[pos[i]];
+            }
+            return new Result(idx, dist);
+        }
+
+        public int size() {
+            return index.length;
+        }
+
+        public int index(int i) {
+            return index[i];
+        }
+
+        public double distanceKm(int i) {
+            return distanceKm[i];
+        }
+    }
+
+    // 거리 기준 최대 힙 (가장 먼 것이 루트, 꽉 차면 더 가까운 것만 교체)
+    private static class TopK {
+        private final int[] idx;
+        private final double[] dist;
+        private int size;
+
+        TopK(int k) {
+            this.idx = new int[k];
+            this.dist = new double[k];
+        }
+
+        boolean isFull() {
+            return size == idx.length;
+        }
+
+        double worst() {
+            return dist[0];
+        }
+
+        void offer(int p, double d) {
+            if (size < idx.length) {
+                idx[size] = p;
+                dist[size] = d;
+                siftUp(size++);
+            } else if (d < dist[0]) {
+                idx[0] = p;
+                dist[0] = d;
+                siftDown(0);
+            }
+        }
+
+        Result toSortedResult() {
+            return Result.sorted(Arrays.copyOf(idx, size), Arrays.copyOf(dist, size));
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (dist[parent] >= dist[i]) break;
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int l = 2 * i + 1;
+                int r = l + 1;
+                int largest = i;
+                if (l < size && dist[l] > dist[largest]) largest = l;
+                if (r < size && dist[r] > dist[largest]) largest = r;
+                if (largest == i) return;
+                swap(i, largest);
+                i = largest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int ti = idx[a];
+            idx[a] = idx[b];
+            idx[b] = ti;
+            double td = dist[a];
+            dist[a] = dist[b];
+            dist[b] = td;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.app.ev119.util;
+
+public final class HpidUtil {
+
+    private HpidUtil() {
+    }
+
+    // 실시간/위치 API 간 hpid 매칭용 (NBSP, 공백 제거)
+    public static String normalize(String hpid) {
+        if (hpid == null) return null;
+        StringBuilder sb = new StringBuilder(hpid.length());
+        for (int i = 0; i < hpid.length(); i++) {
+            char c = hpid.charAt(i);
+            if (c == '\u00A0' || Character.isWhitespace(c)) continue;
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+}
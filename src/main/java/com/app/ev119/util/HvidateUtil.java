@@ -0,0 +1,29 @@
+package com.app.ev119.util;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+public final class HvidateUtil {
+
+    // 실시간 API 의 입력일시(hvidate) : yyyyMMddHHmmss, 한국 시간
+    private static final DateTimeFormatter HVIDATE = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private HvidateUtil() {
+    }
+
+    // 형식이 다르거나 비어 있으면 null
+    public static Instant toInstant(String hvidate) {
+        if (hvidate == null) return null;
+        String s = hvidate.trim();
+        if (s.length() != 14) return null;
+        try {
+            return LocalDateTime.parse(s, HVIDATE).atZone(ZONE).toInstant();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
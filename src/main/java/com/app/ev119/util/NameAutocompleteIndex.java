@@ -0,0 +1,195 @@
+package com.app.ev119.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ✅ 기관명 자동완성 인덱스 (불변)
+ * - 기관명 전체 + 단어 시작 위치부터의 접미 문자열을 키로 정렬 배열에 저장, 접두 검색은 이진 탐색 + 범위 스캔
+ * - 키마다 초성 문자열(서울대병원 -> ㅅㅇㄷㅂㅇ)도 따로 정렬해 둠, 초성이 섞인 질의(ㅅㅇㄷ, 서울ㄷ)는 초성 배열에서 찾고 글자 단위로 확인
+ * - 키는 공백 제거 + 소문자, 점수는 기관명 전체 접두 일치 > 단어 접두 일치, 짧은 이름 우선
+ */
+public class NameAutocompleteIndex {
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private static final double FULL_NAME_BONUS = 1_000.0;
+
+    private final int[] nameLength;
+
+    // 키 오름차순 / 키 주인(기관 번호) / 기관명 전체 키 여부
+    private final String[] keys;
+    private final int[] keyOwner;
+    private final boolean[] keyFull;
+
+    // 초성 키 오름차순 / 같은 위치의 원래 키 번호
+    private final String[] chosungKeys;
+    private final int[] chosungKeyRef;
+
+    public NameAutocompleteIndex(String[] names) {
+        int n = names.length;
+        this.nameLength = new int[n];
+
+        Entry[] entries = collect(names);
+        Arrays.sort(entries, (a, b) -> a.key().compareTo(b.key()));
+
+        int m = entries.length;
+        this.keys = new String[m];
+        this.keyOwner = new int[m];
+        this.keyFull = new boolean[m];
+        for (int i = 0; i < m; i++) {
+            keys[i] = entries[i].key();
+            keyOwner[i] = entries[i].owner();
+            keyFull[i] = entries[i].full();
+        }
+        for (int i = 0; i < n; i++) {
+            nameLength[i] = names[i] == null ? 0 : normalize(names[i]).length();
+        }
+
+        Integer[] byChosung = new Integer[m];
+        String[] chosungOf = new String[m];
+        for (int i = 0; i < m; i++) {
+            byChosung[i] = i;
+            chosungOf[i] = chosung(keys[i]);
+        }
+        Arrays.sort(byChosung, (a, b) -> chosungOf[a].compareTo(chosungOf[b]));
+
+        this.chosungKeys = new String[m];
+        this.chosungKeyRef = new int[m];
+        for (int i = 0; i < m; i++) {
+            chosungKeys[i] = chosungOf[byChosung[i]];
+            chosungKeyRef[i] = byChosung[i];
+        }
+    }
+
+    public int size() {
+        return nameLength.length;
+    }
+
+    public int keyCount() {
+        return keys.length;
+    }
+
+    /**
+     * 접두 일치 기관 번호 (좋은 순, 최대 limit 개)
+     */
+    public int[] search(String query, int limit) {
+        String q = normalize(query);
+        if (q.isEmpty() || limit <= 0) return new int[0];
+
+        // 기관별 최고 점수 (한 기관이 여러 키로 걸릴 수 있음)
+        Map<Integer, Double> best = new HashMap<>();
+
+        if (!hasJamo(q)) {
+            for (int i = lowerBound(keys, q); i < keys.length && keys[i].startsWith(q); i++) {
+                collect(best, i);
+            }
+        } else {
+            String cq = chosung(q);
+            for (int i = lowerBound(chosungKeys, cq); i < chosungKeys.length && chosungKeys[i].startsWith(cq); i++) {
+                int k = chosungKeyRef[i];
+                if (matchesMixed(keys[k], q)) collect(best, k);
+            }
+        }
+
+        if (best.isEmpty()) return new int[0];
+        TopKSelector top = new TopKSelector(Math.min(limit, best.size()));
+        best.forEach(top::offer);
+        return top.sortedIndexes();
+    }
+
+    private void collect(Map<Integer, Double> best, int k) {
+        int owner = keyOwner[k];
+        double score = (keyFull[k] ? FULL_NAME_BONUS : 0.0) - nameLength[owner];
+        best.merge(owner, score, Math::max);
+    }
+
+    // 질의의 완성 글자는 같은 위치의 키 글자와 같아야 함 (초성 자리는 초성 배열에서 이미 일치)
+    private static boolean matchesMixed(String key, String q) {
+        for (int i = 0; i < q.length(); i++) {
+            char c = q.charAt(i);
+            if (!isJamo(c) && key.charAt(i) != c) return false;
+        }
+        return true;
+    }
+
+    private static Entry[] collect(String[] names) {
+        List<Entry> list = new ArrayList<>();
+        for (int i = 0; i < names.length; i++) {
+            String name = names[i];
+            if (name == null || name.isBlank()) continue;
+
+            String full = normalize(name);
+            list.add(new Entry(full, i, true));
+
+            // 공백/괄호 뒤 단어 시작마다 접미 키 ("(학)가톨릭대학교 서울성모병원" -> "가톨릭대학교서울성모병원", "서울성모병원")
+            for (int p = 1; p < name.length(); p++) {
+                char prev = name.charAt(p - 1);
+                char c = name.charAt(p);
+                if (isSeparator(c) || !isSeparator(prev)) continue;
+                String token = normalize(name.substring(p));
+                if (!token.isEmpty() && !token.equals(full)) list.add(new Entry(token, i, false));
+            }
+        }
+        return list.toArray(new Entry[0]);
+    }
+
+    private static int lowerBound(String[] sorted, String q) {
+        int lo = 0, hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid].compareTo(q) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    // 공백 제거 + 소문자
+    public static String normalize(String s) {
+        if (s == null) return "";
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == ' ' || Character.isWhitespace(c)) continue;
+            sb.append(Character.toLowerCase(c));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 완성형 한글은 초성으로, 나머지 글자는 그대로 (길이 유지)
+     */
+    public static String chosung(String s) {
+        char[] out = new char[s.length()];
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            out[i] = (c >= 0xAC00 && c <= 0xD7A3) ? CHOSUNG[(c - 0xAC00) / 588] : c;
+        }
+        return new String(out);
+    }
+
+    private static boolean hasJamo(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (isJamo(s.charAt(i))) return true;
+        }
+        return false;
+    }
+
+    // 호환용 자음 (ㄱ ~ ㅎ)
+    private static boolean isJamo(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == '(' || c == ')' || c == ' ' || Character.isWhitespace(c);
+    }
+
+    private record Entry(String key, int owner, boolean full) {
+    }
+}
@@ -0,0 +1,201 @@
+package com.app.ev119.util;
+
+import com.app.ev119.domain.dto.response.CheckEmergencyRealtimeItem;
+import com.app.ev119.exception.UpstreamResultException;
+import lombok.Getter;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * ✅ 실시간 가용병상 응답(XML) 스트리밍 투영 파서
+ * - Jackson 바인딩은 item 하나당 70개 가까운 String 필드를 전부 만든다
+ * - 여기서는 StAX 로 스트림을 한 번 훑으면서 요청한 필드만 String[] 로 꺼내고 나머지 텍스트는 만들지 않음
+ * - 인스턴스는 불변이라 필드 목록별로 하나 만들어 공유
+ * - header 의 resultCode 가 00 이 아니면(키 오류 등 오류 봉투) 빈 페이지로 넘기지 않고 UpstreamResultException
+ */
+public class RealtimeXmlProjection {
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createFactory();
+
+    private static final String RESULT_OK = "00";
+
+    private static final Map<String, BiConsumer<CheckEmergencyRealtimeItem, String>> ITEM_SETTERS = itemSetters();
+
+    private final String[] fields;
+    private final Map<String, Integer> index;
+
+    public RealtimeXmlProjection(String... fields) {
+        this.fields = fields.clone();
+        Map<String, Integer> map = new HashMap<>();
+        for (int i = 0; i < this.fields.length; i++) {
+            map.put(this.fields[i], i);
+        }
+        this.index = Collections.unmodifiableMap(map);
+    }
+
+    public List<String> getFields() {
+        return Arrays.asList(fields);
+    }
+
+    public Page parse(InputStream in) throws XMLStreamException {
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+        Page page;
+        try {
+            page = read(reader);
+        } finally {
+            reader.close();
+        }
+
+        if (!RESULT_OK.equals(page.resultCode)) {
+            throw new UpstreamResultException(page.resultCode, page.resultMsg);
+        }
+        return page;
+    }
+
+    private Page read(XMLStreamReader reader) throws XMLStreamException {
+        Page page = new Page();
+        String[] row = null;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = reader.getLocalName();
+
+                if (row != null) {
+                    Integer i = index.get(name);
+                    if (i != null) {
+                        row[i] = reader.getElementText();
+                    } else {
+                        skipElement(reader);
+                    }
+                    continue;
+                }
+
+                switch (name) {
+                    case "item" -> row = new String[fields.length];
+                    case "resultCode" -> page.resultCode = reader.getElementText().trim();
+                    case "resultMsg" -> page.resultMsg = reader.getElementText();
+                    // 서비스키 오류 등은 OpenAPI_ServiceResponse/cmmMsgHeader 형식으로 옴
+                    case "returnReasonCode" -> page.resultCode = reader.getElementText().trim();
+                    case "returnAuthMsg" -> page.resultMsg = reader.getElementText();
+                    case "totalCount" -> page.totalCount = parseInt(reader.getElementText());
+                    case "pageNo" -> page.pageNo = parseInt(reader.getElementText());
+                    case "numOfRows" -> page.numOfRows = parseInt(reader.getElementText());
+                    default -> {
+                        // response/header/body/items 같은 래퍼는 그대로 내려감
+                    }
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT && row != null && "item".equals(reader.getLocalName())) {
+                page.rows.add(row);
+                row = null;
+            }
+        }
+
+        return page;
+    }
+
+    // 필요 없는 필드는 텍스트를 꺼내지 않고 끝 태그까지 넘김
+    private void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) depth++;
+            else if (event == XMLStreamConstants.END_ELEMENT) depth--;
+        }
+    }
+
+    private static int parseInt(String s) {
+        if (s == null) return 0;
+        try {
+            return Integer.parseInt(s.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    @Getter
+    public class Page {
+        private String resultCode;
+        private String resultMsg;
+        private int totalCount;
+        private int pageNo;
+        private int numOfRows;
+        private final List<String[]> rows = new ArrayList<>();
+
+        public String value(String[] row, String field) {
+            Integer i = index.get(field);
+            return i == null ? null : row[i];
+        }
+
+        /**
+         * 투영한 필드만 채운 CheckEmergencyRealtimeItem (기존 DTO 를 받는 코드와 호환용)
+         */
+        public List<CheckEmergencyRealtimeItem> toItems() {
+            List<CheckEmergencyRealtimeItem> items = new ArrayList<>(rows.size());
+            for (String[] row : rows) {
+                CheckEmergencyRealtimeItem item = new CheckEmergencyRealtimeItem();
+                for (int i = 0; i < fields.length; i++) {
+                    BiConsumer<CheckEmergencyRealtimeItem, String> setter = ITEM_SETTERS.get(fields[i]);
+                    if (setter != null && row[i] != null) setter.accept(item, row[i]);
+                }
+                items.add(item);
+            }
+            return items;
+        }
+    }
+
+    private static Map<String, BiConsumer<CheckEmergencyRealtimeItem, String>> itemSetters() {
+        Map<String, BiConsumer<CheckEmergencyRealtimeItem, String>> m = new HashMap<>();
+        m.put("dutyName", CheckEmergencyRealtimeItem::setDutyName);
+        m.put("dutyTel3", CheckEmergencyRealtimeItem::setDutyTel3);
+        m.put("hpid", CheckEmergencyRealtimeItem::setHpid);
+        m.put("hvidate", CheckEmergencyRealtimeItem::setHvidate);
+
+        m.put("hvec", CheckEmergencyRealtimeItem::setHvec);
+        m.put("hvgc", CheckEmergencyRealtimeItem::setHvgc);
+        m.put("hvicc", CheckEmergencyRealtimeItem::setHvicc);
+        m.put("hvoc", CheckEmergencyRealtimeItem::setHvoc);
+        m.put("hvncc", CheckEmergencyRealtimeItem::setHvncc);
+        m.put("hvccc", CheckEmergencyRealtimeItem::setHvccc);
+        m.put("hv2", CheckEmergencyRealtimeItem::setHv2);
+        m.put("hv3", CheckEmergencyRealtimeItem::setHv3);
+        m.put("hv5", CheckEmergencyRealtimeItem::setHv5);
+        m.put("hv6", CheckEmergencyRealtimeItem::setHv6);
+        m.put("hv7", CheckEmergencyRealtimeItem::setHv7);
+        m.put("hv10", CheckEmergencyRealtimeItem::setHv10);
+        m.put("hv11", CheckEmergencyRealtimeItem::setHv11);
+
+        m.put("hvamyn", CheckEmergencyRealtimeItem::setHvamyn);
+        m.put("hvangioayn", CheckEmergencyRealtimeItem::setHvangioayn);
+        m.put("hvcrrtayn", CheckEmergencyRealtimeItem::setHvcrrtayn);
+        m.put("hvctayn", CheckEmergencyRealtimeItem::setHvctayn);
+        m.put("hvecmoayn", CheckEmergencyRealtimeItem::setHvecmoayn);
+        m.put("hvhypoayn", CheckEmergencyRealtimeItem::setHvhypoayn);
+        m.put("hvincuayn", CheckEmergencyRealtimeItem::setHvincuayn);
+        m.put("hvmriayn", CheckEmergencyRealtimeItem::setHvmriayn);
+        m.put("hvoxyayn", CheckEmergencyRealtimeItem::setHvoxyayn);
+        m.put("hvventiayn", CheckEmergencyRealtimeItem::setHvventiayn);
+        m.put("hvventisoayn", CheckEmergencyRealtimeItem::setHvventisoayn);
+        return Collections.unmodifiableMap(m);
+    }
+}
@@ -0,0 +1,99 @@
+package com.app.ev119.util;
+
+/**
+ * ✅ 불규칙 간격 관측용 EWMA(level) + 추세(trend) + 시간대 계절성 모델 (Holt-Winters 가법형 변형)
+ * - 관측 1건 갱신 / 예측 1건 모두 O(1), 상태는 double 몇 개 + 시간대 슬롯 배열 하나
+ * - 관측 간격이 일정하지 않으므로 평활 계수는 기준 간격(stepMinutes) 대비 경과 시간으로 보정
+ * - 추세는 감쇠(phi)시켜서 먼 시점 예측이 한쪽으로 발산하지 않게 함
+ * - 스레드 안전하지 않음 (호출 측에서 동기화)
+ */
+public class SeasonalTrendModel {
+
+    private final double alpha;
+    private final double beta;
+    private final double gamma;
+    private final double phi;
+    private final double stepMinutes;
+    private final int slotMinutes;
+    private final double[] season;
+
+    private double level;
+    private double trend; // 분당 변화량
+    private long lastEpochMinute;
+    private int observations;
+
+    /**
+     * @param slotMinutes 계절 슬롯 크기(분), 하루를 나눈 개수만큼 슬롯 생성 (60 -> 24개)
+     * @param phi         분당 추세 감쇠 (0~1, 1 이면 감쇠 없음)
+     */
+    public SeasonalTrendModel(double alpha, double beta, double gamma, double phi, double stepMinutes, int slotMinutes) {
+        this.alpha = alpha;
+        this.beta = beta;
+        this.gamma = gamma;
+        this.phi = phi;
+        this.stepMinutes = stepMinutes;
+        this.slotMinutes = slotMinutes;
+        this.season = new double[Math.max(1, 1440 / slotMinutes)];
+    }
+
+    /**
+     * @param epochMinute 관측 시각 (현지 시간 기준 epoch 분, 시간대 슬롯 계산용)
+     */
+    public void observe(long epochMinute, double y) {
+        int slot = slotOf(epochMinute);
+
+        if (observations == 0) {
+            level = y - season[slot];
+            trend = 0;
+            lastEpochMinute = epochMinute;
+            observations = 1;
+            return;
+        }
+
+        double dt = epochMinute - lastEpochMinute;
+        if (dt <= 0) {
+            // 같은 시각 재관측(또는 역순)은 수준만 살짝 보정
+            level += alpha * (y - season[slot] - level);
+            return;
+        }
+
+        double steps = dt / stepMinutes;
+        double a = 1 - Math.pow(1 - alpha, steps);
+        double b = 1 - Math.pow(1 - beta, steps);
+
+        double predicted = level + dampedTrend(dt);
+        double newLevel = a * (y - season[slot]) + (1 - a) * predicted;
+        trend = b * ((newLevel - level) / dt) + (1 - b) * trend;
+        level = newLevel;
+        season[slot] = gamma * (y - level) + (1 - gamma) * season[slot];
+
+        lastEpochMinute = epochMinute;
+        observations++;
+    }
+
+    /**
+     * 마지막 관측 시각 기준 horizonMinutes 뒤 예측값
+     */
+    public double forecast(long horizonMinutes) {
+        long target = lastEpochMinute + horizonMinutes;
+        return level + dampedTrend(horizonMinutes) + season[slotOf(target)];
+    }
+
+    public int getObservations() {
+        return observations;
+    }
+
+    public long getLastEpochMinute() {
+        return lastEpochMinute;
+    }
+
+    // trend * (phi + phi^2 + ... + phi^h)
+    private double dampedTrend(double minutes) {
+        if (phi >= 1.0) return trend * minutes;
+        return trend * phi * (1 - Math.pow(phi, minutes)) / (1 - phi);
+    }
+
+    private int slotOf(long epochMinute) {
+        return (int) (Math.floorMod(epochMinute, 1440L) / slotMinutes) % season.length;
+    }
+}
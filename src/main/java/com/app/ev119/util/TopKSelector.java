@@ -0,0 +1,88 @@
+package com.app.ev119.util;
+
+import java.util.Arrays;
+
+/**
+ * ✅ 점수 상위 K 개 선택 (크기 K 최소 힙)
+ * - 후보는 번호(int) + 점수(double) 로만 넣고, 힙 루트는 지금까지 K 개 중 가장 나쁜 것
+ * - 꽉 찬 뒤에는 루트보다 좋은 후보만 교체하므로 O(n log K), 객체 생성 없음
+ * - 점수가 같으면 번호가 작은 쪽이 우선 (입력이 거리순이면 가까운 쪽)
+ */
+public class TopKSelector {
+
+    private final int[] idx;
+    private final double[] score;
+    private int size;
+
+    public TopKSelector(int k) {
+        if (k <= 0) throw new IllegalArgumentException("k must be positive");
+        this.idx = new int[k];
+        this.score = new double[k];
+    }
+
+    public void offer(int index, double s) {
+        if (size < idx.length) {
+            idx[size] = index;
+            score[size] = s;
+            siftUp(size++);
+        } else if (better(index, s, idx[0], score[0])) {
+            idx[0] = index;
+            score[0] = s;
+            siftDown(0);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 좋은 순으로 정렬한 번호
+     */
+    public int[] sortedIndexes() {
+        Integer[] pos = new Integer[size];
+        for (int i = 0; i < size; i++) pos[i] = i;
+        Arrays.sort(pos, (a, b) -> better(idx[a], score[a], idx[b], score[b]) ? -1
+                : better(idx[b], score[b], idx[a], score[a]) ? 1 : 0);
+
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++) result[i] = idx[pos[i]];
+        return result;
+    }
+
+    private static boolean better(int ia, double sa, int ib, double sb) {
+        int c = Double.compare(sa, sb);
+        return c > 0 || (c == 0 && ia < ib);
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!better(idx[parent], score[parent], idx[i], score[i])) break;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int l = 2 * i + 1;
+            int r = l + 1;
+            int worst = i;
+            if (l < size && better(idx[worst], score[worst], idx[l], score[l])) worst = l;
+            if (r < size && better(idx[worst], score[worst], idx[r], score[r])) worst = r;
+            if (worst == i) return;
+            swap(i, worst);
+            i = worst;
+        }
+    }
+
+    private void swap(int a, int b) {
+        int ti = idx[a];
+        idx[a] = idx[b];
+        idx[b] = ti;
+        double ts = score[a];
+        score[a] = score[b];
+        score[b] = ts;
+    }
+}
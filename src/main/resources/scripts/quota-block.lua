@@ -0,0 +1,21 @@
+-- 실제 429 를 맞았을 때 버킷 차단 (클러스터 공용)
+-- KEYS[1] = 버킷 해시(tokens, ts, blockedUntil)
+-- ARGV[1] = 차단 시간(ms)   ARGV[2] = 버킷 해시 TTL(ms)
+-- return 차단 해제 시각(ms, Redis 서버 시간)
+local blockMs = tonumber(ARGV[1])
+local ttl = tonumber(ARGV[2])
+
+local t = redis.call('TIME')
+local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+local blockedUntil = now + blockMs
+
+-- 이미 더 길게 막혀 있으면 유지
+local prev = tonumber(redis.call('HGET', KEYS[1], 'blockedUntil'))
+if prev ~= nil and prev > blockedUntil then
+    blockedUntil = prev
+end
+
+redis.call('HSET', KEYS[1], 'tokens', '0', 'ts', tostring(now), 'blockedUntil', tostring(blockedUntil))
+redis.call('PEXPIRE', KEYS[1], math.max(ttl, blockedUntil - now + 60000))
+
+return blockedUntil
@@ -0,0 +1,53 @@
+-- 공공데이터 쿼터 토큰 버킷 (클러스터 공용)
+-- KEYS[1] = 버킷 해시(tokens, ts, blockedUntil)   KEYS[2] = 일일 사용량 카운터
+-- ARGV[1] = capacity   ARGV[2] = 초당 충전량   ARGV[3] = 일일 예산(0 이하면 무제한)   ARGV[4] = 일일 카운터 TTL(초)
+-- return {허용(1/0), 남은 토큰(버림), 오늘 사용량}
+local capacity = tonumber(ARGV[1])
+local rate = tonumber(ARGV[2])
+local budget = tonumber(ARGV[3])
+local dailyTtl = tonumber(ARGV[4])
+
+-- 노드 간 시계 차이를 피하려고 Redis 서버 시간 사용
+local t = redis.call('TIME')
+local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+
+local used = tonumber(redis.call('GET', KEYS[2]) or '0')
+if budget > 0 and used >= budget then
+    return {0, 0, used}
+end
+
+local data = redis.call('HMGET', KEYS[1], 'tokens', 'ts', 'blockedUntil')
+local tokens = tonumber(data[1])
+local ts = tonumber(data[2])
+local blockedUntil = tonumber(data[3])
+
+-- upstream 429 로 막힌 구간 (quota-block.lua), 해제 후에는 해제 시각부터 다시 충전
+if blockedUntil ~= nil then
+    if now < blockedUntil then
+        return {0, 0, used}
+    end
+    ts = math.max(ts or blockedUntil, blockedUntil)
+end
+
+if tokens == nil or ts == nil then
+    tokens = capacity
+    ts = now
+end
+
+tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate / 1000)
+
+local allowed = 0
+if tokens >= 1 then
+    tokens = tokens - 1
+    allowed = 1
+    used = redis.call('INCR', KEYS[2])
+    if used == 1 then
+        redis.call('EXPIRE', KEYS[2], dailyTtl)
+    end
+end
+
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+redis.call('HDEL', KEYS[1], 'blockedUntil')
+redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / math.max(rate, 0.001) * 1000) + 60000)
+
+return {allowed, math.floor(tokens), used}
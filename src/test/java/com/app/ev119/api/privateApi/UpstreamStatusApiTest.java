@@ -0,0 +1,83 @@
+package com.app.ev119.api.privateApi;
+
+import com.app.ev119.handler.GlobalExceptionHandler;
+import com.app.ev119.service.StatusContributor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class UpstreamStatusApiTest {
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        UpstreamStatusApi api = new UpstreamStatusApi(List.of(
+                contributor("quota", Map.of("tokens", 3)),
+                contributor("cache", Map.of("hits", 10))
+        ));
+        mockMvc = MockMvcBuilders.standaloneSetup(api)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void listsNamesInOrder() throws Exception {
+        mockMvc.perform(get("/api/admin/upstream"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0]").value("cache"))
+                .andExpect(jsonPath("$.data[1]").value("quota"));
+    }
+
+    @Test
+    void returnsOneContributorByName() throws Exception {
+        mockMvc.perform(get("/api/admin/upstream/quota"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.tokens").value(3));
+    }
+
+    @Test
+    void returnsAllContributors() throws Exception {
+        mockMvc.perform(get("/api/admin/upstream/all"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.cache.hits").value(10))
+                .andExpect(jsonPath("$.data.quota.tokens").value(3));
+    }
+
+    @Test
+    void unknownNameIs404() throws Exception {
+        mockMvc.perform(get("/api/admin/upstream/nope"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void duplicateNamesAreRejected() {
+        assertThrows(IllegalStateException.class, () -> new UpstreamStatusApi(List.of(
+                contributor("quota", Map.of()),
+                contributor("quota", Map.of())
+        )));
+    }
+
+    private static StatusContributor contributor(String name, Object status) {
+        return new StatusContributor() {
+            @Override
+            public String getStatusName() {
+                return name;
+            }
+
+            @Override
+            public Object getStatus() {
+                return status;
+            }
+        };
+    }
+}
@@ -0,0 +1,108 @@
+package com.app.ev119.config;
+
+import com.app.ev119.domain.dto.response.CheckEmergencyRealtimeResponse;
+import com.app.ev119.service.RealtimeCacheEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactCacheValueSerializerTest {
+
+    private CompactCacheValueSerializer serializer;
+
+    @BeforeEach
+    void setUp() {
+        serializer = new CompactCacheValueSerializer(256);
+    }
+
+    @Test
+    void realtimeEntryRoundTripsCompressed() throws IOException {
+        CheckEmergencyRealtimeResponse response = loadFixture();
+        RealtimeCacheEntry entry = new RealtimeCacheEntry(response, 1_000L, 31_000L, 301_000L, 250L);
+
+        byte[] bytes = serializer.serialize(entry);
+        assertEquals(CompactCacheValueSerializer.VERSION_1, bytes[0]);
+        assertEquals(0x01, bytes[1] & 0x01);
+
+        RealtimeCacheEntry restored = assertInstanceOf(RealtimeCacheEntry.class, serializer.deserialize(bytes));
+        assertEquals(response, restored.getValue());
+        assertEquals(1_000L, restored.getLoadedAt());
+        assertEquals(31_000L, restored.getSoftExpireAt());
+        assertEquals(301_000L, restored.getHardExpireAt());
+        assertEquals(250L, restored.getLoadMillis());
+    }
+
+    @Test
+    void compactIsSmallerThanLegacyJson() throws IOException {
+        CheckEmergencyRealtimeResponse response = loadFixture();
+
+        byte[] compact = serializer.serialize(response);
+        byte[] json = new GenericJackson2JsonRedisSerializer().serialize(response);
+
+        assertTrue(compact.length < json.length, "compact=" + compact.length + ", json=" + json.length);
+    }
+
+    @Test
+    void smallValueIsNotCompressed() {
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("hpid", "A1100001");
+        value.put("beds", 3);
+
+        byte[] bytes = serializer.serialize(value);
+        assertEquals(0, bytes[1] & 0x01);
+        assertEquals(value, serializer.deserialize(bytes));
+    }
+
+    @Test
+    void nullValueRoundTrips() {
+        assertSame(NullValue.INSTANCE, serializer.deserialize(serializer.serialize(null)));
+        assertSame(NullValue.INSTANCE, serializer.deserialize(serializer.serialize(NullValue.INSTANCE)));
+    }
+
+    @Test
+    void legacyJsonValuesAreStillReadable() {
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("hpid", "A1100001");
+        value.put("items", new ArrayList<>(List.of("a", "b")));
+        byte[] legacy = new GenericJackson2JsonRedisSerializer().serialize(value);
+
+        assertEquals(value, serializer.deserialize(legacy));
+    }
+
+    @Test
+    void truncatedCompressedBodyFails() throws IOException {
+        byte[] bytes = serializer.serialize(loadFixture());
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length / 2);
+
+        assertThrows(SerializationException.class, () -> serializer.deserialize(truncated));
+    }
+
+    @Test
+    void emptyInputIsNull() {
+        assertEquals(null, serializer.deserialize(new byte[0]));
+        assertEquals(null, serializer.deserialize(null));
+    }
+
+    private CheckEmergencyRealtimeResponse loadFixture() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/realtime/check-emergency-realtime-page.xml")) {
+            return Jackson2ObjectMapperBuilder.xml().build().readValue(in, CheckEmergencyRealtimeResponse.class);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.app.ev119.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TwoTierCacheManagerTest {
+
+    private static final String CHANNEL = "emergency:cache:invalidate";
+
+    private ConcurrentMapCache l2;
+    private StringRedisTemplate redis;
+    private TwoTierCacheManager manager;
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        l2 = new ConcurrentMapCache("realtime");
+        RedisCacheManager redisCacheManager = mock(RedisCacheManager.class);
+        when(redisCacheManager.getCache("realtime")).thenReturn(l2);
+        redis = mock(StringRedisTemplate.class);
+
+        manager = new TwoTierCacheManager(redisCacheManager, new LayeredCacheProperties(), redis);
+        cache = manager.getCache("realtime");
+    }
+
+    @Test
+    void keyAndClearMessagesHaveDifferentTypes() {
+        cache.put("*", 1);
+        cache.clear();
+
+        ArgumentCaptor<String> messages = ArgumentCaptor.forClass(String.class);
+        verify(redis, times(2)).convertAndSend(eq(CHANNEL), messages.capture());
+        List<String> sent = messages.getAllValues();
+        assertEquals("realtime|K|*", sent.get(0).substring(sent.get(0).indexOf('|') + 1));
+        assertEquals("realtime|A", sent.get(1).substring(sent.get(1).indexOf('|') + 1));
+    }
+
+    @Test
+    void remoteKeyMessageEvictsOnlyThatKey() {
+        cache.put("*", 1);
+        cache.put("b", 2);
+        l2.put("*", 10);
+        l2.put("b", 20);
+
+        manager.onInvalidation("other-node|realtime|K|*");
+
+        assertEquals(10, cache.get("*").get());
+        assertEquals(2, cache.get("b").get());
+    }
+
+    @Test
+    void remoteClearMessageClearsL1() {
+        cache.put("a", 1);
+        l2.put("a", 10);
+
+        manager.onInvalidation("other-node|realtime|A");
+
+        assertEquals(10, cache.get("a").get());
+    }
+
+    @Test
+    void ownAndMalformedMessagesAreIgnored() {
+        cache.put("a", 1);
+        l2.put("a", 10);
+
+        ArgumentCaptor<String> messages = ArgumentCaptor.forClass(String.class);
+        verify(redis).convertAndSend(anyString(), messages.capture());
+        manager.onInvalidation(messages.getValue());
+        manager.onInvalidation("other-node|realtime|a");
+        manager.onInvalidation("other-node|realtime|A|a");
+
+        assertEquals(1, cache.get("a").get());
+    }
+}
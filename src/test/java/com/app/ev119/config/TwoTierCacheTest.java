@@ -0,0 +1,179 @@
+package com.app.ev119.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TwoTierCacheTest {
+
+    private ConcurrentMapCache l2;
+    private List<String> invalidations;
+    private TwoTierCache cache;
+
+    @BeforeEach
+    void setUp() {
+        l2 = new ConcurrentMapCache("realtime");
+        invalidations = new ArrayList<>();
+        com.github.benmanes.caffeine.cache.Cache<String, Cache.ValueWrapper> l1 =
+                Caffeine.newBuilder().maximumSize(100).expireAfterWrite(Duration.ofSeconds(10)).recordStats().build();
+        cache = new TwoTierCache("realtime", l1, l2, 60,
+                (name, key) -> invalidations.add(name + "|" + (key == null ? "(all)" : key)));
+    }
+
+    @Test
+    void l2HitIsCopiedIntoL1() {
+        l2.put("k", "v1");
+
+        assertEquals("v1", cache.get("k", String.class));
+        // L2 가 바뀌어도 무효화 전까지는 L1 값
+        l2.put("k", "v2");
+        assertEquals("v1", cache.get("k", String.class));
+
+        cache.evictLocal("k");
+        assertEquals("v2", cache.get("k", String.class));
+        assertEquals(2L, l2Stat("hits"));
+    }
+
+    @Test
+    void missIsCountedAndNotCached() {
+        assertNull(cache.get("none"));
+        l2.put("none", "late");
+        assertEquals("late", cache.get("none", String.class));
+        assertEquals(1L, l2Stat("misses"));
+    }
+
+    @Test
+    void writesGoToBothTiersAndBroadcast() {
+        cache.put("k", "v");
+        assertEquals("v", l2.get("k").get());
+        assertEquals("v", cache.get("k").get());
+
+        cache.evict("k");
+        assertNull(l2.get("k"));
+        assertNull(cache.get("k"));
+
+        cache.put("a", 1);
+        cache.clear();
+        assertNull(cache.get("a"));
+
+        assertEquals(List.of("realtime|k", "realtime|k", "realtime|a", "realtime|(all)"), invalidations);
+    }
+
+    @Test
+    void clearLocalClearsOnlyL1() {
+        cache.put("a", 1);
+        cache.put("b", 2);
+        l2.put("a", 10);
+
+        cache.clearLocal();
+
+        assertEquals(10, cache.get("a").get());
+        assertEquals(2, cache.get("b").get());
+    }
+
+    @Test
+    void keyThatLooksLikeAWildcardIsEvictedAlone() {
+        cache.put("*", 1);
+        cache.put("b", 2);
+        l2.put("*", 10);
+        l2.put("b", 20);
+
+        cache.evictLocal("*");
+
+        assertEquals(10, cache.get("*").get());
+        assertEquals(2, cache.get("b").get());
+    }
+
+    @Test
+    void valueLoaderRunsOnlyOnMiss() {
+        assertEquals("loaded", cache.get("k", () -> "loaded"));
+        assertEquals("loaded", cache.get("k", () -> "again"));
+        assertEquals("loaded", l2.get("k").get());
+        assertEquals(List.of("realtime|k"), invalidations);
+        assertThrows(Cache.ValueRetrievalException.class,
+                () -> cache.get("x", () -> { throw new Exception("fail"); }));
+    }
+
+    @Test
+    void valueLoaderIsSkippedOnL2Hit() {
+        l2.put("k", "remote");
+        assertEquals("remote", cache.get("k", () -> "loaded"));
+        assertEquals(1L, l2Stat("hits"));
+        assertEquals(0L, l2Stat("puts"));
+    }
+
+    @Test
+    void concurrentLoadsOfOneKeyRunTheLoaderOnce() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = pool.submit(() -> cache.get("k", () -> {
+                calls.incrementAndGet();
+                entered.countDown();
+                assertTrue(release.await(5, TimeUnit.SECONDS));
+                return "first";
+            }));
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+            Future<String> second = pool.submit(() -> cache.get("k", () -> {
+                calls.incrementAndGet();
+                return "second";
+            }));
+            // 두 번째 요청이 첫 적재를 기다리는 동안 풀어줌
+            Thread.sleep(100);
+            release.countDown();
+
+            assertEquals("first", first.get(5, TimeUnit.SECONDS));
+            assertEquals("first", second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, calls.get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void statsReportL2WritesAndTtls() {
+        cache.put("a", 1);
+        cache.evict("a");
+        cache.clear();
+
+        assertEquals(1L, l2Stat("puts"));
+        assertEquals(1L, l2Stat("evicts"));
+        assertEquals(1L, l2Stat("clears"));
+        assertEquals(60L, l2Stat("ttlSeconds"));
+        assertEquals(10L, ((Map<String, Object>) cache.getStats().get("l1")).get("ttlSeconds"));
+    }
+
+    @Test
+    void wrongTypeIsRejected() {
+        cache.put("k", 1);
+        assertThrows(IllegalStateException.class, () -> cache.get("k", String.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private long l2Stat(String name) {
+        return (Long) ((Map<String, Object>) cache.getStats().get("l2")).get(name);
+    }
+}
@@ -0,0 +1,47 @@
+package com.app.ev119.domain.type;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class HistoryResolutionTest {
+
+    @Test
+    void floorTruncatesToTheBucketStart() {
+        Instant at = Instant.parse("2026-01-01T09:44:59.999Z");
+
+        assertEquals(Instant.parse("2026-01-01T09:44:00Z"), HistoryResolution.MINUTE_1.floor(at));
+        assertEquals(Instant.parse("2026-01-01T09:30:00Z"), HistoryResolution.MINUTE_15.floor(at));
+        assertEquals(Instant.parse("2026-01-01T09:00:00Z"), HistoryResolution.HOUR_1.floor(at));
+    }
+
+    @Test
+    void floorIsIdempotentOnBucketBoundaries() {
+        Instant boundary = Instant.parse("2026-01-01T10:15:00Z");
+
+        assertEquals(boundary, HistoryResolution.MINUTE_15.floor(boundary));
+        assertEquals(boundary, HistoryResolution.MINUTE_15.floor(HistoryResolution.MINUTE_15.floor(boundary)));
+    }
+
+    @Test
+    void floorRoundsDownBeforeTheEpoch() {
+        assertEquals(Instant.parse("1969-12-31T23:00:00Z"),
+                HistoryResolution.HOUR_1.floor(Instant.parse("1969-12-31T23:59:59Z")));
+    }
+
+    @Test
+    void coarserPicksTheLongerBucket() {
+        assertSame(HistoryResolution.MINUTE_15, HistoryResolution.MINUTE_1.coarser(HistoryResolution.MINUTE_15));
+        assertSame(HistoryResolution.HOUR_1, HistoryResolution.HOUR_1.coarser(HistoryResolution.MINUTE_1));
+        assertSame(HistoryResolution.MINUTE_15, HistoryResolution.MINUTE_15.coarser(HistoryResolution.MINUTE_15));
+    }
+
+    @Test
+    void millisMatchMinutes() {
+        assertEquals(900_000L, HistoryResolution.MINUTE_15.getMillis());
+        assertEquals(3_600_000L, HistoryResolution.HOUR_1.getMillis());
+    }
+}
@@ -0,0 +1,125 @@
+package com.app.ev119.handler;
+
+import com.app.ev119.exception.DataNotReadyException;
+import com.app.ev119.exception.EmergencyQueryException;
+import com.app.ev119.exception.QuotaExceededException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 다른 컨트롤러에서 던진 예외가 GlobalExceptionHandler 로 상태 코드 매핑되는지
+ * (standaloneSetup 은 @ControllerAdvice 가 붙은 빈만 advice 로 등록)
+ */
+class GlobalExceptionHandlerTest {
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new ThrowingController())
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void quotaExceededIs429() throws Exception {
+        mockMvc.perform(get("/test/quota"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.message").value("quota"));
+    }
+
+    @Test
+    void upstreamTooManyRequestsIs429() throws Exception {
+        mockMvc.perform(get("/test/upstream-429"))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void responseStatusExceptionKeepsItsStatus() throws Exception {
+        mockMvc.perform(get("/test/not-found"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void missingAndMistypedParametersAre400() throws Exception {
+        mockMvc.perform(get("/test/param"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/test/param").param("n", "abc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("요청 파라미터 또는 본문 형식이 올바르지 않습니다."));
+    }
+
+    @Test
+    void invalidEmergencyQueryIs400() throws Exception {
+        mockMvc.perform(get("/test/bad-query"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("bad query"));
+    }
+
+    @Test
+    void dataNotReadyIs503() throws Exception {
+        mockMvc.perform(get("/test/not-ready"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.message").value("not ready"));
+    }
+
+    @Test
+    void unexpectedExceptionIs500WithoutItsMessage() throws Exception {
+        mockMvc.perform(get("/test/boom"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.message").value("서버 내부 오류가 발생했습니다. 잠시 후 다시 시도해 주세요."));
+    }
+
+    @RestController
+    static class ThrowingController {
+
+        @GetMapping("/test/quota")
+        String quota() {
+            throw new QuotaExceededException("quota");
+        }
+
+        @GetMapping("/test/upstream-429")
+        String upstream429() {
+            throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests",
+                    HttpHeaders.EMPTY, null, null);
+        }
+
+        @GetMapping("/test/not-found")
+        String notFound() {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "none");
+        }
+
+        @GetMapping("/test/param")
+        String param(@RequestParam("n") Integer n) {
+            return String.valueOf(n);
+        }
+
+        @GetMapping("/test/bad-query")
+        String badQuery() {
+            throw new EmergencyQueryException("bad query");
+        }
+
+        @GetMapping("/test/not-ready")
+        String notReady() {
+            throw new DataNotReadyException("not ready");
+        }
+
+        @GetMapping("/test/boom")
+        String boom() {
+            throw new IllegalStateException("boom");
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.app.ev119.service;
+
+import com.app.ev119.domain.dto.response.CheckEmergencyRealtimeItem;
+import com.app.ev119.exception.EmergencyQueryException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 전송 작업은 직접 실행 (emitter 는 응답에 연결되기 전이라 send 가 내부 버퍼에 쌓임)
+ */
+class AvailabilitySubscriptionServiceTest {
+
+    private EmergencyRealtimeSnapshotService snapshotService;
+    private AvailabilitySubscriptionService service;
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        snapshotService = mock(EmergencyRealtimeSnapshotService.class);
+        ThreadPoolTaskExecutor executor = mock(ThreadPoolTaskExecutor.class);
+        doAnswer(inv -> tasks.add(inv.getArgument(0))).when(executor).execute(any(Runnable.class));
+
+        service = new AvailabilitySubscriptionService(snapshotService, mock(EmergencyFacilityIndexService.class),
+                new ObjectMapper(), executor);
+        ReflectionTestUtils.setField(service, "timeoutMs", 60_000L);
+        ReflectionTestUtils.setField(service, "maxSubscribers", 10);
+        ReflectionTestUtils.setField(service, "maxHpids", 3);
+        ReflectionTestUtils.setField(service, "outboxSize", 2);
+
+        when(snapshotService.getSnapshot()).thenReturn(snapshot(5L, "202601010000", "3"));
+    }
+
+    @Test
+    void slowSubscriberIsDroppedWhenItsOutboxOverflows() {
+        service.subscribeHpids("A1");
+        service.heartbeat(); // outbox = snapshot + ping (가득 참)
+        service.heartbeat();
+
+        Map<String, Object> status = service.getStatus();
+        assertEquals(0, status.get("subscribers"));
+        assertEquals(0, status.get("watchedHospitals"));
+        assertEquals(1L, status.get("slowConsumers"));
+        assertEquals(1L, status.get("droppedSubscribers"));
+    }
+
+    @Test
+    void eachSubscriberHasAtMostOneDrainTask() {
+        service.subscribeHpids("A1");
+        service.heartbeat();
+
+        assertEquals(1, tasks.size());
+        runTasks();
+        assertEquals(2L, service.getStatus().get("pushedEvents"));
+    }
+
+    @Test
+    void deltasAlreadyInTheInitialSnapshotAreNotSent() {
+        service.subscribeHpids("A1");
+        runTasks();
+
+        service.onSnapshotRefreshed(new EmergencyRealtimeSnapshotRefreshedEvent(
+                snapshot(4L, "202601010000", "3"), snapshot(5L, "202601010005", "4")));
+        runTasks();
+        assertEquals(1L, service.getStatus().get("pushedEvents"));
+
+        service.onSnapshotRefreshed(new EmergencyRealtimeSnapshotRefreshedEvent(
+                snapshot(5L, "202601010005", "4"), snapshot(6L, "202601010010", "2")));
+        runTasks();
+        assertEquals(2L, service.getStatus().get("pushedEvents"));
+    }
+
+    @Test
+    void unwatchedHospitalsAreNotPushed() {
+        service.subscribeHpids("B9");
+        runTasks();
+
+        service.onSnapshotRefreshed(new EmergencyRealtimeSnapshotRefreshedEvent(
+                snapshot(5L, "202601010000", "3"), snapshot(6L, "202601010005", "4")));
+
+        assertEquals(0, tasks.size());
+        assertEquals(1L, service.getStatus().get("pushedEvents"));
+    }
+
+    @Test
+    void rejectsEmptyOrTooLargeSubscriptions() {
+        assertThrows(EmergencyQueryException.class, () -> service.subscribeHpids(" , "));
+        assertThrows(EmergencyQueryException.class, () -> service.subscribeHpids("A1,A2,A3,A4"));
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    private static EmergencyRealtimeSnapshot snapshot(long version, String hvidate, String hvec) {
+        CheckEmergencyRealtimeItem it = new CheckEmergencyRealtimeItem();
+        it.setHvidate(hvidate);
+        it.setHvec(hvec);
+
+        Map<String, CheckEmergencyRealtimeItem> items = new LinkedHashMap<>();
+        items.put("A1", it);
+        Map<String, EmergencyRealtimeSnapshot.RegionSnapshot> regions = new LinkedHashMap<>();
+        regions.put("서울", new EmergencyRealtimeSnapshot.RegionSnapshot("서울", Instant.EPOCH, items));
+        return EmergencyRealtimeSnapshot.of(version, Instant.EPOCH, regions);
+    }
+}
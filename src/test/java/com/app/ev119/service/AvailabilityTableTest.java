@@ -0,0 +1,115 @@
+package com.app.ev119.service;
+
+import com.app.ev119.domain.dto.response.CheckEmergencyRealtimeItem;
+import com.app.ev119.domain.type.EquipmentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AvailabilityTableTest {
+
+    private AvailabilityTable table;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, CheckEmergencyRealtimeItem> seoul = new LinkedHashMap<>();
+        seoul.put("A1", item("서울병원", "5", "Y", "Y"));
+        seoul.put("A2", item("서울의원", "0", "Y", "N"));
+        seoul.put("A3", item("서울센터", "없음", "N", "Y"));
+
+        Map<String, CheckEmergencyRealtimeItem> busan = new LinkedHashMap<>();
+        busan.put("B1", item("부산병원", " 12 ", "Y", "Y"));
+        busan.put("A1", item("중복병원", "99", "N", "N"));
+
+        Map<String, EmergencyRealtimeSnapshot.RegionSnapshot> regions = new LinkedHashMap<>();
+        regions.put("서울", new EmergencyRealtimeSnapshot.RegionSnapshot("서울", Instant.EPOCH, seoul));
+        regions.put("부산", new EmergencyRealtimeSnapshot.RegionSnapshot("부산", Instant.EPOCH, busan));
+
+        table = AvailabilityTable.from(EmergencyRealtimeSnapshot.of(3L, Instant.EPOCH, regions));
+    }
+
+    @Test
+    void duplicateHpidKeepsTheFirstRegion() {
+        assertEquals(4, table.getSize());
+        int row = table.rowOf("A1");
+        assertEquals("서울병원", table.getDutyName()[row]);
+        assertEquals("서울", table.getStage1()[row]);
+        assertNull(table.rowOf("ZZ"));
+    }
+
+    @Test
+    void numbersAreParsedOnceAndGarbageIsUnknown() {
+        assertEquals(5, table.getHvec()[table.rowOf("A1")]);
+        assertEquals(12, table.getHvec()[table.rowOf("B1")]);
+        assertEquals(AvailabilityTable.UNKNOWN, table.getHvec()[table.rowOf("A3")]);
+        assertEquals(AvailabilityTable.UNKNOWN, table.getHvgc()[table.rowOf("A1")]);
+    }
+
+    @Test
+    void filterCombinesEquipmentRegionAndBeds() {
+        assertEquals(rows("A1", "A2", "B1"), table.filter(List.of(EquipmentType.CT), null, 0));
+        assertEquals(rows("A1", "B1"), table.filter(List.of(EquipmentType.CT, EquipmentType.MRI), null, 0));
+        assertEquals(rows("A1"), table.filter(List.of(EquipmentType.CT, EquipmentType.MRI), "서울", 0));
+        assertEquals(rows("B1"), table.filter(List.of(), null, 6));
+    }
+
+    @Test
+    void unknownBedCountNeverSatisfiesAMinimum() {
+        BitSet result = table.filter(List.of(), "서울", 1);
+        assertFalse(result.get(table.rowOf("A3")));
+        assertEquals(rows("A1"), result);
+    }
+
+    @Test
+    void unknownRegionMatchesNothing() {
+        assertTrue(table.filter(List.of(), "없는지역", 0).isEmpty());
+    }
+
+    @Test
+    void equipmentFlagsAreReadPerRow() {
+        assertTrue(table.hasEquipment(table.rowOf("A1"), EquipmentType.MRI));
+        assertFalse(table.hasEquipment(table.rowOf("A2"), EquipmentType.MRI));
+    }
+
+    @Test
+    void namesAreInternedAcrossVersions() {
+        Map<String, CheckEmergencyRealtimeItem> seoul = new LinkedHashMap<>();
+        seoul.put("A1", item(new String("서울병원"), "1", "N", "N"));
+        AvailabilityTable next = AvailabilityTable.from(EmergencyRealtimeSnapshot.of(4L, Instant.EPOCH,
+                Map.of("서울", new EmergencyRealtimeSnapshot.RegionSnapshot("서울", Instant.EPOCH, seoul))));
+
+        assertSame(table.getDutyName()[table.rowOf("A1")], next.getDutyName()[next.rowOf("A1")]);
+    }
+
+    @Test
+    void emptyTableFiltersToNothing() {
+        assertEquals(0, AvailabilityTable.EMPTY.getSize());
+        assertTrue(AvailabilityTable.EMPTY.filter(List.of(EquipmentType.CT), null, 0).isEmpty());
+    }
+
+    private BitSet rows(String... hpids) {
+        BitSet bits = new BitSet();
+        for (String hpid : hpids) bits.set(table.rowOf(hpid));
+        return bits;
+    }
+
+    private static CheckEmergencyRealtimeItem item(String dutyName, String hvec, String ct, String mri) {
+        CheckEmergencyRealtimeItem it = new CheckEmergencyRealtimeItem();
+        it.setDutyName(dutyName);
+        it.setHvec(hvec);
+        it.setHvctayn(ct);
+        it.setHvmriayn(mri);
+        return it;
+    }
+}
@@ -0,0 +1,39 @@
+package com.app.ev119.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 위치 검색 페이지 파라미터 보정 (0/음수/과대 pageNo, numOfRows)
+ */
+class EmergencyFacilityIndexServiceTest {
+
+    @Test
+    void offsetIsClampedToSize() {
+        assertEquals(0, EmergencyFacilityIndexService.offset(1, 10, 100));
+        assertEquals(20, EmergencyFacilityIndexService.offset(3, 10, 100));
+        assertEquals(100, EmergencyFacilityIndexService.offset(50, 10, 100));
+        assertEquals(0, EmergencyFacilityIndexService.offset(0, 10, 100));
+        assertEquals(0, EmergencyFacilityIndexService.offset(-5, 10, 100));
+    }
+
+    @Test
+    void offsetDoesNotOverflowForHugePageNo() {
+        assertEquals(100, EmergencyFacilityIndexService.offset(Integer.MAX_VALUE, 500, 100));
+    }
+
+    @Test
+    void pagingParametersAreClamped() {
+        assertEquals(1, SearchEmergencyLocationInfoService.clampPageNo(null));
+        assertEquals(1, SearchEmergencyLocationInfoService.clampPageNo(0));
+        assertEquals(1, SearchEmergencyLocationInfoService.clampPageNo(-3));
+        assertEquals(7, SearchEmergencyLocationInfoService.clampPageNo(7));
+
+        assertEquals(10, SearchEmergencyLocationInfoService.clampNumOfRows(null));
+        assertEquals(1, SearchEmergencyLocationInfoService.clampNumOfRows(0));
+        assertEquals(1, SearchEmergencyLocationInfoService.clampNumOfRows(-1));
+        assertEquals(500, SearchEmergencyLocationInfoService.clampNumOfRows(100_000));
+        assertEquals(30, SearchEmergencyLocationInfoService.clampNumOfRows(30));
+    }
+}
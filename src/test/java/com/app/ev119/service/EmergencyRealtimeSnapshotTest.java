@@ -0,0 +1,54 @@
+package com.app.ev119.service;
+
+import com.app.ev119.domain.dto.response.CheckEmergencyRealtimeItem;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class EmergencyRealtimeSnapshotTest {
+
+    private static final Instant OLD = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Instant NEW = Instant.parse("2026-01-01T00:05:00Z");
+
+    @Test
+    void duplicateHpidTakesTheMostRecentlyRefreshedRegion() {
+        Map<String, EmergencyRealtimeSnapshot.RegionSnapshot> regions = new LinkedHashMap<>();
+        regions.put("서울", region("서울", OLD, Map.of("A1", item("3"), "A2", item("1"))));
+        regions.put("경기", region("경기", NEW, Map.of("A1", item("7"))));
+
+        EmergencyRealtimeSnapshot snapshot = EmergencyRealtimeSnapshot.of(2L, NEW, regions);
+
+        assertEquals("7", snapshot.get("A1").getHvec());
+        assertEquals(NEW, snapshot.refreshedAtOf("A1"));
+        assertEquals(OLD, snapshot.refreshedAtOf(" A2"));
+
+        AvailabilityTable table = AvailabilityTable.from(snapshot);
+        assertEquals("경기", table.getStage1()[table.rowOf("A1")]);
+    }
+
+    @Test
+    void unknownHpidHasNoRefreshedAt() {
+        EmergencyRealtimeSnapshot snapshot = EmergencyRealtimeSnapshot.of(1L, NEW,
+                Map.of("서울", region("서울", NEW, Map.of("A1", item("1")))));
+
+        assertNull(snapshot.refreshedAtOf("ZZ"));
+        assertNull(snapshot.refreshedAtOf(null));
+        assertNull(EmergencyRealtimeSnapshot.EMPTY.refreshedAtOf("A1"));
+    }
+
+    private static EmergencyRealtimeSnapshot.RegionSnapshot region(String stage1, Instant at,
+                                                                   Map<String, CheckEmergencyRealtimeItem> items) {
+        return new EmergencyRealtimeSnapshot.RegionSnapshot(stage1, at, new LinkedHashMap<>(items));
+    }
+
+    private static CheckEmergencyRealtimeItem item(String hvec) {
+        CheckEmergencyRealtimeItem it = new CheckEmergencyRealtimeItem();
+        it.setHvec(hvec);
+        return it;
+    }
+}
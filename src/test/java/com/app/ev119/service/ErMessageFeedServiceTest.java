@@ -0,0 +1,101 @@
+package com.app.ev119.service;
+
+import com.app.ev119.domain.dto.request.EmergencyRoomMessageRequestDTO;
+import com.app.ev119.domain.dto.response.EmergencyRoomMessageResponse;
+import com.app.ev119.domain.type.RegionType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ErMessageFeedServiceTest {
+
+    private static final long MIN_INTERVAL = 120_000;
+
+    private final List<String> polledHpids = new ArrayList<>();
+    private ErMessageFeedService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        HashOperations<String, Object, Object> hashOps = mock(HashOperations.class);
+        when(redis.<Object, Object>opsForHash()).thenReturn(hashOps);
+        when(redis.opsForValue()).thenReturn(mock(ValueOperations.class));
+        when(hashOps.entries("emergency:messages:state")).thenReturn(Map.of());
+        ErMessageStore store = new ErMessageStore(redis, new ObjectMapper());
+        ReflectionTestUtils.setField(store, "logCapacity", 100);
+
+        // 첫 시도 sweep 에서 A1, A2 발견 / HPID 단건 조회는 A1 만 upstream 오류
+        String firstStage1 = RegionType.values()[0].getStage1();
+        EmergencyRoomMessageService messageService = mock(EmergencyRoomMessageService.class);
+        when(messageService.getEmergencyRoomMessage(any())).thenAnswer(inv -> {
+            EmergencyRoomMessageRequestDTO req = inv.getArgument(0);
+            if (req.getHpid() == null) {
+                return firstStage1.equals(req.getQ0()) ? response(message("A1", "a"), message("A2", "b")) : response();
+            }
+            polledHpids.add(req.getHpid());
+            if ("A1".equals(req.getHpid())) throw new ResourceAccessException("read timed out");
+            return response(message("A2", "b"));
+        });
+
+        service = new ErMessageFeedService(messageService, mock(PublicApiQuotaService.class), store);
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "sweepMs", 1_800_000L);
+        ReflectionTestUtils.setField(service, "minIntervalMs", MIN_INTERVAL);
+        ReflectionTestUtils.setField(service, "maxIntervalMs", 3_600_000L);
+        ReflectionTestUtils.setField(service, "maxPollsPerTick", 20);
+    }
+
+    @Test
+    void failingHospitalBacksOffWithoutBlockingOthers() {
+        service.tick(0);
+        assertEquals(List.of(), polledHpids);
+
+        // 둘 다 due, A1 실패해도 A2 는 조회
+        service.tick(MIN_INTERVAL);
+        assertEquals(2, polledHpids.size());
+        assertEquals(List.of("A1", "A2"), polledHpids.stream().sorted().toList());
+        assertEquals(1L, service.getStatus().get("pollFailures"));
+
+        // A2 는 1.5배(180s) 뒤, A1 은 2배(240s) 뒤
+        polledHpids.clear();
+        service.tick(MIN_INTERVAL + 180_000);
+        assertEquals(List.of("A2"), polledHpids);
+
+        polledHpids.clear();
+        service.tick(MIN_INTERVAL + 240_000);
+        assertEquals(List.of("A1"), polledHpids);
+        assertEquals(2L, service.getStatus().get("pollFailures"));
+    }
+
+    private static EmergencyRoomMessageResponse response(EmergencyRoomMessageResponse.Item... items) {
+        EmergencyRoomMessageResponse.Body body = new EmergencyRoomMessageResponse.Body();
+        body.setItems(new ArrayList<>(List.of(items)));
+        body.setTotalCount(items.length);
+        EmergencyRoomMessageResponse res = new EmergencyRoomMessageResponse();
+        res.setBody(body);
+        return res;
+    }
+
+    private static EmergencyRoomMessageResponse.Item message(String hpid, String text) {
+        EmergencyRoomMessageResponse.Item it = new EmergencyRoomMessageResponse.Item();
+        it.setHpid(hpid);
+        it.setSymBlkMsg(text);
+        it.setSymTypCod("Y000");
+        return it;
+    }
+}
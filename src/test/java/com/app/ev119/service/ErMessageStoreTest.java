@@ -0,0 +1,167 @@
+package com.app.ev119.service;
+
+import com.app.ev119.domain.dto.response.EmergencyRoomMessageResponse;
+import com.app.ev119.domain.dto.response.ErMessageFeedResponse;
+import com.app.ev119.domain.dto.response.ErMessageItem;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ErMessageStoreTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private HashOperations<String, Object, Object> hashOps;
+    private ValueOperations<String, String> valueOps;
+    private ErMessageStore store;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        hashOps = mock(HashOperations.class);
+        valueOps = mock(ValueOperations.class);
+        when(redis.<Object, Object>opsForHash()).thenReturn(hashOps);
+        when(redis.opsForValue()).thenReturn(valueOps);
+        when(hashOps.entries("emergency:messages:state")).thenReturn(Map.of());
+
+        store = new ErMessageStore(redis, objectMapper);
+        ReflectionTestUtils.setField(store, "logCapacity", 100);
+    }
+
+    @Test
+    void incrementalFeedReturnsAddedAndRemoved() {
+        store.apply("A1", List.of(message("m1"), message("m2")));
+        ErMessageFeedResponse first = store.since(0, null, null, 10);
+
+        assertFalse(first.isReset());
+        assertEquals(List.of(1L, 2L), versions(first));
+        assertEquals(2, first.getVersion());
+
+        store.apply("A1", List.of(message("m2")));
+        ErMessageFeedResponse next = store.since(2, null, null, 10);
+
+        assertEquals(1, next.getItems().size());
+        assertEquals("REMOVED", next.getItems().get(0).getOp());
+        assertEquals(3, next.getVersion());
+    }
+
+    @Test
+    void incrementalFeedPagesWithHasMore() {
+        store.apply("A1", List.of(message("m1"), message("m2"), message("m3")));
+
+        ErMessageFeedResponse page = store.since(0, null, null, 2);
+
+        assertTrue(page.isHasMore());
+        assertEquals(2, page.getVersion());
+        assertEquals(List.of(3L), versions(store.since(page.getVersion(), null, null, 2)));
+    }
+
+    @Test
+    void sinceBeforeTheRestorePointForcesReset() throws Exception {
+        ErMessageItem restored = new ErMessageItem();
+        restored.setVersion(7);
+        restored.setOp("ADDED");
+        restored.setHash("h7");
+        restored.setHpid("A1");
+        when(hashOps.entries("emergency:messages:state"))
+                .thenReturn(Map.of("A1", objectMapper.writeValueAsString(List.of(restored))));
+        when(valueOps.get("emergency:messages:version")).thenReturn("10");
+
+        ReflectionTestUtils.invokeMethod(store, "restore");
+
+        // 8~10 사이의 REMOVED 는 복원되지 않았으므로 로그로는 답할 수 없음
+        ErMessageFeedResponse stale = store.since(8, null, null, 10);
+        assertTrue(stale.isReset());
+        assertEquals(List.of(7L), versions(stale));
+        assertEquals(10, stale.getVersion());
+
+        ErMessageFeedResponse upToDate = store.since(10, null, null, 10);
+        assertFalse(upToDate.isReset());
+        assertTrue(upToDate.getItems().isEmpty());
+    }
+
+    @Test
+    void resetPagesWithCursorBeyondOnePage() {
+        for (int i = 1; i <= 5; i++) {
+            store.apply("H" + i, List.of(message("m" + i)));
+        }
+
+        ErMessageFeedResponse page1 = store.since(99, null, null, 2);
+        assertTrue(page1.isReset());
+        assertTrue(page1.isHasMore());
+        assertEquals(List.of(1L, 2L), versions(page1));
+        assertEquals(2L, page1.getCursor());
+        assertEquals(5, page1.getVersion());
+
+        // 이어 받는 도중의 변경: H3 삭제(v7), H6 추가(v6)
+        store.apply("H6", List.of(message("m6")));
+        store.apply("H3", List.of());
+
+        ErMessageFeedResponse page2 = store.since(page1.getVersion(), page1.getCursor(), null, 2);
+        assertTrue(page2.isReset());
+        assertFalse(page2.isHasMore());
+        assertNull(page2.getCursor());
+        assertEquals(List.of(4L, 5L), versions(page2));
+
+        // reset 이후 변경분은 증분 피드로
+        ErMessageFeedResponse delta = store.since(page2.getVersion(), null, null, 10);
+        assertFalse(delta.isReset());
+        assertEquals(List.of(6L, 7L), versions(delta));
+        assertEquals("REMOVED", delta.getItems().get(1).getOp());
+    }
+
+    @Test
+    void resetRespectsTheHospitalFilter() {
+        store.apply("A1", List.of(message("m1")));
+        store.apply("B1", List.of(message("m2"), message("m3")));
+
+        ErMessageFeedResponse reset = store.since(99, null, Set.of("B1"), 1);
+
+        assertEquals(List.of(2L), versions(reset));
+        assertTrue(reset.isHasMore());
+        assertEquals(List.of(3L), versions(store.since(reset.getVersion(), reset.getCursor(), Set.of("B1"), 1)));
+    }
+
+    @Test
+    void sinceOlderThanTheTrimmedLogForcesReset() {
+        ReflectionTestUtils.setField(store, "logCapacity", 2);
+        for (int i = 1; i <= 4; i++) {
+            store.apply("A1", List.of(message("m" + i)));
+        }
+
+        ErMessageFeedResponse response = store.since(0, null, null, 10);
+
+        assertTrue(response.isReset());
+        assertEquals(List.of(6L), versions(response));
+    }
+
+    private static EmergencyRoomMessageResponse.Item message(String text) {
+        EmergencyRoomMessageResponse.Item it = new EmergencyRoomMessageResponse.Item();
+        it.setSymBlkMsg(text);
+        it.setSymTypCod("Y000");
+        return it;
+    }
+
+    private static List<Long> versions(ErMessageFeedResponse response) {
+        List<Long> versions = new ArrayList<>();
+        for (ErMessageItem item : response.getItems()) versions.add(item.getVersion());
+        return versions;
+    }
+}
@@ -0,0 +1,128 @@
+package com.app.ev119.service;
+
+import com.app.ev119.domain.dto.response.SearchEmergencyLocationInfoItem;
+import com.app.ev119.domain.dto.response.SearchEmergencyLocationInfoResponse;
+import com.app.ev119.util.GeoUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeoCellResponseCacheTest {
+
+    private GeoCellResponseCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new GeoCellResponseCache(new ConcurrentMapCacheManager(GeoCellResponseCache.CACHE_NAME));
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "cellMeters", 200);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void nearbyCoordinatesShareOneUpstreamCall() {
+        cache.get(37.56650, 126.97800, 1, 10, this::load);
+        cache.get(37.56652, 126.97802, 1, 10, this::load);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void differentPageOrCellIsASeparateEntry() {
+        cache.get(37.5665, 126.9780, 1, 10, this::load);
+        cache.get(37.5665, 126.9780, 2, 10, this::load);
+        cache.get(37.5800, 126.9780, 1, 10, this::load);
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void distancesAreRecomputedFromTheCallerAndReordered() {
+        double lat = 37.56650;
+        double lon = 126.97800;
+        SearchEmergencyLocationInfoResponse res = cache.get(lat, lon, 2, 10, this::load);
+
+        List<SearchEmergencyLocationInfoItem> items = res.getBody().getItems();
+        for (int i = 0; i < items.size(); i++) {
+            SearchEmergencyLocationInfoItem it = items.get(i);
+            assertEquals(GeoUtil.haversineKm(lat, lon, it.getLatitude(), it.getLongitude()), it.getDistance(), 1e-9);
+            assertEquals(10 + i + 1, it.getRnum());
+            if (i > 0) assertTrue(items.get(i - 1).getDistance() <= it.getDistance());
+        }
+    }
+
+    @Test
+    void cachedItemsAreCopiedSoCallersCannotMutateTheEntry() {
+        SearchEmergencyLocationInfoResponse first = cache.get(37.5665, 126.9780, 1, 10, this::load);
+        String name = first.getBody().getItems().get(0).getDutyName();
+        first.getBody().getItems().get(0).setDutyName("changed");
+
+        SearchEmergencyLocationInfoResponse second = cache.get(37.5665, 126.9780, 1, 10, this::load);
+
+        assertNotSame(first.getBody().getItems().get(0), second.getBody().getItems().get(0));
+        assertEquals(name, second.getBody().getItems().get(0).getDutyName());
+    }
+
+    @Test
+    void disabledCacheCallsLoaderWithCallerCoordinates() {
+        ReflectionTestUtils.setField(cache, "enabled", false);
+        double[] seen = new double[2];
+
+        cache.get(37.5665, 126.9780, 1, 10, (la, lo) -> {
+            seen[0] = la;
+            seen[1] = lo;
+            return load(la, lo);
+        });
+        cache.get(37.5665, 126.9780, 1, 10, this::load);
+
+        assertEquals(37.5665, seen[0], 0.0);
+        assertEquals(126.9780, seen[1], 0.0);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void statusCountsHitsAndMissesPerCellSize() {
+        cache.get(37.5665, 126.9780, 1, 10, this::load);
+        cache.get(37.5665, 126.9780, 1, 10, this::load);
+
+        Map<String, Object> stats = (Map<String, Object>) cache.getStatus().get("200m");
+        assertEquals(1L, stats.get("hits"));
+        assertEquals(1L, stats.get("misses"));
+        assertEquals(true, stats.get("active"));
+    }
+
+    // 격자 중심 기준으로 거리를 매긴 응답
+    private SearchEmergencyLocationInfoResponse load(double lat, double lon) {
+        loads.incrementAndGet();
+        List<SearchEmergencyLocationInfoItem> items = new ArrayList<>();
+        double[][] points = {{37.5700, 126.9800}, {37.5600, 126.9700}, {37.5660, 126.9790}, {37.5500, 126.9900}};
+        for (int i = 0; i < points.length; i++) {
+            SearchEmergencyLocationInfoItem it = new SearchEmergencyLocationInfoItem();
+            it.setHpid("A" + i);
+            it.setLatitude(points[i][0]);
+            it.setLongitude(points[i][1]);
+            it.setDistance(GeoUtil.haversineKm(lat, lon, points[i][0], points[i][1]));
+            it.setDutyName("병원" + i);
+            items.add(it);
+        }
+
+        SearchEmergencyLocationInfoResponse.Body body = new SearchEmergencyLocationInfoResponse.Body();
+        body.setItems(items);
+        body.setTotalCount(items.size());
+        SearchEmergencyLocationInfoResponse response = new SearchEmergencyLocationInfoResponse();
+        response.setBody(body);
+        return response;
+    }
+}
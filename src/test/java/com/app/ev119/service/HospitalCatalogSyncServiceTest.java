@@ -0,0 +1,240 @@
+package com.app.ev119.service;
+
+import com.app.ev119.domain.dto.request.SearchEmergencyMedicalInfoRequestDTO;
+import com.app.ev119.domain.dto.response.EmergencyMedicalItem;
+import com.app.ev119.domain.dto.response.SearchEmergencyMedicalInfoResponse;
+import com.app.ev119.domain.type.RegionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HospitalCatalogSyncServiceTest {
+
+    private SearchEmergencyMedicalInfoService medicalInfoService;
+    private JdbcTemplate jdbcTemplate;
+    private HospitalCatalogSyncService service;
+
+    private static final String INSERT = "INSERT INTO TBL_HOSPITAL_CATALOG";
+    private static final String UPDATE_ROW = "UPDATE TBL_HOSPITAL_CATALOG SET STAGE1";
+    private static final String UPDATE_ORDER = "UPDATE TBL_HOSPITAL_CATALOG SET LIST_ORDER";
+    private static final String DELETE = "DELETE FROM TBL_HOSPITAL_CATALOG";
+
+    // 테이블 대신 기존 행 (hpid -> stage1, hash, listOrder) / 실행된 batch (SQL -> 파라미터)
+    private final Map<String, Object[]> table = new HashMap<>();
+    private final Map<String, List<Object[]>> batches = new HashMap<>();
+    private final List<Runnable> jobs = new ArrayList<>();
+    private ThreadPoolTaskExecutor catalogSyncExecutor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        medicalInfoService = mock(SearchEmergencyMedicalInfoService.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        catalogSyncExecutor = mock(ThreadPoolTaskExecutor.class);
+
+        doAnswer(inv -> {
+            RowCallbackHandler handler = inv.getArgument(1);
+            for (Map.Entry<String, Object[]> e : table.entrySet()) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getString(1)).thenReturn(e.getKey());
+                when(rs.getString(2)).thenReturn((String) e.getValue()[0]);
+                when(rs.getString(3)).thenReturn((String) e.getValue()[1]);
+                when(rs.getInt(4)).thenReturn((Integer) e.getValue()[2]);
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT"), any(RowCallbackHandler.class));
+        doAnswer(inv -> {
+            batches.put(inv.getArgument(0), inv.getArgument(1));
+            return new int[0];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+        doAnswer(inv -> {
+            ((Consumer<TransactionStatus>) inv.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        doAnswer(inv -> jobs.add(inv.getArgument(0))).when(catalogSyncExecutor).execute(any(Runnable.class));
+
+        service = new HospitalCatalogSyncService(medicalInfoService, mock(HospitalCatalogQueryService.class),
+                mock(PublicApiQuotaService.class), jdbcTemplate, transactionTemplate, catalogSyncExecutor);
+        ReflectionTestUtils.setField(service, "enabled", true);
+    }
+
+    @Test
+    void newHospitalsAreInserted() {
+        serve(item("A1", "서울대병원"), item("A2", "세브란스"));
+
+        Map<String, Object> result = service.sync();
+
+        assertEquals(2, result.get("inserted"));
+        assertEquals(2, batch(INSERT).size());
+    }
+
+    @Test
+    void orderOnlyChangeUpdatesListOrderWithoutRewritingTheRow() {
+        serve(item("A1", "서울대병원"), item("A2", "세브란스"));
+        service.sync();
+        loadTableFromInserts();
+        batches.clear();
+
+        serve(item("A2", "세브란스"), item("A1", "서울대병원"));
+        Map<String, Object> result = service.sync();
+
+        assertEquals(0, result.get("updated"));
+        assertEquals(2, result.get("reordered"));
+        assertTrue(batch(UPDATE_ROW).isEmpty());
+        List<Object[]> reorders = batch(UPDATE_ORDER);
+        assertEquals(2, reorders.size());
+        assertEquals(List.of(1, "A2"), List.of(reorders.get(0)));
+    }
+
+    @Test
+    void contentChangeRewritesTheRow() {
+        serve(item("A1", "서울대병원"), item("A2", "세브란스"));
+        service.sync();
+        loadTableFromInserts();
+        batches.clear();
+
+        serve(item("A1", "서울대학교병원"), item("A2", "세브란스"));
+        Map<String, Object> result = service.sync();
+
+        assertEquals(1, result.get("updated"));
+        assertEquals(1, result.get("unchanged"));
+        assertTrue(batch(UPDATE_ORDER).isEmpty());
+        assertEquals("A1", batch(UPDATE_ROW).get(0)[14]);
+    }
+
+    @Test
+    void missingHospitalIsDeletedOnlyInACompletedRegion() {
+        table.put("GONE", new Object[]{RegionType.SEOUL.getStage1(), "x", 1});
+        table.put("KEEP", new Object[]{RegionType.BUSAN.getStage1(), "x", 1});
+        serve(item("A1", "서울대병원"));
+
+        Map<String, Object> result = service.sync();
+
+        assertEquals(1, result.get("deleted"));
+        assertEquals(1, batch(DELETE).size());
+        assertEquals("GONE", batch(DELETE).get(0)[0]);
+    }
+
+    @Test
+    void manualSyncRunsInTheBackgroundOneJobAtATime() {
+        serve(item("A1", "서울대병원"));
+
+        Map<String, Object> started = service.startSync();
+        Map<String, Object> again = service.startSync();
+
+        assertEquals("RUNNING", started.get("state"));
+        assertEquals(started.get("jobId"), again.get("jobId"));
+        assertEquals(1, jobs.size());
+
+        jobs.remove(0).run();
+
+        Map<String, Object> done = service.getJob();
+        assertEquals("DONE", done.get("state"));
+        assertEquals(1, ((Map<?, ?>) done.get("lastSync")).get("inserted"));
+        assertEquals(2L, service.startSync().get("jobId"));
+    }
+
+    @Test
+    void failedJobIsReportedAndReleased() {
+        doAnswer(inv -> {
+            throw new IllegalStateException("db down");
+        }).when(jdbcTemplate).query(startsWith("SELECT"), any(RowCallbackHandler.class));
+
+        service.startSync();
+        jobs.remove(0).run();
+
+        assertEquals("FAILED", service.getJob().get("state"));
+        assertEquals("db down", service.getJob().get("error"));
+        assertEquals("RUNNING", service.startSync().get("state"));
+    }
+
+    @Test
+    void rejectedJobIsReportedAndReleased() {
+        doThrow(new TaskRejectedException("busy")).when(catalogSyncExecutor).execute(any(Runnable.class));
+
+        Map<String, Object> rejected = service.startSync();
+
+        assertEquals("FAILED", rejected.get("state"));
+        assertEquals("rejected: busy", rejected.get("error"));
+
+        doAnswer(inv -> jobs.add(inv.getArgument(0))).when(catalogSyncExecutor).execute(any(Runnable.class));
+        assertEquals("RUNNING", service.startSync().get("state"));
+        assertEquals(1, jobs.size());
+    }
+
+    @Test
+    void nightlySyncRunsAsABackgroundJob() {
+        serve(item("A1", "서울대병원"));
+
+        service.scheduledSync();
+
+        assertEquals("RUNNING", service.getJob().get("state"));
+        assertEquals(1, jobs.size());
+        jobs.remove(0).run();
+        assertEquals("DONE", service.getJob().get("state"));
+    }
+
+    // 서울 목록만 응답, 나머지 시도는 빈 응답
+    private void serve(EmergencyMedicalItem... items) {
+        doAnswer(inv -> {
+            SearchEmergencyMedicalInfoRequestDTO req = inv.getArgument(0);
+            if (!RegionType.SEOUL.getFullName().equals(req.getQ0())) return null;
+
+            SearchEmergencyMedicalInfoResponse.Body body = new SearchEmergencyMedicalInfoResponse.Body();
+            body.setItems(List.of(items));
+            body.setTotalCount(items.length);
+            SearchEmergencyMedicalInfoResponse response = new SearchEmergencyMedicalInfoResponse();
+            response.setBody(body);
+            return response;
+        }).when(medicalInfoService).fetchSearchEmergencyMedicalInfo(any());
+    }
+
+    private void loadTableFromInserts() {
+        for (Object[] row : batch(INSERT)) {
+            table.put((String) row[14], new Object[]{row[0], row[12], row[11]});
+        }
+    }
+
+    private List<Object[]> batch(String sqlPrefix) {
+        for (Map.Entry<String, List<Object[]>> e : batches.entrySet()) {
+            if (e.getKey().startsWith(sqlPrefix)) return e.getValue();
+        }
+        return List.of();
+    }
+
+    private static EmergencyMedicalItem item(String hpid, String name) {
+        EmergencyMedicalItem it = new EmergencyMedicalItem();
+        it.setHpid(hpid);
+        it.setDutyName(name);
+        it.setDutyAddr("서울특별시 종로구 대학로 101");
+        it.setWgs84Lat(37.58);
+        it.setWgs84Lon(127.0);
+        return it;
+    }
+}
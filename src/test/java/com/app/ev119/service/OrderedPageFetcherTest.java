@@ -0,0 +1,125 @@
+package com.app.ev119.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderedPageFetcherTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void mergesLikeSequentialLoop() {
+        // 페이지끼리 겹치는 키가 있어도 putIfAbsent 결과가 순차 조회와 같아야 함
+        IntFunction<List<String>> pages = page -> List.of("h" + page, "h" + (page + 1), "shared");
+
+        Map<String, Integer> sequential = new LinkedHashMap<>();
+        for (int page = 2; page <= 9; page++) {
+            for (String key : pages.apply(page)) sequential.putIfAbsent(key, page);
+        }
+
+        Map<String, Integer> windowed = new LinkedHashMap<>();
+        boolean complete = fetch(2, 9, 3, page -> {
+            sleepQuietly((10 - page) * 3L); // 뒤 페이지가 먼저 끝나도록
+            return pages.apply(page);
+        }, (page, items) -> {
+            for (String key : items) windowed.putIfAbsent(key, page);
+            return true;
+        });
+
+        assertTrue(complete);
+        assertEquals(sequential, windowed);
+        assertEquals(new ArrayList<>(sequential.keySet()), new ArrayList<>(windowed.keySet()));
+    }
+
+    @Test
+    void stopsAtFirstRejectedPageAndCancelsTheRest() {
+        List<Integer> consumed = new ArrayList<>();
+        boolean complete = fetch(2, 20, 4, page -> page == 5 ? List.of() : List.of("h" + page), (page, items) -> {
+            if (items.isEmpty()) return false;
+            consumed.add(page);
+            return true;
+        });
+
+        assertFalse(complete);
+        assertEquals(List.of(2, 3, 4), consumed);
+    }
+
+    @Test
+    void neverRunsMoreThanConcurrencyPages() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        fetch(1, 30, 4, page -> {
+            int now = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(now, Math::max);
+            sleepQuietly(2);
+            inFlight.decrementAndGet();
+            return List.of("h" + page);
+        }, (page, items) -> true);
+
+        assertTrue(maxInFlight.get() <= 4, "maxInFlight=" + maxInFlight.get());
+    }
+
+    @Test
+    void propagatesLoaderFailure() {
+        IllegalStateException e = assertThrows(IllegalStateException.class, () ->
+                fetch(2, 6, 2, page -> {
+                    if (page == 4) throw new IllegalStateException("upstream 500");
+                    return List.of("h" + page);
+                }, (page, items) -> true));
+        assertEquals("upstream 500", e.getMessage());
+    }
+
+    private boolean fetch(int first, int last, int concurrency, IntFunction<List<String>> loader,
+                          OrderedPageFetcher.PageConsumer<List<String>> consumer) {
+        return OrderedPageFetcher.<List<String>>fetchInOrder(first, last, concurrency,
+                page -> () -> loader.apply(page),
+                executor::submit,
+                OrderedPageFetcherTest::await,
+                consumer);
+    }
+
+    private static <T> T await(Future<T> f) {
+        try {
+            return f.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static void sleepQuietly(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.app.ev119.service;
+
+import com.app.ev119.domain.dto.response.CheckEmergencyRealtimeItem;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProvinceRealtimeCacheTest {
+
+    @Test
+    void freshUntilTtl() {
+        ProvinceRealtimeCache cache = new ProvinceRealtimeCache();
+        ReflectionTestUtils.setField(cache, "ttlMs", 60_000L);
+
+        ProvinceRealtimeCache.Province seoul = new ProvinceRealtimeCache.Province("서울특별시", Map.of());
+        cache.put(seoul);
+
+        assertSame(seoul, cache.getFresh("서울특별시"));
+        assertNull(cache.getFresh("부산광역시"));
+
+        ReflectionTestUtils.setField(cache, "ttlMs", -1L);
+        assertNull(cache.getFresh("서울특별시"));
+    }
+
+    @Test
+    void provinceItemsAreReadOnly() {
+        Map<String, CheckEmergencyRealtimeItem> items = new HashMap<>();
+        items.put("A1", new CheckEmergencyRealtimeItem());
+        ProvinceRealtimeCache.Province province = new ProvinceRealtimeCache.Province("서울특별시", items);
+
+        assertEquals(1, province.getItems().size());
+        assertThrows(UnsupportedOperationException.class, () -> province.getItems().put("A2", null));
+    }
+}
@@ -0,0 +1,144 @@
+package com.app.ev119.service;
+
+import com.app.ev119.config.QuotaProperties;
+import com.app.ev119.config.ServiceKeyProperties;
+import com.app.ev119.domain.type.PublicApiType;
+import com.app.ev119.exception.QuotaExceededException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+class PublicApiQuotaServiceTest {
+
+    private static final String BUCKET_KEY = "emergency:quota:bucket:" + PublicApiType.REALTIME.getKey();
+
+    private StringRedisTemplate redis;
+    private HashOperations<String, Object, Object> hash;
+    private ValueOperations<String, String> value;
+    private RedisScript<List> bucketScript;
+    private RedisScript<Long> blockScript;
+    private QuotaProperties properties;
+    private ServiceKeyProperties keyProperties;
+    private PublicApiQuotaService service;
+
+    @BeforeEach
+    void setUp() {
+        redis = mock(StringRedisTemplate.class);
+        hash = mock(HashOperations.class);
+        value = mock(ValueOperations.class);
+        bucketScript = mock(RedisScript.class);
+        blockScript = mock(RedisScript.class);
+        when(redis.<Object, Object>opsForHash()).thenReturn(hash);
+        when(redis.opsForValue()).thenReturn(value);
+
+        properties = new QuotaProperties();
+        properties.setBlockMillis(30_000);
+        keyProperties = new ServiceKeyProperties();
+        keyProperties.setServiceKeys(List.of(key("a", 6_000), key("b", 4_000)));
+        service = new PublicApiQuotaService(redis, bucketScript, blockScript, properties, keyProperties);
+    }
+
+    @Test
+    void markExhaustedRunsBlockScriptWithBlockWindow() {
+        service.markExhausted(PublicApiType.REALTIME);
+
+        // capacity 30 / 5 per sec -> 6s + 60s
+        verify(redis).execute(eq(blockScript), eq(List.of(BUCKET_KEY)), eq("30000"), eq("66000"));
+    }
+
+    @Test
+    void tryAcquirePassesSumOfKeyBudgets() {
+        when(redis.execute(eq(bucketScript), anyList(), anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(List.of(1L, 29L, 1L));
+
+        service.tryAcquire(PublicApiType.REALTIME);
+
+        verify(redis).execute(eq(bucketScript), anyList(), eq("30"), eq("5.0"), eq("10000"), anyString());
+    }
+
+    @Test
+    void dailyBudgetIsKeySumCappedByEndpoint() {
+        QuotaProperties.Bucket bucket = new QuotaProperties.Bucket();
+        assertEquals(10_000, service.dailyBudget(bucket));
+
+        bucket.setDailyBudget(7_000);
+        assertEquals(7_000, service.dailyBudget(bucket));
+
+        // 무제한 키가 하나라도 있으면 엔드포인트 상한만
+        keyProperties.setServiceKeys(List.of(key("a", 6_000), key("c", 0)));
+        assertEquals(7_000, service.dailyBudget(bucket));
+        bucket.setDailyBudget(0);
+        assertEquals(0, service.dailyBudget(bucket));
+
+        // 기존 단일 키 설정은 키 기본 예산 하나
+        keyProperties.setServiceKeys(List.of());
+        keyProperties.setServiceKey("legacy");
+        assertEquals(10_000, service.dailyBudget(bucket));
+    }
+
+    @Test
+    void tryAcquireFollowsScriptResult() {
+        when(redis.execute(eq(bucketScript), anyList(), anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(List.of(1L, 29L, 1L))
+                .thenReturn(List.of(0L, 0L, 1L));
+
+        assertTrue(service.tryAcquire(PublicApiType.REALTIME));
+        assertFalse(service.tryAcquire(PublicApiType.REALTIME));
+        assertThrows(QuotaExceededException.class, () -> service.acquire(PublicApiType.REALTIME));
+    }
+
+    @Test
+    void tryAcquireFailsOpenWhenRedisIsDown() {
+        when(redis.execute(eq(bucketScript), anyList(), anyString(), anyString(), anyString(), anyString()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertTrue(service.tryAcquire(PublicApiType.REALTIME));
+    }
+
+    @Test
+    void isLowWhileBlocked() {
+        when(value.get(anyString())).thenReturn("0");
+        when(hash.multiGet(eq(BUCKET_KEY), anyList()))
+                .thenReturn(Arrays.asList("30", String.valueOf(System.currentTimeMillis() + 60_000)))
+                .thenReturn(Arrays.asList("30", String.valueOf(System.currentTimeMillis() - 1)))
+                .thenReturn(Arrays.asList("0.5", null));
+
+        assertTrue(service.isLow(PublicApiType.REALTIME));
+        assertFalse(service.isLow(PublicApiType.REALTIME));
+        assertTrue(service.isLow(PublicApiType.REALTIME));
+    }
+
+    @Test
+    void isLowWhenDailyBudgetNearlyUsed() {
+        when(value.get(anyString())).thenReturn("9950");
+        when(hash.multiGet(eq(BUCKET_KEY), anyList())).thenReturn(Arrays.asList("30", null));
+
+        assertTrue(service.isLow(PublicApiType.REALTIME));
+    }
+
+    private static ServiceKeyProperties.Key key(String value, long dailyBudget) {
+        ServiceKeyProperties.Key key = new ServiceKeyProperties.Key();
+        key.setKey(value);
+        key.setDailyBudget(dailyBudget);
+        return key;
+    }
+}
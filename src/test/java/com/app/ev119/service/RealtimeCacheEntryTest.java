@@ -0,0 +1,25 @@
+package com.app.ev119.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RealtimeCacheEntryTest {
+
+    private final RealtimeCacheEntry entry = new RealtimeCacheEntry(null, 1_000, 31_000, 301_000, 120);
+
+    @Test
+    void freshUntilSoftExpiry() {
+        assertTrue(entry.isFresh(1_000));
+        assertTrue(entry.isFresh(30_999));
+        assertFalse(entry.isFresh(31_000));
+    }
+
+    @Test
+    void staleButUsableUntilHardExpiry() {
+        assertTrue(entry.isUsable(31_000));
+        assertTrue(entry.isUsable(300_999));
+        assertFalse(entry.isUsable(301_000));
+    }
+}
@@ -0,0 +1,76 @@
+package com.app.ev119.service;
+
+import com.app.ev119.domain.dto.response.CheckEmergencyRealtimeItem;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RealtimeDeltaCalculatorTest {
+
+    @Test
+    void sameHvidateIsSkippedEvenIfValuesDiffer() {
+        Map<String, Map<String, Object>> deltas = RealtimeDeltaCalculator.diff(
+                snapshot(1L, Map.of("A1", item("202601010000", "3", "N"))),
+                snapshot(2L, Map.of("A1", item("202601010000", "9", "N"))));
+
+        assertTrue(deltas.isEmpty());
+    }
+
+    @Test
+    void onlyChangedFieldsAreSent() {
+        Map<String, Map<String, Object>> deltas = RealtimeDeltaCalculator.diff(
+                snapshot(1L, Map.of("A1", item("202601010000", "3", "N"))),
+                snapshot(2L, Map.of("A1", item("202601010005", "4", "Y"))));
+
+        Map<String, Object> a1 = deltas.get("A1");
+        assertEquals("4", a1.get("hvec"));
+        assertFalse(a1.containsKey("hvgc"));
+        assertEquals("202601010005", a1.get("hvidate"));
+        assertEquals(Map.of("CT", true), a1.get("equipment"));
+    }
+
+    @Test
+    void reenteredWithoutChangesIsSkipped() {
+        Map<String, Map<String, Object>> deltas = RealtimeDeltaCalculator.diff(
+                snapshot(1L, Map.of("A1", item("202601010000", "3", "N"))),
+                snapshot(2L, Map.of("A1", item("202601010005", "3", "N"))));
+
+        assertTrue(deltas.isEmpty());
+    }
+
+    @Test
+    void newHospitalGetsAllFields() {
+        Map<String, Map<String, Object>> deltas = RealtimeDeltaCalculator.diff(
+                EmergencyRealtimeSnapshot.EMPTY,
+                snapshot(1L, Map.of("B1", item("202601010000", "2", "Y"))));
+
+        Map<String, Object> b1 = deltas.get("B1");
+        assertEquals(RealtimeDeltaCalculator.full(item("202601010000", "2", "Y")), b1);
+        assertTrue(b1.containsKey("hvgc"));
+        @SuppressWarnings("unchecked")
+        Map<String, Boolean> equipment = (Map<String, Boolean>) b1.get("equipment");
+        assertEquals(true, equipment.get("CT"));
+        assertEquals(false, equipment.get("MRI"));
+    }
+
+    private static EmergencyRealtimeSnapshot snapshot(long version, Map<String, CheckEmergencyRealtimeItem> items) {
+        Map<String, EmergencyRealtimeSnapshot.RegionSnapshot> regions = new LinkedHashMap<>();
+        regions.put("서울", new EmergencyRealtimeSnapshot.RegionSnapshot("서울", Instant.EPOCH, new LinkedHashMap<>(items)));
+        return EmergencyRealtimeSnapshot.of(version, Instant.EPOCH, regions);
+    }
+
+    private static CheckEmergencyRealtimeItem item(String hvidate, String hvec, String ct) {
+        CheckEmergencyRealtimeItem it = new CheckEmergencyRealtimeItem();
+        it.setHvidate(hvidate);
+        it.setHvec(hvec);
+        it.setHvgc("1");
+        it.setHvctayn(ct);
+        return it;
+    }
+}
@@ -0,0 +1,87 @@
+package com.app.ev119.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("unchecked")
+class RegionMappingServiceTest {
+
+    private StringRedisTemplate redis;
+    private ValueOperations<String, String> value;
+    private RegionMappingService service;
+
+    @BeforeEach
+    void setUp() {
+        redis = mock(StringRedisTemplate.class);
+        value = mock(ValueOperations.class);
+        when(redis.opsForValue()).thenReturn(value);
+
+        service = new RegionMappingService(redis);
+        ReflectionTestUtils.setField(service, "mappingTtlDays", 30L);
+        ReflectionTestUtils.setField(service, "negativeTtlHours", 6L);
+    }
+
+    @Test
+    void lookupUsesOneKeyPerEntry() {
+        when(value.multiGet(List.of("emergency:region:hpid:A1", "emergency:region:hpid:A2")))
+                .thenReturn(Arrays.asList("서울특별시||강남구", null));
+
+        Map<String, String> found = service.findByHpids(List.of("A1", "A2"));
+
+        assertEquals(Map.of("A1", "서울특별시||강남구"), found);
+    }
+
+    @Test
+    void learnWritesEachEntryWithItsOwnTtl() {
+        service.learnHpids(Map.of("A1", "서울특별시||강남구"));
+
+        ArgumentCaptor<RedisCallback<Object>> callback = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(redis).executePipelined(callback.capture());
+
+        StringRedisConnection connection = mock(StringRedisConnection.class);
+        callback.getValue().doInRedis(connection);
+        verify(connection).setEx("emergency:region:hpid:A1", 30L * 24 * 60 * 60, "서울특별시||강남구");
+    }
+
+    @Test
+    void forgetDeletesHpidAndAddressEntries() {
+        service.forget(List.of("A1"), List.of("경기도||수원시"));
+
+        verify(redis).delete(List.of("emergency:region:hpid:A1", "emergency:region:addr:경기도||수원시"));
+    }
+
+    @Test
+    void knownEmptyCandidatesAreSkippedInOrder() {
+        when(value.multiGet(anyList())).thenReturn(Arrays.asList(null, "1", null));
+
+        List<String> left = service.filterKnownEmpty("경기도", List.of("수원시 영통구", "수원시", "영통구"));
+
+        assertEquals(List.of("수원시 영통구", "영통구"), left);
+    }
+
+    @Test
+    void redisFailureFallsBackToNoLearning() {
+        when(value.multiGet(anyList())).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertTrue(service.findByAddresses(List.of("서울특별시||강남구")).isEmpty());
+        assertEquals(List.of("강남구"), service.filterKnownEmpty("서울특별시", List.of("강남구")));
+    }
+}
@@ -0,0 +1,167 @@
+package com.app.ev119.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class RequestCoalescerTest {
+
+    private static final String KEY = "k";
+
+    private RequestCoalescer coalescer;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new RequestCoalescer(mock(StringRedisTemplate.class));
+        ReflectionTestUtils.setField(coalescer, "followerWaitMs", 5_000L);
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallsShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> coalescer.execute(KEY, () -> {
+            loads.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "v";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            followers.add(executor.submit(() -> coalescer.execute(KEY, () -> {
+                loads.incrementAndGet();
+                return "other";
+            })));
+        }
+        waitForFollowers(5);
+        release.countDown();
+
+        assertEquals("v", leader.get(5, TimeUnit.SECONDS));
+        for (Future<String> f : followers) {
+            assertEquals("v", f.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(0, coalescer.getStatus().get("inflight"));
+    }
+
+    @Test
+    void leaderErrorIsSharedWithFollowers() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> coalescer.<String>execute(KEY, () -> {
+            started.countDown();
+            await(release);
+            throw new StackOverflowError("boom");
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<String> follower = executor.submit(() -> coalescer.execute(KEY, () -> "other"));
+        waitForFollowers(1);
+        release.countDown();
+
+        ExecutionException leaderFailure = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(StackOverflowError.class, leaderFailure.getCause());
+        ExecutionException followerFailure = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(StackOverflowError.class, followerFailure.getCause());
+    }
+
+    @Test
+    void undeclaredCheckedExceptionStillReleasesFollowers() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        executor.submit(() -> coalescer.<String>execute(KEY, () -> {
+            started.countDown();
+            await(release);
+            return sneakyThrow(new Exception("checked"));
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<String> follower = executor.submit(() -> coalescer.execute(KEY, () -> "other"));
+        waitForFollowers(1);
+        release.countDown();
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+    }
+
+    @Test
+    void followerGivesUpAfterWaitLimit() throws Exception {
+        ReflectionTestUtils.setField(coalescer, "followerWaitMs", 50L);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> coalescer.execute(KEY, () -> {
+            started.countDown();
+            await(release);
+            return "v";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertThrows(ResourceAccessException.class, () -> coalescer.execute(KEY, () -> "other"));
+        assertEquals(1L, coalescer.getStatus().get("followerTimeouts"));
+
+        release.countDown();
+        assertEquals("v", leader.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void keyIsReleasedAfterCompletion() {
+        assertEquals("a", coalescer.execute(KEY, () -> "a"));
+        assertEquals("b", coalescer.execute(KEY, () -> "b"));
+        assertThrows(IllegalArgumentException.class,
+                () -> coalescer.execute(KEY, () -> { throw new IllegalArgumentException(); }));
+        assertEquals("c", coalescer.execute(KEY, () -> "c"));
+    }
+
+    // 대기자가 leader 의 future 에 붙을 때까지
+    private void waitForFollowers(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (((Number) coalescer.getStatus().get("coalescedLocal")).longValue() < expected
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, E extends Throwable> T sneakyThrow(Throwable t) throws E {
+        throw (E) t;
+    }
+}
@@ -0,0 +1,160 @@
+package com.app.ev119.service;
+
+import com.app.ev119.config.QuotaProperties;
+import com.app.ev119.config.ServiceKeyProperties;
+import com.app.ev119.domain.type.PublicApiType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("unchecked")
+class ServiceKeyPoolTest {
+
+    private StringRedisTemplate redis;
+    private ValueOperations<String, String> value;
+    private PublicApiQuotaService quota;
+    private ServiceKeyPool pool;
+
+    @BeforeEach
+    void setUp() {
+        redis = mock(StringRedisTemplate.class);
+        value = mock(ValueOperations.class);
+        quota = mock(PublicApiQuotaService.class);
+        when(redis.opsForValue()).thenReturn(value);
+
+        ServiceKeyProperties properties = new ServiceKeyProperties();
+        properties.setServiceKeys(List.of(key("key-a", 2), key("key-b", 1)));
+        pool = new ServiceKeyPool(properties, new QuotaProperties(), quota, redis);
+        pool.init();
+    }
+
+    @Test
+    void selectsKeysByWeight() {
+        List<String> used = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            used.add(pool.execute(PublicApiType.REALTIME, Function.identity()));
+        }
+        assertEquals(20, Collections.frequency(used, "key-a"));
+        assertEquals(10, Collections.frequency(used, "key-b"));
+    }
+
+    @Test
+    void coolDownIsPerKeyAndApi() {
+        String first = pool.execute(PublicApiType.REALTIME, k -> {
+            if (k.equals("key-a")) throw tooManyRequests();
+            return k;
+        });
+        assertEquals("key-b", first);
+
+        // 같은 API 는 key-a 를 쉬게 함
+        for (int i = 0; i < 3; i++) {
+            assertEquals("key-b", pool.execute(PublicApiType.REALTIME, Function.identity()));
+        }
+        // 다른 API 는 key-a 를 그대로 사용
+        assertEquals("key-a", pool.execute(PublicApiType.LOCATION, Function.identity()));
+
+        ArgumentCaptor<String> redisKey = ArgumentCaptor.forClass(String.class);
+        verify(value).set(redisKey.capture(), anyString(), any(Duration.class));
+        assertTrue(redisKey.getValue().startsWith("emergency:quota:key-cooldown:"));
+        assertTrue(redisKey.getValue().endsWith(":" + PublicApiType.REALTIME.getKey()));
+        verify(quota, never()).markExhausted(any());
+    }
+
+    @Test
+    void dailyCounterIsPerApi() {
+        pool.execute(PublicApiType.LOCATION, Function.identity());
+
+        verify(value).increment(argThat((String k) ->
+                k.startsWith("emergency:quota:key-daily:") && k.contains(":" + PublicApiType.LOCATION.getKey() + ":")));
+    }
+
+    @Test
+    void allKeysRateLimitedBlocksTheEndpoint() {
+        assertThrows(HttpClientErrorException.class,
+                () -> pool.execute(PublicApiType.BASIC, k -> { throw tooManyRequests(); }));
+
+        verify(quota).markExhausted(PublicApiType.BASIC);
+    }
+
+    @Test
+    void otherHttpErrorsPassThroughWithoutCoolDown() {
+        assertThrows(HttpClientErrorException.class, () -> pool.execute(PublicApiType.BASIC, k -> {
+            throw HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", HttpHeaders.EMPTY, null, null);
+        }));
+
+        verify(value, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void syncAppliesCoolDownFromOtherNodes() {
+        int apis = PublicApiType.values().length;
+        List<String> values = new ArrayList<>(Collections.nCopies(2 * apis * 2, null));
+        // key-a 의 REALTIME 쿨다운 (키 x API 순서, API 마다 [cooldown, daily])
+        values.set(PublicApiType.REALTIME.ordinal() * 2, String.valueOf(System.currentTimeMillis() + 60_000));
+        when(value.multiGet(anyList())).thenReturn(values);
+
+        pool.syncFromRedis();
+
+        assertEquals("key-b", pool.execute(PublicApiType.REALTIME, Function.identity()));
+        assertEquals("key-b", pool.execute(PublicApiType.REALTIME, Function.identity()));
+        assertEquals("key-a", pool.execute(PublicApiType.LOCATION, Function.identity()));
+    }
+
+    @Test
+    void ioErrorMessageDoesNotCarryTheKey() {
+        ResourceAccessException e = assertThrows(ResourceAccessException.class, () ->
+                pool.execute(PublicApiType.REALTIME, k -> {
+                    throw new ResourceAccessException("I/O error on GET request for \"http://x/api?serviceKey=" + k
+                            + "&STAGE1=a\": Read timed out", new IOException("Read timed out"));
+                }));
+
+        assertFalse(e.getMessage().contains("key-a"));
+        assertFalse(e.getMessage().contains("key-b"));
+        assertTrue(e.getMessage().contains("serviceKey=***&STAGE1=a"));
+    }
+
+    @Test
+    void redactHidesServiceKeyValue() {
+        assertEquals("http://x/api?serviceKey=***&pageNo=1",
+                ServiceKeyPool.redact("http://x/api?serviceKey=abc%2Bdef%3D%3D&pageNo=1"));
+        assertEquals("http://x/api?pageNo=1&ServiceKey=***",
+                ServiceKeyPool.redact("http://x/api?pageNo=1&ServiceKey=secret"));
+    }
+
+    private static HttpClientErrorException tooManyRequests() {
+        return HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", HttpHeaders.EMPTY, null, null);
+    }
+
+    private static ServiceKeyProperties.Key key(String value, int weight) {
+        ServiceKeyProperties.Key key = new ServiceKeyProperties.Key();
+        key.setKey(value);
+        key.setWeight(weight);
+        return key;
+    }
+}
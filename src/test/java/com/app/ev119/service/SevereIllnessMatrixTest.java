@@ -0,0 +1,80 @@
+package com.app.ev119.service;
+
+import com.app.ev119.domain.dto.response.CheckAvailabilityIllPatientsItem;
+import com.app.ev119.domain.type.SevereIllnessType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SevereIllnessMatrixTest {
+
+    // 행 0: 서울 1,3 / 행 1: 서울 1 / 행 2: 부산 1,3,28 (" y " 도 Y 로 봄)
+    private final SevereIllnessMatrix matrix = new SevereIllnessMatrix(1L, Instant.EPOCH,
+            List.of("A1", "A2", "B1"),
+            List.of(item("Y", "Y", null), item("y", "N", ""), item(" y ", "Y", "Y")),
+            List.of("서울", "서울", "부산"));
+
+    @Test
+    void allCodesMustBeAccepted() {
+        assertEquals(bits(0, 1, 2), matrix.filter(new int[]{1}, null));
+        assertEquals(bits(0, 2), matrix.filter(new int[]{1, 3}, null));
+        assertEquals(bits(2), matrix.filter(new int[]{1, 3, 28}, null));
+    }
+
+    @Test
+    void regionNarrowsTheResult() {
+        assertEquals(bits(0), matrix.filter(new int[]{3}, "서울"));
+        assertEquals(bits(2), matrix.filter(new int[]{}, "부산"));
+        assertTrue(matrix.filter(new int[]{1}, "제주").isEmpty());
+    }
+
+    @Test
+    void noCodesMatchesEveryRow() {
+        assertEquals(bits(0, 1, 2), matrix.filter(new int[0], null));
+    }
+
+    @Test
+    void acceptCountsPerCode() {
+        assertEquals(3, matrix.acceptCount(1));
+        assertEquals(2, matrix.acceptCount(3));
+        assertEquals(0, matrix.acceptCount(2));
+        assertTrue(matrix.accepts(2, 28));
+        assertFalse(matrix.accepts(1, 28));
+    }
+
+    @Test
+    void emptyMatrixFiltersToNothing() {
+        assertTrue(SevereIllnessMatrix.EMPTY.filter(new int[]{1}, null).isEmpty());
+    }
+
+    @Test
+    void codesAreParsedFromNamesNumbersAndFieldNames() {
+        assertEquals(1, SevereIllnessType.toCode("brain_hemorrhage_surgery"));
+        assertEquals(28, SevereIllnessType.toCode(" 28 "));
+        assertEquals(3, SevereIllnessType.toCode("MKioskTy3"));
+        assertEquals(-1, SevereIllnessType.toCode("29"));
+        assertEquals(-1, SevereIllnessType.toCode("0"));
+        assertEquals(-1, SevereIllnessType.toCode("unknown"));
+        assertEquals(-1, SevereIllnessType.toCode(" "));
+    }
+
+    private static BitSet bits(int... rows) {
+        BitSet b = new BitSet();
+        for (int r : rows) b.set(r);
+        return b;
+    }
+
+    private static CheckAvailabilityIllPatientsItem item(String ty1, String ty3, String ty28) {
+        CheckAvailabilityIllPatientsItem it = new CheckAvailabilityIllPatientsItem();
+        it.setMKioskTy1(ty1);
+        it.setMKioskTy3(ty3);
+        it.setMKioskTy28(ty28);
+        return it;
+    }
+}
@@ -0,0 +1,117 @@
+package com.app.ev119.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeoGridIndexTest {
+
+    private static final double CELL_DEG = 0.05;
+
+    @Test
+    void nearestMatchesBruteForce() {
+        Random random = new Random(42);
+        double[][] points = randomPoints(random, 800);
+        GeoGridIndex index = new GeoGridIndex(points[0], points[1], CELL_DEG);
+
+        for (int q = 0; q < 200; q++) {
+            double lat = 33.0 + random.nextDouble() * 5.0;
+            double lon = 125.5 + random.nextDouble() * 4.5;
+            int k = 1 + random.nextInt(30);
+
+            GeoGridIndex.Result result = index.nearest(lat, lon, k);
+            double[] expected = bruteForceDistances(points, lat, lon);
+
+            assertEquals(k, result.size());
+            for (int i = 0; i < k; i++) {
+                assertEquals(expected[i], result.distanceKm(i), 1e-9, "query " + q + " rank " + i);
+                assertEquals(GeoUtil.haversineKm(lat, lon, points[0][result.index(i)], points[1][result.index(i)]),
+                        result.distanceKm(i), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    void nearestFromFarOutsideTheGridStillFindsClosest() {
+        Random random = new Random(7);
+        double[][] points = randomPoints(random, 300);
+        GeoGridIndex index = new GeoGridIndex(points[0], points[1], CELL_DEG);
+
+        // 도쿄 / 베이징 좌표 (격자 범위 밖, 고리를 많이 넓혀야 함)
+        double[][] queries = {{35.68, 139.69}, {39.90, 116.40}};
+        for (double[] q : queries) {
+            GeoGridIndex.Result result = index.nearest(q[0], q[1], 5);
+            double[] expected = bruteForceDistances(points, q[0], q[1]);
+            for (int i = 0; i < 5; i++) {
+                assertEquals(expected[i], result.distanceKm(i), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    void nearestCapsKAtSize() {
+        GeoGridIndex index = new GeoGridIndex(new double[]{37.5, 37.6}, new double[]{127.0, 127.1}, CELL_DEG);
+
+        assertEquals(2, index.nearest(37.5, 127.0, 10).size());
+        assertEquals(0, index.nearest(37.5, 127.0, 0).size());
+        assertEquals(0, new GeoGridIndex(new double[0], new double[0], CELL_DEG).nearest(37.5, 127.0, 3).size());
+    }
+
+    @Test
+    void withinRadiusMatchesBruteForce() {
+        Random random = new Random(99);
+        double[][] points = randomPoints(random, 800);
+        GeoGridIndex index = new GeoGridIndex(points[0], points[1], CELL_DEG);
+
+        for (int q = 0; q < 100; q++) {
+            double lat = 33.0 + random.nextDouble() * 5.0;
+            double lon = 125.5 + random.nextDouble() * 4.5;
+            double radius = 1.0 + random.nextDouble() * 40.0;
+
+            GeoGridIndex.Result result = index.withinRadius(lat, lon, radius);
+            double[] all = bruteForceDistances(points, lat, lon);
+            long expectedCount = Arrays.stream(all).filter(d -> d <= radius).count();
+
+            assertEquals(expectedCount, result.size());
+            for (int i = 0; i < result.size(); i++) {
+                assertEquals(all[i], result.distanceKm(i), 1e-9);
+                assertTrue(result.distanceKm(i) <= radius);
+            }
+        }
+    }
+
+    @Test
+    void pointsInTheSameCellAreAllReturned() {
+        double[] lat = {37.50001, 37.50002, 37.50003};
+        double[] lon = {127.00001, 127.00002, 127.00003};
+        GeoGridIndex index = new GeoGridIndex(lat, lon, CELL_DEG);
+
+        GeoGridIndex.Result result = index.nearest(37.50001, 127.00001, 3);
+        assertArrayEquals(new int[]{0, 1, 2}, new int[]{result.index(0), result.index(1), result.index(2)});
+        assertEquals(1, index.cellCount());
+    }
+
+    private static double[][] randomPoints(Random random, int n) {
+        double[] lat = new double[n];
+        double[] lon = new double[n];
+        for (int i = 0; i < n; i++) {
+            lat[i] = 33.0 + random.nextDouble() * 5.5;
+            lon[i] = 125.0 + random.nextDouble() * 5.0;
+        }
+        return new double[][]{lat, lon};
+    }
+
+    private static double[] bruteForceDistances(double[][] points, double lat, double lon) {
+        double[] d = new double[points[0].length];
+        for (int i = 0; i < d.length; i++) {
+            d[i] = GeoUtil.haversineKm(lat, lon, points[0][i], points[1][i]);
+        }
+        Arrays.sort(d);
+        return d;
+    }
+}
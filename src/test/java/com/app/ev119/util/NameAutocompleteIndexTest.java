@@ -0,0 +1,81 @@
+package com.app.ev119.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class NameAutocompleteIndexTest {
+
+    private static final String[] NAMES = {
+            "서울대학교병원",
+            "(학)가톨릭대학교 서울성모병원",
+            "서울아산병원",
+            "삼성서울병원",
+            "Seoul Clinic",
+            null,
+            "강남세브란스병원"
+    };
+
+    private final NameAutocompleteIndex index = new NameAutocompleteIndex(NAMES);
+
+    @Test
+    void fullNamePrefixRanksAboveWordPrefixAndShorterNamesFirst() {
+        // 서울아산병원(6자) > 서울대학교병원(7자) > 단어 접두 일치(서울성모병원)
+        assertArrayEquals(new int[]{2, 0, 1}, index.search("서울", 10));
+        assertArrayEquals(new int[]{2}, index.search("서울", 1));
+    }
+
+    @Test
+    void wordsAfterSpacesAndParenthesesAreSearchable() {
+        assertArrayEquals(new int[]{1}, index.search("가톨릭", 10));
+        assertArrayEquals(new int[]{1}, index.search("서울성모", 10));
+        assertArrayEquals(new int[]{4}, index.search("CLINIC", 10));
+    }
+
+    @Test
+    void middleOfAWordIsNotAPrefix() {
+        // 삼성서울병원의 "서울" 은 단어 시작이 아님
+        assertArrayEquals(new int[0], index.search("서울병원", 10));
+    }
+
+    @Test
+    void spacesAndCaseAreIgnored() {
+        assertArrayEquals(new int[]{4}, index.search("seoul cl", 10));
+        assertArrayEquals(new int[]{0}, index.search("서울 대학", 10));
+    }
+
+    @Test
+    void chosungOnlyQuery() {
+        assertArrayEquals(new int[]{2, 0, 1}, index.search("ㅅㅇ", 10));
+        assertArrayEquals(new int[]{0}, index.search("ㅅㅇㄷ", 10));
+        assertArrayEquals(new int[]{6}, index.search("ㄱㄴㅅ", 10));
+    }
+
+    @Test
+    void mixedQueryChecksCompleteSyllables() {
+        assertArrayEquals(new int[]{2}, index.search("서울ㅇ", 10));
+        assertArrayEquals(new int[]{1}, index.search("서ㅇㅅ", 10));
+        assertArrayEquals(new int[0], index.search("사ㅇ", 10));
+    }
+
+    @Test
+    void emptyQueryOrLimitReturnsNothing() {
+        assertArrayEquals(new int[0], index.search("", 10));
+        assertArrayEquals(new int[0], index.search("  ", 10));
+        assertArrayEquals(new int[0], index.search("서울", 0));
+        assertArrayEquals(new int[0], index.search("없는병원", 10));
+    }
+
+    @Test
+    void nullNamesAreSkipped() {
+        assertEquals(7, index.size());
+        assertEquals(0, new NameAutocompleteIndex(new String[]{null, " "}).keyCount());
+    }
+
+    @Test
+    void chosungKeepsLength() {
+        assertEquals("ㅅㅇa1", NameAutocompleteIndex.chosung("서울a1"));
+        assertEquals("seoulclinic", NameAutocompleteIndex.normalize(" Seoul\tClinic "));
+    }
+}
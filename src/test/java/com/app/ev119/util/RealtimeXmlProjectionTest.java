@@ -0,0 +1,125 @@
+package com.app.ev119.util;
+
+import com.app.ev119.domain.dto.response.CheckEmergencyRealtimeItem;
+import com.app.ev119.domain.dto.response.CheckEmergencyRealtimeResponse;
+import com.app.ev119.exception.UpstreamResultException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RealtimeXmlProjectionTest {
+
+    // 투영 필드 -> 기존 DTO getter (RestTemplate 과 같은 Jackson XML 바인딩 결과와 비교)
+    private static final Map<String, Function<CheckEmergencyRealtimeItem, String>> GETTERS = new LinkedHashMap<>();
+
+    static {
+        GETTERS.put("hpid", CheckEmergencyRealtimeItem::getHpid);
+        GETTERS.put("dutyName", CheckEmergencyRealtimeItem::getDutyName);
+        GETTERS.put("dutyTel3", CheckEmergencyRealtimeItem::getDutyTel3);
+        GETTERS.put("hvidate", CheckEmergencyRealtimeItem::getHvidate);
+        GETTERS.put("hvec", CheckEmergencyRealtimeItem::getHvec);
+        GETTERS.put("hvgc", CheckEmergencyRealtimeItem::getHvgc);
+        GETTERS.put("hvicc", CheckEmergencyRealtimeItem::getHvicc);
+        GETTERS.put("hvoc", CheckEmergencyRealtimeItem::getHvoc);
+        GETTERS.put("hvncc", CheckEmergencyRealtimeItem::getHvncc);
+        GETTERS.put("hvctayn", CheckEmergencyRealtimeItem::getHvctayn);
+        GETTERS.put("hvmriayn", CheckEmergencyRealtimeItem::getHvmriayn);
+        GETTERS.put("hvangioayn", CheckEmergencyRealtimeItem::getHvangioayn);
+        GETTERS.put("hvventiayn", CheckEmergencyRealtimeItem::getHvventiayn);
+        GETTERS.put("hvamyn", CheckEmergencyRealtimeItem::getHvamyn);
+    }
+
+    @Test
+    void projectionMatchesJacksonBindingOnFixturePage() throws Exception {
+        byte[] payload = fixture();
+
+        ObjectMapper xmlMapper = Jackson2ObjectMapperBuilder.xml().build();
+        CheckEmergencyRealtimeResponse bound =
+                xmlMapper.readValue(new ByteArrayInputStream(payload), CheckEmergencyRealtimeResponse.class);
+
+        RealtimeXmlProjection projection = new RealtimeXmlProjection(GETTERS.keySet().toArray(new String[0]));
+        RealtimeXmlProjection.Page page = projection.parse(new ByteArrayInputStream(payload));
+
+        assertEquals(bound.getHeader().getResultCode(), page.getResultCode());
+        assertEquals(bound.getBody().getTotalCount(), page.getTotalCount());
+        assertEquals(bound.getBody().getPageNo(), page.getPageNo());
+        assertEquals(bound.getBody().getNumOfRows(), page.getNumOfRows());
+
+        List<CheckEmergencyRealtimeItem> expected = bound.getBody().getItems();
+        List<CheckEmergencyRealtimeItem> actual = page.toItems();
+        assertFalse(expected.isEmpty());
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected.size(), page.getRows().size());
+
+        for (int i = 0; i < expected.size(); i++) {
+            for (Map.Entry<String, Function<CheckEmergencyRealtimeItem, String>> g : GETTERS.entrySet()) {
+                String field = g.getKey();
+                assertEquals(g.getValue().apply(expected.get(i)), g.getValue().apply(actual.get(i)),
+                        "item " + i + " field " + field);
+                assertEquals(g.getValue().apply(expected.get(i)), page.value(page.getRows().get(i), field),
+                        "row " + i + " field " + field);
+            }
+        }
+    }
+
+    @Test
+    void unknownFieldsAreSkippedAndUnprojectedFieldsStayNull() throws Exception {
+        RealtimeXmlProjection projection = new RealtimeXmlProjection("hpid", "hvec");
+        RealtimeXmlProjection.Page page = projection.parse(new ByteArrayInputStream(fixture()));
+
+        CheckEmergencyRealtimeItem first = page.toItems().get(0);
+        assertNotNull(first.getHpid());
+        assertNotNull(first.getHvec());
+        assertNull(first.getDutyName());
+        assertNull(page.value(page.getRows().get(0), "dutyName"));
+    }
+
+    @Test
+    void errorResultCodeIsNotTreatedAsEmptyPage() {
+        String xml = "<response><header><resultCode>03</resultCode><resultMsg>NODATA_ERROR</resultMsg></header>"
+                + "<body><items/><totalCount>0</totalCount></body></response>";
+
+        UpstreamResultException e = assertThrows(UpstreamResultException.class,
+                () -> new RealtimeXmlProjection("hpid").parse(stream(xml)));
+        assertEquals("03", e.getResultCode());
+    }
+
+    @Test
+    void serviceKeyErrorEnvelopeIsRejected() {
+        String xml = "<OpenAPI_ServiceResponse><cmmMsgHeader><errMsg>SERVICE ERROR</errMsg>"
+                + "<returnAuthMsg>SERVICE_KEY_IS_NOT_REGISTERED_ERROR</returnAuthMsg>"
+                + "<returnReasonCode>30</returnReasonCode></cmmMsgHeader></OpenAPI_ServiceResponse>";
+
+        UpstreamResultException e = assertThrows(UpstreamResultException.class,
+                () -> new RealtimeXmlProjection("hpid").parse(stream(xml)));
+        assertEquals("30", e.getResultCode());
+    }
+
+    @Test
+    void missingHeaderIsRejected() {
+        assertThrows(UpstreamResultException.class,
+                () -> new RealtimeXmlProjection("hpid").parse(stream("<response><body><items/></body></response>")));
+    }
+
+    private static InputStream stream(String xml) {
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private byte[] fixture() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/realtime/check-emergency-realtime-page.xml")) {
+            if (in == null) throw new IOException("realtime fixture not found");
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.app.ev119.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SeasonalTrendModelTest {
+
+    private static final long DAY = 1440;
+
+    @Test
+    void firstObservationIsTheForecast() {
+        SeasonalTrendModel model = new SeasonalTrendModel(0.3, 0.1, 0.1, 0.98, 5, 60);
+        model.observe(1_000, 7);
+
+        assertEquals(7.0, model.forecast(0), 1e-9);
+        assertEquals(7.0, model.forecast(60), 1e-9);
+        assertEquals(1, model.getObservations());
+    }
+
+    @Test
+    void constantSeriesStaysFlatWithIrregularGaps() {
+        SeasonalTrendModel model = new SeasonalTrendModel(0.3, 0.1, 0.1, 0.98, 5, 60);
+        long t = 0;
+        int[] gaps = {1, 5, 17, 3, 60, 2, 9};
+        for (int i = 0; i < 300; i++) {
+            model.observe(t, 10);
+            t += gaps[i % gaps.length];
+        }
+
+        assertEquals(10.0, model.forecast(15), 1e-6);
+        assertEquals(10.0, model.forecast(600), 1e-6);
+    }
+
+    @Test
+    void undampedTrendIsFollowed() {
+        SeasonalTrendModel model = new SeasonalTrendModel(0.5, 0.3, 0.0, 1.0, 5, 60);
+        for (long t = 0; t <= 600; t += 5) {
+            model.observe(t, 0.1 * t); // 분당 +0.1
+        }
+
+        assertEquals(0.1 * 630, model.forecast(30), 0.5);
+        assertEquals(600, model.getLastEpochMinute());
+    }
+
+    @Test
+    void dampedTrendConvergesForFarHorizons() {
+        SeasonalTrendModel model = new SeasonalTrendModel(0.5, 0.3, 0.0, 0.9, 5, 60);
+        for (long t = 0; t <= 600; t += 5) {
+            model.observe(t, 0.1 * t);
+        }
+
+        double near = model.forecast(30);
+        double far = model.forecast(10_000);
+        assertTrue(far > model.forecast(0));
+        assertEquals(far, model.forecast(20_000), 1e-6);
+        assertTrue(far - near < 1.0, "damped trend must not keep growing");
+    }
+
+    @Test
+    void dailySeasonalityIsLearned() {
+        SeasonalTrendModel model = new SeasonalTrendModel(0.2, 0.01, 0.3, 0.95, 60, 60);
+        // 낮(12~17시) 은 20, 나머지는 5
+        for (long t = 0; t < 14 * DAY; t += 60) {
+            long hour = (t % DAY) / 60;
+            model.observe(t, hour >= 12 && hour < 18 ? 20 : 5);
+        }
+
+        assertEquals(23 * 60, model.getLastEpochMinute() % DAY); // 마지막 관측 23시
+        double night = model.forecast(4 * 60);  // 다음 날 03시
+        double noon = model.forecast(15 * 60);  // 다음 날 14시
+        assertTrue(noon > night + 5, "noon=" + noon + ", night=" + night);
+    }
+
+    @Test
+    void reobservingTheSameMinuteDoesNotAdvanceTheModel() {
+        SeasonalTrendModel model = new SeasonalTrendModel(0.5, 0.1, 0.1, 0.98, 5, 60);
+        model.observe(100, 10);
+        model.observe(105, 10);
+        model.observe(105, 20);
+
+        assertEquals(2, model.getObservations());
+        assertEquals(105, model.getLastEpochMinute());
+        assertTrue(model.forecast(0) > 10);
+    }
+}
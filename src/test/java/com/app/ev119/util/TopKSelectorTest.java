@@ -0,0 +1,92 @@
+package com.app.ev119.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TopKSelectorTest {
+
+    @Test
+    void matchesFullSortWithManyTies() throws Exception {
+        Random random = new Random(11);
+        for (int round = 0; round < 200; round++) {
+            int n = 1 + random.nextInt(300);
+            int k = 1 + random.nextInt(40);
+            double[] scores = new double[n];
+            for (int i = 0; i < n; i++) scores[i] = random.nextInt(10); // 동점이 많도록 작은 범위
+
+            List<Integer> order = new ArrayList<>();
+            for (int i = 0; i < n; i++) order.add(i);
+            Collections.shuffle(order, random);
+
+            TopKSelector top = new TopKSelector(k);
+            for (int i : order) {
+                top.offer(i, scores[i]);
+                assertHeap(top);
+            }
+
+            assertArrayEquals(bruteForce(scores, k), top.sortedIndexes(), "round " + round);
+        }
+    }
+
+    @Test
+    void tiesPreferTheSmallerIndex() {
+        TopKSelector top = new TopKSelector(2);
+        top.offer(5, 1.0);
+        top.offer(3, 1.0);
+        top.offer(9, 1.0);
+        top.offer(1, 1.0);
+
+        assertArrayEquals(new int[]{1, 3}, top.sortedIndexes());
+    }
+
+    @Test
+    void fewerCandidatesThanK() {
+        TopKSelector top = new TopKSelector(10);
+        top.offer(0, -1.0);
+        top.offer(1, 2.5);
+
+        assertEquals(2, top.size());
+        assertArrayEquals(new int[]{1, 0}, top.sortedIndexes());
+        assertArrayEquals(new int[0], new TopKSelector(3).sortedIndexes());
+    }
+
+    @Test
+    void rejectsNonPositiveK() {
+        assertThrows(IllegalArgumentException.class, () -> new TopKSelector(0));
+    }
+
+    // 부모는 자식보다 좋지 않아야 함 (루트가 가장 나쁜 후보)
+    private static void assertHeap(TopKSelector top) throws Exception {
+        int[] idx = (int[]) field("idx").get(top);
+        double[] score = (double[]) field("score").get(top);
+        for (int i = 1; i < top.size(); i++) {
+            int parent = (i - 1) / 2;
+            int c = Double.compare(score[parent], score[i]);
+            assertFalse(c > 0 || (c == 0 && idx[parent] < idx[i]), "heap violated at " + i);
+        }
+    }
+
+    private static Field field(String name) throws Exception {
+        Field f = TopKSelector.class.getDeclaredField(name);
+        f.setAccessible(true);
+        return f;
+    }
+
+    private static int[] bruteForce(double[] scores, int k) {
+        List<Integer> all = new ArrayList<>();
+        for (int i = 0; i < scores.length; i++) all.add(i);
+        all.sort(Comparator.<Integer>comparingDouble(i -> -scores[i]).thenComparingInt(i -> i));
+        return all.subList(0, Math.min(k, all.size())).stream().mapToInt(Integer::intValue).toArray();
+    }
+}